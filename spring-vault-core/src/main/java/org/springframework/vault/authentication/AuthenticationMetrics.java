@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+
+/**
+ * Instrumentation callback for session managers based on
+ * {@link LifecycleAwareSessionManagerSupport}. Session managers report the outcome and
+ * latency of logins and token renewals as well as dropped tokens and repeated logins to
+ * {@link AuthenticationMetrics}. Implementations can additionally {@link #bindTo bind}
+ * to the session manager to expose the remaining time until the current token expires
+ * (see {@link LifecycleAwareSessionManagerSupport#getTimeToExpiry()}).
+ * <p>
+ * Callbacks are invoked on the thread performing the operation and should therefore
+ * return quickly. All methods default to no-op.
+ *
+ * @author agent
+ * @since 2.2
+ * @see MicrometerAuthenticationMetrics
+ * @see LifecycleAwareSessionManagerSupport#setAuthenticationMetrics(AuthenticationMetrics)
+ */
+public interface AuthenticationMetrics {
+
+	/**
+	 * Bind to the session manager that reports to this {@link AuthenticationMetrics}.
+	 * Called when the {@link AuthenticationMetrics} is
+	 * {@link LifecycleAwareSessionManagerSupport#setAuthenticationMetrics(AuthenticationMetrics)
+	 * registered}.
+	 *
+	 * @param sessionManager the reporting session manager.
+	 */
+	default void bindTo(LifecycleAwareSessionManagerSupport sessionManager) {}
+
+	/**
+	 * Record a login.
+	 *
+	 * @param authenticationMechanism name of the authentication mechanism that performed
+	 * the login, e.g. {@literal approle}.
+	 * @param latency time spent logging in.
+	 * @param successful whether a token was obtained.
+	 * @see LifecycleAwareSessionManagerSupport#setAuthenticationMechanism(String)
+	 */
+	default void recordLogin(String authenticationMechanism, Duration latency,
+			boolean successful) {}
+
+	/**
+	 * Record a token renewal.
+	 *
+	 * @param latency time spent renewing the token.
+	 * @param successful whether the token was renewed.
+	 */
+	default void recordRenewal(Duration latency, boolean successful) {}
+
+	/**
+	 * Called after the session manager dropped its token because the token could not be
+	 * renewed or its TTL fell below the validity threshold.
+	 */
+	default void tokenDropped() {}
+
+	/**
+	 * Called after the session manager logged in again while it has obtained a token
+	 * before, e.g. after dropping a token or to replace a token ahead of its expiry.
+	 */
+	default void relogin() {}
+
+	/**
+	 * Return a {@link AuthenticationMetrics} instance that does not record anything.
+	 *
+	 * @return a no-op {@link AuthenticationMetrics}.
+	 */
+	static AuthenticationMetrics none() {
+		return new AuthenticationMetrics() {};
+	}
+}
@@ -23,6 +23,8 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -31,6 +33,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Authentication DSL allowing flow composition to create a {@link VaultToken}.
@@ -79,8 +82,13 @@ public class AuthenticationSteps {
 
 	private static final Node<Object> HEAD = new Node<>();
 
+	private static final Pattern LOGIN_PATH = Pattern
+			.compile("(?:^|/)auth/(.+?)/login(?:/|$)");
+
 	final List<Node<?>> steps;
 
+	final AuthenticationStepsPlan plan;
+
 	/**
 	 * Create a flow definition using a provided {@link VaultToken}.
 	 *
@@ -139,6 +147,7 @@ public class AuthenticationSteps {
 
 	AuthenticationSteps(PathAware pathAware) {
 		this.steps = getChain(pathAware);
+		this.plan = AuthenticationStepsPlan.compile(this.steps);
 	}
 
 	/**
@@ -172,6 +181,60 @@ public class AuthenticationSteps {
 		return steps;
 	}
 
+	/**
+	 * Return the authentication mechanism derived from the mount path of the last login
+	 * request ({@code auth/<mount>/login}).
+	 *
+	 * @return the authentication mechanism or {@literal null} if the flow does not
+	 * contain a login request.
+	 */
+	@Nullable
+	String getAuthenticationMechanism() {
+
+		for (int i = steps.size() - 1; i >= 0; i--) {
+
+			Node<?> step = steps.get(i);
+
+			if (!(step instanceof HttpRequestNode)) {
+				continue;
+			}
+
+			HttpRequest<?> definition = ((HttpRequestNode<?>) step).getDefinition();
+			String path = getPath(definition);
+
+			if (path == null) {
+				continue;
+			}
+
+			Matcher matcher = LOGIN_PATH.matcher(path);
+			if (matcher.find()) {
+				return matcher.group(1);
+			}
+		}
+
+		return null;
+	}
+
+	@Nullable
+	private static String getPath(HttpRequest<?> definition) {
+
+		if (definition.getUri() != null) {
+			return definition.getUri().getPath();
+		}
+
+		String uriTemplate = definition.getUriTemplate();
+		if (uriTemplate == null) {
+			return null;
+		}
+
+		Object[] urlVariables = definition.getUrlVariables() != null
+				? definition.getUrlVariables()
+				: new Object[0];
+
+		return UriComponentsBuilder.fromUriString(uriTemplate)
+				.buildAndExpand(urlVariables).getPath();
+	}
+
 	/**
 	 * Intermediate authentication step with authentication flow operators represented as
 	 * node.
@@ -15,6 +15,10 @@
  */
 package org.springframework.vault.authentication;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -24,13 +28,14 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.authentication.AuthenticationSteps.HttpRequest;
-import org.springframework.vault.authentication.AuthenticationSteps.HttpRequestNode;
 import org.springframework.vault.authentication.AuthenticationSteps.MapStep;
 import org.springframework.vault.authentication.AuthenticationSteps.Node;
 import org.springframework.vault.authentication.AuthenticationSteps.OnNextStep;
 import org.springframework.vault.authentication.AuthenticationSteps.Pair;
 import org.springframework.vault.authentication.AuthenticationSteps.SupplierStep;
 import org.springframework.vault.authentication.AuthenticationSteps.ZipStep;
+import org.springframework.vault.authentication.AuthenticationStepsPlan.Step;
+import org.springframework.vault.authentication.AuthenticationStepsPlan.StepType;
 import org.springframework.vault.client.VaultResponses;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
@@ -40,6 +45,13 @@ import org.springframework.web.client.RestOperations;
 /**
  * Synchronous executor for {@link AuthenticationSteps} using {@link RestOperations} to
  * login using authentication flows.
+ * <p>
+ * Branches combined through {@link AuthenticationSteps.Node#zipWith(Node) zipWith} do not
+ * depend on the state of the flow they are zipped with. When configured with an
+ * {@link Executor}, the executor evaluates these branches concurrently with the main flow
+ * so that the login latency is bound by the slowest branch instead of the sum of all
+ * branches. Without an {@link Executor}, branches are evaluated sequentially on the
+ * calling thread.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -53,6 +65,9 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 
 	private final RestOperations restOperations;
 
+	@Nullable
+	private final Executor executor;
+
 	/**
 	 * Create a new {@link AuthenticationStepsExecutor} given {@link AuthenticationSteps}
 	 * and {@link RestOperations}.
@@ -68,15 +83,63 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 
 		this.chain = steps;
 		this.restOperations = restOperations;
+		this.executor = null;
+	}
+
+	/**
+	 * Create a new {@link AuthenticationStepsExecutor} given {@link AuthenticationSteps},
+	 * {@link RestOperations} and an {@link Executor} to evaluate
+	 * {@link AuthenticationSteps.Node#zipWith(Node) zipWith} branches concurrently.
+	 *
+	 * @param steps must not be {@literal null}.
+	 * @param restOperations must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public AuthenticationStepsExecutor(AuthenticationSteps steps,
+			RestOperations restOperations, Executor executor) {
+
+		Assert.notNull(steps, "AuthenticationSteps must not be null");
+		Assert.notNull(restOperations, "RestOperations must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.chain = steps;
+		this.restOperations = restOperations;
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the authentication mechanism derived from the login request or
+	 * {@literal null} if the authentication flow does not contain a login request.
+	 * @see AuthenticationSteps#getAuthenticationMechanism()
+	 */
+	@Nullable
+	String getAuthenticationMechanism() {
+		return chain.getAuthenticationMechanism();
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public VaultToken login() throws VaultException {
 
-		Iterable<Node<?>> steps = chain.steps;
+		AuthenticationStepsPlan plan = chain.plan;
+
+		CompletableFuture<Object>[] branches = forkBranches(plan);
+		Object state;
+
+		try {
+			state = evaluate(plan, branches);
+		}
+		catch (RuntimeException e) {
 
-		Object state = evaluate(steps);
+			if (branches != null) {
+				for (CompletableFuture<Object> branch : branches) {
+					if (branch != null) {
+						branch.cancel(false);
+					}
+				}
+			}
+			throw e;
+		}
 
 		if (state instanceof VaultToken) {
 			return (VaultToken) state;
@@ -94,11 +157,52 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 				state));
 	}
 
-	private Object evaluate(Iterable<Node<?>> steps) {
+	/**
+	 * Start the evaluation of all {@link ZipStep} branches of {@code plan} on the
+	 * {@link Executor}. Branches are independent of the state of {@code plan} so they can
+	 * be evaluated ahead of the main flow. Branches nested within a branch are evaluated
+	 * sequentially by the branch to not block executor threads on tasks that are queued
+	 * on the same executor.
+	 *
+	 * @return branch futures indexed by step or {@literal null} if branches are
+	 * evaluated sequentially.
+	 */
+	@Nullable
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private CompletableFuture<Object>[] forkBranches(AuthenticationStepsPlan plan) {
+
+		Executor executor = this.executor;
+
+		if (executor == null || !plan.hasBranches()) {
+			return null;
+		}
+
+		CompletableFuture<Object>[] branches = new CompletableFuture[plan.size()];
+
+		for (int i = 0; i < plan.size(); i++) {
+
+			Step step = plan.get(i);
+
+			if (step.getType() == StepType.ZIP) {
+
+				AuthenticationStepsPlan branch = step.getRequiredBranch();
+				branches[i] = CompletableFuture
+						.supplyAsync(() -> evaluate(branch, null), executor);
+			}
+		}
+
+		return branches;
+	}
+
+	@Nullable
+	private Object evaluate(AuthenticationStepsPlan plan,
+			@Nullable CompletableFuture<Object>[] branches) {
 
 		Object state = null;
 
-		for (Node<?> o : steps) {
+		for (int i = 0; i < plan.size(); i++) {
+
+			Step o = plan.get(i);
 
 			if (logger.isDebugEnabled()) {
 				logger.debug(
@@ -106,24 +210,22 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 			}
 
 			try {
-				if (o instanceof HttpRequestNode) {
-					state = doHttpRequest((HttpRequestNode<Object>) o, state);
-				}
-
-				if (o instanceof MapStep) {
-					state = doMapStep((MapStep<Object, Object>) o, state);
-				}
-
-				if (o instanceof ZipStep) {
-					state = doZipStep((ZipStep<Object, Object>) o, state);
-				}
-
-				if (o instanceof OnNextStep) {
-					state = doOnNext((OnNextStep<Object>) o, state);
-				}
-
-				if (o instanceof SupplierStep<?>) {
-					state = doSupplierStep((SupplierStep<Object>) o);
+				switch (o.getType()) {
+				case HTTP_REQUEST:
+					state = doHttpRequest(o, state);
+					break;
+				case MAP:
+					state = doMapStep(o.getNode(), state);
+					break;
+				case ZIP:
+					state = doZipStep(o, state, branches != null ? branches[i] : null);
+					break;
+				case ON_NEXT:
+					state = doOnNext(o.getNode(), state);
+					break;
+				case SUPPLIER:
+					state = doSupplierStep(o.getNode());
+					break;
 				}
 
 				if (logger.isDebugEnabled()) {
@@ -153,35 +255,52 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 		return o.apply(state);
 	}
 
-	private Object doZipStep(ZipStep<Object, Object> o, Object state) {
+	private Object doZipStep(Step step, @Nullable Object state,
+			@Nullable CompletableFuture<Object> branch) {
 
-		Object result = evaluate(o.getRight());
+		Object result = branch != null ? join(branch)
+				: evaluate(step.getRequiredBranch(), null);
 		return Pair.of(state, result);
 	}
 
+	private static Object join(CompletableFuture<Object> branch) {
+
+		try {
+			return branch.join();
+		}
+		catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
 	private static Object doOnNext(OnNextStep<Object> o, Object state) {
 		return o.apply(state);
 	}
 
 	@SuppressWarnings("ConstantConditions")
 	@Nullable
-	private Object doHttpRequest(HttpRequestNode<Object> step, @Nullable Object state) {
+	private Object doHttpRequest(Step step, @Nullable Object state) {
 
-		HttpRequest<Object> definition = step.getDefinition();
+		HttpRequest<Object> definition = step.getRequiredDefinition();
+		HttpEntity<?> entity = step.getEntity() != null ? step.getEntity()
+				: getEntity(definition.getEntity(), state);
 
 		if (definition.getUri() == null) {
 
 			ResponseEntity<?> exchange = restOperations.exchange(
-					definition.getUriTemplate(), definition.getMethod(),
-					getEntity(definition.getEntity(), state),
+					definition.getUriTemplate(), definition.getMethod(), entity,
 					definition.getResponseType(),
 					(Object[]) definition.getUrlVariables());
 
 			return exchange.getBody();
 		}
 		ResponseEntity<?> exchange = restOperations.exchange(definition.getUri(),
-				definition.getMethod(), getEntity(definition.getEntity(), state),
-				definition.getResponseType());
+				definition.getMethod(), entity, definition.getResponseType());
 
 		return exchange.getBody();
 
@@ -21,18 +21,20 @@ import java.util.Map.Entry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import org.springframework.http.HttpEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.authentication.AuthenticationSteps.HttpRequest;
-import org.springframework.vault.authentication.AuthenticationSteps.HttpRequestNode;
 import org.springframework.vault.authentication.AuthenticationSteps.MapStep;
 import org.springframework.vault.authentication.AuthenticationSteps.Node;
 import org.springframework.vault.authentication.AuthenticationSteps.OnNextStep;
 import org.springframework.vault.authentication.AuthenticationSteps.Pair;
 import org.springframework.vault.authentication.AuthenticationSteps.SupplierStep;
 import org.springframework.vault.authentication.AuthenticationSteps.ZipStep;
+import org.springframework.vault.authentication.AuthenticationStepsPlan.Step;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -45,6 +47,11 @@ import org.springframework.web.reactive.function.client.WebClient.RequestBodySpe
  * This class uses {@link WebClient} for non-blocking and reactive HTTP access. The
  * {@link AuthenticationSteps authentication flow} is materialized as reactive sequence
  * postponing execution until {@link Mono#subscribe() subscription}.
+ * <p>
+ * Branches combined through {@link AuthenticationSteps.Node#zipWith(Node) zipWith} are
+ * subscribed concurrently with the flow they are zipped with using {@link Mono#zip}.
+ * Branches that contain blocking suppliers can be subscribed on a {@link Scheduler} so
+ * they do not delay the remaining flow.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -59,6 +66,9 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 
 	private final WebClient webClient;
 
+	@Nullable
+	private final Scheduler scheduler;
+
 	/**
 	 * Create a new {@link AuthenticationStepsOperator} given {@link AuthenticationSteps}
 	 * and {@link WebClient}.
@@ -73,12 +83,45 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 
 		this.chain = steps;
 		this.webClient = webClient;
+		this.scheduler = null;
+	}
+
+	/**
+	 * Create a new {@link AuthenticationStepsOperator} given {@link AuthenticationSteps},
+	 * {@link WebClient} and a {@link Scheduler} to subscribe
+	 * {@link AuthenticationSteps.Node#zipWith(Node) zipWith} branches on.
+	 *
+	 * @param steps must not be {@literal null}.
+	 * @param webClient must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public AuthenticationStepsOperator(AuthenticationSteps steps, WebClient webClient,
+			Scheduler scheduler) {
+
+		Assert.notNull(steps, "AuthenticationSteps must not be null");
+		Assert.notNull(webClient, "WebClient must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.chain = steps;
+		this.webClient = webClient;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * @return the authentication mechanism derived from the login request or
+	 * {@literal null} if the authentication flow does not contain a login request.
+	 * @see AuthenticationSteps#getAuthenticationMechanism()
+	 */
+	@Nullable
+	String getAuthenticationMechanism() {
+		return chain.getAuthenticationMechanism();
 	}
 
 	@Override
 	public Mono<VaultToken> getVaultToken() throws VaultException {
 
-		Mono<Object> state = createMono(chain.steps);
+		Mono<Object> state = createMono(chain.plan);
 
 		return state.map(stateObject -> {
 
@@ -102,41 +145,37 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 				"Cannot retrieve VaultToken from authentication chain", t));
 	}
 
-	private Mono<Object> createMono(Iterable<Node<?>> steps) {
+	private Mono<Object> createMono(AuthenticationStepsPlan plan) {
 
 		Mono<Object> state = Mono.just(Undefinded.INSTANCE);
 
-		for (Node<?> o : steps) {
+		for (int i = 0; i < plan.size(); i++) {
+
+			Step o = plan.get(i);
 
 			if (logger.isDebugEnabled()) {
 				logger.debug(
 						String.format("Executing %s with current state %s", o, state));
 			}
 
-			if (o instanceof HttpRequestNode) {
-				state = state
-						.flatMap(stateObject -> doHttpRequest((HttpRequestNode<Object>) o,
-								stateObject));
-			}
-
-			if (o instanceof MapStep) {
-				state = state.map(stateObject -> doMapStep((MapStep<Object, Object>) o,
-						stateObject));
-			}
-
-			if (o instanceof ZipStep) {
-				state = state.zipWith(doZipStep((ZipStep<Object, Object>) o))
-						.map(it -> Pair.of(it.getT1(), it.getT2()));
-			}
-
-			if (o instanceof OnNextStep) {
-				state = state.doOnNext(
-						stateObject -> doOnNext((OnNextStep<Object>) o, stateObject));
-			}
-
-			if (o instanceof SupplierStep<?>) {
+			switch (o.getType()) {
+			case HTTP_REQUEST:
+				state = state.flatMap(stateObject -> doHttpRequest(o, stateObject));
+				break;
+			case MAP:
+				state = state.map(stateObject -> doMapStep(o.getNode(), stateObject));
+				break;
+			case ZIP:
+				state = Mono.zip(doZipStep(o), state,
+						(right, left) -> Pair.of(left, right));
+				break;
+			case ON_NEXT:
 				state = state
-						.map(stateObject -> doSupplierStep((SupplierStep<Object>) o));
+						.doOnNext(stateObject -> doOnNext(o.getNode(), stateObject));
+				break;
+			case SUPPLIER:
+				state = state.map(stateObject -> doSupplierStep(o.getNode()));
+				break;
 			}
 
 			if (logger.isDebugEnabled()) {
@@ -155,18 +194,28 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 		return o.apply(state);
 	}
 
-	private Mono<Object> doZipStep(ZipStep<Object, Object> o) {
-		return createMono(o.getRight());
+	/**
+	 * Create the {@link Mono} for a {@link ZipStep} branch. The branch is subscribed
+	 * before the flow it is zipped with so that blocking steps on the flow do not delay
+	 * the branch.
+	 */
+	private Mono<Object> doZipStep(Step step) {
+
+		Mono<Object> branch = createMono(step.getRequiredBranch());
+		Scheduler scheduler = this.scheduler;
+
+		return scheduler != null ? branch.subscribeOn(scheduler) : branch;
 	}
 
 	private static Object doOnNext(OnNextStep<Object> o, Object state) {
 		return o.apply(state);
 	}
 
-	private Mono<Object> doHttpRequest(HttpRequestNode<Object> step, Object state) {
+	private Mono<Object> doHttpRequest(Step step, Object state) {
 
-		HttpRequest<Object> definition = step.getDefinition();
-		HttpEntity<?> entity = getEntity(definition.getEntity(), state);
+		HttpRequest<Object> definition = step.getRequiredDefinition();
+		HttpEntity<?> entity = step.getEntity() != null ? step.getEntity()
+				: getEntity(definition.getEntity(), state);
 
 		RequestBodySpec spec;
 		if (definition.getUri() == null) {
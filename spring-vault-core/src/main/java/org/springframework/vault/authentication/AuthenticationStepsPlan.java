@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.authentication.AuthenticationSteps.HttpRequest;
+import org.springframework.vault.authentication.AuthenticationSteps.HttpRequestNode;
+import org.springframework.vault.authentication.AuthenticationSteps.MapStep;
+import org.springframework.vault.authentication.AuthenticationSteps.Node;
+import org.springframework.vault.authentication.AuthenticationSteps.OnNextStep;
+import org.springframework.vault.authentication.AuthenticationSteps.SupplierStep;
+import org.springframework.vault.authentication.AuthenticationSteps.ZipStep;
+
+/**
+ * Immutable execution plan compiled from {@link AuthenticationSteps}. The plan flattens
+ * the {@link Node} chain into an array of typed steps, compiles
+ * {@link Node#zipWith(Node) zipWith} branches into nested plans and pre-builds request
+ * entities that do not depend on the authentication state. A plan is compiled once per
+ * {@link AuthenticationSteps} and can be executed concurrently by any number of
+ * executors.
+ *
+ * @author agent
+ * @since 2.2
+ * @see AuthenticationStepsExecutor
+ * @see AuthenticationStepsOperator
+ */
+final class AuthenticationStepsPlan {
+
+	private final Step[] steps;
+
+	private final boolean hasBranches;
+
+	private AuthenticationStepsPlan(Step[] steps) {
+
+		boolean hasBranches = false;
+		for (Step step : steps) {
+			hasBranches |= step.getType() == StepType.ZIP;
+		}
+
+		this.steps = steps;
+		this.hasBranches = hasBranches;
+	}
+
+	/**
+	 * Compile a chain of {@link Node}s into an {@link AuthenticationStepsPlan}.
+	 *
+	 * @param nodes must not be {@literal null}.
+	 * @return the compiled {@link AuthenticationStepsPlan}.
+	 */
+	@SuppressWarnings("unchecked")
+	static AuthenticationStepsPlan compile(List<Node<?>> nodes) {
+
+		Assert.notNull(nodes, "Nodes must not be null");
+
+		List<Step> steps = new ArrayList<>(nodes.size());
+
+		for (Node<?> node : nodes) {
+
+			if (node instanceof HttpRequestNode) {
+
+				HttpRequest<Object> definition = ((HttpRequestNode<Object>) node)
+						.getDefinition();
+				steps.add(new Step(StepType.HTTP_REQUEST, node, definition,
+						getStaticEntity(definition), null));
+			}
+
+			if (node instanceof MapStep) {
+				steps.add(new Step(StepType.MAP, node, null, null, null));
+			}
+
+			if (node instanceof ZipStep) {
+				steps.add(new Step(StepType.ZIP, node, null, null,
+						compile(((ZipStep<?, ?>) node).getRight())));
+			}
+
+			if (node instanceof OnNextStep) {
+				steps.add(new Step(StepType.ON_NEXT, node, null, null, null));
+			}
+
+			if (node instanceof SupplierStep) {
+				steps.add(new Step(StepType.SUPPLIER, node, null, null, null));
+			}
+		}
+
+		return new AuthenticationStepsPlan(steps.toArray(new Step[0]));
+	}
+
+	/**
+	 * @return the request entity if it does not depend on the authentication state,
+	 * {@literal null} otherwise.
+	 */
+	@Nullable
+	private static HttpEntity<?> getStaticEntity(HttpRequest<?> definition) {
+
+		HttpEntity<?> entity = definition.getEntity();
+
+		return entity != null && entity.getBody() != null ? entity : null;
+	}
+
+	/**
+	 * @return the number of steps.
+	 */
+	int size() {
+		return this.steps.length;
+	}
+
+	/**
+	 * @param index the step index.
+	 * @return the {@link Step} at {@code index}.
+	 */
+	Step get(int index) {
+		return this.steps[index];
+	}
+
+	/**
+	 * @return {@literal true} if this plan contains {@link StepType#ZIP} steps.
+	 */
+	boolean hasBranches() {
+		return this.hasBranches;
+	}
+
+	/**
+	 * Type of a {@link Step}.
+	 */
+	enum StepType {
+		HTTP_REQUEST, MAP, ZIP, ON_NEXT, SUPPLIER;
+	}
+
+	/**
+	 * A single compiled step.
+	 */
+	static final class Step {
+
+		private final StepType type;
+
+		private final Node<?> node;
+
+		@Nullable
+		private final HttpRequest<Object> definition;
+
+		@Nullable
+		private final HttpEntity<?> entity;
+
+		@Nullable
+		private final AuthenticationStepsPlan branch;
+
+		private Step(StepType type, Node<?> node, @Nullable HttpRequest<Object> definition,
+				@Nullable HttpEntity<?> entity, @Nullable AuthenticationStepsPlan branch) {
+			this.type = type;
+			this.node = node;
+			this.definition = definition;
+			this.entity = entity;
+			this.branch = branch;
+		}
+
+		StepType getType() {
+			return this.type;
+		}
+
+		@SuppressWarnings("unchecked")
+		<T extends Node<?>> T getNode() {
+			return (T) this.node;
+		}
+
+		/**
+		 * @return the request definition of a {@link StepType#HTTP_REQUEST} step.
+		 */
+		HttpRequest<Object> getRequiredDefinition() {
+
+			Assert.state(this.definition != null, "Step is not a HTTP request");
+			return this.definition;
+		}
+
+		/**
+		 * @return the pre-built request entity if the entity does not depend on the
+		 * authentication state.
+		 */
+		@Nullable
+		HttpEntity<?> getEntity() {
+			return this.entity;
+		}
+
+		/**
+		 * @return the compiled branch of a {@link StepType#ZIP} step.
+		 */
+		AuthenticationStepsPlan getRequiredBranch() {
+
+			Assert.state(this.branch != null, "Step is not a zip step");
+			return this.branch;
+		}
+
+		@Override
+		public String toString() {
+			return this.node.toString();
+		}
+	}
+}
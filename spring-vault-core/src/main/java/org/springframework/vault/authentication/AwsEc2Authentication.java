@@ -15,6 +15,8 @@
  */
 package org.springframework.vault.authentication;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +26,7 @@ import java.util.function.Supplier;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.vault.VaultException;
@@ -53,6 +56,8 @@ public class AwsEc2Authentication
 
 	private static final char[] EMPTY = new char[0];
 
+	private static final Duration FOREVER = ChronoUnit.FOREVER.getDuration();
+
 	private final AwsEc2AuthenticationOptions options;
 
 	private final RestOperations vaultRestOperations;
@@ -61,6 +66,11 @@ public class AwsEc2Authentication
 
 	private final AtomicReference<char[]> nonce = new AtomicReference<>(EMPTY);
 
+	/**
+	 * The signed identity document does not change during the lifetime of an instance.
+	 */
+	private final ExpiringCache<String> identityDocument;
+
 	/**
 	 * Create a new {@link AwsEc2Authentication}.
 	 *
@@ -92,6 +102,8 @@ public class AwsEc2Authentication
 		this.options = options;
 		this.vaultRestOperations = vaultRestOperations;
 		this.awsMetadataRestOperations = awsMetadataRestOperations;
+		this.identityDocument = new ExpiringCache<>(this::getIdentityDocument,
+				it -> StringUtils.hasText(it) ? FOREVER : Duration.ZERO);
 	}
 
 	/**
@@ -181,6 +193,7 @@ public class AwsEc2Authentication
 			return LoginTokenUtil.from(response.getAuth());
 		}
 		catch (RestClientException e) {
+			this.identityDocument.invalidate();
 			throw VaultLoginException.create("AWS-EC2", e);
 		}
 	}
@@ -199,14 +212,20 @@ public class AwsEc2Authentication
 
 		login.put("nonce", new String(this.nonce.get()));
 
+		String pkcs7 = this.identityDocument.get();
+		if (StringUtils.hasText(pkcs7)) {
+			login.put("pkcs7", pkcs7.replaceAll("\\r", "").replace("\\n", ""));
+		}
+
+		return login;
+	}
+
+	@Nullable
+	private String getIdentityDocument() {
+
 		try {
-			String pkcs7 = this.awsMetadataRestOperations
+			return this.awsMetadataRestOperations
 					.getForObject(this.options.getIdentityDocumentUri(), String.class);
-			if (StringUtils.hasText(pkcs7)) {
-				login.put("pkcs7", pkcs7.replaceAll("\\r", "").replace("\\n", ""));
-			}
-
-			return login;
 		}
 		catch (RestClientException e) {
 			throw new VaultLoginException(
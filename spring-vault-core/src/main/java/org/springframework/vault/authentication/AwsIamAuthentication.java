@@ -78,10 +78,20 @@ public class AwsIamAuthentication
 	private static final String REQUEST_BODY_BASE64_ENCODED = Base64Utils
 			.encodeToString(REQUEST_BODY.getBytes());
 
+	private static final String SERVICE_NAME = "sts";
+
+	/**
+	 * Shared signer. {@link AWS4Signer} is thread-safe once configured and caches derived
+	 * signing keys across requests.
+	 */
+	private static final AWS4Signer SIGNER = createSigner();
+
 	private final AwsIamAuthenticationOptions options;
 
 	private final RestOperations vaultRestOperations;
 
+	private final ExpiringCache<AWSCredentials> credentials;
+
 	/**
 	 * Create a new {@link AwsIamAuthentication} specifying
 	 * {@link AwsIamAuthenticationOptions}, a Vault and an AWS-Metadata-specific
@@ -98,6 +108,9 @@ public class AwsIamAuthentication
 
 		this.options = options;
 		this.vaultRestOperations = vaultRestOperations;
+		this.credentials = new ExpiringCache<>(
+				() -> options.getCredentialsProvider().getCredentials(),
+				it -> options.getCredentialsCacheDuration());
 	}
 
 	/**
@@ -135,14 +148,14 @@ public class AwsIamAuthentication
 
 	@Override
 	public AuthenticationSteps getAuthenticationSteps() {
-		return createAuthenticationSteps(this.options,
-				this.options.getCredentialsProvider().getCredentials());
+		return createAuthenticationSteps(this.options, this.credentials.get());
 	}
 
 	@SuppressWarnings("unchecked")
 	private VaultToken createTokenUsingAwsIam() {
 
-		Map<String, String> login = createRequestBody(this.options);
+		Map<String, String> login = createRequestBody(this.options,
+				this.credentials.get());
 
 		try {
 
@@ -170,6 +183,7 @@ public class AwsIamAuthentication
 			return LoginTokenUtil.from(response.getAuth());
 		}
 		catch (RestClientException e) {
+			this.credentials.invalidate();
 			throw VaultLoginException.create("AWS-IAM", e);
 		}
 	}
@@ -220,17 +234,14 @@ public class AwsIamAuthentication
 
 		Map<String, String> headers = createIamRequestHeaders(options);
 
-		AWS4Signer signer = new AWS4Signer();
-
-		DefaultRequest<String> request = new DefaultRequest<>("sts");
+		DefaultRequest<String> request = new DefaultRequest<>(SERVICE_NAME);
 
 		request.setContent(new ByteArrayInputStream(REQUEST_BODY.getBytes()));
 		request.setHeaders(headers);
 		request.setHttpMethod(HttpMethodName.POST);
 		request.setEndpoint(options.getEndpointUri());
 
-		signer.setServiceName(request.getServiceName());
-		signer.sign(request, credentials);
+		SIGNER.sign(request, credentials);
 
 		Map<String, Object> map = new LinkedHashMap<>();
 
@@ -246,6 +257,14 @@ public class AwsIamAuthentication
 		}
 	}
 
+	private static AWS4Signer createSigner() {
+
+		AWS4Signer signer = new AWS4Signer();
+		signer.setServiceName(SERVICE_NAME);
+
+		return signer;
+	}
+
 	private static Map<String, String> createIamRequestHeaders(
 			AwsIamAuthenticationOptions options) {
 
@@ -16,6 +16,7 @@
 package org.springframework.vault.authentication;
 
 import java.net.URI;
+import java.time.Duration;
 
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -41,6 +42,16 @@ public class AwsIamAuthenticationOptions {
 
 	public static final String DEFAULT_AWS_AUTHENTICATION_PATH = "aws";
 
+	/**
+	 * Default duration to cache {@link com.amazonaws.auth.AWSCredentials}. EC2 instance
+	 * profile and ECS task credentials are rotated at least five minutes before they
+	 * expire.
+	 *
+	 * @since 2.2
+	 */
+	public static final Duration DEFAULT_CREDENTIALS_CACHE_DURATION = Duration
+			.ofMinutes(4);
+
 	/**
 	 * Path of the aws authentication backend mount.
 	 */
@@ -71,15 +82,22 @@ public class AwsIamAuthenticationOptions {
 	 */
 	private final URI endpointUri;
 
+	/**
+	 * Duration to reuse resolved credentials.
+	 */
+	private final Duration credentialsCacheDuration;
+
 	private AwsIamAuthenticationOptions(String path,
 			AWSCredentialsProvider credentialsProvider, @Nullable String role,
-			@Nullable String serverId, URI endpointUri) {
+			@Nullable String serverId, URI endpointUri,
+			Duration credentialsCacheDuration) {
 
 		this.path = path;
 		this.credentialsProvider = credentialsProvider;
 		this.role = role;
 		this.serverId = serverId;
 		this.endpointUri = endpointUri;
+		this.credentialsCacheDuration = credentialsCacheDuration;
 	}
 
 	/**
@@ -140,6 +158,16 @@ public class AwsIamAuthenticationOptions {
 		return endpointUri;
 	}
 
+	/**
+	 * @return the duration to reuse credentials obtained from the
+	 * {@link #getCredentialsProvider() credentials provider}. {@link Duration#ZERO} if
+	 * credentials are resolved on each login.
+	 * @since 2.2
+	 */
+	public Duration getCredentialsCacheDuration() {
+		return credentialsCacheDuration;
+	}
+
 	/**
 	 * Builder for {@link AwsIamAuthenticationOptions}.
 	 */
@@ -158,6 +186,8 @@ public class AwsIamAuthenticationOptions {
 
 		private URI endpointUri = URI.create("https://sts.amazonaws.com/");
 
+		private Duration credentialsCacheDuration = DEFAULT_CREDENTIALS_CACHE_DURATION;
+
 		AwsIamAuthenticationOptionsBuilder() {
 		}
 
@@ -270,6 +300,29 @@ public class AwsIamAuthenticationOptions {
 			return this;
 		}
 
+		/**
+		 * Configure the duration to reuse credentials obtained from the
+		 * {@link AWSCredentialsProvider}. Concurrent logins share a single credential
+		 * lookup. Cached credentials are discarded if a login fails. Defaults to
+		 * {@link #DEFAULT_CREDENTIALS_CACHE_DURATION}. Use {@link Duration#ZERO} to
+		 * resolve credentials on each login.
+		 *
+		 * @param credentialsCacheDuration must not be {@literal null} or negative.
+		 * @return {@code this} {@link AwsIamAuthenticationOptionsBuilder}.
+		 * @since 2.2
+		 */
+		public AwsIamAuthenticationOptionsBuilder credentialsCacheDuration(
+				Duration credentialsCacheDuration) {
+
+			Assert.notNull(credentialsCacheDuration,
+					"Credentials cache duration must not be null");
+			Assert.isTrue(!credentialsCacheDuration.isNegative(),
+					"Credentials cache duration must not be negative");
+
+			this.credentialsCacheDuration = credentialsCacheDuration;
+			return this;
+		}
+
 		/**
 		 * Build a new {@link AwsIamAuthenticationOptions} instance.
 		 *
@@ -281,7 +334,7 @@ public class AwsIamAuthenticationOptions {
 					"Credentials or CredentialProvider must not be null");
 
 			return new AwsIamAuthenticationOptions(path, credentialsProvider, role,
-					serverId, endpointUri);
+					serverId, endpointUri, credentialsCacheDuration);
 		}
 	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.support.EncryptedFile;
+
+/**
+ * {@link TokenStore} storing a {@link LoginToken} in a local file encrypted with
+ * {@literal AES/GCM}. The file is created with owner-only permissions on file systems
+ * that support POSIX file attributes.
+ * <p>
+ * A token file that cannot be read or decrypted (e.g. after changing the key) is
+ * ignored and replaced with the next login.
+ *
+ * @author agent
+ * @since 2.2
+ * @see EncryptedFile
+ */
+public class EncryptedFileTokenStore implements TokenStore {
+
+	private static final Log logger = LogFactory.getLog(EncryptedFileTokenStore.class);
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final Object lock = new Object();
+
+	private final EncryptedFile file;
+
+	/**
+	 * Create a new {@link EncryptedFileTokenStore} given {@link Path} and AES key.
+	 *
+	 * @param file the token file, must not be {@literal null}.
+	 * @param key the AES key, must not be {@literal null} and must be 16, 24 or 32 bytes
+	 *     long.
+	 */
+	public EncryptedFileTokenStore(Path file, byte[] key) {
+
+		Assert.notNull(file, "Token file must not be null");
+
+		this.file = new EncryptedFile(file, key);
+	}
+
+	/**
+	 * Create a new {@link EncryptedFileTokenStore} given {@link Path} and
+	 * {@link SecretKey}.
+	 *
+	 * @param file the token file, must not be {@literal null}.
+	 * @param key the AES {@link SecretKey}, must not be {@literal null}.
+	 */
+	public EncryptedFileTokenStore(Path file, SecretKey key) {
+
+		Assert.notNull(file, "Token file must not be null");
+
+		this.file = new EncryptedFile(file, key);
+	}
+
+	@Nullable
+	@Override
+	public LoginToken load() {
+
+		synchronized (lock) {
+
+			try {
+
+				byte[] plaintext = file.read();
+
+				if (plaintext == null) {
+					return null;
+				}
+
+				Map<String, Object> item = OBJECT_MAPPER.readValue(plaintext,
+						new TypeReference<Map<String, Object>>() {});
+
+				char[] token = ((String) item.get("token")).toCharArray();
+				Duration leaseDuration = Duration
+						.ofSeconds(((Number) item.get("lease_duration")).longValue());
+
+				return Boolean.TRUE.equals(item.get("renewable"))
+						? LoginToken.renewable(token, leaseDuration)
+						: LoginToken.of(token, leaseDuration);
+			}
+			catch (IOException | GeneralSecurityException | RuntimeException e) {
+				logger.warn(String.format("Cannot read token file %s. Ignoring token",
+						file.getFile()), e);
+				return null;
+			}
+		}
+	}
+
+	@Override
+	public void save(LoginToken token) {
+
+		Assert.notNull(token, "LoginToken must not be null");
+
+		Map<String, Object> item = new LinkedHashMap<>();
+		item.put("token", token.getToken());
+		item.put("renewable", token.isRenewable());
+		item.put("lease_duration", token.getLeaseDuration().getSeconds());
+
+		synchronized (lock) {
+
+			try {
+				file.write(OBJECT_MAPPER.writeValueAsBytes(item));
+			}
+			catch (IOException | GeneralSecurityException e) {
+				throw new VaultException(
+						String.format("Cannot write token file %s", file.getFile()), e);
+			}
+		}
+	}
+
+	@Override
+	public void remove() {
+
+		synchronized (lock) {
+
+			try {
+				file.delete();
+			}
+			catch (IOException e) {
+				throw new VaultException(
+						String.format("Cannot delete token file %s", file.getFile()), e);
+			}
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Cache for a single value obtained from a {@link Supplier} that is reused until it
+ * expires. Concurrent callers requesting an absent or expired value share a single
+ * in-flight load. Failed loads are not cached. Used to cache credentials and metadata
+ * that are expensive to obtain, such as responses from cloud metadata services.
+ *
+ * @author agent
+ * @since 2.2
+ */
+final class ExpiringCache<T> {
+
+	private final Supplier<T> loader;
+
+	private final Function<T, Duration> timeToLive;
+
+	private final Clock clock;
+
+	private final AtomicReference<CompletableFuture<T>> pendingLoad = new AtomicReference<>();
+
+	@Nullable
+	private volatile Entry<T> entry;
+
+	/**
+	 * Create a new {@link ExpiringCache}.
+	 *
+	 * @param loader the loader to obtain the value, must not be {@literal null}.
+	 * @param timeToLive function returning the time to live of a loaded value. Values
+	 * with a zero or negative time to live are not cached. Must not be {@literal null}.
+	 * Use {@link java.time.temporal.ChronoUnit#FOREVER} to cache a value until it is
+	 * {@link #invalidate() invalidated}.
+	 */
+	ExpiringCache(Supplier<T> loader, Function<T, Duration> timeToLive) {
+		this(loader, timeToLive, Clock.systemUTC());
+	}
+
+	ExpiringCache(Supplier<T> loader, Function<T, Duration> timeToLive, Clock clock) {
+
+		Assert.notNull(loader, "Loader must not be null");
+		Assert.notNull(timeToLive, "Time to live function must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.loader = loader;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+	}
+
+	/**
+	 * Return the cached value or load the value if it is absent or expired.
+	 *
+	 * @return the value.
+	 */
+	T get() {
+
+		Entry<T> entry = this.entry;
+
+		if (entry != null && entry.isValid(this.clock.instant())) {
+			return entry.value;
+		}
+
+		CompletableFuture<T> load = new CompletableFuture<>();
+
+		while (!this.pendingLoad.compareAndSet(null, load)) {
+
+			CompletableFuture<T> inFlight = this.pendingLoad.get();
+
+			if (inFlight != null) {
+				return join(inFlight);
+			}
+		}
+
+		try {
+
+			entry = this.entry;
+
+			T value;
+			if (entry != null && entry.isValid(this.clock.instant())) {
+				value = entry.value;
+			}
+			else {
+				value = this.loader.get();
+				cache(value);
+			}
+
+			load.complete(value);
+			return value;
+		}
+		catch (RuntimeException e) {
+
+			load.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			this.pendingLoad.compareAndSet(load, null);
+		}
+	}
+
+	/**
+	 * Discard the cached value so the next {@link #get()} loads the value again.
+	 */
+	void invalidate() {
+		this.entry = null;
+	}
+
+	private void cache(T value) {
+
+		Duration ttl = this.timeToLive.apply(value);
+
+		if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+
+			Instant now = this.clock.instant();
+			Instant expiry = ttl.compareTo(Duration.between(now, Instant.MAX)) < 0
+					? now.plus(ttl)
+					: Instant.MAX;
+
+			this.entry = new Entry<>(value, expiry);
+		}
+		else {
+			this.entry = null;
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> load) {
+
+		try {
+			return load.join();
+		}
+		catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	private static class Entry<T> {
+
+		final T value;
+
+		final Instant expiry;
+
+		Entry(T value, Instant expiry) {
+			this.value = value;
+			this.expiry = expiry;
+		}
+
+		boolean isValid(Instant now) {
+			return now.isBefore(this.expiry);
+		}
+	}
+}
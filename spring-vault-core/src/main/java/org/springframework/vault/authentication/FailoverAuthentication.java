@@ -0,0 +1,312 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.vault.support.VaultToken;
+
+/**
+ * Composite {@link ClientAuthentication} that attempts to log in using an ordered list of
+ * authentication methods. Methods are tried in the configured order until a method
+ * returns a {@link VaultToken}. The method that succeeded last is tried first on
+ * subsequent logins so a degraded authentication backend only delays the login that
+ * detects the degradation.
+ * <p>
+ * Each method can be configured with a timeout. Methods with a timeout are invoked on an
+ * {@link Executor} and the next method is attempted once the timeout is exceeded. The
+ * thread running a timed out login is interrupted. Authentication methods that do not
+ * respond to interruption (e.g. blocked in socket I/O) continue in the background until
+ * they complete or their read timeout is exceeded; their outcome is discarded. Methods
+ * without a timeout are invoked on the calling thread.
+ * <p>
+ * The default {@link Executor} is created by the builder and shut down on
+ * {@link #destroy()}. A {@link FailoverAuthenticationBuilder#executor(Executor)
+ * executor} supplied to the builder is not shut down.
+ * <p>
+ * Example:
+ *
+ * <pre class="code">
+ * FailoverAuthentication authentication = FailoverAuthentication.builder()
+ * 		.authentication(kubernetesAuthentication, Duration.ofSeconds(2))
+ * 		.authentication(appRoleAuthentication, Duration.ofSeconds(2))
+ * 		.authentication(tokenAuthentication).build();
+ * </pre>
+ *
+ * @author agent
+ * @since 2.2
+ * @see ReactiveFailoverAuthentication
+ */
+public class FailoverAuthentication implements ClientAuthentication, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(FailoverAuthentication.class);
+
+	private final List<AuthenticationMethod> methods;
+
+	private final Executor executor;
+
+	private final boolean manageExecutor;
+
+	private final AtomicInteger preferred = new AtomicInteger();
+
+	private FailoverAuthentication(List<AuthenticationMethod> methods,
+			Executor executor, boolean manageExecutor) {
+
+		this.methods = methods;
+		this.executor = executor;
+		this.manageExecutor = manageExecutor;
+	}
+
+	/**
+	 * @return a new {@link FailoverAuthenticationBuilder}.
+	 */
+	public static FailoverAuthenticationBuilder builder() {
+		return new FailoverAuthenticationBuilder();
+	}
+
+	@Override
+	public VaultToken login() throws VaultLoginException {
+
+		int preferred = this.preferred.get();
+		List<RuntimeException> failures = new ArrayList<>();
+
+		for (int index : getAttemptOrder(preferred, methods.size())) {
+
+			AuthenticationMethod method = methods.get(index);
+
+			try {
+
+				VaultToken token = login(method);
+				this.preferred.compareAndSet(preferred, index);
+
+				return token;
+			}
+			catch (RuntimeException e) {
+
+				logger.warn(String.format("Login using %s failed: %s",
+						method.getName(), e.getMessage()));
+				failures.add(e);
+			}
+		}
+
+		VaultLoginException exception = new VaultLoginException(
+				"Cannot login using any of the configured authentication methods");
+		failures.forEach(exception::addSuppressed);
+
+		throw exception;
+	}
+
+	private VaultToken login(AuthenticationMethod method) {
+
+		Duration timeout = method.timeout;
+
+		if (timeout == null) {
+			return method.authentication.login();
+		}
+
+		FutureTask<VaultToken> login = new FutureTask<>(method.authentication::login);
+		executor.execute(login);
+
+		try {
+			return login.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new VaultLoginException(
+					String.format("Cannot login using %s", method.getName()),
+					e.getCause());
+		}
+		catch (TimeoutException e) {
+
+			login.cancel(true);
+			throw new VaultLoginException(
+					String.format("Login using %s did not complete within %d ms",
+							method.getName(), timeout.toMillis()),
+					e);
+		}
+		catch (InterruptedException e) {
+
+			login.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new VaultLoginException("Interrupted while waiting for login", e);
+		}
+	}
+
+	/**
+	 * Shut down the {@link Executor} if it was created by
+	 * {@link FailoverAuthenticationBuilder#build()}. Logins that are still running are
+	 * interrupted.
+	 */
+	@Override
+	public void destroy() {
+
+		if (this.manageExecutor) {
+			((ExecutorService) this.executor).shutdownNow();
+		}
+	}
+
+	/**
+	 * Return the attempt order starting with {@code preferred} followed by the remaining
+	 * indexes in their natural order.
+	 */
+	static int[] getAttemptOrder(int preferred, int size) {
+
+		int[] order = new int[size];
+		order[0] = preferred;
+
+		for (int i = 0, position = 1; i < size; i++) {
+			if (i != preferred) {
+				order[position++] = i;
+			}
+		}
+
+		return order;
+	}
+
+	private static class AuthenticationMethod {
+
+		private final ClientAuthentication authentication;
+
+		@Nullable
+		private final Duration timeout;
+
+		AuthenticationMethod(ClientAuthentication authentication,
+				@Nullable Duration timeout) {
+			this.authentication = authentication;
+			this.timeout = timeout;
+		}
+
+		String getName() {
+			return authentication.getClass().getSimpleName();
+		}
+	}
+
+	/**
+	 * Builder for {@link FailoverAuthentication}.
+	 */
+	public static class FailoverAuthenticationBuilder {
+
+		private final List<AuthenticationMethod> methods = new ArrayList<>();
+
+		@Nullable
+		private Executor executor;
+
+		FailoverAuthenticationBuilder() {
+		}
+
+		/**
+		 * Add a {@link ClientAuthentication} without a timeout. The method is invoked on
+		 * the calling thread.
+		 *
+		 * @param authentication must not be {@literal null}.
+		 * @return {@code this} {@link FailoverAuthenticationBuilder}.
+		 */
+		public FailoverAuthenticationBuilder authentication(
+				ClientAuthentication authentication) {
+
+			Assert.notNull(authentication, "ClientAuthentication must not be null");
+
+			this.methods.add(new AuthenticationMethod(authentication, null));
+			return this;
+		}
+
+		/**
+		 * Add a {@link ClientAuthentication} with a {@code timeout}. The next method is
+		 * attempted if the login does not complete within {@code timeout}.
+		 *
+		 * @param authentication must not be {@literal null}.
+		 * @param timeout must not be {@literal null} or negative.
+		 * @return {@code this} {@link FailoverAuthenticationBuilder}.
+		 */
+		public FailoverAuthenticationBuilder authentication(
+				ClientAuthentication authentication, Duration timeout) {
+
+			Assert.notNull(authentication, "ClientAuthentication must not be null");
+			Assert.notNull(timeout, "Timeout must not be null");
+			Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative");
+
+			this.methods.add(new AuthenticationMethod(authentication, timeout));
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Executor} to invoke authentication methods that have a
+		 * timeout. Defaults to a cached thread pool using daemon threads that is shut
+		 * down on {@link FailoverAuthentication#destroy()}. A configured
+		 * {@link Executor} is not shut down by {@link FailoverAuthentication}.
+		 *
+		 * @param executor must not be {@literal null}.
+		 * @return {@code this} {@link FailoverAuthenticationBuilder}.
+		 */
+		public FailoverAuthenticationBuilder executor(Executor executor) {
+
+			Assert.notNull(executor, "Executor must not be null");
+
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link FailoverAuthentication} instance.
+		 *
+		 * @return a new {@link FailoverAuthentication}.
+		 */
+		public FailoverAuthentication build() {
+
+			Assert.state(!this.methods.isEmpty(),
+					"At least one authentication method is required");
+
+			Executor executor = this.executor;
+			boolean manageExecutor = false;
+
+			if (executor == null) {
+
+				CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+						"FailoverAuthentication-");
+				threadFactory.setDaemon(true);
+
+				executor = Executors.newCachedThreadPool(threadFactory);
+				manageExecutor = true;
+			}
+
+			return new FailoverAuthentication(
+					Collections.unmodifiableList(new ArrayList<>(this.methods)),
+					executor, manageExecutor);
+		}
+	}
+}
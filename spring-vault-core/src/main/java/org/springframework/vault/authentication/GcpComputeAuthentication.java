@@ -15,14 +15,21 @@
  */
 package org.springframework.vault.authentication;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.Base64Utils;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.authentication.AuthenticationSteps.HttpRequest;
 import org.springframework.vault.support.VaultToken;
@@ -39,6 +46,9 @@ import static org.springframework.vault.authentication.AuthenticationSteps.HttpR
  * default/specified service account to obtain an identity document as JWT using a HTTP
  * client. Credentials and authenticity are implied from the runtime itself and are not
  * required to be configured.
+ * <p/>
+ * Signed identity tokens are reused for subsequent logins until shortly before they
+ * expire to avoid metadata service round trips on re-login.
  *
  * @author Mark Paluch
  * @since 2.1
@@ -55,10 +65,19 @@ public class GcpComputeAuthentication extends GcpJwtAuthenticationSupport
 	public static final String COMPUTE_METADATA_URL_TEMPLATE = "http://metadata/computeMetadata/v1/instance/service-accounts/{serviceAccount}/identity"
 			+ "?audience={audience}&format={format}";
 
+	/**
+	 * Duration before the JWT expires after which the JWT is no longer reused.
+	 */
+	private static final Duration EXPIRY_THRESHOLD = Duration.ofMinutes(5);
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
 	private final GcpComputeAuthenticationOptions options;
 
 	private final RestOperations googleMetadataRestOperations;
 
+	private final ExpiringCache<String> signedJwt;
+
 	/**
 	 * Create a new {@link GcpComputeAuthentication} instance given
 	 * {@link GcpComputeAuthenticationOptions} and {@link RestOperations} for Vault and
@@ -93,6 +112,8 @@ public class GcpComputeAuthentication extends GcpJwtAuthenticationSupport
 
 		this.options = options;
 		this.googleMetadataRestOperations = googleMetadataRestOperations;
+		this.signedJwt = new ExpiringCache<>(this::signJwt,
+				GcpComputeAuthentication::getTimeToLive);
 	}
 
 	/**
@@ -124,10 +145,16 @@ public class GcpComputeAuthentication extends GcpJwtAuthenticationSupport
 	@Override
 	public VaultToken login() throws VaultException {
 
-		String signedJwt = signJwt();
+		String signedJwt = this.signedJwt.get();
 
-		return doLogin("GCP-GCE", signedJwt, this.options.getPath(),
-				this.options.getRole());
+		try {
+			return doLogin("GCP-GCE", signedJwt, this.options.getPath(),
+					this.options.getRole());
+		}
+		catch (VaultException e) {
+			this.signedJwt.invalidate();
+			throw e;
+		}
 	}
 
 	@Override
@@ -157,6 +184,42 @@ public class GcpComputeAuthentication extends GcpJwtAuthenticationSupport
 		}
 	}
 
+	/**
+	 * Determine how long a signed JWT can be reused from its {@code exp} claim.
+	 *
+	 * @param jwt the signed JWT.
+	 * @return the time to live or {@link Duration#ZERO} if the JWT should not be reused.
+	 */
+	static Duration getTimeToLive(@Nullable String jwt) {
+
+		if (jwt == null) {
+			return Duration.ZERO;
+		}
+
+		String[] parts = jwt.split("\\.");
+
+		if (parts.length != 3) {
+			return Duration.ZERO;
+		}
+
+		try {
+			Map<?, ?> claims = OBJECT_MAPPER.readValue(
+					Base64Utils.decodeFromUrlSafeString(parts[1]), Map.class);
+
+			if (!(claims.get("exp") instanceof Number)) {
+				return Duration.ZERO;
+			}
+
+			Instant expiry = Instant
+					.ofEpochSecond(((Number) claims.get("exp")).longValue());
+
+			return Duration.between(Instant.now(), expiry).minus(EXPIRY_THRESHOLD);
+		}
+		catch (IOException | IllegalArgumentException e) {
+			return Duration.ZERO;
+		}
+	}
+
 	private static HttpHeaders getMetadataHttpHeaders() {
 
 		HttpHeaders headers = new HttpHeaders();
@@ -16,11 +16,19 @@
 package org.springframework.vault.authentication;
 
 import java.time.Duration;
+import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -39,6 +47,7 @@ import org.springframework.vault.authentication.event.LoginTokenRenewalFailedEve
 import org.springframework.vault.authentication.event.LoginTokenRevocationFailedEvent;
 import org.springframework.vault.client.VaultHttpHeaders;
 import org.springframework.vault.client.VaultResponses;
+import org.springframework.vault.support.RetryPolicy;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.web.client.HttpStatusCodeException;
@@ -48,10 +57,22 @@ import org.springframework.web.client.RestOperations;
  * Lifecycle-aware {@link SessionManager Session Manager}. This {@link SessionManager}
  * obtains tokens from a {@link ClientAuthentication} upon {@link #getSessionToken()
  * request} synchronizing multiple threads attempting to obtain a token concurrently.
+ * Concurrent callers join a single in-flight login. Waiting for the login can be bounded
+ * with a {@link #setLoginTimeout(Duration) login timeout} or disabled entirely using
+ * {@link #setLoginFailFast(boolean) fail-fast mode}.
+ * <p>
+ * Tokens that cannot be renewed any further can be replaced ahead of their expiry by
+ * enabling {@link #setRefreshAheadEnabled(boolean) refresh-ahead}. The session manager
+ * then logs in again on a background thread before the token's TTL falls below the
+ * validity threshold while callers continue to use the current token.
  * <p>
  * Tokens are renewed asynchronously if a token has a lease duration. This happens 5
  * seconds before the token expires, see {@link #REFRESH_PERIOD_BEFORE_EXPIRY}.
  * <p>
+ * {@link LoginToken#isBatchToken() Batch tokens} can be neither renewed nor revoked. The
+ * session manager logs in again shortly before a batch token expires instead of renewing
+ * it and does not persist batch tokens in a {@link TokenStore}.
+ * <p>
  * This {@link SessionManager} also implements {@link DisposableBean} to revoke the
  * {@link LoginToken} once it's not required anymore. Token revocation will stop regular
  * token refresh. Tokens are only revoked only if the associated
@@ -59,14 +80,17 @@ import org.springframework.web.client.RestOperations;
  * <p>
  * If Token renewal runs into a client-side error, it assumes the token was
  * revoked/expired. It discards the token state so the next attempt will lead to another
- * login attempt.
+ * login attempt. Failed renewals of retained tokens are retried according to the
+ * configured {@link #setRetryPolicy(RetryPolicy) RetryPolicy}.
  * <p>
  * By default, {@link VaultToken} are looked up in Vault to determine renewability and the
  * remaining TTL, see {@link #setTokenSelfLookupEnabled(boolean)}.
  * <p>
  * The session manager dispatches authentication events to {@link AuthenticationListener}
  * and {@link AuthenticationErrorListener}. Event notifications are dispatched either on
- * the calling {@link Thread} or worker threads used for background renewal.
+ * the calling {@link Thread} or worker threads used for background renewal. Login and
+ * renewal latencies can be recorded by configuring
+ * {@link #setAuthenticationMetrics(AuthenticationMetrics) AuthenticationMetrics}.
  * <p>
  * This class is thread-safe.
  *
@@ -91,7 +115,7 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 	 */
 	private final RestOperations restOperations;
 
-	private final Object lock = new Object();
+	private final AtomicReference<CompletableFuture<VaultToken>> pendingLogin = new AtomicReference<>();
 
 	/**
 	 * The token state: Contains the currently valid token that identifies the Vault
@@ -99,6 +123,20 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 	 */
 	private volatile Optional<TokenWrapper> token = Optional.empty();
 
+	private final AtomicInteger renewalAttempts = new AtomicInteger();
+
+	private RetryPolicy retryPolicy = RetryPolicy.none();
+
+	@Nullable
+	private Duration loginTimeout;
+
+	private boolean loginFailFast;
+
+	private boolean refreshAheadEnabled;
+
+	@Nullable
+	private TokenStore tokenStore;
+
 	/**
 	 * Create a {@link LifecycleAwareSessionManager} given {@link ClientAuthentication},
 	 * {@link TaskScheduler} and {@link RestOperations}.
@@ -158,11 +196,86 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 		this.token = token;
 	}
 
+	/**
+	 * Set the {@link RetryPolicy} to retry failed token renewals. The policy is consulted
+	 * if a renewal fails and the {@link org.springframework.vault.support.LeaseStrategy}
+	 * retains the token. Defaults to {@link RetryPolicy#none()}.
+	 *
+	 * @param retryPolicy the {@link RetryPolicy}, must not be {@literal null}.
+	 * @since 2.2
+	 * @see org.springframework.vault.support.ExponentialBackoffRetryPolicy
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "RetryPolicy must not be null");
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * Set the maximal duration to wait for a login performed by another thread.
+	 * Callers waiting longer fail with {@link VaultLoginException}. Waits without a
+	 * timeout if {@literal null}, which is the default.
+	 *
+	 * @param loginTimeout the timeout to wait for a login, may be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setLoginTimeout(@Nullable Duration loginTimeout) {
+
+		Assert.isTrue(loginTimeout == null || !loginTimeout.isNegative(),
+				"Login timeout must not be negative");
+
+		this.loginTimeout = loginTimeout;
+	}
+
+	/**
+	 * Enable fail-fast mode. Callers requesting a token while another thread performs
+	 * the login fail immediately with {@link VaultLoginException} instead of waiting for
+	 * the login to complete. Disabled by default.
+	 *
+	 * @param loginFailFast {@literal true} to fail fast.
+	 * @since 2.2
+	 */
+	public void setLoginFailFast(boolean loginFailFast) {
+		this.loginFailFast = loginFailFast;
+	}
+
+	/**
+	 * Enable refresh-ahead to log in again before a token that cannot be renewed any
+	 * further expires. Applies to tokens that are not renewable and to renewable tokens
+	 * whose renewal falls below the validity threshold. The login is performed on a
+	 * background thread so that callers are not blocked. Disabled by default.
+	 *
+	 * @param refreshAheadEnabled {@literal true} to enable refresh-ahead.
+	 * @since 2.2
+	 */
+	public void setRefreshAheadEnabled(boolean refreshAheadEnabled) {
+		this.refreshAheadEnabled = refreshAheadEnabled;
+	}
+
+	/**
+	 * Set the {@link TokenStore} to persist {@link LoginToken}s across restarts. A stored
+	 * token is restored instead of logging in if a token self-lookup confirms the token
+	 * is still valid. Tokens are not revoked on {@link #destroy()} when using a
+	 * {@link TokenStore} so they can be restored after a restart.
+	 *
+	 * @param tokenStore the {@link TokenStore}, may be {@literal null} to disable token
+	 * persistence.
+	 * @since 2.2
+	 */
+	public void setTokenStore(@Nullable TokenStore tokenStore) {
+		this.tokenStore = tokenStore;
+	}
+
 	@Override
 	public void destroy() {
 
 		Optional<TokenWrapper> token = getToken();
 		setToken(Optional.empty());
+		setCurrentToken(null);
+
+		if (tokenStore != null) {
+			return;
+		}
 
 		token.filter(TokenWrapper::isRevocable).map(TokenWrapper::getToken)
 				.ifPresent(this::revoke);
@@ -215,8 +328,10 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 			VaultTokenRenewalException exception = new VaultTokenRenewalException(
 					format("Cannot renew token", e), e);
 
-			if (getLeaseStrategy().shouldDrop(exception)) {
+			boolean drop = getLeaseStrategy().shouldDrop(exception);
+			if (drop) {
 				setToken(Optional.empty());
+				tokenDropped();
 			}
 
 			if (logger.isDebugEnabled()) {
@@ -228,17 +343,61 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 			dispatch(
 					new LoginTokenRenewalFailedEvent(tokenWrapper.getToken(), exception));
+
+			if (!drop) {
+				scheduleRenewalRetry(tokenWrapper, exception);
+			}
+
 			return false;
 		}
 	}
 
+	private void scheduleRenewalRetry(TokenWrapper tokenWrapper, Exception e) {
+
+		Duration timeToExpiry = tokenWrapper.getTimeToExpiry();
+
+		if (timeToExpiry == null) {
+			return;
+		}
+
+		int attempt = renewalAttempts.incrementAndGet();
+		Duration delay = retryPolicy.getRetryDelay(attempt, e, timeToExpiry);
+
+		if (delay == null) {
+			logger.info(String.format("Not retrying token renewal after attempt %d",
+					attempt));
+			return;
+		}
+
+		logger.info(String.format("Retrying token renewal in %d ms (attempt %d)",
+				delay.toMillis(), attempt));
+
+		Runnable task = createRenewalTask();
+		getTaskScheduler().schedule(() -> {
+
+			if (getToken().orElse(null) == tokenWrapper) {
+				task.run();
+			}
+		}, new OneShotTrigger(new Date(System.currentTimeMillis() + delay.toMillis())));
+	}
+
 	private boolean doRenew(TokenWrapper wrapper) {
 
 		dispatch(new BeforeLoginTokenRenewedEvent(wrapper.getToken()));
-		VaultResponse vaultResponse = restOperations.postForObject(
-				"auth/token/renew-self",
-				new HttpEntity<>(VaultHttpHeaders.from(wrapper.token)),
-				VaultResponse.class);
+
+		long start = System.nanoTime();
+		VaultResponse vaultResponse;
+
+		try {
+			vaultResponse = restOperations.postForObject("auth/token/renew-self",
+					new HttpEntity<>(VaultHttpHeaders.from(wrapper.token)),
+					VaultResponse.class);
+			recordRenewal(start, true);
+		}
+		catch (RuntimeException e) {
+			recordRenewal(start, false);
+			throw e;
+		}
 
 		LoginToken renewed = LoginTokenUtil.from(vaultResponse.getRequiredAuth());
 
@@ -255,12 +414,23 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 				logger.info("Token TTL exceeded validity TTL threshold. Dropping token.");
 			}
 
-			setToken(Optional.empty());
 			dispatch(new LoginTokenExpiredEvent(renewed));
+
+			if (refreshAheadEnabled) {
+				refreshAhead(wrapper);
+			}
+			else {
+				setToken(Optional.empty());
+				tokenDropped();
+			}
+
 			return false;
 		}
 
 		setToken(Optional.of(new TokenWrapper(renewed, wrapper.revocable)));
+		setCurrentToken(renewed);
+		renewalAttempts.set(0);
+		retryPolicy.onSuccess();
 		dispatch(new AfterLoginTokenRenewedEvent(renewed));
 
 		return true;
@@ -269,33 +439,144 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 	@Override
 	public VaultToken getSessionToken() {
 
-		if (!getToken().isPresent()) {
+		Optional<TokenWrapper> token = getToken();
+
+		if (token.isPresent()) {
+			return token.get().getToken();
+		}
 
-			synchronized (lock) {
+		return login(false);
+	}
 
-				if (!getToken().isPresent()) {
-					doGetSessionToken();
-				}
+	/**
+	 * Obtain a token using a single-flight login. The calling thread either performs the
+	 * login or joins a login that is already in flight.
+	 *
+	 * @param refresh {@literal true} to log in even if a token is present.
+	 * @return the obtained token.
+	 */
+	private VaultToken login(boolean refresh) {
+
+		CompletableFuture<VaultToken> login = new CompletableFuture<>();
+
+		while (!pendingLogin.compareAndSet(null, login)) {
+
+			CompletableFuture<VaultToken> inFlight = pendingLogin.get();
+
+			if (inFlight != null) {
+				return await(inFlight, !refresh && loginFailFast);
+			}
+		}
+
+		try {
+
+			Optional<TokenWrapper> token = getToken();
+
+			if (refresh || !token.isPresent()) {
+				doGetSessionToken(!refresh);
+				token = getToken();
+			}
+
+			VaultToken result = token.map(TokenWrapper::getToken).orElseThrow(
+					() -> new IllegalStateException("Cannot obtain VaultToken"));
+
+			login.complete(result);
+
+			return result;
+		}
+		catch (RuntimeException e) {
+
+			login.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			pendingLogin.compareAndSet(login, null);
+		}
+	}
+
+	private VaultToken await(CompletableFuture<VaultToken> login, boolean failFast) {
+
+		if (failFast) {
+			throw new VaultLoginException("Login in progress");
+		}
+
+		Duration timeout = this.loginTimeout;
+
+		try {
+			return timeout == null ? login.get()
+					: login.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
 			}
+
+			throw new VaultLoginException("Cannot login", e.getCause());
 		}
+		catch (TimeoutException e) {
+			throw new VaultLoginException(String.format(
+					"Login did not complete within %d ms", timeout.toMillis()), e);
+		}
+		catch (InterruptedException e) {
 
-		return getToken().map(TokenWrapper::getToken)
-				.orElseThrow(() -> new IllegalStateException("Cannot obtain VaultToken"));
+			Thread.currentThread().interrupt();
+			throw new VaultLoginException("Interrupted while waiting for login", e);
+		}
 	}
 
-	private void doGetSessionToken() {
+	/**
+	 * Log in again while the current token is still valid. Drops the current token if
+	 * the login fails so that the next {@link #getSessionToken()} call attempts to log
+	 * in.
+	 */
+	private void refreshAhead(TokenWrapper current) {
+
+		logger.info("Refreshing token ahead of expiry");
+
+		try {
+			login(true);
+		}
+		catch (RuntimeException e) {
+
+			logger.warn(String.format("Cannot refresh token ahead of expiry: %s",
+					e.getMessage()));
+
+			if (getToken().orElse(null) == current) {
+				setToken(Optional.empty());
+				tokenDropped();
+			}
+		}
+	}
+
+	private void doGetSessionToken(boolean restore) {
+
+		LoginToken restored = restore ? restoreToken() : null;
+
+		if (restored != null) {
+			onToken(new TokenWrapper(restored, true));
+			return;
+		}
 
 		VaultToken token;
+		long start = System.nanoTime();
 
 		try {
 			token = clientAuthentication.login();
+			recordLogin(clientAuthentication, start, true);
 		}
-		catch (VaultException e) {
+		catch (RuntimeException e) {
+			recordLogin(clientAuthentication, start, false);
 			dispatch(new LoginFailedEvent(clientAuthentication, e));
 			throw e;
 		}
 
-		TokenWrapper wrapper = new TokenWrapper(token, token instanceof LoginToken);
+		TokenWrapper wrapper = new TokenWrapper(token,
+				token instanceof LoginToken && !isBatchToken(token));
+
+		if (token instanceof LoginToken && !isBatchToken(token)) {
+			storeToken((LoginToken) token);
+		}
 
 		if (isTokenSelfLookupEnabled()
 				&& !ClassUtils.isAssignableValue(LoginToken.class, token)) {
@@ -311,12 +592,107 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 			}
 		}
 
+		onToken(wrapper);
+	}
+
+	private void onToken(TokenWrapper wrapper) {
+
 		setToken(Optional.of(wrapper));
-		dispatch(new AfterLoginEvent(token));
+		setCurrentToken(wrapper.getToken());
+		renewalAttempts.set(0);
+		dispatch(new AfterLoginEvent(wrapper.getToken()));
 
 		if (isTokenRenewable()) {
 			scheduleRenewal();
 		}
+		else if (refreshAheadEnabled || isBatchToken(wrapper.getToken())) {
+			scheduleRefreshAhead();
+		}
+	}
+
+	/**
+	 * Restore a {@link LoginToken} from the {@link TokenStore} if a self-lookup confirms
+	 * it is still valid.
+	 *
+	 * @return the restored token or {@literal null} if there is no valid stored token.
+	 */
+	@Nullable
+	private LoginToken restoreToken() {
+
+		TokenStore tokenStore = this.tokenStore;
+		LoginToken stored = tokenStore != null ? tokenStore.load() : null;
+
+		if (tokenStore == null || stored == null) {
+			return null;
+		}
+
+		try {
+
+			LoginToken restored = LoginTokenAdapter
+					.augmentWithSelfLookup(this.restOperations, stored);
+
+			if (!restored.getLeaseDuration().isZero() && isExpired(restored)) {
+
+				logger.info("Stored token is about to expire. Logging in.");
+				removeToken(tokenStore);
+				return null;
+			}
+
+			logger.info("Restored token from TokenStore");
+			return restored;
+		}
+		catch (VaultTokenLookupException e) {
+
+			logger.info(String.format("Cannot restore stored token: %s. Logging in.",
+					e.getMessage()));
+			removeToken(tokenStore);
+			return null;
+		}
+	}
+
+	private void removeToken(TokenStore tokenStore) {
+
+		try {
+			tokenStore.remove();
+		}
+		catch (RuntimeException e) {
+			logger.warn(String.format("Cannot remove stored token: %s", e.getMessage()));
+		}
+	}
+
+	private void storeToken(LoginToken token) {
+
+		TokenStore tokenStore = this.tokenStore;
+
+		if (tokenStore == null) {
+			return;
+		}
+
+		try {
+			tokenStore.save(token);
+		}
+		catch (RuntimeException e) {
+			logger.warn(String.format("Cannot store token: %s", e.getMessage()));
+		}
+	}
+
+	private void scheduleRefreshAhead() {
+
+		Optional<TokenWrapper> token = getToken().filter(
+				it -> it.getToken() instanceof LoginToken && !((LoginToken) it.getToken())
+						.getLeaseDuration().isZero());
+
+		token.ifPresent(tokenWrapper -> {
+
+			logger.info("Scheduling token refresh ahead of expiry");
+
+			getTaskScheduler().schedule(() -> {
+
+				if (getToken().orElse(null) == tokenWrapper) {
+					refreshAhead(tokenWrapper);
+				}
+			}, createTrigger(tokenWrapper));
+		});
 	}
 
 	protected VaultToken login() {
@@ -334,15 +710,29 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 					LoginToken loginToken = (LoginToken) it;
 					return !loginToken.getLeaseDuration().isZero()
-							&& loginToken.isRenewable();
+							&& loginToken.isRenewable() && !loginToken.isBatchToken();
 				}).isPresent();
 	}
 
+	private static boolean isBatchToken(VaultToken token) {
+		return token instanceof LoginToken && ((LoginToken) token).isBatchToken();
+	}
+
 	private void scheduleRenewal() {
 
 		logger.info("Scheduling Token renewal");
 
-		Runnable task = () -> {
+		Runnable task = createRenewalTask();
+
+		Optional<TokenWrapper> token = getToken();
+
+		token.ifPresent(tokenWrapper -> getTaskScheduler().schedule(task,
+				createTrigger(tokenWrapper)));
+	}
+
+	private Runnable createRenewalTask() {
+
+		return () -> {
 			Optional<TokenWrapper> tokenWrapper = getToken();
 
 			if (!tokenWrapper.isPresent()) {
@@ -363,11 +753,6 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 				dispatch(new LoginTokenRenewalFailedEvent(token, e));
 			}
 		};
-
-		Optional<TokenWrapper> token = getToken();
-
-		token.ifPresent(tokenWrapper -> getTaskScheduler().schedule(task,
-				createTrigger(tokenWrapper)));
 	}
 
 	private OneShotTrigger createTrigger(TokenWrapper tokenWrapper) {
@@ -399,6 +784,7 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 		private final VaultToken token;
 		private final boolean revocable;
+		private final long timestamp = System.currentTimeMillis();
 
 		TokenWrapper(VaultToken token, boolean revocable) {
 			this.token = token;
@@ -412,5 +798,23 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 		public boolean isRevocable() {
 			return this.revocable;
 		}
+
+		/**
+		 * @return the remaining time until the token expires or {@literal null} if the
+		 * token is not a {@link LoginToken}.
+		 */
+		@Nullable
+		Duration getTimeToExpiry() {
+
+			if (!(this.token instanceof LoginToken)) {
+				return null;
+			}
+
+			long elapsed = System.currentTimeMillis() - this.timestamp;
+			long remaining = ((LoginToken) this.token).getLeaseDuration().toMillis()
+					- elapsed;
+
+			return Duration.ofMillis(Math.max(0, remaining));
+		}
 	}
 }
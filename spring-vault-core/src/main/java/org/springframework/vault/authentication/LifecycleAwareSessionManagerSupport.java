@@ -17,6 +17,7 @@ package org.springframework.vault.authentication;
 
 import java.time.Duration;
 import java.util.Date;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -28,7 +29,10 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.TriggerContext;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.vault.support.LeaseStrategy;
+import org.springframework.vault.support.RenewalJitter;
 import org.springframework.vault.support.VaultToken;
 
 /**
@@ -49,7 +53,7 @@ public abstract class LifecycleAwareSessionManagerSupport
 	 */
 	public static final int REFRESH_PERIOD_BEFORE_EXPIRY = 5;
 
-	private static final RefreshTrigger DEFAULT_TRIGGER = new FixedTimeoutRefreshTrigger(
+	static final RefreshTrigger DEFAULT_TRIGGER = new FixedTimeoutRefreshTrigger(
 			REFRESH_PERIOD_BEFORE_EXPIRY, TimeUnit.SECONDS);
 
 	/**
@@ -60,6 +64,7 @@ public abstract class LifecycleAwareSessionManagerSupport
 	/**
 	 * Threading infrastructure for token renewal/refresh.
 	 */
+	@Nullable
 	private final TaskScheduler taskScheduler;
 
 	/**
@@ -78,6 +83,19 @@ public abstract class LifecycleAwareSessionManagerSupport
 
 	private LeaseStrategy leaseStrategy = LeaseStrategy.dropOnError();
 
+	private AuthenticationMetrics authenticationMetrics = AuthenticationMetrics.none();
+
+	@Nullable
+	private String authenticationMechanism;
+
+	private final AtomicBoolean loggedIn = new AtomicBoolean();
+
+	/**
+	 * Expiry of the current token in milliseconds since the epoch. {@literal -1} if there
+	 * is no token or the token does not expire.
+	 */
+	private volatile long tokenExpiry = -1;
+
 	/**
 	 * Create a {@link LifecycleAwareSessionManager} given {@link TaskScheduler}. Using
 	 * {@link #DEFAULT_TRIGGER} to trigger refresh.
@@ -105,6 +123,23 @@ public abstract class LifecycleAwareSessionManagerSupport
 		this.refreshTrigger = refreshTrigger;
 	}
 
+	/**
+	 * Create a {@link LifecycleAwareSessionManagerSupport} without a
+	 * {@link TaskScheduler} given {@link RefreshTrigger}. Subclasses using this
+	 * constructor schedule token renewal/refresh themselves and must not call
+	 * {@link #getTaskScheduler()}.
+	 *
+	 * @param refreshTrigger must not be {@literal null}.
+	 * @since 2.2
+	 */
+	LifecycleAwareSessionManagerSupport(RefreshTrigger refreshTrigger) {
+
+		Assert.notNull(refreshTrigger, "RefreshTrigger must not be null");
+
+		this.taskScheduler = null;
+		this.refreshTrigger = refreshTrigger;
+	}
+
 	/**
 	 * Returns whether token self-lookup is enabled to augment {@link VaultToken} obtained
 	 * from a {@link ClientAuthentication}. Self-lookup determines whether a token is
@@ -150,10 +185,163 @@ public abstract class LifecycleAwareSessionManagerSupport
 		return leaseStrategy;
 	}
 
+	/**
+	 * Set the {@link AuthenticationMetrics} to record login and token renewal metrics.
+	 * Binds the {@link AuthenticationMetrics} to this session manager.
+	 *
+	 * @param authenticationMetrics the {@link AuthenticationMetrics}, must not be
+	 *     {@literal null}.
+	 * @since 2.2
+	 * @see MicrometerAuthenticationMetrics
+	 */
+	public void setAuthenticationMetrics(AuthenticationMetrics authenticationMetrics) {
+
+		Assert.notNull(authenticationMetrics, "AuthenticationMetrics must not be null");
+
+		this.authenticationMetrics = authenticationMetrics;
+		authenticationMetrics.bindTo(this);
+	}
+
+	/**
+	 * Set the name of the authentication mechanism (e.g. {@literal approle} or
+	 * {@literal kubernetes}) to report logins with. Defaults to the mount path of
+	 * {@link AuthenticationSteps}-based logins or the name of the authentication class
+	 * (e.g. {@literal approle} for {@link AppRoleAuthentication}).
+	 *
+	 * @param authenticationMechanism the authentication mechanism name, must not be
+	 *     {@literal null} or empty.
+	 * @since 2.2
+	 * @see AuthenticationMetrics#recordLogin(String, Duration, boolean)
+	 */
+	public void setAuthenticationMechanism(String authenticationMechanism) {
+
+		Assert.hasText(authenticationMechanism,
+				"Authentication mechanism must not be null or empty");
+
+		this.authenticationMechanism = authenticationMechanism;
+	}
+
+	/**
+	 * Return the remaining time until the current token expires.
+	 *
+	 * @return the remaining time until the current token expires or {@literal null} if
+	 * there is no token or the token does not expire.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Duration getTimeToExpiry() {
+
+		long tokenExpiry = this.tokenExpiry;
+
+		if (tokenExpiry == -1) {
+			return null;
+		}
+
+		return Duration.ofMillis(Math.max(0, tokenExpiry - System.currentTimeMillis()));
+	}
+
+	/**
+	 * Record a login started at {@code startNanos} (see {@link System#nanoTime()}).
+	 * Successful logins after a token was obtained before are reported as relogin.
+	 */
+	void recordLogin(Object authentication, long startNanos, boolean successful) {
+
+		String authenticationMechanism = this.authenticationMechanism != null
+				? this.authenticationMechanism
+				: getAuthenticationMechanism(authentication);
+
+		authenticationMetrics.recordLogin(authenticationMechanism,
+				Duration.ofNanos(System.nanoTime() - startNanos), successful);
+
+		if (successful && !loggedIn.compareAndSet(false, true)) {
+			authenticationMetrics.relogin();
+		}
+	}
+
+	/**
+	 * Derive the authentication mechanism from {@code authentication}: The mount path of
+	 * {@link AuthenticationSteps}-based logins or the lower-case class name without its
+	 * {@literal Authentication} suffix.
+	 */
+	static String getAuthenticationMechanism(Object authentication) {
+
+		String mechanism = null;
+
+		if (authentication instanceof AuthenticationStepsExecutor) {
+			mechanism = ((AuthenticationStepsExecutor) authentication)
+					.getAuthenticationMechanism();
+		}
+
+		if (authentication instanceof AuthenticationStepsOperator) {
+			mechanism = ((AuthenticationStepsOperator) authentication)
+					.getAuthenticationMechanism();
+		}
+
+		if (mechanism != null) {
+			return mechanism;
+		}
+
+		Class<?> type = ClassUtils.getUserClass(authentication);
+
+		if (type.isAnonymousClass() || type.isSynthetic()) {
+			return "custom";
+		}
+
+		String name = type.getSimpleName();
+
+		if (name.endsWith("Authentication")) {
+			name = name.substring(0, name.length() - "Authentication".length());
+		}
+
+		name = name.toLowerCase(Locale.ROOT);
+
+		return StringUtils.hasText(name) ? name : "custom";
+	}
+
+	/**
+	 * Record a token renewal started at {@code startNanos} (see
+	 * {@link System#nanoTime()}).
+	 */
+	void recordRenewal(long startNanos, boolean successful) {
+		authenticationMetrics.recordRenewal(
+				Duration.ofNanos(System.nanoTime() - startNanos), successful);
+	}
+
+	/**
+	 * Track the expiry of the token currently used by the session manager.
+	 *
+	 * @param token the current token, may be {@literal null} if the session manager has
+	 * no token.
+	 */
+	void setCurrentToken(@Nullable VaultToken token) {
+
+		if (token instanceof LoginToken
+				&& !((LoginToken) token).getLeaseDuration().isZero()) {
+			this.tokenExpiry = System.currentTimeMillis()
+					+ ((LoginToken) token).getLeaseDuration().toMillis();
+		}
+		else {
+			this.tokenExpiry = -1;
+		}
+	}
+
+	/**
+	 * Record that the session manager dropped its current token.
+	 */
+	void tokenDropped() {
+
+		setCurrentToken(null);
+		authenticationMetrics.tokenDropped();
+	}
+
 	/**
 	 * @return the underlying {@link TaskScheduler}.
+	 * @throws IllegalStateException if the session manager was created without a
+	 *     {@link TaskScheduler}.
 	 */
 	protected TaskScheduler getTaskScheduler() {
+
+		Assert.state(taskScheduler != null, "No TaskScheduler configured");
 		return taskScheduler;
 	}
 
@@ -243,6 +431,7 @@ public abstract class LifecycleAwareSessionManagerSupport
 
 		private final Duration duration;
 		private final Duration validTtlThreshold;
+		private final RenewalJitter renewalJitter;
 
 		/**
 		 * Create a new {@link FixedTimeoutRefreshTrigger} to calculate execution times of
@@ -259,6 +448,7 @@ public abstract class LifecycleAwareSessionManagerSupport
 
 			this.duration = Duration.ofMillis(timeUnit.toMillis(timeout));
 			this.validTtlThreshold = Duration.ofMillis(timeUnit.toMillis(timeout) + 2000);
+			this.renewalJitter = RenewalJitter.none();
 		}
 
 		/**
@@ -284,21 +474,44 @@ public abstract class LifecycleAwareSessionManagerSupport
 		 * @since 2.0
 		 */
 		public FixedTimeoutRefreshTrigger(Duration timeout, Duration validTtlThreshold) {
+			this(timeout, validTtlThreshold, RenewalJitter.none());
+		}
+
+		/**
+		 * Create a new {@link FixedTimeoutRefreshTrigger} to calculate execution times of
+		 * {@code timeout} before the {@link LoginToken} expires applying
+		 * {@link RenewalJitter} to spread token renewal across multiple clients. Jitter
+		 * only schedules renewal earlier so tokens are still renewed at least
+		 * {@code timeout} before they expire.
+		 *
+		 * @param timeout timeout value.
+		 * @param validTtlThreshold minimum TTL duration to consider a Token as valid.
+		 *     Tokens with a shorter TTL are not used anymore. Should be greater than
+		 *     {@code timeout} to prevent token expiry.
+		 * @param renewalJitter jitter to apply to the renewal delay, must not be
+		 *     {@literal null}.
+		 * @since 2.2
+		 */
+		public FixedTimeoutRefreshTrigger(Duration timeout, Duration validTtlThreshold,
+				RenewalJitter renewalJitter) {
 
 			Assert.isTrue(timeout.toMillis() >= 0,
 					"Timeout duration must be greater or equal to zero");
 
 			Assert.notNull(validTtlThreshold, "Valid TTL threshold must not be null");
+			Assert.notNull(renewalJitter, "RenewalJitter must not be null");
 
 			this.duration = timeout;
 			this.validTtlThreshold = validTtlThreshold;
+			this.renewalJitter = renewalJitter;
 		}
 
 		@Override
 		public Date nextExecutionTime(LoginToken loginToken) {
 
+			Duration delay = loginToken.getLeaseDuration().minus(duration);
 			long milliseconds = Math.max(ONE_SECOND.toMillis(),
-					loginToken.getLeaseDuration().toMillis() - duration.toMillis());
+					delay.isNegative() ? 0 : renewalJitter.apply(delay).toMillis());
 
 			return new Date(System.currentTimeMillis() + milliseconds);
 		}
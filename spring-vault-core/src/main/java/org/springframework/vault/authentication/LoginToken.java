@@ -17,6 +17,7 @@ package org.springframework.vault.authentication;
 
 import java.time.Duration;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.vault.support.VaultToken;
 
@@ -27,6 +28,21 @@ import org.springframework.vault.support.VaultToken;
  */
 public class LoginToken extends VaultToken {
 
+	/**
+	 * Token type of service tokens.
+	 *
+	 * @since 2.2
+	 */
+	public static final String SERVICE_TOKEN_TYPE = "service";
+
+	/**
+	 * Token type of batch tokens. Batch tokens can be neither renewed, looked up nor
+	 * revoked.
+	 *
+	 * @since 2.2
+	 */
+	public static final String BATCH_TOKEN_TYPE = "batch";
+
 	private final boolean renewable;
 
 	/**
@@ -34,12 +50,31 @@ public class LoginToken extends VaultToken {
 	 */
 	private final Duration leaseDuration;
 
+	@Nullable
+	private final String type;
+
 	private LoginToken(char[] token, Duration duration, boolean renewable) {
+		this(token, duration, renewable, null);
+	}
+
+	private LoginToken(char[] token, Duration duration, boolean renewable,
+			@Nullable String type) {
 
 		super(token);
 
 		this.leaseDuration = duration;
 		this.renewable = renewable;
+		this.type = type;
+	}
+
+	/**
+	 * Create a new {@link LoginTokenBuilder} to build a {@link LoginToken}.
+	 *
+	 * @return a new {@link LoginTokenBuilder}.
+	 * @since 2.2
+	 */
+	public static LoginTokenBuilder builder() {
+		return new LoginTokenBuilder();
 	}
 
 	/**
@@ -207,13 +242,138 @@ public class LoginToken extends VaultToken {
 		return renewable;
 	}
 
+	/**
+	 * @return the token type ({@literal service} or {@literal batch}) as reported by
+	 * Vault. May be {@literal null} if the type is not known.
+	 * @since 2.2
+	 */
+	@Nullable
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * @return {@literal true} if this token is a batch token; {@literal false} otherwise.
+	 * @since 2.2
+	 * @see #BATCH_TOKEN_TYPE
+	 */
+	public boolean isBatchToken() {
+		return BATCH_TOKEN_TYPE.equals(type);
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
 		sb.append(getClass().getSimpleName());
 		sb.append(" [renewable=").append(renewable);
 		sb.append(", leaseDuration=").append(leaseDuration);
+		if (type != null) {
+			sb.append(", type=").append(type);
+		}
 		sb.append(']');
 		return sb.toString();
 	}
+
+	/**
+	 * Builder for {@link LoginToken}.
+	 *
+	 * @since 2.2
+	 */
+	public static class LoginTokenBuilder {
+
+		@Nullable
+		private char[] token;
+
+		private boolean renewable;
+
+		private Duration leaseDuration = Duration.ZERO;
+
+		@Nullable
+		private String type;
+
+		LoginTokenBuilder() {
+		}
+
+		/**
+		 * Configure the token value.
+		 *
+		 * @param token must not be empty or {@literal null}.
+		 * @return {@code this} {@link LoginTokenBuilder}.
+		 */
+		public LoginTokenBuilder token(String token) {
+
+			Assert.hasText(token, "Token must not be empty");
+
+			return token(token.toCharArray());
+		}
+
+		/**
+		 * Configure the token value.
+		 *
+		 * @param token must not be empty or {@literal null}.
+		 * @return {@code this} {@link LoginTokenBuilder}.
+		 */
+		public LoginTokenBuilder token(char[] token) {
+
+			Assert.notNull(token, "Token must not be null");
+			Assert.isTrue(token.length > 0, "Token must not be empty");
+
+			this.token = token;
+			return this;
+		}
+
+		/**
+		 * Configure whether the token is renewable.
+		 *
+		 * @param renewable {@literal true} if the token is renewable.
+		 * @return {@code this} {@link LoginTokenBuilder}.
+		 */
+		public LoginTokenBuilder renewable(boolean renewable) {
+
+			this.renewable = renewable;
+			return this;
+		}
+
+		/**
+		 * Configure the lease duration.
+		 *
+		 * @param leaseDuration must not be {@literal null} or negative.
+		 * @return {@code this} {@link LoginTokenBuilder}.
+		 */
+		public LoginTokenBuilder leaseDuration(Duration leaseDuration) {
+
+			Assert.notNull(leaseDuration, "Lease duration must not be null");
+			Assert.isTrue(!leaseDuration.isNegative(),
+					"Lease duration must not be negative");
+
+			this.leaseDuration = leaseDuration;
+			return this;
+		}
+
+		/**
+		 * Configure the token type.
+		 *
+		 * @param type the token type, may be {@literal null}.
+		 * @return {@code this} {@link LoginTokenBuilder}.
+		 * @see #SERVICE_TOKEN_TYPE
+		 * @see #BATCH_TOKEN_TYPE
+		 */
+		public LoginTokenBuilder type(@Nullable String type) {
+
+			this.type = type;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link LoginToken} instance.
+		 *
+		 * @return a new {@link LoginToken}.
+		 */
+		public LoginToken build() {
+
+			Assert.state(token != null, "Token must not be null");
+
+			return new LoginToken(token, leaseDuration, renewable, type);
+		}
+	}
 }
@@ -80,14 +80,25 @@ public class LoginTokenAdapter implements ClientAuthentication {
 
 		Map<String, Object> data = lookupSelf(restOperations, token);
 
-		Boolean renewable = (Boolean) data.get("renewable");
-		Number ttl = (Number) data.get("ttl");
+		return from(token.toCharArray(), data);
+	}
 
-		if (renewable != null && renewable) {
-			return LoginToken.renewable(token.toCharArray(), getLeaseDuration(ttl));
-		}
+	/**
+	 * Construct a {@link LoginToken} from a token self-lookup response.
+	 *
+	 * @param token the token value.
+	 * @param lookupData the {@code data} of a token self-lookup response.
+	 * @return the {@link LoginToken}.
+	 */
+	static LoginToken from(char[] token, Map<String, Object> lookupData) {
+
+		Boolean renewable = (Boolean) lookupData.get("renewable");
+		Number ttl = (Number) lookupData.get("ttl");
+		String type = (String) lookupData.get("type");
 
-		return LoginToken.of(token.toCharArray(), getLeaseDuration(ttl));
+		return LoginToken.builder().token(token)
+				.renewable(renewable != null && renewable)
+				.leaseDuration(getLeaseDuration(ttl)).type(type).build();
 	}
 
 	private static Map<String, Object> lookupSelf(RestOperations restOperations,
@@ -60,20 +60,27 @@ final class LoginTokenUtil {
 
 		Boolean renewable = (Boolean) auth.get("renewable");
 		Number leaseDuration = (Number) auth.get("lease_duration");
+		String type = (String) auth.get("token_type");
 
 		if (leaseDuration == null) {
 			leaseDuration = (Number) auth.get("ttl");
 		}
 
+		if (type == null) {
+			type = (String) auth.get("type");
+		}
+
+		LoginToken.LoginTokenBuilder builder = LoginToken.builder().token(token)
+				.type(type);
+
 		if (renewable != null && renewable) {
-			return LoginToken.renewable(token,
-					Duration.ofSeconds(leaseDuration.longValue()));
+			builder.renewable(true);
 		}
 
 		if (leaseDuration != null) {
-			return LoginToken.of(token, Duration.ofSeconds(leaseDuration.longValue()));
+			builder.leaseDuration(Duration.ofSeconds(leaseDuration.longValue()));
 		}
 
-		return LoginToken.of(token);
+		return builder.build();
 	}
 }
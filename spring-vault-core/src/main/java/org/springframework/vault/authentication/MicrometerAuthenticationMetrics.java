@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link AuthenticationMetrics} implementation recording metrics to a Micrometer
+ * {@link MeterRegistry}. This class requires Micrometer on the class path and records:
+ * <ul>
+ * <li>{@literal vault.authentication.login}: latency {@link Timer} with a percentile
+ * histogram tagged with the {@literal authentication} mechanism and the
+ * {@literal outcome} ({@literal success} or {@literal failure}).</li>
+ * <li>{@literal vault.authentication.renewal}: latency {@link Timer} with a percentile
+ * histogram tagged with the {@literal outcome}.</li>
+ * <li>{@literal vault.authentication.time-to-expiry}: {@link TimeGauge} reporting the
+ * remaining time until the current token expires.</li>
+ * <li>{@literal vault.authentication.dropped} and
+ * {@literal vault.authentication.relogin}: {@link Counter counters} reporting the number
+ * of dropped tokens and repeated logins.</li>
+ * </ul>
+ * A {@link MicrometerAuthenticationMetrics} instance is intended to be used with a single
+ * session manager. Use {@link Tag tags} to distinguish metrics of multiple session
+ * managers.
+ *
+ * @author agent
+ * @since 2.2
+ */
+public class MicrometerAuthenticationMetrics implements AuthenticationMetrics {
+
+	private final MeterRegistry registry;
+
+	private final Tags tags;
+
+	private final Counter dropped;
+
+	private final Counter relogin;
+
+	/**
+	 * Create a new {@link MicrometerAuthenticationMetrics} given {@link MeterRegistry}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public MicrometerAuthenticationMetrics(MeterRegistry registry) {
+		this(registry, Tags.empty());
+	}
+
+	/**
+	 * Create a new {@link MicrometerAuthenticationMetrics} given {@link MeterRegistry}
+	 * and {@link Tag tags} to apply to all meters.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param tags must not be {@literal null}.
+	 */
+	public MicrometerAuthenticationMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null");
+		Assert.notNull(tags, "Tags must not be null");
+
+		this.registry = registry;
+		this.tags = Tags.of(tags);
+
+		this.dropped = Counter.builder("vault.authentication.dropped") //
+				.tags(this.tags) //
+				.description("Number of tokens dropped by the session manager") //
+				.register(registry);
+
+		this.relogin = Counter.builder("vault.authentication.relogin") //
+				.tags(this.tags) //
+				.description("Number of logins after a token was obtained before") //
+				.register(registry);
+	}
+
+	@Override
+	public void bindTo(LifecycleAwareSessionManagerSupport sessionManager) {
+
+		TimeGauge.builder("vault.authentication.time-to-expiry", sessionManager,
+				TimeUnit.MILLISECONDS, it -> {
+
+					Duration timeToExpiry = it.getTimeToExpiry();
+					return timeToExpiry != null ? timeToExpiry.toMillis() : Double.NaN;
+				}) //
+				.tags(tags) //
+				.description("Remaining time until the token expires") //
+				.register(registry);
+	}
+
+	@Override
+	public void recordLogin(String authenticationMechanism, Duration latency,
+			boolean successful) {
+
+		Timer.builder("vault.authentication.login") //
+				.tags(tags) //
+				.tag("authentication", authenticationMechanism) //
+				.tag("outcome", successful ? "success" : "failure") //
+				.publishPercentileHistogram() //
+				.register(registry) //
+				.record(latency);
+	}
+
+	@Override
+	public void recordRenewal(Duration latency, boolean successful) {
+
+		Timer.builder("vault.authentication.renewal") //
+				.tags(tags) //
+				.tag("outcome", successful ? "success" : "failure") //
+				.publishPercentileHistogram() //
+				.register(registry) //
+				.record(latency);
+	}
+
+	@Override
+	public void tokenDropped() {
+		dropped.increment();
+	}
+
+	@Override
+	public void relogin() {
+		relogin.increment();
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.support.VaultToken;
+
+/**
+ * Composite {@link VaultTokenSupplier} that attempts to log in using an ordered list of
+ * authentication methods. Methods are subscribed in the configured order until a method
+ * emits a {@link VaultToken}. The method that succeeded last is tried first on subsequent
+ * logins. Each method can be configured with a timeout after which the next method is
+ * attempted.
+ * <p>
+ * Example:
+ *
+ * <pre class="code">
+ * ReactiveFailoverAuthentication authentication = ReactiveFailoverAuthentication.builder()
+ * 		.authentication(kubernetesAuthentication, Duration.ofSeconds(2))
+ * 		.authentication(appRoleAuthentication, Duration.ofSeconds(2))
+ * 		.authentication(tokenAuthentication).build();
+ * </pre>
+ *
+ * @author agent
+ * @since 2.2
+ * @see FailoverAuthentication
+ */
+public class ReactiveFailoverAuthentication implements VaultTokenSupplier {
+
+	private static final Log logger = LogFactory
+			.getLog(ReactiveFailoverAuthentication.class);
+
+	private final List<AuthenticationMethod> methods;
+
+	private final AtomicInteger preferred = new AtomicInteger();
+
+	private ReactiveFailoverAuthentication(List<AuthenticationMethod> methods) {
+		this.methods = methods;
+	}
+
+	/**
+	 * @return a new {@link ReactiveFailoverAuthenticationBuilder}.
+	 */
+	public static ReactiveFailoverAuthenticationBuilder builder() {
+		return new ReactiveFailoverAuthenticationBuilder();
+	}
+
+	@Override
+	public Mono<VaultToken> getVaultToken() {
+
+		return Mono.defer(() -> {
+
+			int preferred = this.preferred.get();
+			List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+			int[] order = FailoverAuthentication.getAttemptOrder(preferred,
+					methods.size());
+
+			return Flux.range(0, order.length).map(it -> order[it])
+					.concatMap(index -> login(methods.get(index), failures)
+							.doOnNext(ignore -> this.preferred.compareAndSet(preferred,
+									index)))
+					.next().switchIfEmpty(Mono.defer(() -> {
+
+						VaultLoginException exception = new VaultLoginException(
+								"Cannot login using any of the configured authentication methods");
+						failures.forEach(exception::addSuppressed);
+
+						return Mono.error(exception);
+					}));
+		});
+	}
+
+	private static Mono<VaultToken> login(AuthenticationMethod method,
+			List<Throwable> failures) {
+
+		Mono<VaultToken> login = Mono.defer(method.authentication::getVaultToken);
+		Duration timeout = method.timeout;
+
+		if (timeout != null) {
+			login = login.timeout(timeout).onErrorMap(TimeoutException.class,
+					e -> new VaultLoginException(String.format(
+							"Login using %s did not complete within %d ms",
+							method.getName(), timeout.toMillis()), e));
+		}
+
+		return login.onErrorResume(e -> {
+
+			logger.warn(String.format("Login using %s failed: %s", method.getName(),
+					e.getMessage()));
+			failures.add(e);
+
+			return Mono.empty();
+		});
+	}
+
+	private static class AuthenticationMethod {
+
+		private final VaultTokenSupplier authentication;
+
+		@Nullable
+		private final Duration timeout;
+
+		AuthenticationMethod(VaultTokenSupplier authentication,
+				@Nullable Duration timeout) {
+			this.authentication = authentication;
+			this.timeout = timeout;
+		}
+
+		String getName() {
+			return authentication.getClass().getSimpleName();
+		}
+	}
+
+	/**
+	 * Builder for {@link ReactiveFailoverAuthentication}.
+	 */
+	public static class ReactiveFailoverAuthenticationBuilder {
+
+		private final List<AuthenticationMethod> methods = new ArrayList<>();
+
+		ReactiveFailoverAuthenticationBuilder() {
+		}
+
+		/**
+		 * Add a {@link VaultTokenSupplier} without a timeout.
+		 *
+		 * @param authentication must not be {@literal null}.
+		 * @return {@code this} {@link ReactiveFailoverAuthenticationBuilder}.
+		 */
+		public ReactiveFailoverAuthenticationBuilder authentication(
+				VaultTokenSupplier authentication) {
+
+			Assert.notNull(authentication, "VaultTokenSupplier must not be null");
+
+			this.methods.add(new AuthenticationMethod(authentication, null));
+			return this;
+		}
+
+		/**
+		 * Add a {@link VaultTokenSupplier} with a {@code timeout}. The next method is
+		 * attempted if the login does not complete within {@code timeout}.
+		 *
+		 * @param authentication must not be {@literal null}.
+		 * @param timeout must not be {@literal null} or negative.
+		 * @return {@code this} {@link ReactiveFailoverAuthenticationBuilder}.
+		 */
+		public ReactiveFailoverAuthenticationBuilder authentication(
+				VaultTokenSupplier authentication, Duration timeout) {
+
+			Assert.notNull(authentication, "VaultTokenSupplier must not be null");
+			Assert.notNull(timeout, "Timeout must not be null");
+			Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative");
+
+			this.methods.add(new AuthenticationMethod(authentication, timeout));
+			return this;
+		}
+
+		/**
+		 * Build a new {@link ReactiveFailoverAuthentication} instance.
+		 *
+		 * @return a new {@link ReactiveFailoverAuthentication}.
+		 */
+		public ReactiveFailoverAuthentication build() {
+
+			Assert.state(!this.methods.isEmpty(),
+					"At least one authentication method is required");
+
+			return new ReactiveFailoverAuthentication(
+					Collections.unmodifiableList(new ArrayList<>(this.methods)));
+		}
+	}
+}
@@ -16,13 +16,19 @@
 package org.springframework.vault.authentication;
 
 import java.time.Duration;
+import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -55,6 +61,15 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * <p>
  * Tokens are renewed asynchronously if a token has a lease duration. This happens 5
  * seconds before the token expires, see {@link #REFRESH_PERIOD_BEFORE_EXPIRY}.
+ * Renewal is scheduled either using a {@link TaskScheduler} or, without requiring an
+ * additional thread pool, using {@link Mono#delay(Duration, Scheduler)} on a Reactor
+ * {@link Scheduler}. The {@link Scheduler} can be backed by the event loop used by
+ * {@link WebClient} to renew tokens without switching threads. Scheduled renewals are
+ * cancelled on {@link #destroy()}.
+ * <p>
+ * {@link LoginToken#isBatchToken() Batch tokens} can be neither renewed nor revoked. The
+ * session manager logs in again shortly before a batch token expires instead of renewing
+ * it and does not persist batch tokens in a {@link TokenStore}.
  * <p>
  * This {@link ReactiveSessionManager} also implements {@link DisposableBean} to revoke
  * the {@link LoginToken} once it's not required anymore. Token revocation will stop
@@ -69,7 +84,9 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * remaining TTL, see {@link #setTokenSelfLookupEnabled(boolean)}.
  * <p>
  * The session manager dispatches authentication events to {@link AuthenticationListener}
- * and {@link AuthenticationErrorListener}.
+ * and {@link AuthenticationErrorListener}. Login and renewal latencies can be recorded
+ * by configuring {@link #setAuthenticationMetrics(AuthenticationMetrics)
+ * AuthenticationMetrics}.
  * <p>
  * This class is thread-safe and uses lock-free synchronization.
  *
@@ -106,6 +123,21 @@ public class ReactiveLifecycleAwareSessionManager
 	private volatile AtomicReference<Mono<TokenWrapper>> token = new AtomicReference<>(
 			EMPTY);
 
+	@Nullable
+	private TokenStore tokenStore;
+
+	/**
+	 * Reactor {@link Scheduler} to schedule token renewal. Renewal is scheduled using
+	 * the {@link TaskScheduler} if {@literal null}.
+	 */
+	@Nullable
+	private final Scheduler scheduler;
+
+	/**
+	 * The currently scheduled renewal/login when using a Reactor {@link Scheduler}.
+	 */
+	private final Disposable.Swap scheduled = Disposables.swap();
+
 	/**
 	 * Create a {@link ReactiveLifecycleAwareSessionManager} given
 	 * {@link ClientAuthentication}, {@link TaskScheduler} and {@link WebClient}.
@@ -125,6 +157,7 @@ public class ReactiveLifecycleAwareSessionManager
 
 		this.clientAuthentication = clientAuthentication;
 		this.webClient = webClient;
+		this.scheduler = null;
 	}
 
 	/**
@@ -149,6 +182,64 @@ public class ReactiveLifecycleAwareSessionManager
 
 		this.clientAuthentication = clientAuthentication;
 		this.webClient = webClient;
+		this.scheduler = null;
+	}
+
+	/**
+	 * Create a {@link ReactiveLifecycleAwareSessionManager} given
+	 * {@link VaultTokenSupplier}, Reactor {@link Scheduler} and {@link WebClient}. Token
+	 * renewal is scheduled using {@link Mono#delay(Duration, Scheduler)} on the given
+	 * {@link Scheduler}.
+	 *
+	 * @param clientAuthentication must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 * @param webClient must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public ReactiveLifecycleAwareSessionManager(VaultTokenSupplier clientAuthentication,
+			Scheduler scheduler, WebClient webClient) {
+		this(clientAuthentication, scheduler, webClient, DEFAULT_TRIGGER);
+	}
+
+	/**
+	 * Create a {@link ReactiveLifecycleAwareSessionManager} given
+	 * {@link VaultTokenSupplier}, Reactor {@link Scheduler}, {@link WebClient} and
+	 * {@link RefreshTrigger}. Token renewal is scheduled using
+	 * {@link Mono#delay(Duration, Scheduler)} on the given {@link Scheduler}.
+	 *
+	 * @param clientAuthentication must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 * @param webClient must not be {@literal null}.
+	 * @param refreshTrigger must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public ReactiveLifecycleAwareSessionManager(VaultTokenSupplier clientAuthentication,
+			Scheduler scheduler, WebClient webClient, RefreshTrigger refreshTrigger) {
+
+		super(refreshTrigger);
+
+		Assert.notNull(clientAuthentication, "VaultTokenSupplier must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		Assert.notNull(webClient, "WebClient must not be null");
+
+		this.clientAuthentication = clientAuthentication;
+		this.webClient = webClient;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Set the {@link TokenStore} to persist {@link LoginToken}s across restarts. A stored
+	 * token is restored instead of logging in if a token self-lookup confirms the token
+	 * is still valid. Tokens are not revoked on {@link #destroy()} when using a
+	 * {@link TokenStore} so they can be restored after a restart. {@link TokenStore}
+	 * access is offloaded to {@link Schedulers#boundedElastic()}.
+	 *
+	 * @param tokenStore the {@link TokenStore}, may be {@literal null} to disable token
+	 * persistence.
+	 * @since 2.2
+	 */
+	public void setTokenStore(@Nullable TokenStore tokenStore) {
+		this.tokenStore = tokenStore;
 	}
 
 	@Override
@@ -156,8 +247,12 @@ public class ReactiveLifecycleAwareSessionManager
 
 		Mono<TokenWrapper> tokenMono = this.token.get();
 		this.token.set(TERMINATED);
+		this.scheduled.dispose();
+		setCurrentToken(null);
 
-		revokeNow(tokenMono);
+		if (tokenStore == null) {
+			revokeNow(tokenMono);
+		}
 	}
 
 	/**
@@ -258,10 +353,17 @@ public class ReactiveLifecycleAwareSessionManager
 
 	private Mono<TokenWrapper> doRenew(TokenWrapper tokenWrapper) {
 
-		Mono<VaultResponse> exchange = webClient.post().uri("auth/token/renew-self")
-				.headers(httpHeaders -> httpHeaders
-						.putAll(VaultHttpHeaders.from(tokenWrapper.token)))
-				.retrieve().bodyToMono(VaultResponse.class);
+		Mono<VaultResponse> exchange = Mono.defer(() -> {
+
+			long start = System.nanoTime();
+
+			return webClient.post().uri("auth/token/renew-self")
+					.headers(httpHeaders -> httpHeaders
+							.putAll(VaultHttpHeaders.from(tokenWrapper.token)))
+					.retrieve().bodyToMono(VaultResponse.class)
+					.doOnSuccess(ignore -> recordRenewal(start, true))
+					.doOnError(ignore -> recordRenewal(start, false));
+		});
 
 		return exchange
 				.doOnSubscribe(ignore -> dispatch(
@@ -271,6 +373,7 @@ public class ReactiveLifecycleAwareSessionManager
 					LoginToken renewed = LoginTokenUtil.from(response.getRequiredAuth());
 
 					if (!isExpired(renewed)) {
+						setCurrentToken(renewed);
 						sink.next(new TokenWrapper(renewed, tokenWrapper.revocable));
 						dispatch(new AfterLoginTokenRenewedEvent(renewed));
 						return;
@@ -298,8 +401,9 @@ public class ReactiveLifecycleAwareSessionManager
 
 		Mono<TokenWrapper> tokenWrapper = this.token.get();
 
-		if (tokenWrapper != TERMINATED) {
-			this.token.compareAndSet(tokenWrapper, EMPTY);
+		if (tokenWrapper != TERMINATED
+				&& this.token.compareAndSet(tokenWrapper, EMPTY)) {
+			tokenDropped();
 		}
 	}
 
@@ -310,19 +414,8 @@ public class ReactiveLifecycleAwareSessionManager
 
 		if (tokenWrapper == EMPTY) {
 
-			Mono<TokenWrapper> obtainToken = clientAuthentication.getVaultToken()
-					.flatMap(this::doSelfLookup) //
-					.onErrorMap(it -> {
-						dispatch(new LoginFailedEvent(clientAuthentication, it));
-						return it;
-					}).doOnNext(it -> {
-
-						if (isTokenRenewable(it.getToken())) {
-							scheduleRenewal(it.getToken());
-						}
-
-						dispatch(new AfterLoginEvent(it.getToken()));
-					});
+			Mono<TokenWrapper> obtainToken = restoreToken().switchIfEmpty(login())
+					.doOnNext(this::onToken);
 
 			this.token.compareAndSet(tokenWrapper, obtainToken.cache());
 		}
@@ -330,9 +423,95 @@ public class ReactiveLifecycleAwareSessionManager
 		return this.token.get().map(TokenWrapper::getToken);
 	}
 
+	private Mono<TokenWrapper> login() {
+
+		return Mono.defer(() -> {
+
+			long start = System.nanoTime();
+
+			return clientAuthentication.getVaultToken()
+					.doOnSuccess(ignore -> recordLogin(clientAuthentication, start, true))
+					.doOnError(ignore -> recordLogin(clientAuthentication, start, false));
+		}).flatMap(this::storeToken) //
+				.flatMap(this::doSelfLookup) //
+				.onErrorMap(it -> {
+					dispatch(new LoginFailedEvent(clientAuthentication, it));
+					return it;
+				});
+	}
+
+	private void onToken(TokenWrapper wrapper) {
+
+		setCurrentToken(wrapper.getToken());
+
+		if (isTokenRenewable(wrapper.getToken())) {
+			scheduleRenewal(wrapper.getToken());
+		}
+		else if (isBatchToken(wrapper.getToken())) {
+			scheduleRelogin(wrapper);
+		}
+
+		dispatch(new AfterLoginEvent(wrapper.getToken()));
+	}
+
+	/**
+	 * Restore a {@link LoginToken} from the {@link TokenStore} if a self-lookup confirms
+	 * it is still valid.
+	 */
+	private Mono<TokenWrapper> restoreToken() {
+
+		TokenStore tokenStore = this.tokenStore;
+
+		if (tokenStore == null) {
+			return EMPTY;
+		}
+
+		Mono<Void> remove = Mono.<Void> fromRunnable(tokenStore::remove)
+				.subscribeOn(Schedulers.boundedElastic());
+
+		return Mono.fromCallable(tokenStore::load)
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(stored -> augmentWithSelfLookup(this.webClient, stored))
+				.cast(LoginToken.class).flatMap(restored -> {
+
+					if (!restored.getLeaseDuration().isZero() && isExpired(restored)) {
+
+						logger.info("Stored token is about to expire. Logging in.");
+						return remove.then(EMPTY);
+					}
+
+					logger.info("Restored token from TokenStore");
+					return Mono.just(new TokenWrapper(restored, true));
+				}).onErrorResume(VaultTokenLookupException.class, e -> {
+
+					logger.info(String.format(
+							"Cannot restore stored token: %s. Logging in.",
+							e.getMessage()));
+					return remove.then(EMPTY);
+				});
+	}
+
+	private Mono<VaultToken> storeToken(VaultToken token) {
+
+		TokenStore tokenStore = this.tokenStore;
+
+		if (tokenStore == null || !(token instanceof LoginToken)
+				|| isBatchToken(token)) {
+			return Mono.just(token);
+		}
+
+		return Mono.fromRunnable(() -> tokenStore.save((LoginToken) token))
+				.subscribeOn(Schedulers.boundedElastic()).onErrorResume(e -> {
+
+					logger.warn(String.format("Cannot store token: %s", e.getMessage()));
+					return Mono.empty();
+				}).thenReturn(token);
+	}
+
 	private Mono<TokenWrapper> doSelfLookup(VaultToken token) {
 
-		TokenWrapper wrapper = new TokenWrapper(token, token instanceof LoginToken);
+		TokenWrapper wrapper = new TokenWrapper(token,
+				token instanceof LoginToken && !isBatchToken(token));
 
 		if (isTokenSelfLookupEnabled()
 				&& !ClassUtils.isAssignableValue(LoginToken.class, token)) {
@@ -363,10 +542,14 @@ public class ReactiveLifecycleAwareSessionManager
 
 					LoginToken loginToken = (LoginToken) it;
 					return !loginToken.getLeaseDuration().isZero()
-							&& loginToken.isRenewable();
+							&& loginToken.isRenewable() && !loginToken.isBatchToken();
 				}).isPresent();
 	}
 
+	private static boolean isBatchToken(VaultToken token) {
+		return token instanceof LoginToken && ((LoginToken) token).isBatchToken();
+	}
+
 	private void scheduleRenewal(VaultToken token) {
 
 		logger.info("Scheduling Token renewal");
@@ -395,13 +578,72 @@ public class ReactiveLifecycleAwareSessionManager
 			}
 		};
 
-		getTaskScheduler().schedule(task, createTrigger(token));
+		schedule(task, token);
+	}
+
+	/**
+	 * Schedule a login shortly before the batch token held by {@code current} expires.
+	 * The current token remains in use until the new token is obtained. A failed login
+	 * drops the current token so the next {@link #getVaultToken()} call attempts to log
+	 * in.
+	 */
+	private void scheduleRelogin(TokenWrapper current) {
+
+		if (((LoginToken) current.getToken()).getLeaseDuration().isZero()) {
+			return;
+		}
+
+		logger.info("Scheduling login ahead of batch token expiry");
+
+		Runnable task = () -> {
+
+			Mono<TokenWrapper> state = this.token.get();
+
+			if (state == EMPTY || state == TERMINATED) {
+				return;
+			}
+
+			state.filter(it -> it == current).flatMap(ignore -> login())
+					.subscribe(renewed -> {
+
+						if (this.token.compareAndSet(state, Mono.just(renewed))) {
+							onToken(renewed);
+						}
+					}, e -> {
+
+						logger.warn(String.format(
+								"Cannot log in ahead of batch token expiry: %s",
+								e.getMessage()));
+						if (this.token.compareAndSet(state, EMPTY)) {
+							tokenDropped();
+						}
+					});
+		};
+
+		schedule(task, current.getToken());
 	}
 
-	private OneShotTrigger createTrigger(VaultToken token) {
+	/**
+	 * Schedule {@code task} according to the {@link RefreshTrigger} for {@code token}
+	 * using either the Reactor {@link Scheduler} or the {@link TaskScheduler}.
+	 */
+	private void schedule(Runnable task, VaultToken token) {
+
+		Date executionTime = getRefreshTrigger().nextExecutionTime((LoginToken) token);
+		Scheduler scheduler = this.scheduler;
+
+		if (scheduler == null) {
+			getTaskScheduler().schedule(task, new OneShotTrigger(executionTime));
+			return;
+		}
+
+		Duration delay = Duration.ofMillis(
+				Math.max(0, executionTime.getTime() - System.currentTimeMillis()));
 
-		return new OneShotTrigger(
-				getRefreshTrigger().nextExecutionTime((LoginToken) token));
+		this.scheduled.update(
+				Mono.delay(delay, scheduler).subscribe(ignore -> task.run(), e -> {
+					logger.error("Cannot run scheduled token renewal", e);
+				}));
 	}
 
 	private static Mono<VaultToken> augmentWithSelfLookup(WebClient webClient,
@@ -409,19 +651,7 @@ public class ReactiveLifecycleAwareSessionManager
 
 		Mono<Map<String, Object>> data = lookupSelf(webClient, token);
 
-		return data.map(it -> {
-
-			Boolean renewable = (Boolean) it.get("renewable");
-			Number ttl = (Number) it.get("ttl");
-
-			if (renewable != null && renewable) {
-				return LoginToken.renewable(token.toCharArray(),
-						LoginTokenAdapter.getLeaseDuration(ttl));
-			}
-
-			return LoginToken.of(token.toCharArray(),
-					LoginTokenAdapter.getLeaseDuration(ttl));
-		});
+		return data.map(it -> LoginTokenAdapter.from(token.toCharArray(), it));
 	}
 
 	private static Mono<Map<String, Object>> lookupSelf(WebClient webClient,
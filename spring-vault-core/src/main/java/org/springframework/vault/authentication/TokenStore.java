@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Store to persist a {@link LoginToken} across restarts. Session managers use a
+ * {@link TokenStore} to restore a previously obtained token instead of logging in on
+ * each startup. Restored tokens are validated using a token self-lookup before they are
+ * used so implementations are not required to track token expiry.
+ * <p>
+ * Stored tokens grant access to Vault. Implementations must protect stored tokens
+ * accordingly.
+ *
+ * @author agent
+ * @since 2.2
+ * @see EncryptedFileTokenStore
+ * @see LifecycleAwareSessionManager#setTokenStore(TokenStore)
+ * @see ReactiveLifecycleAwareSessionManager#setTokenStore(TokenStore)
+ */
+public interface TokenStore {
+
+	/**
+	 * Load the stored {@link LoginToken}.
+	 *
+	 * @return the stored {@link LoginToken} or {@literal null} if no token is stored.
+	 */
+	@Nullable
+	LoginToken load();
+
+	/**
+	 * Store a {@link LoginToken} replacing a previously stored token.
+	 *
+	 * @param token must not be {@literal null}.
+	 */
+	void save(LoginToken token);
+
+	/**
+	 * Remove the stored token.
+	 */
+	void remove();
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+
+/**
+ * Mechanism to retrieve a Kubernetes service account token that caches the token in
+ * memory and watches the token file for changes using a {@link WatchService}.
+ * <p>
+ * Kubelet rotates projected service account tokens by atomically replacing the files
+ * within the token directory. This supplier watches the directory containing the token
+ * file and reloads the token on the next {@link #get()} after any change within the
+ * directory. Retrieving an unchanged token does not perform file I/O. Falls back to
+ * reading the token file on each {@link #get()} if the file system does not support
+ * watching or the directory can no longer be watched.
+ * <p>
+ * Instances should be {@link #destroy() destroyed} to release the {@link WatchService}.
+ * Destroyed instances read the token file on each {@link #get()}.
+ *
+ * @author agent
+ * @since 2.2
+ * @see KubernetesServiceAccountTokenFile
+ * @see KubernetesJwtSupplier
+ */
+public class WatchingKubernetesServiceAccountTokenFile
+		implements KubernetesJwtSupplier, DisposableBean {
+
+	private static final Log logger = LogFactory
+			.getLog(WatchingKubernetesServiceAccountTokenFile.class);
+
+	private final Path file;
+
+	/**
+	 * {@link WatchService} watching the token directory, {@literal null} if the token file
+	 * is read on each access.
+	 */
+	@Nullable
+	private volatile WatchService watchService;
+
+	/**
+	 * Cached token, {@literal null} if the token needs to be (re)loaded.
+	 */
+	@Nullable
+	private String token;
+
+	/**
+	 * Create a new {@link WatchingKubernetesServiceAccountTokenFile} pointing to the
+	 * {@link KubernetesServiceAccountTokenFile#DEFAULT_KUBERNETES_SERVICE_ACCOUNT_TOKEN_FILE}.
+	 * Construction fails with an exception if the file does not exist.
+	 *
+	 * @throws IllegalArgumentException if the token file does not exist.
+	 */
+	public WatchingKubernetesServiceAccountTokenFile() {
+		this(KubernetesServiceAccountTokenFile.DEFAULT_KUBERNETES_SERVICE_ACCOUNT_TOKEN_FILE);
+	}
+
+	/**
+	 * Create a new {@link WatchingKubernetesServiceAccountTokenFile} from a {@code path}.
+	 *
+	 * @param path path to the service account token file.
+	 * @throws IllegalArgumentException if the {@code path} does not exist.
+	 */
+	public WatchingKubernetesServiceAccountTokenFile(String path) {
+		this(Paths.get(path));
+	}
+
+	/**
+	 * Create a new {@link WatchingKubernetesServiceAccountTokenFile} from a {@link Path}.
+	 *
+	 * @param file path to the service account token file, must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@code file} does not exist.
+	 */
+	public WatchingKubernetesServiceAccountTokenFile(Path file) {
+
+		Assert.notNull(file, "File must not be null");
+		Assert.isTrue(Files.exists(file),
+				() -> String.format("Token file %s does not exist", file));
+
+		this.file = file.toAbsolutePath();
+		this.watchService = createWatchService(this.file.getParent());
+	}
+
+	@Nullable
+	private static WatchService createWatchService(Path directory) {
+
+		WatchService watchService = null;
+
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			register(watchService, directory);
+
+			return watchService;
+		}
+		catch (IOException | UnsupportedOperationException e) {
+
+			logger.warn(String.format(
+					"Cannot watch %s for token rotation, reading token on each access: %s",
+					directory, e.getMessage()));
+
+			close(watchService);
+
+			return null;
+		}
+	}
+
+	private static void register(WatchService watchService, Path directory)
+			throws IOException {
+
+		directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_MODIFY,
+				StandardWatchEventKinds.ENTRY_DELETE);
+	}
+
+	private static void close(@Nullable WatchService watchService) {
+
+		if (watchService != null) {
+			try {
+				watchService.close();
+			}
+			catch (IOException o_O) {
+				// ignore
+			}
+		}
+	}
+
+	@Override
+	public String get() {
+
+		if (this.watchService == null) {
+			return readToken();
+		}
+
+		synchronized (this) {
+
+			WatchService watchService = this.watchService;
+
+			if (watchService == null) {
+				return readToken();
+			}
+
+			try {
+				if (pollChanges(watchService)) {
+					this.token = null;
+				}
+			}
+			catch (ClosedWatchServiceException e) {
+
+				// destroyed concurrently
+				this.token = null;
+				return readToken();
+			}
+			catch (IOException e) {
+
+				logger.warn(String.format(
+						"Cannot watch %s for token rotation, reading token on each access: %s",
+						this.file.getParent(), e.getMessage()));
+
+				this.watchService = null;
+				this.token = null;
+				close(watchService);
+
+				return readToken();
+			}
+
+			String token = this.token;
+
+			if (token == null) {
+
+				token = readToken();
+				this.token = token;
+			}
+
+			return token;
+		}
+	}
+
+	/**
+	 * Drain pending file system events. Re-registers the token directory if its
+	 * {@link WatchKey} is no longer valid.
+	 *
+	 * @return {@literal true} if the token directory has changed.
+	 * @throws IOException if the token directory cannot be watched anymore.
+	 */
+	private boolean pollChanges(WatchService watchService) throws IOException {
+
+		boolean changed = false;
+		WatchKey key;
+
+		while ((key = watchService.poll()) != null) {
+
+			changed |= !key.pollEvents().isEmpty();
+
+			if (!key.reset()) {
+
+				// Events may have been missed while the key was invalid.
+				changed = true;
+				register(watchService, this.file.getParent());
+			}
+		}
+
+		return changed;
+	}
+
+	private String readToken() {
+
+		try {
+			return new String(Files.readAllBytes(this.file), StandardCharsets.US_ASCII);
+		}
+		catch (IOException e) {
+			throw new VaultException(
+					String.format("Credential retrieval from %s failed", this.file), e);
+		}
+	}
+
+	@Override
+	public void destroy() throws IOException {
+
+		WatchService watchService = this.watchService;
+		this.watchService = null;
+
+		if (watchService != null) {
+			watchService.close();
+		}
+	}
+}
@@ -21,18 +21,27 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.util.List;
 
 import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContextBuilder;
+import org.eclipse.jetty.client.AbstractConnectionPool;
+import org.eclipse.jetty.client.DuplexConnectionPool;
+import org.eclipse.jetty.client.HttpDestination;
+import org.eclipse.jetty.client.api.Destination;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.JettyClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.ConnectionPoolMetrics;
 import org.springframework.vault.support.SslConfiguration;
 
 import static org.springframework.vault.client.ClientHttpRequestFactoryFactory.createKeyManagerFactory;
@@ -78,7 +87,11 @@ public class ClientHttpConnectorFactory {
 
 	/**
 	 * Create a {@link ClientHttpConnector} for the given {@link ClientOptions} and
-	 * {@link SslConfiguration}.
+	 * {@link SslConfiguration}. Reactor Netty connectors use the shared
+	 * {@link reactor.netty.http.HttpResources} unless {@link ClientOptions} customize
+	 * connection pool settings. Connectors with a dedicated connection pool implement
+	 * {@link DisposableBean} and must be {@link DisposableBean#destroy() destroyed} by
+	 * their owner to release the pool.
 	 *
 	 * @param options must not be {@literal null}
 	 * @param sslConfiguration must not be {@literal null}
@@ -132,7 +145,11 @@ public class ClientHttpConnectorFactory {
 
 		static ClientHttpConnector usingReactorNetty(ClientOptions options,
 				SslConfiguration sslConfiguration) {
-			HttpClient client = HttpClient.create();
+
+			ConnectionProvider connectionProvider = createConnectionProvider(options);
+			HttpClient client = connectionProvider != null
+					? HttpClient.create(connectionProvider)
+					: HttpClient.create();
 
 			if (hasSslConfiguration(sslConfiguration)) {
 
@@ -148,8 +165,63 @@ public class ClientHttpConnectorFactory {
 					it -> it.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
 							Math.toIntExact(options.getConnectionTimeout().toMillis())));
 
+			if (connectionProvider != null) {
+				return new DisposableReactorClientHttpConnector(client,
+						connectionProvider);
+			}
+
 			return new ReactorClientHttpConnector(client);
 		}
+
+		/**
+		 * Create a {@link ConnectionProvider} applying connection pool settings. Reactor
+		 * Netty maintains a pool per remote address, therefore the connection limit
+		 * applies per route.
+		 *
+		 * @return the {@link ConnectionProvider} or {@literal null} to use the shared
+		 * {@link reactor.netty.http.HttpResources} if the connection pool settings are
+		 * not customized.
+		 */
+		@Nullable
+		static ConnectionProvider createConnectionProvider(ClientOptions options) {
+
+			int maxConnections = options.getMaxConnectionsPerRoute();
+
+			if (options.getIdleTimeout() != null) {
+				return ConnectionProvider.fixed("vault", maxConnections,
+						ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT,
+						options.getIdleTimeout());
+			}
+
+			if (maxConnections != ClientOptions.DEFAULT_MAX_CONNECTIONS_PER_ROUTE) {
+				return ConnectionProvider.fixed("vault", maxConnections,
+						ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT);
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * {@link ReactorClientHttpConnector} owning a dedicated {@link ConnectionProvider}
+	 * that is disposed on {@link #destroy()}.
+	 */
+	static class DisposableReactorClientHttpConnector extends ReactorClientHttpConnector
+			implements DisposableBean {
+
+		private final ConnectionProvider connectionProvider;
+
+		DisposableReactorClientHttpConnector(HttpClient httpClient,
+				ConnectionProvider connectionProvider) {
+
+			super(httpClient);
+			this.connectionProvider = connectionProvider;
+		}
+
+		@Override
+		public void destroy() {
+			connectionProvider.dispose();
+		}
 	}
 
 	static class JettyClient {
@@ -171,6 +243,15 @@ public class ClientHttpConnectorFactory {
 			httpClient.setConnectTimeout(options.getConnectionTimeout().toMillis());
 			httpClient.setAddressResolutionTimeout(
 					options.getConnectionTimeout().toMillis());
+			httpClient.setMaxConnectionsPerDestination(
+					options.getMaxConnectionsPerRoute());
+
+			if (options.getIdleTimeout() != null) {
+				httpClient.setIdleTimeout(options.getIdleTimeout().toMillis());
+			}
+
+			options.getConnectionPoolMetrics()
+					.bindTo(new JettyConnectionPool(httpClient));
 
 			return httpClient;
 		}
@@ -213,4 +294,87 @@ public class ClientHttpConnectorFactory {
 			return new org.eclipse.jetty.client.HttpClient();
 		}
 	}
+
+	/**
+	 * {@link ConnectionPoolMetrics.ConnectionPool} view aggregating connection pool
+	 * statistics across all Jetty {@link HttpDestination destinations}.
+	 */
+	static class JettyConnectionPool implements ConnectionPoolMetrics.ConnectionPool {
+
+		private final org.eclipse.jetty.client.HttpClient httpClient;
+
+		JettyConnectionPool(org.eclipse.jetty.client.HttpClient httpClient) {
+			this.httpClient = httpClient;
+		}
+
+		@Override
+		public int getLeasedConnections() {
+
+			int leased = 0;
+			for (Destination destination : getDestinations()) {
+
+				org.eclipse.jetty.client.ConnectionPool pool = getConnectionPool(
+						destination);
+
+				if (pool instanceof DuplexConnectionPool) {
+					leased += ((DuplexConnectionPool) pool).getActiveConnectionCount();
+				}
+				else if (pool instanceof AbstractConnectionPool) {
+					leased += ((AbstractConnectionPool) pool).getConnectionCount();
+				}
+			}
+
+			return leased;
+		}
+
+		@Override
+		public int getIdleConnections() {
+
+			int idle = 0;
+			for (Destination destination : getDestinations()) {
+
+				org.eclipse.jetty.client.ConnectionPool pool = getConnectionPool(
+						destination);
+
+				if (pool instanceof DuplexConnectionPool) {
+					idle += ((DuplexConnectionPool) pool).getIdleConnectionCount();
+				}
+			}
+
+			return idle;
+		}
+
+		@Override
+		public int getPendingRequests() {
+
+			int pending = 0;
+			for (Destination destination : getDestinations()) {
+				if (destination instanceof HttpDestination) {
+					pending += ((HttpDestination) destination).getQueuedRequestCount();
+				}
+			}
+
+			return pending;
+		}
+
+		@Override
+		public int getMaxConnections() {
+			return httpClient.getMaxConnectionsPerDestination();
+		}
+
+		private List<Destination> getDestinations() {
+			return httpClient.getDestinations();
+		}
+
+		@Nullable
+		private static org.eclipse.jetty.client.ConnectionPool getConnectionPool(
+				Destination destination) {
+
+			if (destination instanceof HttpDestination) {
+				return ((HttpDestination) destination).getConnectionPool();
+			}
+
+			return null;
+		}
+	}
 }
@@ -45,15 +45,21 @@ import javax.net.ssl.X509TrustManager;
 
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient.Builder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.client.LaxRedirectStrategy;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
 
 import org.springframework.http.client.ClientHttpRequestFactory;
@@ -65,6 +71,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.ConnectionPoolMetrics;
 import org.springframework.vault.support.SslConfiguration;
 import org.springframework.vault.support.SslConfiguration.KeyStoreConfiguration;
 
@@ -73,7 +80,9 @@ import static org.springframework.vault.support.SslConfiguration.KeyConfiguratio
 /**
  * Factory for {@link ClientHttpRequestFactory} that supports Apache HTTP Components,
  * OkHttp, Netty and the JDK HTTP client (in that order). This factory configures a
- * {@link ClientHttpRequestFactory} depending on the available dependencies.
+ * {@link ClientHttpRequestFactory} depending on the available dependencies. The JDK HTTP
+ * client uses {@code java.net.http.HttpClient} with HTTP/2 support when running on Java
+ * 11 or newer and falls back to {@link java.net.HttpURLConnection} otherwise.
  *
  * @author Mark Paluch
  * @since 2.2
@@ -139,6 +148,10 @@ public class ClientHttpRequestFactoryFactory {
 			if (NETTY_PRESENT) {
 				return Netty.usingNetty(options, sslConfiguration);
 			}
+
+			if (JdkHttpClientHttpRequestFactory.isAvailable()) {
+				return JdkHttpClient.usingJdkHttpClient(options, sslConfiguration);
+			}
 		}
 		catch (GeneralSecurityException e) {
 			throw new IllegalStateException(e);
@@ -155,6 +168,38 @@ public class ClientHttpRequestFactoryFactory {
 		return new SimpleClientHttpRequestFactory();
 	}
 
+	/**
+	 * Create a {@link ClientHttpRequestFactory} using {@code java.net.http.HttpClient} for
+	 * the given {@link ClientOptions} and {@link SslConfiguration} regardless of other
+	 * HTTP clients on the class path. The client negotiates HTTP/2 and falls back to
+	 * HTTP/1.1. Requires Java 11 or newer.
+	 *
+	 * @param options must not be {@literal null}
+	 * @param sslConfiguration must not be {@literal null}
+	 * @return a new {@link ClientHttpRequestFactory} using {@code java.net.http.HttpClient}.
+	 * @throws IllegalStateException if {@code java.net.http.HttpClient} is not available on
+	 * the current runtime.
+	 * @since 2.2
+	 */
+	public static ClientHttpRequestFactory createJdkHttpClient(ClientOptions options,
+			SslConfiguration sslConfiguration) {
+
+		Assert.notNull(options, "ClientOptions must not be null");
+		Assert.notNull(sslConfiguration, "SslConfiguration must not be null");
+		Assert.state(JdkHttpClientHttpRequestFactory.isAvailable(),
+				"java.net.http.HttpClient is not available. Requires Java 11 or newer");
+
+		try {
+			return JdkHttpClient.usingJdkHttpClient(options, sslConfiguration);
+		}
+		catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	static SSLContext getSSLContext(SslConfiguration sslConfiguration,
 			TrustManager[] trustManagers) throws GeneralSecurityException, IOException {
 
@@ -269,16 +314,27 @@ public class ClientHttpRequestFactoryFactory {
 			httpClientBuilder.setRoutePlanner(new SystemDefaultRoutePlanner(
 					DefaultSchemePortResolver.INSTANCE, ProxySelector.getDefault()));
 
+			SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory
+					.getSocketFactory();
+
 			if (hasSslConfiguration(sslConfiguration)) {
 
 				SSLContext sslContext = getSSLContext(sslConfiguration,
 						getTrustManagers(sslConfiguration));
-				SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
-						sslContext);
+				sslSocketFactory = new SSLConnectionSocketFactory(sslContext);
 				httpClientBuilder.setSSLSocketFactory(sslSocketFactory);
 				httpClientBuilder.setSSLContext(sslContext);
 			}
 
+			PoolingHttpClientConnectionManager connectionManager = createConnectionManager(
+					options, sslSocketFactory);
+			httpClientBuilder.setConnectionManager(connectionManager);
+
+			if (options.getIdleTimeout() != null) {
+				httpClientBuilder.evictIdleConnections(
+						options.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			}
+
 			RequestConfig requestConfig = RequestConfig.custom()
 					//
 					.setConnectTimeout(
@@ -293,7 +349,73 @@ public class ClientHttpRequestFactoryFactory {
 			// Support redirects
 			httpClientBuilder.setRedirectStrategy(new LaxRedirectStrategy());
 
-			return new HttpComponentsClientHttpRequestFactory(httpClientBuilder.build());
+			HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+					httpClientBuilder.build());
+
+			options.getConnectionPoolMetrics()
+					.bindTo(new HttpComponentsConnectionPool(connectionManager));
+
+			return requestFactory;
+		}
+
+		static PoolingHttpClientConnectionManager createConnectionManager(
+				ClientOptions options, SSLConnectionSocketFactory sslSocketFactory) {
+
+			Registry<ConnectionSocketFactory> registry = RegistryBuilder
+					.<ConnectionSocketFactory> create() //
+					.register("http", PlainConnectionSocketFactory.getSocketFactory()) //
+					.register("https", sslSocketFactory) //
+					.build();
+
+			long timeToLive = options.getKeepAlive() != null
+					? options.getKeepAlive().toMillis()
+					: -1;
+
+			PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+					registry, null, null, null, timeToLive, TimeUnit.MILLISECONDS);
+
+			connectionManager.setMaxTotal(options.getMaxConnections());
+			connectionManager
+					.setDefaultMaxPerRoute(options.getMaxConnectionsPerRoute());
+			connectionManager.setValidateAfterInactivity(Math
+					.toIntExact(options.getValidateAfterInactivity().toMillis()));
+
+			return connectionManager;
+		}
+	}
+
+	/**
+	 * {@link ConnectionPoolMetrics.ConnectionPool} view on
+	 * {@link PoolingHttpClientConnectionManager} statistics.
+	 */
+	static class HttpComponentsConnectionPool
+			implements ConnectionPoolMetrics.ConnectionPool {
+
+		private final PoolingHttpClientConnectionManager connectionManager;
+
+		HttpComponentsConnectionPool(
+				PoolingHttpClientConnectionManager connectionManager) {
+			this.connectionManager = connectionManager;
+		}
+
+		@Override
+		public int getLeasedConnections() {
+			return connectionManager.getTotalStats().getLeased();
+		}
+
+		@Override
+		public int getIdleConnections() {
+			return connectionManager.getTotalStats().getAvailable();
+		}
+
+		@Override
+		public int getPendingRequests() {
+			return connectionManager.getTotalStats().getPending();
+		}
+
+		@Override
+		public int getMaxConnections() {
+			return connectionManager.getTotalStats().getMax();
 		}
 	}
 
@@ -330,10 +452,60 @@ public class ClientHttpRequestFactoryFactory {
 					TimeUnit.MILLISECONDS).readTimeout(
 							options.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS);
 
+			long keepAlive = options.getIdleTimeout() != null
+					? options.getIdleTimeout().toMillis()
+					: TimeUnit.MINUTES.toMillis(5);
+
+			// OkHttp limits the number of idle connections only. Synchronous calls are
+			// not subject to Dispatcher limits.
+			ConnectionPool connectionPool = new ConnectionPool(
+					options.getMaxConnections(), keepAlive, TimeUnit.MILLISECONDS);
+
+			builder.connectionPool(connectionPool);
+
+			options.getConnectionPoolMetrics()
+					.bindTo(new OkHttp3ConnectionPool(connectionPool));
+
 			return new OkHttp3ClientHttpRequestFactory(builder.build());
 		}
 	}
 
+	/**
+	 * {@link ConnectionPoolMetrics.ConnectionPool} view on OkHttp's
+	 * {@link ConnectionPool}. OkHttp neither limits the total number of connections nor
+	 * queues synchronous requests, so pending requests and the maximum number of
+	 * connections are not reported.
+	 */
+	static class OkHttp3ConnectionPool implements ConnectionPoolMetrics.ConnectionPool {
+
+		private final ConnectionPool connectionPool;
+
+		OkHttp3ConnectionPool(ConnectionPool connectionPool) {
+			this.connectionPool = connectionPool;
+		}
+
+		@Override
+		public int getLeasedConnections() {
+			return Math.max(0, connectionPool.connectionCount()
+					- connectionPool.idleConnectionCount());
+		}
+
+		@Override
+		public int getIdleConnections() {
+			return connectionPool.idleConnectionCount();
+		}
+
+		@Override
+		public int getPendingRequests() {
+			return 0;
+		}
+
+		@Override
+		public int getMaxConnections() {
+			return -1;
+		}
+	}
+
 	/**
 	 * {@link ClientHttpRequestFactory} for Netty.
 	 *
@@ -376,6 +548,28 @@ public class ClientHttpRequestFactoryFactory {
 		}
 	}
 
+	/**
+	 * {@link ClientHttpRequestFactory} for the {@code java.net.http.HttpClient} available
+	 * on Java 11 and newer.
+	 *
+	 * @author agent
+	 * @since 2.2
+	 */
+	static class JdkHttpClient {
+
+		static ClientHttpRequestFactory usingJdkHttpClient(ClientOptions options,
+				SslConfiguration sslConfiguration)
+				throws GeneralSecurityException, IOException {
+
+			SSLContext sslContext = hasSslConfiguration(sslConfiguration)
+					? getSSLContext(sslConfiguration, getTrustManagers(sslConfiguration))
+					: null;
+
+			return JdkHttpClientHttpRequestFactory.create(options.getConnectionTimeout(),
+					options.getReadTimeout(), sslContext);
+		}
+	}
+
 	static class KeySelectingKeyManagerFactory extends KeyManagerFactory {
 
 		KeySelectingKeyManagerFactory(KeyManagerFactory factory,
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+/**
+ * Enumeration of client-controlled consistency modes for reads served by Vault
+ * performance standby nodes. Consistency is established by capturing the
+ * {@link VaultHttpHeaders#VAULT_INDEX X-Vault-Index} header returned by Vault and sending
+ * it along with subsequent requests.
+ *
+ * @author agent
+ * @since 2.2
+ * @see ConsistencyTracker
+ */
+public enum ConsistencyMode {
+
+	/**
+	 * Do not track the replication state. Reads served by performance standbys may not
+	 * reflect previous writes.
+	 */
+	NONE,
+
+	/**
+	 * Send the last observed index with read requests. Nodes that have not yet caught up
+	 * with the index reject the request with {@code 412 Precondition Failed} and the
+	 * request is retried with backoff.
+	 */
+	SESSION,
+
+	/**
+	 * Send the last observed index with all requests and request forwarding to the active
+	 * node if the receiving node has not yet caught up with the index.
+	 */
+	STRICT
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Tracks the replication state ({@link VaultHttpHeaders#VAULT_INDEX X-Vault-Index})
+ * observed by a client session to provide read-after-write consistency when reads are
+ * served by performance standby nodes. The tracked index is applied to requests according
+ * to the configured {@link ConsistencyMode}.
+ * <p>
+ * Responses may arrive out of order when requests are issued concurrently. The tracker
+ * therefore keeps the newest replication state: the index header encodes the cluster Id
+ * along with the local and replicated WAL index and a newly observed state replaces the
+ * tracked one unless it is older for the same cluster. Index values that cannot be
+ * parsed replace the tracked state.
+ * <p>
+ * Instances are thread-safe and typically bound to a single session.
+ *
+ * @author agent
+ * @since 2.2
+ * @see VaultClients#createConsistencyInterceptor(ConsistencyTracker)
+ * @see ReactiveVaultClients#consistency(ConsistencyTracker)
+ */
+public class ConsistencyTracker {
+
+	/**
+	 * Maximum number of retries for requests rejected with
+	 * {@code 412 Precondition Failed}.
+	 */
+	static final int MAX_RETRIES = 3;
+
+	private static final Duration INITIAL_BACKOFF = Duration.ofMillis(20);
+
+	private static final String FORWARD_ACTIVE_NODE = "forward-active-node";
+
+	private volatile ConsistencyMode mode;
+
+	private final AtomicReference<ReplicationState> state = new AtomicReference<>();
+
+	/**
+	 * Create a new {@link ConsistencyTracker} given {@link ConsistencyMode}.
+	 *
+	 * @param mode must not be {@literal null}.
+	 */
+	public ConsistencyTracker(ConsistencyMode mode) {
+
+		Assert.notNull(mode, "ConsistencyMode must not be null");
+
+		this.mode = mode;
+	}
+
+	/**
+	 * @return the {@link ConsistencyMode}.
+	 */
+	public ConsistencyMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Set the {@link ConsistencyMode}.
+	 *
+	 * @param mode must not be {@literal null}.
+	 */
+	public void setMode(ConsistencyMode mode) {
+
+		Assert.notNull(mode, "ConsistencyMode must not be null");
+
+		this.mode = mode;
+	}
+
+	/**
+	 * @return the last observed index. Can be {@literal null} if no index was observed
+	 * yet.
+	 */
+	@Nullable
+	public String getIndex() {
+
+		ReplicationState state = this.state.get();
+		return state != null ? state.value : null;
+	}
+
+	/**
+	 * Update the tracked index from a response header value. Empty values and values
+	 * older than the tracked replication state of the same cluster are ignored.
+	 *
+	 * @param index the index header value, can be {@literal null}.
+	 */
+	public void updateIndex(@Nullable String index) {
+
+		if (!StringUtils.hasText(index)) {
+			return;
+		}
+
+		ReplicationState update = ReplicationState.parse(index);
+		ReplicationState current;
+
+		do {
+			current = this.state.get();
+
+			if (current != null && update.isOlderThan(current)) {
+				return;
+			}
+		}
+		while (!this.state.compareAndSet(current, update));
+	}
+
+	/**
+	 * Discard the tracked index.
+	 */
+	public void reset() {
+		this.state.set(null);
+	}
+
+	/**
+	 * Apply consistency headers to an outgoing request. Requests that carry already an
+	 * index header are left unchanged.
+	 *
+	 * @param method the HTTP method.
+	 * @param headers the request headers.
+	 * @return {@literal true} if a request rejected with {@code 412 Precondition Failed}
+	 * should be retried.
+	 */
+	boolean applyTo(@Nullable HttpMethod method, HttpHeaders headers) {
+
+		String index = getIndex();
+		ConsistencyMode mode = this.mode;
+
+		if (index == null || headers.containsKey(VaultHttpHeaders.VAULT_INDEX)) {
+			return false;
+		}
+
+		if (mode == ConsistencyMode.STRICT) {
+
+			headers.set(VaultHttpHeaders.VAULT_INDEX, index);
+			headers.set(VaultHttpHeaders.VAULT_INCONSISTENT, FORWARD_ACTIVE_NODE);
+			return false;
+		}
+
+		if (mode == ConsistencyMode.SESSION
+				&& (method == HttpMethod.GET || method == HttpMethod.HEAD)) {
+
+			headers.set(VaultHttpHeaders.VAULT_INDEX, index);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Return the backoff before retrying a request rejected with
+	 * {@code 412 Precondition Failed}.
+	 *
+	 * @param attempt zero-based retry attempt.
+	 * @return the backoff.
+	 */
+	static Duration getBackoff(int attempt) {
+		return INITIAL_BACKOFF.multipliedBy(1L << attempt);
+	}
+
+	/**
+	 * Replication state decoded from an index header value. The value is the Base64
+	 * encoding of {@code cluster-id:local-index:replicated-index[:hmac]}.
+	 */
+	static class ReplicationState {
+
+		final String value;
+
+		@Nullable
+		private final String clusterId;
+
+		private final long localIndex;
+
+		private final long replicatedIndex;
+
+		private ReplicationState(String value, @Nullable String clusterId,
+				long localIndex, long replicatedIndex) {
+			this.value = value;
+			this.clusterId = clusterId;
+			this.localIndex = localIndex;
+			this.replicatedIndex = replicatedIndex;
+		}
+
+		static ReplicationState parse(String value) {
+
+			try {
+
+				String decoded = new String(Base64.getDecoder().decode(value),
+						StandardCharsets.UTF_8);
+				String[] parts = decoded.split(":");
+
+				if (parts.length >= 3) {
+					return new ReplicationState(value, parts[0],
+							Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+				}
+			}
+			catch (IllegalArgumentException e) {
+				// not a decodable replication state
+			}
+
+			return new ReplicationState(value, null, -1, -1);
+		}
+
+		/**
+		 * @param other the replication state to compare with.
+		 * @return {@literal true} if this state belongs to the same cluster as
+		 * {@code other} and neither of its indexes is ahead of {@code other} while at
+		 * least one is behind.
+		 */
+		boolean isOlderThan(ReplicationState other) {
+
+			if (clusterId == null || !clusterId.equals(other.clusterId)) {
+				return false;
+			}
+
+			return localIndex <= other.localIndex
+					&& replicatedIndex <= other.replicatedIndex
+					&& (localIndex < other.localIndex
+							|| replicatedIndex < other.replicatedIndex);
+		}
+	}
+}
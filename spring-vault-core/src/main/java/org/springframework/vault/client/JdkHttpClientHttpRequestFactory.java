@@ -0,0 +1,417 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.net.ssl.SSLContext;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.AbstractClientHttpResponse;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link ClientHttpRequestFactory} using the {@code java.net.http.HttpClient} that ships
+ * with Java 11 and newer. The client negotiates HTTP/2 (using ALPN for TLS connections)
+ * and falls back to HTTP/1.1 if the server does not support HTTP/2. Requests to the same
+ * server are multiplexed over a shared connection when using HTTP/2.
+ * <p>
+ * The {@code java.net.http} API is accessed reflectively as Spring Vault is compiled for
+ * Java 8. Use {@link #isAvailable()} to check whether the API is available on the
+ * current runtime. The read timeout is applied as
+ * {@code java.net.http.HttpRequest#timeout(Duration) request timeout}.
+ *
+ * @author agent
+ * @since 2.2
+ */
+class JdkHttpClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+	private static final boolean HTTP_CLIENT_PRESENT = ClassUtils.isPresent(
+			"java.net.http.HttpClient",
+			JdkHttpClientHttpRequestFactory.class.getClassLoader());
+
+	/**
+	 * Headers set by the {@code java.net.http.HttpClient} itself that cannot be set on
+	 * requests.
+	 */
+	private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(
+			String.CASE_INSENSITIVE_ORDER);
+
+	static {
+		RESTRICTED_HEADERS.add(HttpHeaders.CONNECTION);
+		RESTRICTED_HEADERS.add(HttpHeaders.CONTENT_LENGTH);
+		RESTRICTED_HEADERS.add(HttpHeaders.EXPECT);
+		RESTRICTED_HEADERS.add(HttpHeaders.HOST);
+		RESTRICTED_HEADERS.add(HttpHeaders.UPGRADE);
+	}
+
+	private final Object httpClient;
+
+	private final Duration readTimeout;
+
+	private JdkHttpClientHttpRequestFactory(Object httpClient, Duration readTimeout) {
+		this.httpClient = httpClient;
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * @return {@literal true} if {@code java.net.http.HttpClient} is available on the
+	 * current runtime.
+	 */
+	static boolean isAvailable() {
+		return HTTP_CLIENT_PRESENT;
+	}
+
+	/**
+	 * Create a new {@link JdkHttpClientHttpRequestFactory}.
+	 *
+	 * @param connectTimeout the connection timeout.
+	 * @param readTimeout the read timeout.
+	 * @param sslContext optional {@link SSLContext}, uses the default {@link SSLContext}
+	 * if {@literal null}.
+	 * @return the {@link JdkHttpClientHttpRequestFactory}.
+	 */
+	static JdkHttpClientHttpRequestFactory create(Duration connectTimeout,
+			Duration readTimeout, @Nullable SSLContext sslContext) {
+
+		Object builder = HttpClientApi.invokeUnchecked(HttpClientApi.NEW_CLIENT_BUILDER,
+				null);
+
+		HttpClientApi.invokeUnchecked(HttpClientApi.CLIENT_VERSION, builder,
+				HttpClientApi.HTTP_2);
+		HttpClientApi.invokeUnchecked(HttpClientApi.CLIENT_CONNECT_TIMEOUT, builder,
+				connectTimeout);
+		HttpClientApi.invokeUnchecked(HttpClientApi.CLIENT_FOLLOW_REDIRECTS, builder,
+				HttpClientApi.REDIRECT_NORMAL);
+
+		ProxySelector proxySelector = ProxySelector.getDefault();
+		if (proxySelector != null) {
+			HttpClientApi.invokeUnchecked(HttpClientApi.CLIENT_PROXY, builder,
+					proxySelector);
+		}
+
+		if (sslContext != null) {
+			HttpClientApi.invokeUnchecked(HttpClientApi.CLIENT_SSL_CONTEXT, builder,
+					sslContext);
+		}
+
+		return new JdkHttpClientHttpRequestFactory(
+				HttpClientApi.invokeUnchecked(HttpClientApi.CLIENT_BUILD, builder),
+				readTimeout);
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+		return new JdkClientHttpRequest(uri, httpMethod);
+	}
+
+	/**
+	 * Buffering {@link ClientHttpRequest} executed by {@code java.net.http.HttpClient}.
+	 */
+	class JdkClientHttpRequest extends AbstractClientHttpRequest {
+
+		private final URI uri;
+
+		private final HttpMethod method;
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+		JdkClientHttpRequest(URI uri, HttpMethod method) {
+			this.uri = uri;
+			this.method = method;
+		}
+
+		@Override
+		public String getMethodValue() {
+			return this.method.name();
+		}
+
+		@Override
+		public URI getURI() {
+			return this.uri;
+		}
+
+		@Override
+		protected OutputStream getBodyInternal(HttpHeaders headers) {
+			return this.body;
+		}
+
+		@Override
+		protected ClientHttpResponse executeInternal(HttpHeaders headers)
+				throws IOException {
+
+			Object builder = HttpClientApi.invoke(HttpClientApi.NEW_REQUEST_BUILDER,
+					null, this.uri);
+
+			HttpClientApi.invoke(HttpClientApi.REQUEST_TIMEOUT, builder, readTimeout);
+
+			for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+
+				if (RESTRICTED_HEADERS.contains(header.getKey())) {
+					continue;
+				}
+
+				for (String value : header.getValue()) {
+					HttpClientApi.invoke(HttpClientApi.REQUEST_HEADER, builder,
+							header.getKey(), value);
+				}
+			}
+
+			Object bodyPublisher = this.body.size() == 0
+					? HttpClientApi.invoke(HttpClientApi.NO_BODY, null)
+					: HttpClientApi.invoke(HttpClientApi.OF_BYTE_ARRAY, null,
+							(Object) this.body.toByteArray());
+
+			HttpClientApi.invoke(HttpClientApi.REQUEST_METHOD, builder,
+					this.method.name(), bodyPublisher);
+
+			Object request = HttpClientApi.invoke(HttpClientApi.REQUEST_BUILD, builder);
+			Object response = HttpClientApi.invoke(HttpClientApi.CLIENT_SEND, httpClient,
+					request, HttpClientApi.invoke(HttpClientApi.OF_INPUT_STREAM, null));
+
+			return new JdkClientHttpResponse(response);
+		}
+	}
+
+	/**
+	 * {@link ClientHttpResponse} adapter for {@code java.net.http.HttpResponse}.
+	 */
+	static class JdkClientHttpResponse extends AbstractClientHttpResponse {
+
+		private final int statusCode;
+
+		private final HttpHeaders headers = new HttpHeaders();
+
+		private final InputStream body;
+
+		@SuppressWarnings("unchecked")
+		JdkClientHttpResponse(Object response) throws IOException {
+
+			this.statusCode = (Integer) HttpClientApi
+					.invoke(HttpClientApi.RESPONSE_STATUS_CODE, response);
+			this.body = (InputStream) HttpClientApi.invoke(HttpClientApi.RESPONSE_BODY,
+					response);
+
+			Object headers = HttpClientApi.invoke(HttpClientApi.RESPONSE_HEADERS,
+					response);
+			Map<String, List<String>> map = (Map<String, List<String>>) HttpClientApi
+					.invoke(HttpClientApi.HEADERS_MAP, headers);
+
+			map.forEach((name, values) -> {
+
+				// skip HTTP/2 pseudo-headers
+				if (!name.startsWith(":")) {
+					this.headers.addAll(name, values);
+				}
+			});
+		}
+
+		@Override
+		public int getRawStatusCode() {
+			return this.statusCode;
+		}
+
+		@Override
+		public String getStatusText() {
+
+			HttpStatus status = HttpStatus.resolve(this.statusCode);
+			return status != null ? status.getReasonPhrase() : "";
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public InputStream getBody() {
+			return this.body;
+		}
+
+		@Override
+		public void close() {
+			try {
+				this.body.close();
+			}
+			catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Reflective access to the {@code java.net.http} API. Initialized on first use so
+	 * that this class is only resolved on runtimes that provide the API.
+	 */
+	static class HttpClientApi {
+
+		static final Method NEW_CLIENT_BUILDER;
+		static final Method CLIENT_VERSION;
+		static final Method CLIENT_CONNECT_TIMEOUT;
+		static final Method CLIENT_FOLLOW_REDIRECTS;
+		static final Method CLIENT_PROXY;
+		static final Method CLIENT_SSL_CONTEXT;
+		static final Method CLIENT_BUILD;
+		static final Method CLIENT_SEND;
+
+		static final Method NEW_REQUEST_BUILDER;
+		static final Method REQUEST_TIMEOUT;
+		static final Method REQUEST_HEADER;
+		static final Method REQUEST_METHOD;
+		static final Method REQUEST_BUILD;
+
+		static final Method NO_BODY;
+		static final Method OF_BYTE_ARRAY;
+		static final Method OF_INPUT_STREAM;
+
+		static final Method RESPONSE_STATUS_CODE;
+		static final Method RESPONSE_HEADERS;
+		static final Method RESPONSE_BODY;
+		static final Method HEADERS_MAP;
+
+		static final Object HTTP_2;
+		static final Object REDIRECT_NORMAL;
+
+		static {
+
+			try {
+
+				Class<?> client = forName("java.net.http.HttpClient");
+				Class<?> clientBuilder = forName("java.net.http.HttpClient$Builder");
+				Class<?> version = forName("java.net.http.HttpClient$Version");
+				Class<?> redirect = forName("java.net.http.HttpClient$Redirect");
+				Class<?> request = forName("java.net.http.HttpRequest");
+				Class<?> requestBuilder = forName("java.net.http.HttpRequest$Builder");
+				Class<?> bodyPublisher = forName(
+						"java.net.http.HttpRequest$BodyPublisher");
+				Class<?> bodyPublishers = forName(
+						"java.net.http.HttpRequest$BodyPublishers");
+				Class<?> response = forName("java.net.http.HttpResponse");
+				Class<?> bodyHandler = forName("java.net.http.HttpResponse$BodyHandler");
+				Class<?> bodyHandlers = forName(
+						"java.net.http.HttpResponse$BodyHandlers");
+				Class<?> headers = forName("java.net.http.HttpHeaders");
+
+				NEW_CLIENT_BUILDER = client.getMethod("newBuilder");
+				CLIENT_VERSION = clientBuilder.getMethod("version", version);
+				CLIENT_CONNECT_TIMEOUT = clientBuilder.getMethod("connectTimeout",
+						Duration.class);
+				CLIENT_FOLLOW_REDIRECTS = clientBuilder.getMethod("followRedirects",
+						redirect);
+				CLIENT_PROXY = clientBuilder.getMethod("proxy", ProxySelector.class);
+				CLIENT_SSL_CONTEXT = clientBuilder.getMethod("sslContext",
+						SSLContext.class);
+				CLIENT_BUILD = clientBuilder.getMethod("build");
+				CLIENT_SEND = client.getMethod("send", request, bodyHandler);
+
+				NEW_REQUEST_BUILDER = request.getMethod("newBuilder", URI.class);
+				REQUEST_TIMEOUT = requestBuilder.getMethod("timeout", Duration.class);
+				REQUEST_HEADER = requestBuilder.getMethod("header", String.class,
+						String.class);
+				REQUEST_METHOD = requestBuilder.getMethod("method", String.class,
+						bodyPublisher);
+				REQUEST_BUILD = requestBuilder.getMethod("build");
+
+				NO_BODY = bodyPublishers.getMethod("noBody");
+				OF_BYTE_ARRAY = bodyPublishers.getMethod("ofByteArray", byte[].class);
+				OF_INPUT_STREAM = bodyHandlers.getMethod("ofInputStream");
+
+				RESPONSE_STATUS_CODE = response.getMethod("statusCode");
+				RESPONSE_HEADERS = response.getMethod("headers");
+				RESPONSE_BODY = response.getMethod("body");
+				HEADERS_MAP = headers.getMethod("map");
+
+				HTTP_2 = version.getField("HTTP_2").get(null);
+				REDIRECT_NORMAL = redirect.getField("NORMAL").get(null);
+			}
+			catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(
+						"Cannot initialize java.net.http.HttpClient API", e);
+			}
+		}
+
+		private static Class<?> forName(String className)
+				throws ClassNotFoundException {
+			return ClassUtils.forName(className,
+					JdkHttpClientHttpRequestFactory.class.getClassLoader());
+		}
+
+		@Nullable
+		static Object invoke(Method method, @Nullable Object target, Object... args)
+				throws IOException {
+
+			try {
+				return method.invoke(target, args);
+			}
+			catch (InvocationTargetException e) {
+
+				Throwable cause = e.getTargetException();
+
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+
+				if (cause instanceof InterruptedException) {
+
+					Thread.currentThread().interrupt();
+					InterruptedIOException exception = new InterruptedIOException(
+							cause.getMessage());
+					exception.initCause(cause);
+					throw exception;
+				}
+
+				ReflectionUtils.rethrowRuntimeException(cause);
+				return null;
+			}
+			catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Nullable
+		static Object invokeUnchecked(Method method, @Nullable Object target,
+				Object... args) {
+
+			try {
+				return invoke(method, target, args);
+			}
+			catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
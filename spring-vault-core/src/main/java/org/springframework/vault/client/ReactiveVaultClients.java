@@ -15,21 +15,30 @@
  */
 package org.springframework.vault.client;
 
+import java.io.IOException;
+import java.net.URI;
+
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.codec.ByteArrayDecoder;
 import org.springframework.core.codec.ByteArrayEncoder;
 import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.codec.CodecConfigurer.CustomCodecs;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.util.Assert;
 import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
 import org.springframework.web.util.UriBuilderFactory;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Vault Client factory to create {@link WebClient} configured to the needs of accessing
@@ -76,6 +85,30 @@ public class ReactiveVaultClients {
 		return createWebClientBuilder(endpointProvider, connector).build();
 	}
 
+	/**
+	 * Create a {@link WebClient} configured with {@link ReactiveVaultEndpointProvider}
+	 * and {@link ClientHttpConnector}. The client accepts relative URIs without a leading
+	 * slash that are expanded to use the {@link VaultEndpoint} emitted by
+	 * {@link ReactiveVaultEndpointProvider} upon request execution.
+	 * <p>
+	 * Requires Jackson 2 for Object-to-JSON mapping.
+	 *
+	 * @param endpointProvider must not be {@literal null}.
+	 * @param connector must not be {@literal null}.
+	 * @return the configured {@link WebClient}.
+	 * @since 2.2
+	 */
+	public static WebClient createWebClient(
+			ReactiveVaultEndpointProvider endpointProvider,
+			ClientHttpConnector connector) {
+
+		Assert.notNull(endpointProvider,
+				"ReactiveVaultEndpointProvider must not be null");
+		Assert.notNull(connector, "ClientHttpConnector must not be null");
+
+		return createWebClientBuilder(endpointProvider, connector).build();
+	}
+
 	/**
 	 * Create a {@link WebClient.Builder} configured with {@link VaultEndpoint} and
 	 * {@link ClientHttpConnector}. The client accepts relative URIs without a leading
@@ -96,22 +129,130 @@ public class ReactiveVaultClients {
 		UriBuilderFactory uriBuilderFactory = VaultClients
 				.createUriBuilderFactory(endpointProvider);
 
-		ExchangeStrategies strategies = ExchangeStrategies.builder()
-				.codecs(configurer -> {
+		WebClient.Builder builder = WebClient.builder()
+				.uriBuilderFactory(uriBuilderFactory)
+				.exchangeStrategies(createExchangeStrategies()).clientConnector(connector);
+
+		if (endpointProvider instanceof ReadScalingVaultEndpointProvider) {
+			builder.filter(
+					readScaling((ReadScalingVaultEndpointProvider) endpointProvider));
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Create a {@link WebClient.Builder} configured with
+	 * {@link ReactiveVaultEndpointProvider} and {@link ClientHttpConnector}. Relative URIs
+	 * are expanded without a base URI and resolved against the {@link VaultEndpoint}
+	 * emitted by {@link ReactiveVaultEndpointProvider} through a
+	 * {@link ExchangeFilterFunction} so that endpoint resolution does not block.
+	 * <p>
+	 * Requires Jackson 2 for Object-to-JSON mapping.
+	 *
+	 * @param endpointProvider must not be {@literal null}.
+	 * @param connector must not be {@literal null}.
+	 * @return the prepared {@link WebClient.Builder}.
+	 * @since 2.2
+	 */
+	static WebClient.Builder createWebClientBuilder(
+			ReactiveVaultEndpointProvider endpointProvider,
+			ClientHttpConnector connector) {
+
+		Assert.notNull(endpointProvider,
+				"ReactiveVaultEndpointProvider must not be null");
+		Assert.notNull(connector, "ClientHttpConnector must not be null");
 
-					CustomCodecs cc = configurer.customCodecs();
+		return WebClient.builder().uriBuilderFactory(new RelativeUriBuilderFactory())
+				.exchangeStrategies(createExchangeStrategies()).clientConnector(connector)
+				.filter(resolveEndpoint(endpointProvider));
+	}
 
-					cc.decoder(new ByteArrayDecoder());
-					cc.decoder(new Jackson2JsonDecoder());
-					cc.decoder(StringDecoder.allMimeTypes());
+	private static ExchangeStrategies createExchangeStrategies() {
 
-					cc.encoder(new ByteArrayEncoder());
-					cc.encoder(new Jackson2JsonEncoder());
+		return ExchangeStrategies.builder().codecs(configurer -> {
 
-				}).build();
+			CustomCodecs cc = configurer.customCodecs();
+
+			cc.decoder(new ByteArrayDecoder());
+			cc.decoder(new Jackson2JsonDecoder());
+			cc.decoder(StringDecoder.allMimeTypes());
+
+			cc.encoder(new ByteArrayEncoder());
+			cc.encoder(new Jackson2JsonEncoder());
+
+		}).build();
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that resolves relative request URIs against
+	 * the {@link VaultEndpoint} emitted by {@link ReactiveVaultEndpointProvider}.
+	 * Absolute URIs are left unchanged.
+	 */
+	private static ExchangeFilterFunction resolveEndpoint(
+			ReactiveVaultEndpointProvider endpointProvider) {
+
+		return (request, next) -> {
 
-		return WebClient.builder().uriBuilderFactory(uriBuilderFactory)
-				.exchangeStrategies(strategies).clientConnector(connector);
+			URI url = request.url();
+
+			if (url.isAbsolute()) {
+				return next.exchange(request);
+			}
+
+			Mono<VaultEndpoint> missingEndpoint = Mono
+					.defer(() -> Mono.error(new IllegalStateException(
+							"ReactiveVaultEndpointProvider did not provide a VaultEndpoint")));
+
+			return endpointProvider.getVaultEndpoint() //
+					.switchIfEmpty(missingEndpoint) //
+					.flatMap(endpoint -> {
+
+						String baseUri = VaultClients.toBaseUri(endpoint);
+						URI resolved = URI.create(baseUri + VaultClients
+								.prepareUriTemplate(baseUri, url.toString()));
+
+						return next.exchange(
+								ClientRequest.from(request).url(resolved).build());
+					});
+		};
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that routes read requests to performance
+	 * standby nodes using {@link ReadScalingVaultEndpointProvider}. Requests that are
+	 * not eligible for read scaling are sent to their original URL. A routed request
+	 * counts as outstanding until its response body is consumed.
+	 *
+	 * @param endpointProvider the {@link ReadScalingVaultEndpointProvider} to use. Must
+	 *     not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with {@link WebClient}.
+	 * @since 2.2
+	 */
+	public static ExchangeFilterFunction readScaling(
+			ReadScalingVaultEndpointProvider endpointProvider) {
+
+		Assert.notNull(endpointProvider,
+				"ReadScalingVaultEndpointProvider must not be null");
+
+		return (request, next) -> Mono.defer(() -> {
+
+			ReadScalingVaultEndpointProvider.Route route = endpointProvider
+					.route(request.method(), request.url());
+
+			if (route == null) {
+				return next.exchange(request);
+			}
+
+			return next
+					.exchange(ClientRequest.from(request).url(route.getUri()).build())
+					.map(response -> ClientResponse.from(response)
+							.body(response.bodyToFlux(DataBuffer.class)
+									.doFinally(signal -> route.release()))
+							.build())
+					.doOnError(IOException.class, e -> route.failed())
+					.doOnError(e -> route.release()).doOnCancel(route::release);
+		});
 	}
 
 	/**
@@ -140,4 +281,71 @@ public class ReactiveVaultClients {
 			});
 		});
 	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that tracks the
+	 * {@link VaultHttpHeaders#VAULT_INDEX X-Vault-Index} returned by Vault and applies it
+	 * to subsequent requests according to the {@link ConsistencyMode} of the given
+	 * {@link ConsistencyTracker}. Requests rejected with {@code 412 Precondition Failed}
+	 * because the receiving node has not yet caught up are retried with backoff. The
+	 * filter should be registered as last filter.
+	 *
+	 * @param tracker the {@link ConsistencyTracker} to use. Must not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with {@link WebClient}.
+	 * @since 2.2
+	 */
+	public static ExchangeFilterFunction consistency(ConsistencyTracker tracker) {
+
+		Assert.notNull(tracker, "ConsistencyTracker must not be null");
+
+		return (request, next) -> Mono.defer(() -> {
+
+			if (tracker.getMode() == ConsistencyMode.NONE) {
+				return next.exchange(request);
+			}
+
+			boolean[] retry = new boolean[1];
+			ClientRequest requestToUse = ClientRequest.from(request)
+					.headers(headers -> retry[0] = tracker.applyTo(request.method(),
+							headers))
+					.build();
+
+			return exchange(requestToUse, next, tracker, retry[0], 0);
+		});
+	}
+
+	private static Mono<ClientResponse> exchange(ClientRequest request,
+			ExchangeFunction next, ConsistencyTracker tracker, boolean retry,
+			int attempt) {
+
+		return next.exchange(request).flatMap(response -> {
+
+			if (retry && attempt < ConsistencyTracker.MAX_RETRIES
+					&& response.rawStatusCode() == 412) {
+
+				return response.releaseBody() //
+						.then(Mono.delay(ConsistencyTracker.getBackoff(attempt))) //
+						.then(exchange(request, next, tracker, retry, attempt + 1));
+			}
+
+			tracker.updateIndex(response.headers().asHttpHeaders()
+					.getFirst(VaultHttpHeaders.VAULT_INDEX));
+
+			return Mono.just(response);
+		});
+	}
+
+	/**
+	 * {@link UriBuilderFactory} expanding relative URI templates without a base URI.
+	 * Relative URIs are resolved against the actual {@link VaultEndpoint} upon request
+	 * execution.
+	 */
+	static class RelativeUriBuilderFactory extends DefaultUriBuilderFactory {
+
+		@Override
+		public UriBuilder uriString(String uriTemplate) {
+			return UriComponentsBuilder
+					.fromUriString(VaultClients.prepareUriTemplate("", uriTemplate));
+		}
+	}
 }
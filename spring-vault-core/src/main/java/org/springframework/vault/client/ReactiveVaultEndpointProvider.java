@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Component that provides a {@link VaultEndpoint} in a non-blocking way. Allows to use a
+ * different {@link VaultEndpoint} for each Vault request and to resolve the endpoint
+ * asynchronously, for example through service discovery or a DNS SRV lookup, without
+ * blocking the calling thread.
+ * <p>
+ * The {@link VaultEndpoint} is obtained upon subscription for each request.
+ * Implementations must not block.
+ *
+ * @author agent
+ * @since 2.2
+ * @see VaultEndpointProvider
+ */
+@FunctionalInterface
+public interface ReactiveVaultEndpointProvider {
+
+	/**
+	 * Provides access to {@link VaultEndpoint}.
+	 *
+	 * @return a {@link Mono} emitting the {@link VaultEndpoint}.
+	 */
+	Mono<VaultEndpoint> getVaultEndpoint();
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.vault.support.VaultHealth;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link VaultEndpointProvider} that is aware of the Vault cluster topology to scale
+ * read requests across performance standby nodes. The provider learns about the role of
+ * each configured node by probing its {@link VaultHealth health} (typically through
+ * {@link org.springframework.vault.core.VaultSysOperations#health()}) and distinguishes
+ * between the active node, healthy performance standbys and unavailable nodes.
+ * <p>
+ * {@link #getVaultEndpoint()} returns the active node so that write requests are pinned
+ * to the active node. Read requests ({@code GET}, including {@code LIST} requests that
+ * are issued as {@code GET}, and {@code HEAD}) are routed to the healthy performance
+ * standby with the least outstanding requests. Routing is applied by
+ * {@link VaultClients#createReadScalingInterceptor(ReadScalingVaultEndpointProvider)}
+ * and {@link ReactiveVaultClients#readScaling(ReadScalingVaultEndpointProvider)} that
+ * are registered automatically for clients created with this provider. Reads fall back
+ * to the active node if no performance standby is available.
+ * <p>
+ * Nodes are probed on {@link #afterPropertiesSet() initialization} and periodically if a
+ * {@link TaskScheduler} is configured. Nodes that fail with an I/O error are excluded from
+ * read routing until the next successful health probe.
+ * <p>
+ * Reads from performance standbys may be eventually consistent with respect to writes on
+ * the active node.
+ *
+ * @author agent
+ * @since 2.2
+ * @see VaultHealth#isPerformanceStandby()
+ */
+public class ReadScalingVaultEndpointProvider
+		implements VaultEndpointProvider, InitializingBean, DisposableBean {
+
+	/**
+	 * Default interval between health probes.
+	 */
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+	private static final Log logger = LogFactory
+			.getLog(ReadScalingVaultEndpointProvider.class);
+
+	private final List<Node> nodes;
+
+	private final Function<VaultEndpoint, VaultHealth> healthProbe;
+
+	private final AtomicInteger offset = new AtomicInteger();
+
+	private volatile VaultEndpoint active;
+
+	private volatile List<Node> standbys = Collections.emptyList();
+
+	@Nullable
+	private TaskScheduler taskScheduler;
+
+	private Duration refreshInterval = DEFAULT_REFRESH_INTERVAL;
+
+	@Nullable
+	private volatile ScheduledFuture<?> refreshFuture;
+
+	/**
+	 * Create a new {@link ReadScalingVaultEndpointProvider} given {@code endpoints} of
+	 * all cluster nodes and a {@code healthProbe} function.
+	 *
+	 * @param endpoints endpoints of the Vault cluster nodes, must not be {@literal null}
+	 *     or empty. The first endpoint is used as active node until the topology is
+	 *     known.
+	 * @param healthProbe function to obtain the {@link VaultHealth} of a node, must not
+	 *     be {@literal null}.
+	 */
+	public ReadScalingVaultEndpointProvider(List<VaultEndpoint> endpoints,
+			Function<VaultEndpoint, VaultHealth> healthProbe) {
+
+		Assert.notEmpty(endpoints, "VaultEndpoints must not be empty");
+		Assert.noNullElements(endpoints.toArray(),
+				"VaultEndpoints must not contain null elements");
+		Assert.notNull(healthProbe, "Health probe must not be null");
+
+		List<Node> nodes = new ArrayList<>(endpoints.size());
+		for (VaultEndpoint endpoint : endpoints) {
+			nodes.add(new Node(endpoint));
+		}
+
+		this.nodes = Collections.unmodifiableList(nodes);
+		this.healthProbe = healthProbe;
+		this.active = endpoints.get(0);
+	}
+
+	/**
+	 * Set the {@link TaskScheduler} to probe the cluster topology periodically.
+	 *
+	 * @param taskScheduler must not be {@literal null}.
+	 */
+	public void setTaskScheduler(TaskScheduler taskScheduler) {
+
+		Assert.notNull(taskScheduler, "TaskScheduler must not be null");
+
+		this.taskScheduler = taskScheduler;
+	}
+
+	/**
+	 * Set the interval between health probes. Defaults to
+	 * {@link #DEFAULT_REFRESH_INTERVAL}.
+	 *
+	 * @param refreshInterval must not be {@literal null} and greater than zero.
+	 */
+	public void setRefreshInterval(Duration refreshInterval) {
+
+		Assert.notNull(refreshInterval, "Refresh interval must not be null");
+		Assert.isTrue(!refreshInterval.isNegative() && !refreshInterval.isZero(),
+				"Refresh interval must be greater than zero");
+
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		refresh();
+
+		TaskScheduler taskScheduler = this.taskScheduler;
+		if (taskScheduler != null) {
+			this.refreshFuture = taskScheduler.scheduleWithFixedDelay(this::refresh,
+					refreshInterval.toMillis());
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		ScheduledFuture<?> refreshFuture = this.refreshFuture;
+		if (refreshFuture != null) {
+			refreshFuture.cancel(false);
+			this.refreshFuture = null;
+		}
+	}
+
+	/**
+	 * Probe all nodes to determine the active node and healthy performance standbys.
+	 */
+	public void refresh() {
+
+		VaultEndpoint active = null;
+		List<Node> standbys = new ArrayList<>();
+
+		for (Node node : nodes) {
+
+			VaultHealth health;
+			try {
+				health = healthProbe.apply(node.endpoint);
+			}
+			catch (RuntimeException e) {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Health probe for %s failed",
+							node.endpoint), e);
+				}
+
+				node.healthy = false;
+				continue;
+			}
+
+			if (health == null || !health.isInitialized() || health.isSealed()) {
+				node.healthy = false;
+				continue;
+			}
+
+			if (!health.isStandby()) {
+				active = node.endpoint;
+				node.healthy = true;
+			}
+			else if (health.isPerformanceStandby()) {
+				standbys.add(node);
+				node.healthy = true;
+			}
+			else {
+				node.healthy = false;
+			}
+		}
+
+		if (active != null) {
+			this.active = active;
+		}
+		else {
+			logger.warn("Cannot determine active Vault node, retaining " + this.active);
+		}
+
+		this.standbys = Collections.unmodifiableList(standbys);
+	}
+
+	/**
+	 * Return the active node {@link VaultEndpoint}.
+	 *
+	 * @return the active node {@link VaultEndpoint}.
+	 */
+	@Override
+	public VaultEndpoint getVaultEndpoint() {
+		return active;
+	}
+
+	/**
+	 * Return the healthy performance standbys.
+	 *
+	 * @return the healthy performance standbys.
+	 */
+	public List<VaultEndpoint> getPerformanceStandbys() {
+
+		List<VaultEndpoint> endpoints = new ArrayList<>();
+		for (Node standby : standbys) {
+			if (standby.healthy) {
+				endpoints.add(standby.endpoint);
+			}
+		}
+
+		return endpoints;
+	}
+
+	/**
+	 * Select a route for a request. Returns {@literal null} if the request should be
+	 * sent to its original {@link URI} because it is not a read request, it is not
+	 * targeted at a cluster node or because no performance standby is available.
+	 *
+	 * @param method the HTTP method.
+	 * @param uri the request URI.
+	 * @return the {@link Route} or {@literal null}.
+	 */
+	@Nullable
+	Route route(@Nullable HttpMethod method, URI uri) {
+
+		if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+			return null;
+		}
+
+		if (!isClusterNode(uri)) {
+			return null;
+		}
+
+		Node node = selectStandby();
+
+		if (node == null) {
+			return null;
+		}
+
+		return new Route(node, UriComponentsBuilder.fromUri(uri) //
+				.scheme(node.endpoint.getScheme()) //
+				.host(node.endpoint.getHost()) //
+				.port(node.endpoint.getPort()) //
+				.build(true) //
+				.toUri());
+	}
+
+	/**
+	 * Select the healthy performance standby with the least outstanding requests. Ties
+	 * are resolved in a round-robin fashion.
+	 */
+	@Nullable
+	private Node selectStandby() {
+
+		List<Node> standbys = this.standbys;
+
+		if (standbys.isEmpty()) {
+			return null;
+		}
+
+		int size = standbys.size();
+		int start = Math.floorMod(offset.getAndIncrement(), size);
+
+		Node selected = null;
+		for (int i = 0; i < size; i++) {
+
+			Node candidate = standbys.get((start + i) % size);
+
+			if (!candidate.healthy) {
+				continue;
+			}
+
+			if (selected == null
+					|| candidate.outstanding.get() < selected.outstanding.get()) {
+				selected = candidate;
+			}
+		}
+
+		return selected;
+	}
+
+	private boolean isClusterNode(URI uri) {
+
+		for (Node node : nodes) {
+
+			VaultEndpoint endpoint = node.endpoint;
+
+			if (ObjectUtils.nullSafeEquals(endpoint.getScheme(), uri.getScheme())
+					&& ObjectUtils.nullSafeEquals(endpoint.getHost(), uri.getHost())
+					&& endpoint.getPort() == uri.getPort()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * A cluster node along with its outstanding request count.
+	 */
+	static class Node {
+
+		final VaultEndpoint endpoint;
+
+		final AtomicInteger outstanding = new AtomicInteger();
+
+		volatile boolean healthy;
+
+		Node(VaultEndpoint endpoint) {
+			this.endpoint = endpoint;
+		}
+	}
+
+	/**
+	 * Route of a read request to a performance standby. A {@link Route} accounts for an
+	 * outstanding request until it is {@link #release() released}.
+	 */
+	static class Route {
+
+		private final Node node;
+
+		private final URI uri;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		Route(Node node, URI uri) {
+
+			this.node = node;
+			this.uri = uri;
+
+			node.outstanding.incrementAndGet();
+		}
+
+		/**
+		 * @return the {@link URI} targeting the performance standby.
+		 */
+		URI getUri() {
+			return uri;
+		}
+
+		/**
+		 * Exclude the node from read routing until its next successful health probe.
+		 */
+		void failed() {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format(
+						"Excluding %s from read routing after request failure",
+						node.endpoint));
+			}
+
+			node.healthy = false;
+		}
+
+		/**
+		 * Release the outstanding request.
+		 */
+		void release() {
+
+			if (released.compareAndSet(false, true)) {
+				node.outstanding.decrementAndGet();
+			}
+		}
+	}
+}
@@ -15,14 +15,20 @@
  */
 package org.springframework.vault.client;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -98,6 +104,11 @@ public class VaultClients {
 		restTemplate.setRequestFactory(requestFactory);
 		restTemplate.setUriTemplateHandler(createUriBuilderFactory(endpointProvider));
 
+		if (endpointProvider instanceof ReadScalingVaultEndpointProvider) {
+			restTemplate.getInterceptors().add(createReadScalingInterceptor(
+					(ReadScalingVaultEndpointProvider) endpointProvider));
+		}
+
 		return restTemplate;
 	}
 
@@ -157,6 +168,106 @@ public class VaultClients {
 		};
 	}
 
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that routes read requests to
+	 * performance standby nodes using {@link ReadScalingVaultEndpointProvider}. Requests
+	 * that are not eligible for read scaling are sent to their original {@link URI}. A
+	 * routed request counts as outstanding until its response is closed.
+	 *
+	 * @param endpointProvider the {@link ReadScalingVaultEndpointProvider} to use. Must
+	 *     not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 2.2
+	 */
+	public static ClientHttpRequestInterceptor createReadScalingInterceptor(
+			ReadScalingVaultEndpointProvider endpointProvider) {
+
+		Assert.notNull(endpointProvider,
+				"ReadScalingVaultEndpointProvider must not be null");
+
+		return (request, body, execution) -> {
+
+			ReadScalingVaultEndpointProvider.Route route = endpointProvider
+					.route(request.getMethod(), request.getURI());
+
+			if (route == null) {
+				return execution.execute(request, body);
+			}
+
+			HttpRequest routed = new HttpRequestWrapper(request) {
+
+				@Override
+				public URI getURI() {
+					return route.getUri();
+				}
+			};
+
+			try {
+				return new RouteReleasingResponse(execution.execute(routed, body),
+						route);
+			}
+			catch (IOException e) {
+				route.failed();
+				route.release();
+				throw e;
+			}
+			catch (RuntimeException e) {
+				route.release();
+				throw e;
+			}
+		};
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that tracks the
+	 * {@link VaultHttpHeaders#VAULT_INDEX X-Vault-Index} returned by Vault and applies it
+	 * to subsequent requests according to the {@link ConsistencyMode} of the given
+	 * {@link ConsistencyTracker}. Requests rejected with {@code 412 Precondition Failed}
+	 * because the receiving node has not yet caught up are retried with backoff. The
+	 * interceptor should be registered as last interceptor.
+	 *
+	 * @param tracker the {@link ConsistencyTracker} to use. Must not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 2.2
+	 */
+	public static ClientHttpRequestInterceptor createConsistencyInterceptor(
+			ConsistencyTracker tracker) {
+
+		Assert.notNull(tracker, "ConsistencyTracker must not be null");
+
+		return (request, body, execution) -> {
+
+			if (tracker.getMode() == ConsistencyMode.NONE) {
+				return execution.execute(request, body);
+			}
+
+			boolean retry = tracker.applyTo(request.getMethod(), request.getHeaders());
+			ClientHttpResponse response = execution.execute(request, body);
+
+			for (int attempt = 0; retry && attempt < ConsistencyTracker.MAX_RETRIES
+					&& response.getRawStatusCode() == 412; attempt++) {
+
+				try {
+					Thread.sleep(ConsistencyTracker.getBackoff(attempt).toMillis());
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+
+				response.close();
+				response = execution.execute(request, body);
+			}
+
+			tracker.updateIndex(
+					response.getHeaders().getFirst(VaultHttpHeaders.VAULT_INDEX));
+
+			return response;
+		};
+	}
+
 	public static UriBuilderFactory createUriBuilderFactory(
 			VaultEndpointProvider endpointProvider) {
 		return new PrefixAwareUriBuilderFactory(endpointProvider);
@@ -229,7 +340,7 @@ public class VaultClients {
 		}
 	}
 
-	private static String toBaseUri(VaultEndpoint endpoint) {
+	static String toBaseUri(VaultEndpoint endpoint) {
 
 		return String.format("%s://%s:%s/%s", endpoint.getScheme(), endpoint.getHost(),
 				endpoint.getPort(), endpoint.getPath());
@@ -277,4 +388,57 @@ public class VaultClients {
 
 		return uriTemplate;
 	}
+
+	/**
+	 * {@link ClientHttpResponse} wrapper that releases its
+	 * {@link ReadScalingVaultEndpointProvider.Route} once the response is closed.
+	 */
+	private static class RouteReleasingResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse delegate;
+
+		private final ReadScalingVaultEndpointProvider.Route route;
+
+		RouteReleasingResponse(ClientHttpResponse delegate,
+				ReadScalingVaultEndpointProvider.Route route) {
+			this.delegate = delegate;
+			this.route = route;
+		}
+
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return this.delegate.getStatusCode();
+		}
+
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return this.delegate.getRawStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return this.delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.delegate.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			return this.delegate.getBody();
+		}
+
+		@Override
+		public void close() {
+
+			try {
+				this.delegate.close();
+			}
+			finally {
+				this.route.release();
+			}
+		}
+	}
 }
@@ -38,6 +38,22 @@ public abstract class VaultHttpHeaders {
 	 */
 	public static final String VAULT_NAMESPACE = "X-Vault-Namespace";
 
+	/**
+	 * The HTTP {@code X-Vault-Index} header field name carrying the replication state
+	 * observed by a request.
+	 *
+	 * @since 2.2
+	 */
+	public static final String VAULT_INDEX = "X-Vault-Index";
+
+	/**
+	 * The HTTP {@code X-Vault-Inconsistent} header field name controlling how a node
+	 * handles requests whose {@link #VAULT_INDEX index} it has not yet caught up with.
+	 *
+	 * @since 2.2
+	 */
+	public static final String VAULT_INCONSISTENT = "X-Vault-Inconsistent";
+
 	private VaultHttpHeaders() {
 	}
 
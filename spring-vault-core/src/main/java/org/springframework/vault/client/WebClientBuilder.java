@@ -51,6 +51,8 @@ public class WebClientBuilder {
 
 	private @Nullable VaultEndpointProvider endpointProvider;
 
+	private @Nullable ReactiveVaultEndpointProvider reactiveEndpointProvider;
+
 	private Supplier<ClientHttpConnector> httpConnector = () -> ClientHttpConnectorFactory
 			.create(new ClientOptions(), SslConfiguration.unconfigured());
 
@@ -93,6 +95,25 @@ public class WebClientBuilder {
 		Assert.notNull(provider, "VaultEndpointProvider must not be null");
 
 		this.endpointProvider = provider;
+		this.reactiveEndpointProvider = null;
+
+		return this;
+	}
+
+	/**
+	 * Set the {@link ReactiveVaultEndpointProvider} that should with the
+	 * {@link WebClient}. The {@link VaultEndpoint} is resolved without blocking upon
+	 * request execution.
+	 *
+	 * @param provider the {@link VaultEndpoint} provider.
+	 * @return {@code this} {@link WebClientBuilder}.
+	 */
+	public WebClientBuilder endpointProvider(ReactiveVaultEndpointProvider provider) {
+
+		Assert.notNull(provider, "ReactiveVaultEndpointProvider must not be null");
+
+		this.reactiveEndpointProvider = provider;
+		this.endpointProvider = null;
 
 		return this;
 	}
@@ -183,7 +204,8 @@ public class WebClientBuilder {
 	 */
 	public WebClient build() {
 
-		Assert.state(this.endpointProvider != null,
+		Assert.state(
+				this.endpointProvider != null || this.reactiveEndpointProvider != null,
 				"VaultEndpointProvider must not be null");
 
 		WebClient.Builder builder = createWebClientBuilder();
@@ -220,6 +242,11 @@ public class WebClientBuilder {
 
 		ClientHttpConnector connector = this.httpConnector.get();
 
+		if (reactiveEndpointProvider != null) {
+			return ReactiveVaultClients.createWebClientBuilder(reactiveEndpointProvider,
+					connector);
+		}
+
 		return ReactiveVaultClients.createWebClientBuilder(endpointProvider, connector);
 	}
 }
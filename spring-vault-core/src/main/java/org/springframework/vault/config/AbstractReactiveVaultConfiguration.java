@@ -19,6 +19,7 @@ import java.time.Duration;
 
 import reactor.core.publisher.Mono;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ClientHttpConnector;
@@ -84,13 +85,14 @@ public abstract class AbstractReactiveVaultConfiguration
 	 *
 	 * @return the {@link ReactiveVaultTemplate}.
 	 * @see #vaultEndpoint()
-	 * @see #clientHttpConnector()
+	 * @see #clientHttpConnectorWrapper()
 	 * @see #reactiveSessionManager()
 	 */
 	@Bean
 	public ReactiveVaultTemplate reactiveVaultTemplate() {
 		return new ReactiveVaultTemplate(
-				webClientBuilder(vaultEndpointProvider(), clientHttpConnector()),
+				webClientBuilder(vaultEndpointProvider(),
+						clientHttpConnectorWrapper().getClientHttpConnector()),
 				reactiveSessionManager());
 	}
 
@@ -119,7 +121,7 @@ public abstract class AbstractReactiveVaultConfiguration
 	public ReactiveSessionManager reactiveSessionManager() {
 
 		WebClient webClient = ReactiveVaultClients.createWebClient(vaultEndpoint(),
-				clientHttpConnector());
+				clientHttpConnectorWrapper().getClientHttpConnector());
 		return new ReactiveLifecycleAwareSessionManager(vaultTokenSupplier(),
 				threadPoolTaskScheduler(), webClient);
 	}
@@ -148,7 +150,7 @@ public abstract class AbstractReactiveVaultConfiguration
 			AuthenticationStepsFactory factory = (AuthenticationStepsFactory) clientAuthentication;
 
 			WebClient webClient = ReactiveVaultClients.createWebClient(vaultEndpoint(),
-					clientHttpConnector());
+					clientHttpConnectorWrapper().getClientHttpConnector());
 			AuthenticationStepsOperator stepsOperator = new AuthenticationStepsOperator(
 					factory.getAuthenticationSteps(), webClient);
 
@@ -173,6 +175,24 @@ public abstract class AbstractReactiveVaultConfiguration
 		return ClientHttpConnectorFactory.create(clientOptions(), sslConfiguration());
 	}
 
+	/**
+	 * Create a {@link ClientHttpConnectorWrapper} containing the
+	 * {@link #clientHttpConnector()}. {@link ClientHttpConnector} is not exposed as root
+	 * bean because it is configured with {@link ClientOptions} and
+	 * {@link org.springframework.vault.support.SslConfiguration} which are not
+	 * necessarily applicable for the whole application. The wrapper disposes
+	 * connection pools that are owned by the {@link ClientHttpConnector}.
+	 *
+	 * @return the {@link ClientHttpConnectorWrapper} to wrap a
+	 * {@link ClientHttpConnector} instance.
+	 * @see #clientHttpConnector()
+	 * @since 2.2
+	 */
+	@Bean
+	public ClientHttpConnectorWrapper clientHttpConnectorWrapper() {
+		return new ClientHttpConnectorWrapper(clientHttpConnector());
+	}
+
 	/**
 	 * Simple {@link SessionManager} adapter using a {@link ReactiveSessionManager} to
 	 * obtain tokens.
@@ -190,4 +210,29 @@ public abstract class AbstractReactiveVaultConfiguration
 			return sessionManager.getSessionToken().block(Duration.ofSeconds(30));
 		}
 	}
+
+	/**
+	 * Wrapper for {@link ClientHttpConnector} to not expose the bean globally.
+	 *
+	 * @since 2.2
+	 */
+	public static class ClientHttpConnectorWrapper implements DisposableBean {
+
+		private final ClientHttpConnector clientHttpConnector;
+
+		public ClientHttpConnectorWrapper(ClientHttpConnector clientHttpConnector) {
+			this.clientHttpConnector = clientHttpConnector;
+		}
+
+		@Override
+		public void destroy() throws Exception {
+			if (clientHttpConnector instanceof DisposableBean) {
+				((DisposableBean) clientHttpConnector).destroy();
+			}
+		}
+
+		public ClientHttpConnector getClientHttpConnector() {
+			return clientHttpConnector;
+		}
+	}
 }
@@ -31,6 +31,10 @@ import org.springframework.util.Assert;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.authentication.SessionManager;
 import org.springframework.vault.authentication.VaultTokenSupplier;
+import org.springframework.vault.client.ConsistencyMode;
+import org.springframework.vault.client.ConsistencyTracker;
+import org.springframework.vault.client.ReactiveVaultClients;
+import org.springframework.vault.client.ReactiveVaultEndpointProvider;
 import org.springframework.vault.client.SimpleVaultEndpointProvider;
 import org.springframework.vault.client.VaultEndpoint;
 import org.springframework.vault.client.VaultEndpointProvider;
@@ -66,6 +70,9 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 
 	private final VaultTokenSupplier vaultTokenSupplier;
 
+	private final ConsistencyTracker consistencyTracker = new ConsistencyTracker(
+			ConsistencyMode.NONE);
+
 	/**
 	 * Create a new {@link ReactiveVaultTemplate} with a {@link VaultEndpoint},
 	 * {@link ClientHttpConnector} and {@link VaultTokenSupplier}.
@@ -97,7 +104,27 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 
 		this.vaultTokenSupplier = vaultTokenSupplier;
 		this.statelessClient = doCreateWebClient(endpointProvider, connector);
-		this.sessionClient = doCreateSessionWebClient(endpointProvider, connector);
+		this.sessionClient = doCreateSessionWebClient(endpointProvider, connector)
+				.mutate()
+				.filter(ReactiveVaultClients.consistency(this.consistencyTracker))
+				.build();
+	}
+
+	/**
+	 * Create a new {@link ReactiveVaultTemplate} with a
+	 * {@link ReactiveVaultEndpointProvider}, {@link ClientHttpConnector} and
+	 * {@link VaultTokenSupplier}. The {@link VaultEndpoint} is resolved without blocking
+	 * for each request.
+	 *
+	 * @param endpointProvider must not be {@literal null}.
+	 * @param connector must not be {@literal null}.
+	 * @param vaultTokenSupplier must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public ReactiveVaultTemplate(ReactiveVaultEndpointProvider endpointProvider,
+			ClientHttpConnector connector, VaultTokenSupplier vaultTokenSupplier) {
+		this(WebClientBuilder.builder().httpConnector(connector)
+				.endpointProvider(endpointProvider), vaultTokenSupplier);
 	}
 
 	/**
@@ -117,6 +144,7 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 		this.vaultTokenSupplier = vaultTokenSupplier;
 		this.statelessClient = webClientBuilder.build();
 		this.sessionClient = webClientBuilder.build().mutate().filter(getSessionFilter())
+				.filter(ReactiveVaultClients.consistency(this.consistencyTracker))
 				.build();
 	}
 
@@ -167,6 +195,20 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 				.endpointProvider(endpointProvider).filter(filter).build();
 	}
 
+	/**
+	 * Set the {@link ConsistencyMode} to apply to session-bound requests. Defaults to
+	 * {@link ConsistencyMode#NONE}. Consistency modes other than
+	 * {@link ConsistencyMode#NONE} track the {@code X-Vault-Index} returned by Vault to
+	 * provide read-after-write consistency when reads are served by performance
+	 * standbys.
+	 *
+	 * @param consistencyMode must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setConsistencyMode(ConsistencyMode consistencyMode) {
+		this.consistencyTracker.setMode(consistencyMode);
+	}
+
 	private ExchangeFilterFunction getSessionFilter() {
 
 		return ofRequestProcessor(
@@ -51,6 +51,7 @@ import org.springframework.vault.support.VaultResponseSupport;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.vault.support.VaultUnsealStatus;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestOperations;
 
 /**
@@ -398,7 +399,8 @@ public class VaultSysTemplate implements VaultSysOperations {
 						"sys/health", HttpMethod.GET, null, VaultHealthImpl.class);
 				return healthResponse.getBody();
 			}
-			catch (HttpStatusCodeException responseError) {
+			// Performance standbys respond with status 473 that is not a HttpStatus.
+			catch (RestClientResponseException responseError) {
 
 				try {
 					ObjectMapper mapper = new ObjectMapper();
@@ -524,6 +526,7 @@ public class VaultSysTemplate implements VaultSysOperations {
 		private final boolean initialized;
 		private final boolean sealed;
 		private final boolean standby;
+		private final boolean performanceStandby;
 		private final int serverTimeUtc;
 
 		@Nullable
@@ -532,12 +535,14 @@ public class VaultSysTemplate implements VaultSysOperations {
 		private VaultHealthImpl(@JsonProperty("initialized") boolean initialized,
 				@JsonProperty("sealed") boolean sealed,
 				@JsonProperty("standby") boolean standby,
+				@JsonProperty("performance_standby") boolean performanceStandby,
 				@JsonProperty("server_time_utc") int serverTimeUtc,
 				@Nullable @JsonProperty("version") String version) {
 
 			this.initialized = initialized;
 			this.sealed = sealed;
 			this.standby = standby;
+			this.performanceStandby = performanceStandby;
 			this.serverTimeUtc = serverTimeUtc;
 			this.version = version;
 		}
@@ -554,6 +559,10 @@ public class VaultSysTemplate implements VaultSysOperations {
 			return this.standby;
 		}
 
+		public boolean isPerformanceStandby() {
+			return this.performanceStandby;
+		}
+
 		public int getServerTimeUtc() {
 			return this.serverTimeUtc;
 		}
@@ -571,13 +580,16 @@ public class VaultSysTemplate implements VaultSysOperations {
 				return false;
 			VaultHealthImpl that = (VaultHealthImpl) o;
 			return initialized == that.initialized && sealed == that.sealed
-					&& standby == that.standby && serverTimeUtc == that.serverTimeUtc
+					&& standby == that.standby
+					&& performanceStandby == that.performanceStandby
+					&& serverTimeUtc == that.serverTimeUtc
 					&& Objects.equals(version, that.version);
 		}
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(initialized, sealed, standby, serverTimeUtc, version);
+			return Objects.hash(initialized, sealed, standby, performanceStandby,
+					serverTimeUtc, version);
 		}
 	}
 }
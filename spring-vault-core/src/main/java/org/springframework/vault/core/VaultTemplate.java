@@ -32,8 +32,11 @@ import org.springframework.util.Assert;
 import org.springframework.vault.authentication.ClientAuthentication;
 import org.springframework.vault.authentication.SessionManager;
 import org.springframework.vault.authentication.SimpleSessionManager;
+import org.springframework.vault.client.ConsistencyMode;
+import org.springframework.vault.client.ConsistencyTracker;
 import org.springframework.vault.client.RestTemplateBuilder;
 import org.springframework.vault.client.SimpleVaultEndpointProvider;
+import org.springframework.vault.client.VaultClients;
 import org.springframework.vault.client.VaultEndpoint;
 import org.springframework.vault.client.VaultEndpointProvider;
 import org.springframework.vault.client.VaultHttpHeaders;
@@ -62,6 +65,9 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 	private final boolean dedicatedSessionManager;
 
+	private final ConsistencyTracker consistencyTracker = new ConsistencyTracker(
+			ConsistencyMode.NONE);
+
 	/**
 	 * Create a new {@link VaultTemplate} with a {@link VaultEndpoint} and
 	 * {@link ClientAuthentication}.
@@ -85,6 +91,8 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 		this.statelessTemplate = doCreateRestTemplate(endpointProvider, requestFactory);
 		this.sessionTemplate = doCreateSessionTemplate(endpointProvider, requestFactory);
+		this.sessionTemplate.getInterceptors().add(
+				VaultClients.createConsistencyInterceptor(this.consistencyTracker));
 	}
 
 	/**
@@ -123,6 +131,8 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 		this.statelessTemplate = doCreateRestTemplate(endpointProvider, requestFactory);
 		this.sessionTemplate = doCreateSessionTemplate(endpointProvider, requestFactory);
+		this.sessionTemplate.getInterceptors().add(
+				VaultClients.createConsistencyInterceptor(this.consistencyTracker));
 	}
 
 	/**
@@ -145,6 +155,8 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		this.statelessTemplate = restTemplateBuilder.build();
 		this.sessionTemplate = restTemplateBuilder.build();
 		this.sessionTemplate.getInterceptors().add(getSessionInterceptor());
+		this.sessionTemplate.getInterceptors().add(
+				VaultClients.createConsistencyInterceptor(this.consistencyTracker));
 	}
 
 	/**
@@ -213,6 +225,20 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		this.sessionManager = sessionManager;
 	}
 
+	/**
+	 * Set the {@link ConsistencyMode} to apply to session-bound requests. Defaults to
+	 * {@link ConsistencyMode#NONE}. Consistency modes other than
+	 * {@link ConsistencyMode#NONE} track the {@code X-Vault-Index} returned by Vault to
+	 * provide read-after-write consistency when reads are served by performance
+	 * standbys.
+	 *
+	 * @param consistencyMode must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public void setConsistencyMode(ConsistencyMode consistencyMode) {
+		this.consistencyTracker.setMode(consistencyMode);
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		Assert.notNull(sessionManager, "SessionManager must not be null");
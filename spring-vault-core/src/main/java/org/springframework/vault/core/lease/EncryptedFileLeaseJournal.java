@@ -0,0 +1,287 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.domain.RequestedSecret.Mode;
+import org.springframework.vault.support.EncryptedFile;
+
+/**
+ * {@link LeaseJournal} storing journal entries in a local file encrypted with
+ * {@literal AES/GCM}. The journal is loaded on first access and rewritten atomically
+ * when its content changes. Recording or updating an entry with unchanged content does
+ * not rewrite the file and changes from concurrent callers are coalesced into a single
+ * write. The file is created with owner-only permissions on file systems that support
+ * POSIX file attributes.
+ * <p>
+ * A journal file that cannot be read or decrypted (e.g. after changing the key) is
+ * ignored and replaced with the next change.
+ *
+ * @author agent
+ * @since 2.2
+ * @see EncryptedFile
+ */
+public class EncryptedFileLeaseJournal implements LeaseJournal {
+
+	private static final Log logger = LogFactory.getLog(EncryptedFileLeaseJournal.class);
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final Object lock = new Object();
+
+	private final Object writeLock = new Object();
+
+	private final EncryptedFile file;
+
+	@Nullable
+	private Map<RequestedSecret, Entry> entries;
+
+	// guarded by lock
+	private long version;
+
+	// guarded by writeLock
+	private long writtenVersion;
+
+	/**
+	 * Create a new {@link EncryptedFileLeaseJournal} given {@link Path} and AES key.
+	 *
+	 * @param file the journal file, must not be {@literal null}.
+	 * @param key the AES key, must not be {@literal null} and must be 16, 24 or 32 bytes
+	 *     long.
+	 */
+	public EncryptedFileLeaseJournal(Path file, byte[] key) {
+
+		Assert.notNull(file, "Journal file must not be null");
+
+		this.file = new EncryptedFile(file, key);
+	}
+
+	/**
+	 * Create a new {@link EncryptedFileLeaseJournal} given {@link Path} and
+	 * {@link SecretKey}.
+	 *
+	 * @param file the journal file, must not be {@literal null}.
+	 * @param key the AES {@link SecretKey}, must not be {@literal null}.
+	 */
+	public EncryptedFileLeaseJournal(Path file, SecretKey key) {
+
+		Assert.notNull(file, "Journal file must not be null");
+
+		this.file = new EncryptedFile(file, key);
+	}
+
+	@Nullable
+	@Override
+	public Entry get(RequestedSecret requestedSecret) {
+
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+
+		synchronized (lock) {
+			return getEntries().get(requestedSecret);
+		}
+	}
+
+	@Override
+	public void record(RequestedSecret requestedSecret, Lease lease,
+			Map<String, Object> secrets) {
+
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+		Assert.notNull(lease, "Lease must not be null");
+		Assert.notNull(secrets, "Secrets must not be null");
+
+		synchronized (lock) {
+
+			Entry entry = getEntries().get(requestedSecret);
+
+			if (entry != null && entry.getLease().equals(lease)
+					&& entry.getSecrets().equals(secrets)) {
+				return;
+			}
+
+			getEntries().put(requestedSecret, Entry.of(lease, secrets));
+			version++;
+		}
+
+		flush();
+	}
+
+	@Override
+	public void update(RequestedSecret requestedSecret, Lease lease) {
+
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+		Assert.notNull(lease, "Lease must not be null");
+
+		synchronized (lock) {
+
+			Entry entry = getEntries().get(requestedSecret);
+
+			if (entry == null || entry.getLease().equals(lease)) {
+				return;
+			}
+
+			getEntries().put(requestedSecret, entry.withLease(lease));
+			version++;
+		}
+
+		flush();
+	}
+
+	@Override
+	public void remove(RequestedSecret requestedSecret) {
+
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+
+		synchronized (lock) {
+
+			if (getEntries().remove(requestedSecret) == null) {
+				return;
+			}
+
+			version++;
+		}
+
+		flush();
+	}
+
+	private Map<RequestedSecret, Entry> getEntries() {
+
+		Map<RequestedSecret, Entry> entries = this.entries;
+
+		if (entries == null) {
+			this.entries = entries = read();
+		}
+
+		return entries;
+	}
+
+	private Map<RequestedSecret, Entry> read() {
+
+		Map<RequestedSecret, Entry> entries = new LinkedHashMap<>();
+
+		try {
+
+			byte[] plaintext = file.read();
+
+			if (plaintext == null) {
+				return entries;
+			}
+
+			List<Map<String, Object>> journal = OBJECT_MAPPER.readValue(plaintext,
+					new TypeReference<List<Map<String, Object>>>() {});
+
+			for (Map<String, Object> item : journal) {
+				readEntry(item, entries);
+			}
+		}
+		catch (IOException | GeneralSecurityException | RuntimeException e) {
+			logger.warn(String.format("Cannot read lease journal %s. Ignoring journal",
+					file.getFile()), e);
+		}
+
+		return entries;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void readEntry(Map<String, Object> item,
+			Map<RequestedSecret, Entry> entries) {
+
+		RequestedSecret requestedSecret = RequestedSecret.from(
+				Mode.valueOf((String) item.get("mode")), (String) item.get("path"));
+
+		Lease lease = Lease.of((String) item.get("lease_id"),
+				Duration.ofSeconds(((Number) item.get("lease_duration")).longValue()),
+				(Boolean) item.get("renewable"));
+
+		entries.put(requestedSecret,
+				Entry.of(lease, (Map<String, Object>) item.get("data")));
+	}
+
+	/**
+	 * Write the current journal state unless a concurrent caller has already written it.
+	 * Serializing writes through {@code writeLock} lets a single write cover all changes
+	 * made while the previous write was in progress.
+	 */
+	private void flush() {
+
+		synchronized (writeLock) {
+
+			long version;
+			List<Map<String, Object>> journal;
+
+			synchronized (lock) {
+
+				if (this.version == this.writtenVersion) {
+					return;
+				}
+
+				version = this.version;
+				journal = toJournal();
+			}
+
+			try {
+				file.write(OBJECT_MAPPER.writeValueAsBytes(journal));
+			}
+			catch (IOException | GeneralSecurityException e) {
+				throw new VaultException(String.format("Cannot write lease journal %s",
+						file.getFile()), e);
+			}
+
+			this.writtenVersion = version;
+		}
+	}
+
+	private List<Map<String, Object>> toJournal() {
+
+		List<Map<String, Object>> journal = new ArrayList<>();
+
+		for (Map.Entry<RequestedSecret, Entry> entry : getEntries().entrySet()) {
+
+			Lease lease = entry.getValue().getLease();
+			Map<String, Object> item = new LinkedHashMap<>();
+
+			item.put("path", entry.getKey().getPath());
+			item.put("mode", entry.getKey().getMode().name());
+			item.put("lease_id", lease.getLeaseId());
+			item.put("lease_duration", lease.getLeaseDuration().getSeconds());
+			item.put("renewable", lease.isRenewable());
+			item.put("data", entry.getValue().getSecrets());
+
+			journal.add(item);
+		}
+
+		return journal;
+	}
+}
@@ -0,0 +1,799 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TaskScheduler} backed by a hashed timing wheel. Intended for
+ * {@link SecretLeaseContainer} instances that manage a large number of leases.
+ * <p>
+ * Scheduled tasks are placed in one of {@code ticksPerWheel} buckets by their deadline.
+ * A single ticker thread advances the wheel every {@code tickDuration} and hands expired
+ * tasks off to a bounded worker pool. Scheduling and cancellation are {@literal O(1)}
+ * operations that do not contend on a shared delay queue. Execution times are
+ * approximate: a task runs on the first tick after its deadline, so the tick duration
+ * defines the scheduling precision.
+ * <p>
+ * The worker pool applies caller-runs semantics once its queue is full. The ticker thread
+ * then runs the expired task itself, which slows down the wheel instead of dropping
+ * renewals.
+ * <p>
+ * Usage example:
+ *
+ * <pre class="code">
+ * HashedWheelTaskScheduler scheduler = new HashedWheelTaskScheduler();
+ *
+ * SecretLeaseContainer container = new SecretLeaseContainer(vaultOperations, scheduler);
+ * </pre>
+ *
+ * The ticker thread is started lazily on the first scheduled task. Instances are
+ * thread-safe.
+ *
+ * @author agent
+ * @since 2.2
+ * @see SecretLeaseContainer#setTaskScheduler(TaskScheduler)
+ */
+public class HashedWheelTaskScheduler implements TaskScheduler, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(HashedWheelTaskScheduler.class);
+
+	private static final AtomicIntegerFieldUpdater<HashedWheelTaskScheduler> STATE_UPDATER = AtomicIntegerFieldUpdater
+			.newUpdater(HashedWheelTaskScheduler.class, "state");
+
+	private static final AtomicInteger poolId = new AtomicInteger();
+
+	private static final int STATE_INIT = 0;
+	private static final int STATE_STARTED = 1;
+	private static final int STATE_SHUTDOWN = 2;
+
+	/**
+	 * Maximum number of newly scheduled tasks transferred into the wheel per tick to
+	 * keep ticks short under scheduling bursts.
+	 */
+	private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+	private final long tickNanos;
+
+	private final Bucket[] wheel;
+
+	private final int mask;
+
+	private final Executor workerExecutor;
+
+	private final boolean manageWorkerExecutor;
+
+	private final Thread tickerThread;
+
+	private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	/**
+	 * Start time of the ticker, initialized by the ticker thread. {@literal 0} indicates
+	 * that the ticker has not started yet.
+	 */
+	private volatile long startTime;
+
+	private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+	// see AtomicIntegerFieldUpdater STATE_UPDATER
+	private volatile int state = STATE_INIT;
+
+	/**
+	 * Create a new {@link HashedWheelTaskScheduler} using a tick duration of 100
+	 * milliseconds, 512 buckets and a worker pool sized to the number of available
+	 * processors.
+	 */
+	public HashedWheelTaskScheduler() {
+		this(Duration.ofMillis(100), 512, Runtime.getRuntime().availableProcessors(),
+				10_000);
+	}
+
+	/**
+	 * Create a new {@link HashedWheelTaskScheduler} with a managed worker pool.
+	 *
+	 * @param tickDuration duration between ticks, must not be {@literal null} and at least
+	 *     one millisecond.
+	 * @param ticksPerWheel number of buckets, rounded up to the next power of two, must
+	 *     be greater than zero.
+	 * @param workerThreads number of worker threads running expired tasks, must be
+	 *     greater than zero.
+	 * @param workerQueueCapacity capacity of the worker queue, must be greater than zero.
+	 */
+	public HashedWheelTaskScheduler(Duration tickDuration, int ticksPerWheel,
+			int workerThreads, int workerQueueCapacity) {
+		this(tickDuration, ticksPerWheel,
+				createWorkerExecutor(workerThreads, workerQueueCapacity), true);
+	}
+
+	/**
+	 * Create a new {@link HashedWheelTaskScheduler} using the given {@link Executor} to
+	 * run expired tasks. The {@link Executor} is not shut down when this scheduler is
+	 * {@link #destroy() destroyed}.
+	 *
+	 * @param tickDuration duration between ticks, must not be {@literal null} and at least
+	 *     one millisecond.
+	 * @param ticksPerWheel number of buckets, rounded up to the next power of two, must
+	 *     be greater than zero.
+	 * @param workerExecutor must not be {@literal null}.
+	 */
+	public HashedWheelTaskScheduler(Duration tickDuration, int ticksPerWheel,
+			Executor workerExecutor) {
+		this(tickDuration, ticksPerWheel, workerExecutor, false);
+	}
+
+	private HashedWheelTaskScheduler(Duration tickDuration, int ticksPerWheel,
+			Executor workerExecutor, boolean manageWorkerExecutor) {
+
+		Assert.notNull(tickDuration, "Tick duration must not be null");
+		Assert.isTrue(tickDuration.toMillis() >= 1,
+				"Tick duration must be at least one millisecond");
+		Assert.isTrue(ticksPerWheel > 0, "Ticks per wheel must be greater than zero");
+		Assert.isTrue(ticksPerWheel <= 1 << 30,
+				"Ticks per wheel must not exceed 2^30");
+		Assert.notNull(workerExecutor, "Worker Executor must not be null");
+
+		int normalizedTicksPerWheel = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+		if (ticksPerWheel == 1) {
+			normalizedTicksPerWheel = 1;
+		}
+
+		this.tickNanos = tickDuration.toNanos();
+		this.wheel = new Bucket[normalizedTicksPerWheel];
+		for (int i = 0; i < this.wheel.length; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = this.wheel.length - 1;
+		this.workerExecutor = workerExecutor;
+		this.manageWorkerExecutor = manageWorkerExecutor;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+				String.format("%s-%d-ticker", getClass().getSimpleName(),
+						poolId.incrementAndGet()));
+		threadFactory.setDaemon(true);
+		this.tickerThread = threadFactory.newThread(new Ticker());
+	}
+
+	private static ExecutorService createWorkerExecutor(int workerThreads,
+			int workerQueueCapacity) {
+
+		Assert.isTrue(workerThreads > 0, "Worker threads must be greater than zero");
+		Assert.isTrue(workerQueueCapacity > 0,
+				"Worker queue capacity must be greater than zero");
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+				String.format("%s-worker-",
+						HashedWheelTaskScheduler.class.getSimpleName()));
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(workerThreads,
+				workerThreads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(workerQueueCapacity), threadFactory,
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * @return the number of tasks scheduled in the wheel or awaiting transfer into the
+	 * wheel.
+	 */
+	public int getPendingTaskCount() {
+		return pendingCount.get();
+	}
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+
+		Assert.notNull(task, "Task must not be null");
+		Assert.notNull(trigger, "Trigger must not be null");
+
+		return new ReschedulingTask(errorHandling(task, true), trigger).schedule();
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+
+		Assert.notNull(task, "Task must not be null");
+		Assert.notNull(startTime, "Start time must not be null");
+
+		return newTimeout(errorHandling(task, false),
+				startTime.getTime() - System.currentTimeMillis());
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime,
+			long period) {
+		return schedule(task, periodicTrigger(period, true,
+				startTime.getTime() - System.currentTimeMillis()));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+		return schedule(task, periodicTrigger(period, true, 0));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime,
+			long delay) {
+		return schedule(task, periodicTrigger(delay, false,
+				startTime.getTime() - System.currentTimeMillis()));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+		return schedule(task, periodicTrigger(delay, false, 0));
+	}
+
+	/**
+	 * Stop the ticker thread, cancel pending tasks and shut down the managed worker pool.
+	 * The ticker thread cancels pending tasks on exit and this method awaits its
+	 * termination. Tasks that have already been handed off to the worker pool run to
+	 * completion.
+	 */
+	@Override
+	public void destroy() {
+
+		int previous = STATE_UPDATER.getAndSet(this, STATE_SHUTDOWN);
+
+		if (previous == STATE_STARTED) {
+
+			tickerThread.interrupt();
+
+			if (Thread.currentThread() != tickerThread) {
+				try {
+					tickerThread.join();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		else if (previous == STATE_INIT) {
+
+			// release callers awaiting a ticker that is never going to start.
+			startTimeInitialized.countDown();
+			cancelPendingTimeouts();
+		}
+
+		if (manageWorkerExecutor) {
+			((ExecutorService) workerExecutor).shutdown();
+		}
+	}
+
+	private static PeriodicTrigger periodicTrigger(long period, boolean fixedRate,
+			long initialDelay) {
+
+		PeriodicTrigger trigger = new PeriodicTrigger(period, TimeUnit.MILLISECONDS);
+		trigger.setFixedRate(fixedRate);
+		trigger.setInitialDelay(Math.max(0, initialDelay));
+
+		return trigger;
+	}
+
+	private static Runnable errorHandling(Runnable task, boolean repeating) {
+		return TaskUtils.decorateTaskWithErrorHandler(task, null, repeating);
+	}
+
+	WheelTimeout newTimeout(Runnable task, long delayMillis) {
+
+		Assert.state(state != STATE_SHUTDOWN, "HashedWheelTaskScheduler is shut down");
+
+		start();
+
+		long deadline = System.nanoTime()
+				+ TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis)) - startTime;
+
+		WheelTimeout timeout = new WheelTimeout(task, deadline);
+		pendingCount.incrementAndGet();
+		pendingTimeouts.add(timeout);
+
+		// the ticker might have drained pending timeouts concurrently.
+		if (state == STATE_SHUTDOWN && pendingTimeouts.remove(timeout)) {
+			pendingCount.decrementAndGet();
+			timeout.cancel(false);
+		}
+
+		return timeout;
+	}
+
+	private void cancelPendingTimeouts() {
+
+		WheelTimeout timeout;
+		while ((timeout = pendingTimeouts.poll()) != null) {
+			pendingCount.decrementAndGet();
+			timeout.cancel(false);
+		}
+	}
+
+	private void start() {
+
+		if (state == STATE_INIT && STATE_UPDATER.compareAndSet(this, STATE_INIT,
+				STATE_STARTED)) {
+			tickerThread.start();
+		}
+
+		// Concurrent callers observe STARTED before the ticker has initialized its start
+		// time. Wait for it to compute deadlines relative to the actual start time.
+		boolean interrupted = false;
+		while (startTimeInitialized.getCount() != 0) {
+			try {
+				startTimeInitialized.await();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Ticker loop advancing the wheel.
+	 */
+	private class Ticker implements Runnable {
+
+		private long tick;
+
+		@Override
+		public void run() {
+
+			long now = System.nanoTime();
+
+			// 0 indicates an uninitialized start time.
+			startTime = now == 0 ? 1 : now;
+			startTimeInitialized.countDown();
+
+			while (state == STATE_STARTED) {
+
+				long deadline = waitForNextTick();
+
+				if (deadline < 0) {
+					break;
+				}
+
+				Bucket bucket = wheel[(int) (tick & mask)];
+
+				processCancelledTimeouts();
+				transferTimeoutsToBuckets();
+				bucket.expireTimeouts(deadline);
+
+				tick++;
+			}
+
+			// buckets are confined to the ticker thread, drain them before exiting.
+			for (Bucket bucket : wheel) {
+				bucket.cancelAll();
+			}
+
+			cancelPendingTimeouts();
+			cancelledTimeouts.clear();
+		}
+
+		/**
+		 * Sleep until the next tick is due.
+		 *
+		 * @return the current time relative to the start time or {@literal -1} if the
+		 * scheduler was shut down.
+		 */
+		private long waitForNextTick() {
+
+			long deadline = tickNanos * (tick + 1);
+
+			for (;;) {
+
+				long currentTime = System.nanoTime() - startTime;
+				long sleepMillis = (deadline - currentTime + 999_999) / 1_000_000;
+
+				if (sleepMillis <= 0) {
+					return currentTime;
+				}
+
+				try {
+					Thread.sleep(sleepMillis);
+				}
+				catch (InterruptedException e) {
+					if (state == STATE_SHUTDOWN) {
+						return -1;
+					}
+				}
+			}
+		}
+
+		private void transferTimeoutsToBuckets() {
+
+			for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+
+				WheelTimeout timeout = pendingTimeouts.poll();
+
+				if (timeout == null) {
+					break;
+				}
+
+				if (timeout.isCancelled()) {
+					pendingCount.decrementAndGet();
+					continue;
+				}
+
+				long calculated = timeout.deadline / tickNanos;
+				timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+				// Ensure we don't schedule for the past.
+				long ticks = Math.max(calculated, tick);
+				wheel[(int) (ticks & mask)].add(timeout);
+			}
+		}
+
+		private void processCancelledTimeouts() {
+
+			WheelTimeout timeout;
+			while ((timeout = cancelledTimeouts.poll()) != null) {
+				timeout.remove();
+			}
+		}
+	}
+
+	/**
+	 * Bucket of the wheel holding a doubly-linked list of {@link WheelTimeout}s. Only
+	 * accessed by the ticker thread.
+	 */
+	private class Bucket {
+
+		@Nullable
+		private WheelTimeout head;
+
+		@Nullable
+		private WheelTimeout tail;
+
+		void add(WheelTimeout timeout) {
+
+			timeout.bucket = this;
+
+			if (head == null) {
+				head = tail = timeout;
+			}
+			else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		void expireTimeouts(long deadline) {
+
+			WheelTimeout timeout = head;
+
+			while (timeout != null) {
+
+				WheelTimeout next = timeout.next;
+
+				if (timeout.remainingRounds <= 0) {
+
+					remove(timeout);
+
+					if (timeout.deadline <= deadline) {
+						timeout.expire();
+					}
+					else {
+						// placed into a wrong slot, schedule again.
+						pendingCount.incrementAndGet();
+						pendingTimeouts.add(timeout);
+					}
+				}
+				else if (timeout.isCancelled()) {
+					remove(timeout);
+				}
+				else {
+					timeout.remainingRounds--;
+				}
+
+				timeout = next;
+			}
+		}
+
+		void cancelAll() {
+
+			WheelTimeout timeout = head;
+
+			while (timeout != null) {
+				WheelTimeout next = timeout.next;
+				remove(timeout);
+				timeout.cancel(false);
+				timeout = next;
+			}
+		}
+
+		void remove(WheelTimeout timeout) {
+
+			WheelTimeout next = timeout.next;
+
+			if (timeout.prev != null) {
+				timeout.prev.next = next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			}
+
+			if (timeout == head) {
+				if (timeout == tail) {
+					tail = null;
+					head = null;
+				}
+				else {
+					head = next;
+				}
+			}
+			else if (timeout == tail) {
+				tail = timeout.prev;
+			}
+
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+
+			pendingCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * A single scheduled execution within the wheel.
+	 */
+	class WheelTimeout extends FutureTask<Object> implements ScheduledFuture<Object> {
+
+		// deadline in nanoseconds relative to the scheduler start time.
+		private final long deadline;
+
+		// fields below are accessed only by the ticker thread.
+		long remainingRounds;
+
+		@Nullable
+		WheelTimeout next;
+
+		@Nullable
+		WheelTimeout prev;
+
+		@Nullable
+		Bucket bucket;
+
+		WheelTimeout(Runnable task, long deadline) {
+			super(task, null);
+			this.deadline = deadline;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+			if (cancelled) {
+				cancelledTimeouts.add(this);
+			}
+
+			return cancelled;
+		}
+
+		void remove() {
+
+			if (bucket != null) {
+				bucket.remove(this);
+			}
+		}
+
+		void expire() {
+
+			if (isCancelled()) {
+				return;
+			}
+
+			try {
+				workerExecutor.execute(this);
+			}
+			catch (RejectedExecutionException e) {
+				log.warn("Worker Executor rejected expired task", e);
+			}
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(deadline - (System.nanoTime() - startTime),
+					TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+
+			if (this == other) {
+				return 0;
+			}
+
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS),
+					other.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+
+	/**
+	 * {@link Runnable} that reschedules itself according to its {@link Trigger}.
+	 */
+	private class ReschedulingTask implements Runnable, ScheduledFuture<Object> {
+
+		private final Runnable delegate;
+
+		private final Trigger trigger;
+
+		private final SimpleTriggerContext triggerContext = new SimpleTriggerContext();
+
+		private final Object monitor = new Object();
+
+		@Nullable
+		private Date scheduledExecutionTime;
+
+		@Nullable
+		private WheelTimeout current;
+
+		ReschedulingTask(Runnable delegate, Trigger trigger) {
+			this.delegate = delegate;
+			this.trigger = trigger;
+		}
+
+		@Nullable
+		ScheduledFuture<?> schedule() {
+
+			synchronized (this.monitor) {
+
+				this.scheduledExecutionTime = this.trigger
+						.nextExecutionTime(this.triggerContext);
+
+				if (this.scheduledExecutionTime == null) {
+					return null;
+				}
+
+				this.current = newTimeout(this, this.scheduledExecutionTime.getTime()
+						- System.currentTimeMillis());
+
+				return this;
+			}
+		}
+
+		@Override
+		public void run() {
+
+			Date actualExecutionTime = new Date();
+			this.delegate.run();
+			Date completionTime = new Date();
+
+			synchronized (this.monitor) {
+
+				Assert.state(this.scheduledExecutionTime != null,
+						"No scheduled execution");
+				this.triggerContext.update(this.scheduledExecutionTime,
+						actualExecutionTime, completionTime);
+
+				if (!obtainCurrentTimeout().isCancelled() && state != STATE_SHUTDOWN) {
+					schedule();
+				}
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+
+			synchronized (this.monitor) {
+				return obtainCurrentTimeout().cancel(mayInterruptIfRunning);
+			}
+		}
+
+		@Override
+		public boolean isCancelled() {
+
+			synchronized (this.monitor) {
+				return obtainCurrentTimeout().isCancelled();
+			}
+		}
+
+		@Override
+		public boolean isDone() {
+
+			synchronized (this.monitor) {
+				return obtainCurrentTimeout().isDone();
+			}
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException {
+
+			WheelTimeout current;
+			synchronized (this.monitor) {
+				current = obtainCurrentTimeout();
+			}
+			return current.get();
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+
+			WheelTimeout current;
+			synchronized (this.monitor) {
+				current = obtainCurrentTimeout();
+			}
+			return current.get(timeout, unit);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+
+			WheelTimeout current;
+			synchronized (this.monitor) {
+				current = obtainCurrentTimeout();
+			}
+			return current.getDelay(unit);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+
+			if (this == other) {
+				return 0;
+			}
+
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS),
+					other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		private WheelTimeout obtainCurrentTimeout() {
+
+			Assert.state(this.current != null, "No scheduled future");
+			return this.current;
+		}
+	}
+}
@@ -39,12 +39,12 @@ public enum LeaseEndpoints {
 	/**
 	 * Legacy endpoints prior to Vault 0.8 ({@literal /sys/renew},{@literal /sys/revoke}).
 	 */
-	Legacy {
+	Legacy("sys/renew", "sys/revoke", "sys/leases/lookup", "sys/revoke-prefix") {
 
 		@Override
 		public void revoke(Lease lease, RestOperations operations) {
 
-			operations.exchange("sys/revoke", HttpMethod.PUT,
+			operations.exchange(getRevokePath(), HttpMethod.PUT,
 					LeaseEndpoints.getLeaseRevocationBody(lease), Map.class,
 					lease.getLeaseId());
 		}
@@ -56,7 +56,7 @@ public enum LeaseEndpoints {
 			HttpEntity<Object> leaseRenewalEntity = getLeaseRenewalBody(lease);
 
 			ResponseEntity<Map<String, Object>> entity = (ResponseEntity) operations
-					.exchange("sys/renew", HttpMethod.PUT, leaseRenewalEntity, Map.class);
+					.exchange(getRenewPath(), HttpMethod.PUT, leaseRenewalEntity, Map.class);
 
 			Assert.state(entity != null && entity.getBody() != null,
 					"Renew response must not be null");
@@ -68,12 +68,13 @@ public enum LeaseEndpoints {
 	/**
 	 * Sys/lease endpoints for Vault 0.8 and higher ({@literal /sys/leases/…}).
 	 */
-	SysLeases {
+	SysLeases("sys/leases/renew", "sys/leases/revoke", "sys/leases/lookup",
+			"sys/leases/revoke-prefix") {
 
 		@Override
 		public void revoke(Lease lease, RestOperations operations) {
 
-			operations.exchange("sys/leases/revoke", HttpMethod.PUT,
+			operations.exchange(getRevokePath(), HttpMethod.PUT,
 					LeaseEndpoints.getLeaseRevocationBody(lease), Map.class,
 					lease.getLeaseId());
 		}
@@ -85,7 +86,7 @@ public enum LeaseEndpoints {
 			HttpEntity<Object> leaseRenewalEntity = getLeaseRenewalBody(lease);
 
 			ResponseEntity<Map<String, Object>> entity = (ResponseEntity) operations
-					.exchange("sys/leases/renew", HttpMethod.PUT, leaseRenewalEntity,
+					.exchange(getRenewPath(), HttpMethod.PUT, leaseRenewalEntity,
 							Map.class);
 
 			Assert.state(entity != null && entity.getBody() != null,
@@ -95,6 +96,54 @@ public enum LeaseEndpoints {
 		}
 	};
 
+	private final String renewPath;
+
+	private final String revokePath;
+
+	private final String lookupPath;
+
+	private final String revokePrefixPath;
+
+	LeaseEndpoints(String renewPath, String revokePath, String lookupPath,
+			String revokePrefixPath) {
+		this.renewPath = renewPath;
+		this.revokePath = revokePath;
+		this.lookupPath = lookupPath;
+		this.revokePrefixPath = revokePrefixPath;
+	}
+
+	/**
+	 * @return the path of the lease renewal endpoint.
+	 * @since 2.2
+	 */
+	String getRenewPath() {
+		return renewPath;
+	}
+
+	/**
+	 * @return the path of the lease revocation endpoint.
+	 * @since 2.2
+	 */
+	String getRevokePath() {
+		return revokePath;
+	}
+
+	/**
+	 * @return the path of the lease lookup endpoint.
+	 * @since 2.2
+	 */
+	String getLookupPath() {
+		return lookupPath;
+	}
+
+	/**
+	 * @return the path of the prefix-based lease revocation endpoint.
+	 * @since 2.2
+	 */
+	String getRevokePrefixPath() {
+		return revokePrefixPath;
+	}
+
 	/**
 	 * Revoke a {@link Lease}.
 	 *
@@ -112,7 +161,52 @@ public enum LeaseEndpoints {
 	 */
 	abstract Lease renew(Lease lease, RestOperations operations);
 
-	private static Lease toLease(Map<String, Object> body) {
+	/**
+	 * Revoke all leases whose lease Id starts with {@code prefix}. Prefix-based
+	 * revocation requires {@literal sudo} capability.
+	 *
+	 * @param prefix must not be {@literal null} or empty.
+	 * @param operations must not be {@literal null}.
+	 * @since 2.2
+	 */
+	void revokePrefix(String prefix, RestOperations operations) {
+		operations.put(String.format("%s/%s", getRevokePrefixPath(), prefix), null);
+	}
+
+	/**
+	 * Look up a {@link Lease} and return the {@link Lease} with its remaining time to
+	 * live. Lease lookup uses {@literal sys/leases/lookup} which requires Vault 0.8 or
+	 * higher regardless of the endpoints used for renewal and revocation.
+	 *
+	 * @param lease must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @return the {@link Lease} with its remaining time to live.
+	 * @since 2.2
+	 */
+	@SuppressWarnings("unchecked")
+	Lease lookup(Lease lease, RestOperations operations) {
+
+		ResponseEntity<Map<String, Object>> entity = (ResponseEntity) operations
+				.exchange(getLookupPath(), HttpMethod.PUT,
+						getLeaseLookupBody(lease), Map.class);
+
+		Assert.state(entity != null && entity.getBody() != null,
+				"Lookup response must not be null");
+
+		Map<String, Object> data = (Map<String, Object>) entity.getBody().get("data");
+
+		Assert.state(data != null, "Lookup response must contain data");
+
+		String leaseId = (String) data.get("id");
+		Number ttl = (Number) data.get("ttl");
+		Boolean renewable = (Boolean) data.get("renewable");
+
+		return Lease.of(leaseId != null ? leaseId : lease.getLeaseId(),
+				Duration.ofSeconds(ttl != null ? ttl.longValue() : 0),
+				renewable != null && renewable);
+	}
+
+	static Lease toLease(Map<String, Object> body) {
 
 		String leaseId = (String) body.get("lease_id");
 		Number leaseDuration = (Number) body.get("lease_duration");
@@ -123,7 +217,7 @@ public enum LeaseEndpoints {
 				renewable);
 	}
 
-	private static HttpEntity<Object> getLeaseRenewalBody(Lease lease) {
+	static HttpEntity<Object> getLeaseRenewalBody(Lease lease) {
 
 		Map<String, String> leaseRenewalData = new HashMap<>();
 		leaseRenewalData.put("lease_id", lease.getLeaseId());
@@ -133,11 +227,19 @@ public enum LeaseEndpoints {
 		return new HttpEntity<>(leaseRenewalData);
 	}
 
-	private static HttpEntity<Object> getLeaseRevocationBody(Lease lease) {
+	static HttpEntity<Object> getLeaseRevocationBody(Lease lease) {
 
 		Map<String, String> leaseRenewalData = new HashMap<>();
 		leaseRenewalData.put("lease_id", lease.getLeaseId());
 
 		return new HttpEntity<>(leaseRenewalData);
 	}
+
+	static HttpEntity<Object> getLeaseLookupBody(Lease lease) {
+
+		Map<String, String> leaseLookupData = new HashMap<>();
+		leaseLookupData.put("lease_id", lease.getLeaseId());
+
+		return new HttpEntity<>(leaseLookupData);
+	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+/**
+ * Journal to retain {@link Lease}s and their secrets across restarts of a
+ * {@link SecretLeaseContainer}. A container configured with a {@link LeaseJournal}
+ * records obtained secrets and renewed leases. Upon {@link SecretLeaseContainer#start()
+ * start}, the container looks up journaled leases and resumes renewal of leases that
+ * are still valid instead of requesting new secrets.
+ * <p>
+ * Implementations must be thread-safe. Journals store secrets and should therefore
+ * protect their storage accordingly.
+ *
+ * @author agent
+ * @since 2.2
+ * @see EncryptedFileLeaseJournal
+ * @see SecretLeaseContainer#setLeaseJournal(LeaseJournal)
+ */
+public interface LeaseJournal {
+
+	/**
+	 * Retrieve the journaled {@link Entry} for a {@link RequestedSecret}.
+	 *
+	 * @param requestedSecret must not be {@literal null}.
+	 * @return the journaled {@link Entry} or {@literal null} if the journal has no entry
+	 * for {@link RequestedSecret}.
+	 */
+	@Nullable
+	Entry get(RequestedSecret requestedSecret);
+
+	/**
+	 * Record secrets along with their {@link Lease}. Replaces a previously recorded
+	 * entry.
+	 *
+	 * @param requestedSecret must not be {@literal null}.
+	 * @param lease must not be {@literal null}.
+	 * @param secrets must not be {@literal null}.
+	 */
+	void record(RequestedSecret requestedSecret, Lease lease, Map<String, Object> secrets);
+
+	/**
+	 * Update the {@link Lease} of a previously recorded entry after lease renewal. This
+	 * method is a no-op if the journal has no entry for {@link RequestedSecret}.
+	 *
+	 * @param requestedSecret must not be {@literal null}.
+	 * @param lease must not be {@literal null}.
+	 */
+	void update(RequestedSecret requestedSecret, Lease lease);
+
+	/**
+	 * Remove the entry for a {@link RequestedSecret} after its lease was revoked or has
+	 * expired.
+	 *
+	 * @param requestedSecret must not be {@literal null}.
+	 */
+	void remove(RequestedSecret requestedSecret);
+
+	/**
+	 * Journal entry holding a {@link Lease} and its secrets.
+	 */
+	final class Entry {
+
+		private final Lease lease;
+
+		private final Map<String, Object> secrets;
+
+		private Entry(Lease lease, Map<String, Object> secrets) {
+			this.lease = lease;
+			this.secrets = secrets;
+		}
+
+		/**
+		 * Create a new {@link Entry} given {@link Lease} and {@code secrets}.
+		 *
+		 * @param lease must not be {@literal null}.
+		 * @param secrets must not be {@literal null}.
+		 * @return the {@link Entry}.
+		 */
+		public static Entry of(Lease lease, Map<String, Object> secrets) {
+
+			Assert.notNull(lease, "Lease must not be null");
+			Assert.notNull(secrets, "Secrets must not be null");
+
+			return new Entry(lease,
+					Collections.unmodifiableMap(new LinkedHashMap<>(secrets)));
+		}
+
+		/**
+		 * @return the journaled {@link Lease}. Its lease duration reflects the duration
+		 * at the time of recording.
+		 */
+		public Lease getLease() {
+			return lease;
+		}
+
+		/**
+		 * @return the journaled secrets.
+		 */
+		public Map<String, Object> getSecrets() {
+			return secrets;
+		}
+
+		/**
+		 * Create a new {@link Entry} retaining secrets using the given {@link Lease}.
+		 *
+		 * @param lease must not be {@literal null}.
+		 * @return the new {@link Entry}.
+		 */
+		public Entry withLease(Lease lease) {
+
+			Assert.notNull(lease, "Lease must not be null");
+
+			return new Entry(lease, secrets);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+/**
+ * Instrumentation callback for {@link SecretLeaseContainer}. The container reports the
+ * outcome and latency of lease renewal, revocation and secret rotation to
+ * {@link LeaseMetrics}. Implementations can additionally {@link #bindTo bind} to the
+ * container to expose gauges such as the remaining time until a lease expires (see
+ * {@link SecretLeaseContainer#getTimeToExpiry(RequestedSecret)}) or the number of
+ * scheduled renewal tasks (see {@link SecretLeaseContainer#getScheduledTaskCount()}).
+ * <p>
+ * Callbacks are invoked on the thread performing the operation and should therefore
+ * return quickly. All methods default to no-op.
+ *
+ * @author agent
+ * @since 2.2
+ * @see MicrometerLeaseMetrics
+ * @see SecretLeaseContainer#setLeaseMetrics(LeaseMetrics)
+ */
+public interface LeaseMetrics {
+
+	/**
+	 * Bind to the {@link SecretLeaseContainer} that reports to this {@link LeaseMetrics}.
+	 * Called once the container is {@link SecretLeaseContainer#afterPropertiesSet()
+	 * initialized}.
+	 *
+	 * @param container the reporting {@link SecretLeaseContainer}.
+	 */
+	default void bindTo(SecretLeaseContainer container) {}
+
+	/**
+	 * Called after secrets were obtained for a {@link RequestedSecret}.
+	 *
+	 * @param requestedSecret the requested secret.
+	 * @param lease the {@link Lease} associated with the secrets.
+	 */
+	default void secretsObtained(RequestedSecret requestedSecret, Lease lease) {}
+
+	/**
+	 * Record a lease renewal.
+	 *
+	 * @param requestedSecret the requested secret.
+	 * @param latency time spent renewing the lease.
+	 * @param successful whether the lease was renewed.
+	 */
+	default void recordRenewal(RequestedSecret requestedSecret, Duration latency,
+			boolean successful) {}
+
+	/**
+	 * Record a lease revocation.
+	 *
+	 * @param requestedSecret the requested secret.
+	 * @param latency time spent revoking the lease.
+	 * @param successful whether the lease was revoked.
+	 */
+	default void recordRevocation(RequestedSecret requestedSecret, Duration latency,
+			boolean successful) {}
+
+	/**
+	 * Record a secret rotation.
+	 *
+	 * @param requestedSecret the requested secret.
+	 * @param latency time spent obtaining the rotated secrets.
+	 * @param successful whether rotated secrets were obtained.
+	 */
+	default void recordRotation(RequestedSecret requestedSecret, Duration latency,
+			boolean successful) {}
+
+	/**
+	 * Return a {@link LeaseMetrics} instance that does not record anything.
+	 *
+	 * @return a no-op {@link LeaseMetrics}.
+	 */
+	static LeaseMetrics none() {
+		return new LeaseMetrics() {};
+	}
+}
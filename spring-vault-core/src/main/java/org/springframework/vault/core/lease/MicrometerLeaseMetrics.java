@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+/**
+ * {@link LeaseMetrics} implementation recording metrics to a Micrometer
+ * {@link MeterRegistry}. This class requires Micrometer on the class path and records:
+ * <ul>
+ * <li>{@literal vault.lease.renewal}, {@literal vault.lease.revocation} and
+ * {@literal vault.lease.rotation}: latency {@link Timer timers} with percentile
+ * histograms tagged with the {@literal outcome} ({@literal success} or
+ * {@literal failure}).</li>
+ * <li>{@literal vault.lease.time-to-expiry}: {@link TimeGauge} reporting the remaining
+ * time until the next lease expires.</li>
+ * <li>{@literal vault.lease.active}: {@link Gauge} reporting the number of active
+ * leases.</li>
+ * <li>{@literal vault.lease.scheduled}: {@link Gauge} reporting the number of
+ * scheduled renewal and rotation tasks.</li>
+ * <li>{@literal vault.lease.events.pending} and {@literal vault.lease.events.dropped}:
+ * {@link Gauge} and {@link FunctionCounter} reporting pending and dropped events when
+ * dispatching events asynchronously.</li>
+ * </ul>
+ * A {@link MicrometerLeaseMetrics} instance is intended to be used with a single
+ * {@link SecretLeaseContainer}. Use {@link Tag tags} to distinguish metrics of multiple
+ * containers.
+ * <p>
+ * Timers can be additionally tagged with the secret {@literal path} through
+ * {@link #setPathTagEnabled(boolean)}. Each secret path creates its own set of timers, so
+ * path-tagged timers do not publish percentile histograms to keep the number of time
+ * series bounded.
+ *
+ * @author agent
+ * @since 2.2
+ */
+public class MicrometerLeaseMetrics implements LeaseMetrics {
+
+	private final MeterRegistry registry;
+
+	private final Tags tags;
+
+	private volatile boolean pathTagEnabled = false;
+
+	/**
+	 * Create a new {@link MicrometerLeaseMetrics} given {@link MeterRegistry}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public MicrometerLeaseMetrics(MeterRegistry registry) {
+		this(registry, Tags.empty());
+	}
+
+	/**
+	 * Create a new {@link MicrometerLeaseMetrics} given {@link MeterRegistry} and
+	 * {@link Tag tags} to apply to all meters.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param tags must not be {@literal null}.
+	 */
+	public MicrometerLeaseMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null");
+		Assert.notNull(tags, "Tags must not be null");
+
+		this.registry = registry;
+		this.tags = Tags.of(tags);
+	}
+
+	/**
+	 * Enable or disable tagging timers with the secret {@literal path}. Disabled by
+	 * default.
+	 *
+	 * @param pathTagEnabled {@literal true} to tag timers with the secret
+	 *     {@literal path}.
+	 */
+	public void setPathTagEnabled(boolean pathTagEnabled) {
+		this.pathTagEnabled = pathTagEnabled;
+	}
+
+	@Override
+	public void bindTo(SecretLeaseContainer container) {
+
+		Gauge.builder("vault.lease.active", container,
+				SecretLeaseContainer::getActiveLeaseCount) //
+				.tags(tags) //
+				.description("Number of active leases") //
+				.register(registry);
+
+		Gauge.builder("vault.lease.scheduled", container,
+				SecretLeaseContainer::getScheduledTaskCount) //
+				.tags(tags) //
+				.description("Number of scheduled lease renewal and rotation tasks") //
+				.register(registry);
+
+		Gauge.builder("vault.lease.events.pending", container,
+				SecretLeaseContainer::getPendingEventCount) //
+				.tags(tags) //
+				.description("Number of lease events awaiting asynchronous dispatch") //
+				.register(registry);
+
+		FunctionCounter.builder("vault.lease.events.dropped", container,
+				SecretLeaseContainer::getDroppedEventCount) //
+				.tags(tags) //
+				.description("Number of lease events dropped due to a full event queue") //
+				.register(registry);
+
+		TimeGauge.builder("vault.lease.time-to-expiry", container, TimeUnit.MILLISECONDS,
+				it -> {
+
+					Duration timeToExpiry = it.getMinimumTimeToExpiry();
+					return timeToExpiry != null ? timeToExpiry.toMillis() : Double.NaN;
+				}) //
+				.tags(tags) //
+				.description("Remaining time until the next lease expires") //
+				.register(registry);
+	}
+
+	@Override
+	public void recordRenewal(RequestedSecret requestedSecret, Duration latency,
+			boolean successful) {
+		timer("vault.lease.renewal", requestedSecret, successful).record(latency);
+	}
+
+	@Override
+	public void recordRevocation(RequestedSecret requestedSecret, Duration latency,
+			boolean successful) {
+		timer("vault.lease.revocation", requestedSecret, successful).record(latency);
+	}
+
+	@Override
+	public void recordRotation(RequestedSecret requestedSecret, Duration latency,
+			boolean successful) {
+		timer("vault.lease.rotation", requestedSecret, successful).record(latency);
+	}
+
+	private Timer timer(String name, RequestedSecret requestedSecret,
+			boolean successful) {
+
+		Timer.Builder builder = Timer.builder(name) //
+				.tags(tags) //
+				.tag("outcome", successful ? "success" : "failure");
+
+		if (pathTagEnabled) {
+			builder.tag("path", requestedSecret.getPath());
+		}
+		else {
+			builder.publishPercentileHistogram();
+		}
+
+		return builder.register(registry);
+	}
+}
@@ -0,0 +1,847 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.client.VaultResponses;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.domain.RequestedSecret.Mode;
+import org.springframework.vault.core.lease.event.LeaseErrorListener;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
+import org.springframework.vault.support.LeaseStrategy;
+import org.springframework.vault.support.RenewalJitter;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Reactive event-based container to request secrets from Vault and renew the associated
+ * {@link Lease} using {@link ReactiveVaultOperations}. Secrets can be rotated, depending
+ * on the requested {@link RequestedSecret#getMode()}.
+ * <p>
+ * This container is the non-blocking counterpart to {@link SecretLeaseContainer}. Lease
+ * renewal and rotation are scheduled with Reactor timers on a {@link Scheduler} (defaults
+ * to {@link Schedulers#parallel()}) and Vault interaction uses {@link WebClient} so
+ * renewals do not occupy a thread while waiting for a response.
+ *
+ * Usage example:
+ *
+ * <pre>
+ * <code>
+ * ReactiveSecretLeaseContainer container = new ReactiveSecretLeaseContainer(
+ * 		reactiveVaultOperations);
+ *
+ * RequestedSecret requestedSecret = container
+ * 		.requestRotatingSecret("mysql/creds/my-role");
+ *
+ * container.events().filter(event -&gt; event.getSource() == requestedSecret)
+ * 		.ofType(SecretLeaseCreatedEvent.class).subscribe(event -&gt; {
+ * 			// …
+ * 		});
+ *
+ * container.afterPropertiesSet();
+ * container.start(); // events are triggered after starting the container
+ * </code>
+ * </pre>
+ * <p>
+ * The container dispatches lease events to {@link LeaseListener} and
+ * {@link LeaseErrorListener} and exposes these through {@link #events()}. Event
+ * notifications are dispatched on threads of the {@link Scheduler} or the I/O threads of
+ * the underlying HTTP client.
+ * <p>
+ * Instances are thread-safe once {@link #afterPropertiesSet() initialized}.
+ *
+ * @author agent
+ * @since 2.2
+ * @see SecretLeaseContainer
+ * @see RequestedSecret
+ * @see ReactiveVaultOperations
+ */
+public class ReactiveSecretLeaseContainer extends SecretLeaseEventPublisher
+		implements InitializingBean, DisposableBean {
+
+	private static final AtomicIntegerFieldUpdater<ReactiveSecretLeaseContainer> UPDATER = AtomicIntegerFieldUpdater
+			.newUpdater(ReactiveSecretLeaseContainer.class, "status");
+
+	private static final int STATUS_INITIAL = 0;
+	private static final int STATUS_STARTED = 1;
+	private static final int STATUS_DESTROYED = 2;
+
+	private static final Log log = LogFactory.getLog(ReactiveSecretLeaseContainer.class);
+
+	private final List<RequestedSecret> requestedSecrets = new CopyOnWriteArrayList<>();
+
+	private final Map<RequestedSecret, LeaseRenewalScheduler> renewals = new ConcurrentHashMap<>();
+
+	private final ReactiveVaultOperations operations;
+
+	private LeaseEndpoints leaseEndpoints = LeaseEndpoints.Legacy;
+
+	private Duration minRenewal = Duration.ofSeconds(10);
+
+	private Duration expiryThreshold = Duration.ofSeconds(60);
+
+	private Duration revocationTimeout = Duration.ofSeconds(10);
+
+	private LeaseStrategy leaseStrategy = LeaseStrategy.dropOnError();
+
+	private RenewalJitter renewalJitter = RenewalJitter.none();
+
+	private Scheduler scheduler = Schedulers.parallel();
+
+	private volatile boolean initialized;
+
+	private volatile int status = STATUS_INITIAL;
+
+	/**
+	 * Create a new {@link ReactiveSecretLeaseContainer} given
+	 * {@link ReactiveVaultOperations}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public ReactiveSecretLeaseContainer(ReactiveVaultOperations operations) {
+
+		Assert.notNull(operations, "ReactiveVaultOperations must not be null");
+
+		this.operations = operations;
+	}
+
+	/**
+	 * Create a new {@link ReactiveSecretLeaseContainer} given
+	 * {@link ReactiveVaultOperations} and {@link Scheduler}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 */
+	public ReactiveSecretLeaseContainer(ReactiveVaultOperations operations,
+			Scheduler scheduler) {
+
+		Assert.notNull(operations, "ReactiveVaultOperations must not be null");
+
+		this.operations = operations;
+		setScheduler(scheduler);
+	}
+
+	/**
+	 * Set the {@link LeaseEndpoints} to delegate renewal/revocation calls to.
+	 * {@link LeaseEndpoints} encapsulates differences between Vault versions that affect
+	 * the location of renewal/revocation endpoints.
+	 *
+	 * @param leaseEndpoints must not be {@literal null}.
+	 * @see LeaseEndpoints
+	 */
+	public void setLeaseEndpoints(LeaseEndpoints leaseEndpoints) {
+
+		Assert.notNull(leaseEndpoints, "LeaseEndpoints must not be null");
+
+		this.leaseEndpoints = leaseEndpoints;
+	}
+
+	/**
+	 * Sets the amount {@link Duration} that is at least required before renewing a lease.
+	 * {@code minRenewal} prevents renewals from happening too often.
+	 *
+	 * @param minRenewal duration that is at least required before renewing a
+	 *     {@link Lease}, must not be {@literal null} or negative.
+	 */
+	public void setMinRenewal(Duration minRenewal) {
+
+		Assert.notNull(minRenewal, "Minimal renewal time must not be null");
+		Assert.isTrue(!minRenewal.isNegative(),
+				"Minimal renewal time must not be negative");
+
+		this.minRenewal = minRenewal;
+	}
+
+	/**
+	 * Set the expiry threshold. A {@link Lease} is renewed the given time before it
+	 * expires.
+	 *
+	 * @param expiryThreshold duration before {@link Lease} expiry, must not be
+	 *     {@literal null} or negative.
+	 */
+	public void setExpiryThreshold(Duration expiryThreshold) {
+
+		Assert.notNull(expiryThreshold, "Expiry threshold must not be null");
+		Assert.isTrue(!expiryThreshold.isNegative(),
+				"Expiry threshold must not be negative");
+
+		this.expiryThreshold = expiryThreshold;
+	}
+
+	/**
+	 * Set the maximum {@link Duration} to await lease revocation when
+	 * {@link #destroy() destroying} the container.
+	 *
+	 * @param revocationTimeout must not be {@literal null} or negative.
+	 */
+	public void setRevocationTimeout(Duration revocationTimeout) {
+
+		Assert.notNull(revocationTimeout, "Revocation timeout must not be null");
+		Assert.isTrue(!revocationTimeout.isNegative(),
+				"Revocation timeout must not be negative");
+
+		this.revocationTimeout = revocationTimeout;
+	}
+
+	/**
+	 * @return minimum renewal timeout.
+	 */
+	public Duration getMinRenewal() {
+		return minRenewal;
+	}
+
+	/**
+	 * @return expiry threshold.
+	 */
+	public Duration getExpiryThreshold() {
+		return expiryThreshold;
+	}
+
+	/**
+	 * Set the {@link LeaseStrategy} for lease renewal error handling.
+	 *
+	 * @param leaseStrategy the {@link LeaseStrategy}, must not be {@literal null}.
+	 */
+	public void setLeaseStrategy(LeaseStrategy leaseStrategy) {
+
+		Assert.notNull(leaseStrategy, "LeaseStrategy must not be null");
+		this.leaseStrategy = leaseStrategy;
+	}
+
+	/**
+	 * Set the {@link RenewalJitter} to spread lease renewal and rotation times. Jitter
+	 * shortens the delay until renewal so that many containers started at the same time
+	 * do not renew their leases at the same instant. Defaults to
+	 * {@link RenewalJitter#none()}.
+	 *
+	 * @param renewalJitter the {@link RenewalJitter}, must not be {@literal null}.
+	 * @since 2.2
+	 * @see RenewalJitter#percentage(double)
+	 * @see RenewalJitter#spread(Duration)
+	 */
+	public void setRenewalJitter(RenewalJitter renewalJitter) {
+
+		Assert.notNull(renewalJitter, "RenewalJitter must not be null");
+		this.renewalJitter = renewalJitter;
+	}
+
+	/**
+	 * Sets the {@link Scheduler} to use for scheduling lease renewals.
+	 *
+	 * @param scheduler must not be {@literal null}.
+	 */
+	public void setScheduler(Scheduler scheduler) {
+
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Request a renewable secret at {@code path}.
+	 *
+	 * @param path must not be {@literal null} or empty.
+	 * @return the {@link RequestedSecret}.
+	 */
+	public RequestedSecret requestRenewableSecret(String path) {
+		return addRequestedSecret(RequestedSecret.renewable(path));
+	}
+
+	/**
+	 * Request a rotating secret at {@code path}.
+	 *
+	 * @param path must not be {@literal null} or empty.
+	 * @return the {@link RequestedSecret}.
+	 */
+	public RequestedSecret requestRotatingSecret(String path) {
+		return addRequestedSecret(RequestedSecret.rotating(path));
+	}
+
+	/**
+	 * Add a {@link RequestedSecret}.
+	 *
+	 * @param requestedSecret must not be {@literal null}.
+	 */
+	public RequestedSecret addRequestedSecret(RequestedSecret requestedSecret) {
+
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+
+		this.requestedSecrets.add(requestedSecret);
+
+		if (initialized) {
+
+			LeaseRenewalScheduler leaseRenewalScheduler = new LeaseRenewalScheduler(
+					this.scheduler);
+			this.renewals.put(requestedSecret, leaseRenewalScheduler);
+
+			if (this.status == STATUS_STARTED) {
+				start(requestedSecret, leaseRenewalScheduler).subscribe();
+			}
+		}
+
+		return requestedSecret;
+	}
+
+	/**
+	 * Obtain a {@link Flux} of {@link SecretLeaseEvent}s published by this container.
+	 * The returned {@link Flux} registers a {@link LeaseListener} and
+	 * {@link LeaseErrorListener} upon subscription and removes both once the
+	 * subscription is disposed. Error events are emitted as
+	 * {@link org.springframework.vault.core.lease.event.SecretLeaseErrorEvent}.
+	 * <p>
+	 * Subscribers receive only events that are published after subscription. Subscribe
+	 * before {@link #start() starting} the container to receive the initial
+	 * {@link org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent}s.
+	 *
+	 * @return a {@link Flux} emitting {@link SecretLeaseEvent}s.
+	 */
+	public Flux<SecretLeaseEvent> events() {
+
+		return Flux.create(sink -> {
+
+			LeaseListener listener = sink::next;
+			LeaseErrorListener errorListener = (leaseEvent, exception) -> sink
+					.next(leaseEvent);
+
+			addLeaseListener(listener);
+			addErrorListener(errorListener);
+
+			sink.onDispose(() -> {
+				removeLeaseListener(listener);
+				removeLeaseErrorListener(errorListener);
+			});
+		});
+	}
+
+	/**
+	 * Start the {@link ReactiveSecretLeaseContainer}. Starting the container will
+	 * initially obtain secrets and leases for the requested secrets without blocking the
+	 * calling {@link Thread}. A started container publishes events through
+	 * {@link LeaseListener} and {@link #events()}. Additional secrets can be requested at
+	 * any time.
+	 * <p>
+	 * Multiple calls are synchronized to start the container only once. Container start
+	 * requires {@link #afterPropertiesSet() initialization} and cannot be started once
+	 * the container was {@link #destroy() destroyed}.
+	 *
+	 * @see #afterPropertiesSet()
+	 * @see #stop()
+	 */
+	public void start() {
+
+		Assert.state(this.initialized, "Container is not initialized");
+		Assert.state(this.status != STATUS_DESTROYED,
+				"Container is destroyed and cannot be started");
+
+		Map<RequestedSecret, LeaseRenewalScheduler> renewals = new HashMap<>(
+				this.renewals);
+
+		if (UPDATER.compareAndSet(this, STATUS_INITIAL, STATUS_STARTED)) {
+
+			Flux.fromIterable(renewals.entrySet())
+					.flatMap(entry -> start(entry.getKey(), entry.getValue()))
+					.subscribe();
+		}
+	}
+
+	private Mono<Lease> start(RequestedSecret requestedSecret,
+			LeaseRenewalScheduler renewalScheduler) {
+
+		return doGetSecrets(requestedSecret).map(secrets -> {
+
+			Lease lease;
+
+			if (StringUtils.hasText(secrets.getLeaseId())) {
+				lease = Lease.of(secrets.getLeaseId(),
+						Duration.ofSeconds(secrets.getLeaseDuration()),
+						secrets.isRenewable());
+			}
+			else if (isRotatingGenericSecret(requestedSecret, secrets)) {
+				lease = Lease
+						.fromTimeToLive(Duration.ofSeconds(secrets.getLeaseDuration()));
+			}
+			else {
+				lease = Lease.none();
+			}
+
+			if (renewalScheduler.isLeaseRenewable(lease, requestedSecret)) {
+				scheduleLeaseRenewal(requestedSecret, lease, renewalScheduler);
+			}
+			else if (renewalScheduler.isLeaseRotateOnly(lease, requestedSecret)) {
+				scheduleLeaseRotation(requestedSecret, lease, renewalScheduler);
+			}
+
+			onSecretsObtained(requestedSecret, lease, secrets.getRequiredData());
+
+			return lease;
+		});
+	}
+
+	private static boolean isRotatingGenericSecret(RequestedSecret requestedSecret,
+			VaultResponseSupport<Map<String, Object>> secrets) {
+
+		return Mode.ROTATE.equals(requestedSecret.getMode()) && !secrets.isRenewable()
+				&& secrets.getLeaseDuration() > 0;
+	}
+
+	/**
+	 * Stop the {@link ReactiveSecretLeaseContainer}. Stopping the container will stop
+	 * lease renewal, secrets rotation and event publishing. Active leases are not
+	 * expired.
+	 * <p>
+	 * Multiple calls are synchronized to stop the container only once.
+	 *
+	 * @see #start()
+	 */
+	public void stop() {
+
+		if (UPDATER.compareAndSet(this, STATUS_STARTED, STATUS_INITIAL)) {
+
+			for (LeaseRenewalScheduler leaseRenewal : this.renewals.values()) {
+				leaseRenewal.disableScheduleRenewal();
+			}
+		}
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+
+		if (!this.initialized) {
+
+			super.afterPropertiesSet();
+
+			this.initialized = true;
+
+			for (RequestedSecret requestedSecret : requestedSecrets) {
+				this.renewals.put(requestedSecret,
+						new LeaseRenewalScheduler(this.scheduler));
+			}
+		}
+	}
+
+	/**
+	 * Shutdown this {@link ReactiveSecretLeaseContainer}, disable lease renewal and
+	 * revoke leases. Blocks until all leases are revoked or the
+	 * {@link #setRevocationTimeout(Duration) revocation timeout} is exceeded.
+	 *
+	 * @see #afterPropertiesSet()
+	 * @see #start()
+	 * @see #stop()
+	 */
+	@Override
+	public void destroy() throws Exception {
+
+		int status = this.status;
+
+		if (status == STATUS_INITIAL || status == STATUS_STARTED) {
+
+			if (UPDATER.compareAndSet(this, status, STATUS_DESTROYED)) {
+
+				List<Mono<Void>> revocations = new ArrayList<>();
+
+				for (Entry<RequestedSecret, LeaseRenewalScheduler> entry : renewals
+						.entrySet()) {
+
+					Lease lease = entry.getValue().getLease();
+					entry.getValue().disableScheduleRenewal();
+
+					if (lease != null && lease.hasLeaseId()) {
+						revocations.add(doRevokeLease(entry.getKey(), lease));
+					}
+				}
+
+				if (!revocations.isEmpty()) {
+
+					try {
+						Flux.merge(revocations).then().block(this.revocationTimeout);
+					}
+					catch (RuntimeException e) {
+						log.warn(String.format("Cannot revoke leases within %s",
+								this.revocationTimeout), e);
+					}
+				}
+			}
+		}
+	}
+
+	private void scheduleLeaseRenewal(RequestedSecret requestedSecret, Lease lease,
+			LeaseRenewalScheduler leaseRenewal) {
+
+		logRenewalCandidate(requestedSecret, lease, "renewal");
+
+		leaseRenewal.scheduleRenewal(requestedSecret,
+				leaseToRenew -> renewAndSchedule(requestedSecret, leaseRenewal,
+						leaseToRenew),
+				lease, getMinRenewal(), getExpiryThreshold(),
+				this.renewalJitter);
+	}
+
+	private Mono<Lease> renewAndSchedule(RequestedSecret requestedSecret,
+			LeaseRenewalScheduler leaseRenewal, Lease leaseToRenew) {
+
+		return doRenewLease(requestedSecret, leaseToRenew).doOnNext(newLease -> {
+
+			if (!Lease.none().equals(newLease)) {
+
+				scheduleLeaseRenewal(requestedSecret, newLease, leaseRenewal);
+
+				onAfterLeaseRenewed(requestedSecret, newLease);
+			}
+		});
+	}
+
+	private void scheduleLeaseRotation(RequestedSecret secret, Lease lease,
+			LeaseRenewalScheduler leaseRenewal) {
+
+		logRenewalCandidate(secret, lease, "rotation");
+
+		leaseRenewal.scheduleRenewal(secret, leaseToRotate -> {
+
+			onLeaseExpired(secret, lease);
+
+			return Mono.just(Lease.none()); // rotation creates a new lease.
+		}, lease, getMinRenewal(), getExpiryThreshold(),
+				this.renewalJitter);
+	}
+
+	private static void logRenewalCandidate(RequestedSecret requestedSecret, Lease lease,
+			String action) {
+
+		if (log.isDebugEnabled()) {
+
+			if (lease.hasLeaseId()) {
+				log.debug(String.format("Secret %s with Lease %s qualified for %s",
+						requestedSecret.getPath(), lease.getLeaseId(), action));
+			}
+			else {
+				log.debug(String.format("Secret %s with cache hint is qualified for %s",
+						requestedSecret.getPath(), action));
+			}
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Implementation hooks and helper methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Retrieve secrets from {@link ReactiveVaultOperations}.
+	 *
+	 * @param requestedSecret the {@link RequestedSecret} providing the secret
+	 *     {@code path}.
+	 * @return the response. Completes empty if the secret was not found or retrieval
+	 * failed.
+	 */
+	protected Mono<VaultResponseSupport<Map<String, Object>>> doGetSecrets(
+			RequestedSecret requestedSecret) {
+
+		return this.operations.read(requestedSecret.getPath())
+				.<VaultResponseSupport<Map<String, Object>>> map(it -> it)
+				.switchIfEmpty(
+						Mono.fromRunnable(() -> onSecretsNotFound(requestedSecret)))
+				.onErrorResume(RuntimeException.class, e -> {
+
+					onError(requestedSecret, Lease.none(), e);
+					return Mono.empty();
+				});
+	}
+
+	/**
+	 * Renew a {@link Lease} for a {@link RequestedSecret}.
+	 *
+	 * @param requestedSecret the requested secret.
+	 * @param lease the lease.
+	 * @return the new lease or {@link Lease#none()} if expired/secret cannot be rotated.
+	 */
+	protected Mono<Lease> doRenewLease(RequestedSecret requestedSecret, Lease lease) {
+
+		Mono<Lease> renewed = lease.hasLeaseId() ? doRenew(lease) : Mono.just(lease);
+
+		return renewed.map(it -> {
+
+			if (!it.hasLeaseId() || it.getLeaseDuration().isZero()
+					|| it.getLeaseDuration().getSeconds() < minRenewal.getSeconds()) {
+
+				onLeaseExpired(requestedSecret, lease);
+				return Lease.none();
+			}
+
+			return it;
+		}).onErrorResume(RuntimeException.class, e -> {
+
+			WebClientResponseException httpException = potentiallyUnwrapWebClientResponseException(
+					e);
+
+			boolean expired = false;
+			Exception exceptionToUse;
+			if (httpException != null) {
+
+				if (httpException.getStatusCode() == HttpStatus.BAD_REQUEST) {
+					expired = true;
+					onLeaseExpired(requestedSecret, lease);
+				}
+
+				exceptionToUse = new VaultException(String.format(
+						"Cannot renew lease: Status %s %s%s",
+						httpException.getRawStatusCode(), httpException.getStatusText(),
+						VaultResponses.getError(httpException.getResponseBodyAsString())),
+						e);
+			}
+			else {
+				exceptionToUse = new VaultException("Cannot renew lease", e);
+			}
+
+			onError(requestedSecret, lease, exceptionToUse);
+
+			if (expired || leaseStrategy.shouldDrop(exceptionToUse)) {
+				return Mono.just(Lease.none());
+			}
+
+			return Mono.just(lease);
+		});
+	}
+
+	@Nullable
+	private static WebClientResponseException potentiallyUnwrapWebClientResponseException(
+			RuntimeException e) {
+
+		if (e instanceof WebClientResponseException) {
+			return (WebClientResponseException) e;
+		}
+
+		if (e.getCause() instanceof WebClientResponseException) {
+			return (WebClientResponseException) e.getCause();
+		}
+
+		return null;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Mono<Lease> doRenew(Lease lease) {
+
+		Mono<Map> response = operations.doWithSession(client -> client.put()
+				.uri(leaseEndpoints.getRenewPath())
+				.syncBody(LeaseEndpoints.getLeaseRenewalBody(lease).getBody()).retrieve()
+				.bodyToMono(Map.class));
+
+		return response.map(body -> LeaseEndpoints.toLease(body));
+	}
+
+	/**
+	 * Hook method called when a {@link Lease} expires. The default implementation is to
+	 * notify {@link LeaseListener}. Implementations can override this method in
+	 * subclasses.
+	 *
+	 * @param requestedSecret must not be {@literal null}.
+	 * @param lease must not be {@literal null}.
+	 */
+	@Override
+	protected void onLeaseExpired(RequestedSecret requestedSecret, Lease lease) {
+
+		super.onLeaseExpired(requestedSecret, lease);
+
+		if (requestedSecret.getMode() == Mode.ROTATE) {
+
+			LeaseRenewalScheduler renewalScheduler = renewals.get(requestedSecret);
+
+			if (renewalScheduler != null) {
+				start(requestedSecret, renewalScheduler).subscribe();
+			}
+		}
+	}
+
+	/**
+	 * Revoke the {@link Lease}.
+	 *
+	 * @param requestedSecret must not be {@literal null}.
+	 * @param lease must not be {@literal null}.
+	 * @return a {@link Mono} signalling completion of the revocation.
+	 */
+	protected Mono<Void> doRevokeLease(RequestedSecret requestedSecret, Lease lease) {
+
+		Mono<String> revocation = operations
+				.doWithSession(client -> client.put()
+						.uri(leaseEndpoints.getRevokePath())
+						.syncBody(
+								LeaseEndpoints.getLeaseRevocationBody(lease).getBody())
+						.retrieve().bodyToMono(String.class));
+
+		return revocation
+				.doOnSubscribe(it -> onBeforeLeaseRevocation(requestedSecret, lease))
+				.then(Mono.fromRunnable(
+						() -> onAfterLeaseRevocation(requestedSecret, lease)))
+				.onErrorResume(WebClientResponseException.class, e -> {
+
+					onError(requestedSecret, lease,
+							new VaultException(String.format("Cannot revoke lease: %s",
+									VaultResponses.getError(e.getResponseBodyAsString())),
+									e));
+					return Mono.empty();
+				}).onErrorResume(RuntimeException.class, e -> {
+
+					onError(requestedSecret, lease, e);
+					return Mono.empty();
+				}).then();
+	}
+
+	/**
+	 * Abstracts scheduled lease renewal using Reactor timers. A
+	 * {@link LeaseRenewalScheduler} can be accessed concurrently to schedule lease
+	 * renewal. Scheduling a newer {@link Lease} disposes the previously scheduled
+	 * renewal.
+	 */
+	static class LeaseRenewalScheduler {
+
+		private static final Log log = LogFactory.getLog(LeaseRenewalScheduler.class);
+
+		private final Scheduler scheduler;
+
+		final AtomicReference<Lease> currentLeaseRef = new AtomicReference<>();
+
+		final Disposable.Swap schedule = Disposables.swap();
+
+		/**
+		 * @param scheduler must not be {@literal null}.
+		 */
+		LeaseRenewalScheduler(Scheduler scheduler) {
+			this.scheduler = scheduler;
+		}
+
+		/**
+		 * Schedule {@link Lease} renewal. Previously registered renewal tasks are
+		 * disposed to prevent renewal of stale {@link Lease}s.
+		 *
+		 * @param requestedSecret the requested secret.
+		 * @param renewLease function to renew a {@link Lease}.
+		 * @param lease the current {@link Lease}.
+		 * @param minRenewal minimum duration before renewing a {@link Lease}.
+		 * @param expiryThreshold duration to renew before {@link Lease}.
+		 * @param renewalJitter jitter to apply to the renewal delay.
+		 */
+		void scheduleRenewal(RequestedSecret requestedSecret,
+				Function<Lease, Mono<Lease>> renewLease, Lease lease,
+				Duration minRenewal, Duration expiryThreshold,
+				RenewalJitter renewalJitter) {
+
+			if (log.isDebugEnabled()) {
+				if (lease.hasLeaseId()) {
+					log.debug(String.format(
+							"Scheduling renewal for secret %s with lease %s, lease duration %d",
+							requestedSecret.getPath(), lease.getLeaseId(),
+							lease.getLeaseDuration().getSeconds()));
+				}
+				else {
+					log.debug(String.format(
+							"Scheduling renewal for secret %s, with cache hint duration %d",
+							requestedSecret.getPath(),
+							lease.getLeaseDuration().getSeconds()));
+				}
+			}
+
+			this.currentLeaseRef.set(lease);
+
+			Disposable disposable = Mono
+					.delay(Duration.ofSeconds(
+							getRenewalSeconds(lease, minRenewal, expiryThreshold,
+									renewalJitter)),
+							scheduler)
+					.filter(ignore -> currentLeaseRef.get() == lease)
+					.flatMap(ignore -> renewLease.apply(lease))
+					.subscribe(renewed -> currentLeaseRef.compareAndSet(lease, renewed),
+							e -> log.error(String.format("Cannot renew lease %s",
+									lease.getLeaseId()), e));
+
+			this.schedule.update(disposable);
+		}
+
+		/**
+		 * Disables schedule for already scheduled renewals.
+		 */
+		void disableScheduleRenewal() {
+
+			currentLeaseRef.set(null);
+			schedule.update(Disposables.disposed());
+		}
+
+		private static long getRenewalSeconds(Lease lease, Duration minRenewal,
+				Duration expiryThreshold, RenewalJitter renewalJitter) {
+
+			Duration delay = lease.getLeaseDuration().minus(expiryThreshold);
+
+			if (delay.isNegative()) {
+				return minRenewal.getSeconds();
+			}
+
+			return Math.max(minRenewal.getSeconds(),
+					renewalJitter.apply(delay).getSeconds());
+		}
+
+		private boolean isLeaseRenewable(@Nullable Lease lease,
+				RequestedSecret requestedSecret) {
+
+			if (lease == null) {
+				return false;
+			}
+
+			if (lease.isRenewable()) {
+				return true;
+			}
+
+			return !lease.hasLeaseId() && requestedSecret.getMode() == Mode.ROTATE;
+		}
+
+		private boolean isLeaseRotateOnly(Lease lease, RequestedSecret requestedSecret) {
+
+			return lease.hasLeaseId() && !lease.isRenewable()
+					&& requestedSecret.getMode() == Mode.ROTATE;
+		}
+
+		@Nullable
+		Lease getLease() {
+			return currentLeaseRef.get();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+/**
+ * Holder for the most recently obtained secrets of a {@link RequestedSecret}. A
+ * {@link SecretLeaseContainer} replaces the held secrets atomically whenever it obtains
+ * secrets, for example after rotation. Readers can access the holder from any thread
+ * without synchronization and always observe a consistent set of secrets.
+ * <p>
+ * {@link #getSecrets()} and {@link #getLease()} read the current state independently.
+ * Use {@link #getSecrets()} to obtain credentials that belong together, such as a
+ * username and password.
+ *
+ * @author agent
+ * @since 2.2
+ * @see SecretLeaseContainer#getSecretHolder(RequestedSecret)
+ */
+public final class SecretHolder {
+
+	private static final State EMPTY = new State(null, Collections.emptyMap());
+
+	private final RequestedSecret requestedSecret;
+
+	private volatile State state = EMPTY;
+
+	SecretHolder(RequestedSecret requestedSecret) {
+		this.requestedSecret = requestedSecret;
+	}
+
+	/**
+	 * @return the {@link RequestedSecret}.
+	 */
+	public RequestedSecret getRequestedSecret() {
+		return requestedSecret;
+	}
+
+	/**
+	 * @return {@literal true} if secrets were obtained.
+	 */
+	public boolean hasSecrets() {
+		return this.state != EMPTY;
+	}
+
+	/**
+	 * @return the most recently obtained secrets. Returns an empty {@link Map} if no
+	 * secrets were obtained yet.
+	 */
+	public Map<String, Object> getSecrets() {
+		return this.state.secrets;
+	}
+
+	/**
+	 * @return the {@link Lease} of the most recently obtained secrets or {@literal null}
+	 * if no secrets were obtained yet.
+	 */
+	@Nullable
+	public Lease getLease() {
+		return this.state.lease;
+	}
+
+	void update(Lease lease, Map<String, Object> secrets) {
+		this.state = new State(lease,
+				Collections.unmodifiableMap(new LinkedHashMap<>(secrets)));
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuffer sb = new StringBuffer();
+		sb.append(getClass().getSimpleName());
+		sb.append(" [requestedSecret=").append(requestedSecret);
+		sb.append(", lease=").append(state.lease);
+		sb.append(']');
+		return sb.toString();
+	}
+
+	private static class State {
+
+		@Nullable
+		final Lease lease;
+
+		final Map<String, Object> secrets;
+
+		State(@Nullable Lease lease, Map<String, Object> secrets) {
+			this.lease = lease;
+			this.secrets = secrets;
+		}
+	}
+}
@@ -16,20 +16,29 @@
 package org.springframework.vault.core.lease;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,6 +50,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -52,8 +62,12 @@ import org.springframework.vault.core.lease.domain.RequestedSecret;
 import org.springframework.vault.core.lease.domain.RequestedSecret.Mode;
 import org.springframework.vault.core.lease.event.LeaseErrorListener;
 import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
 import org.springframework.vault.core.util.KeyValueDelegate;
 import org.springframework.vault.support.LeaseStrategy;
+import org.springframework.vault.support.RenewalJitter;
+import org.springframework.vault.support.RetryPolicy;
+import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultResponseSupport;
 import org.springframework.web.client.HttpStatusCodeException;
 
@@ -96,7 +110,8 @@ import org.springframework.web.client.HttpStatusCodeException;
  * This container keeps track over {@link RequestedSecret}s and requests secrets upon
  * {@link #start()}. Leases qualified for {@link Lease#isRenewable() renewal} are renewed
  * by this container applying {@code minRenewalSeconds}/{@code expiryThresholdSeconds} on
- * a {@link TaskScheduler background thread}.
+ * a {@link TaskScheduler background thread}. Containers managing a large number of leases
+ * can use {@link HashedWheelTaskScheduler} to reduce scheduling overhead.
  * <p>
  * Requests for secrets can define either renewal or rotation. The container renews leases
  * until expiry. Rotating secrets renew their associated lease until expiry and request
@@ -106,7 +121,11 @@ import org.springframework.web.client.HttpStatusCodeException;
  * <p>
  * The container dispatches lease events to {@link LeaseListener} and
  * {@link LeaseErrorListener}. Event notifications are dispatched either on the
- * {@link #start() starting} {@link Thread} or worker threads used for background renewal.
+ * {@link #start() starting} {@link Thread} or worker threads used for background renewal
+ * unless configuring an {@link #setEventExecutor(java.util.concurrent.Executor) event
+ * executor} to dispatch events asynchronously. With
+ * {@link #setStartupParallelism(int) parallel startup}, not-found and error events are
+ * dispatched on the startup worker threads.
  * <p>
  * Instances are thread-safe once {@link #afterPropertiesSet() initialized}.
  *
@@ -118,6 +137,7 @@ import org.springframework.web.client.HttpStatusCodeException;
  * @see Lease
  * @see LeaseEndpoints
  * @see LeaseStrategy
+ * @see HashedWheelTaskScheduler
  */
 public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		implements InitializingBean, DisposableBean {
@@ -136,6 +156,8 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 	private final Map<RequestedSecret, LeaseRenewalScheduler> renewals = new ConcurrentHashMap<>();
 
+	private final Map<RequestedSecret, SecretHolder> holders = new ConcurrentHashMap<>();
+
 	private final VaultOperations operations;
 
 	private final KeyValueDelegate keyValueDelegate;
@@ -148,6 +170,32 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 	private LeaseStrategy leaseStrategy = LeaseStrategy.dropOnError();
 
+	private RenewalJitter renewalJitter = RenewalJitter.none();
+
+	@Nullable
+	private RetryPolicy retryPolicy;
+
+	private Duration rotationOverlap = Duration.ZERO;
+
+	@Nullable
+	private LeaseJournal leaseJournal;
+
+	private LeaseMetrics leaseMetrics = LeaseMetrics.none();
+
+	private int startupParallelism = 1;
+
+	private Duration startupTimeout = Duration.ofSeconds(60);
+
+	private int revocationParallelism = 1;
+
+	private Duration revocationTimeout = Duration.ofSeconds(10);
+
+	@Nullable
+	private String revocationPrefix;
+
+	@Nullable
+	private volatile Map<RequestedSecret, Lease> pendingRevocations;
+
 	@Nullable
 	private TaskScheduler taskScheduler;
 
@@ -288,6 +336,106 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		return expiryThreshold;
 	}
 
+	/**
+	 * Return the {@link SecretHolder} for a {@link RequestedSecret}. The holder provides
+	 * access to the most recently obtained secrets and is updated atomically when
+	 * secrets are obtained or rotated.
+	 *
+	 * @param requestedSecret the requested secret, must not be {@literal null}.
+	 * @return the {@link SecretHolder} for {@link RequestedSecret}.
+	 * @throws IllegalArgumentException if the {@link RequestedSecret secret} was not
+	 *     previously {@link #addRequestedSecret(RequestedSecret) registered}.
+	 * @since 2.2
+	 */
+	public SecretHolder getSecretHolder(RequestedSecret requestedSecret) {
+
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+
+		if (!this.requestedSecrets.contains(requestedSecret)) {
+			throw new IllegalArgumentException(
+					String.format("No such secret %s", requestedSecret));
+		}
+
+		return this.holders.computeIfAbsent(requestedSecret, SecretHolder::new);
+	}
+
+	/**
+	 * Return the remaining time until the {@link Lease} associated with
+	 * {@link RequestedSecret} expires.
+	 *
+	 * @param requestedSecret the requested secret, must not be {@literal null}.
+	 * @return the remaining time until the {@link Lease} expires or {@literal null} if
+	 * the secret has no lease that is scheduled for renewal or rotation.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Duration getTimeToExpiry(RequestedSecret requestedSecret) {
+
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+
+		LeaseRenewalScheduler renewalScheduler = this.renewals.get(requestedSecret);
+
+		return renewalScheduler != null ? renewalScheduler.getTimeToExpiry() : null;
+	}
+
+	/**
+	 * Return the remaining time until the next {@link Lease} expires across all
+	 * requested secrets.
+	 *
+	 * @return the shortest remaining time until a {@link Lease} expires or
+	 * {@literal null} if no secret has a lease that is scheduled for renewal or
+	 * rotation.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Duration getMinimumTimeToExpiry() {
+
+		Duration minimum = null;
+		for (LeaseRenewalScheduler renewalScheduler : this.renewals.values()) {
+
+			Duration timeToExpiry = renewalScheduler.getTimeToExpiry();
+
+			if (timeToExpiry != null
+					&& (minimum == null || timeToExpiry.compareTo(minimum) < 0)) {
+				minimum = timeToExpiry;
+			}
+		}
+
+		return minimum;
+	}
+
+	/**
+	 * @return the number of secrets with an active {@link Lease} that is scheduled for
+	 * renewal or rotation.
+	 * @since 2.2
+	 */
+	public int getActiveLeaseCount() {
+
+		int count = 0;
+		for (LeaseRenewalScheduler renewalScheduler : this.renewals.values()) {
+			if (renewalScheduler.getLease() != null) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * @return the number of renewal and rotation tasks that are scheduled but not yet
+	 * executed.
+	 * @since 2.2
+	 */
+	public int getScheduledTaskCount() {
+
+		int count = 0;
+		for (LeaseRenewalScheduler renewalScheduler : this.renewals.values()) {
+			count += renewalScheduler.schedules.size();
+		}
+
+		return count;
+	}
+
 	/**
 	 * Set the {@link LeaseStrategy} for lease renewal error handling.
 	 *
@@ -300,6 +448,200 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		this.leaseStrategy = leaseStrategy;
 	}
 
+	/**
+	 * Set the {@link RetryPolicy} to retry failed lease renewals. The policy is
+	 * consulted if a renewal fails and the {@link LeaseStrategy} retains the lease.
+	 * Retries are scheduled before the regular renewal to renew the lease before it
+	 * expires. Once the policy stops retrying, the lease is no longer renewed and left to
+	 * expire. Without a configured policy, a retained lease is renewed again on the
+	 * regular renewal schedule.
+	 *
+	 * @param retryPolicy the {@link RetryPolicy}, must not be {@literal null}.
+	 * @since 2.2
+	 * @see org.springframework.vault.support.ExponentialBackoffRetryPolicy
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "RetryPolicy must not be null");
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * Set the {@link RenewalJitter} to spread lease renewal and rotation times. Jitter
+	 * shortens the delay until renewal so that many containers started at the same time
+	 * do not renew their leases at the same instant. Defaults to
+	 * {@link RenewalJitter#none()}.
+	 *
+	 * @param renewalJitter the {@link RenewalJitter}, must not be {@literal null}.
+	 * @since 2.2
+	 * @see RenewalJitter#percentage(double)
+	 * @see RenewalJitter#spread(Duration)
+	 */
+	public void setRenewalJitter(RenewalJitter renewalJitter) {
+
+		Assert.notNull(renewalJitter, "RenewalJitter must not be null");
+		this.renewalJitter = renewalJitter;
+	}
+
+	/**
+	 * Enable pre-rotation for {@link Mode#ROTATE rotating} secrets by setting the
+	 * overlap window during which previous and replacement secrets are both valid.
+	 * Replacement secrets are obtained {@code rotationOverlap} (but at least
+	 * {@link #getExpiryThreshold() expiry threshold}) before the current lease expires,
+	 * including renewable leases that reach their maximum TTL. {@link SecretLeaseEvent
+	 * Events} for the replacement secrets are published first; the
+	 * {@link org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent} for the
+	 * previous lease is published once the previous lease has expired. Consumers can
+	 * use {@link #getSecretHolder(RequestedSecret)} to access the current secrets.
+	 * Defaults to {@link Duration#ZERO} (pre-rotation disabled).
+	 *
+	 * @param rotationOverlap the overlap window, must not be {@literal null} or
+	 *     negative.
+	 * @since 2.2
+	 */
+	public void setRotationOverlap(Duration rotationOverlap) {
+
+		Assert.notNull(rotationOverlap, "Rotation overlap must not be null");
+		Assert.isTrue(!rotationOverlap.isNegative(),
+				"Rotation overlap must not be negative");
+
+		this.rotationOverlap = rotationOverlap;
+	}
+
+	/**
+	 * Set the {@link LeaseJournal} to record obtained secrets and their leases. Journaled
+	 * leases that are still valid are resumed when {@link #start() starting} the
+	 * container instead of requesting new secrets. Lease lookup uses
+	 * {@literal sys/leases/lookup} and requires Vault 0.8 or higher. Secrets are
+	 * requested from Vault if a journaled lease cannot be resumed.
+	 * <p>
+	 * Leases are not revoked on {@link #destroy()} when using a {@link LeaseJournal} so
+	 * that a subsequent start can resume them.
+	 *
+	 * @param leaseJournal the {@link LeaseJournal}, must not be {@literal null}.
+	 * @since 2.2
+	 * @see EncryptedFileLeaseJournal
+	 */
+	public void setLeaseJournal(LeaseJournal leaseJournal) {
+
+		Assert.notNull(leaseJournal, "LeaseJournal must not be null");
+		this.leaseJournal = leaseJournal;
+	}
+
+	/**
+	 * Set the {@link LeaseMetrics} to record lease renewal, revocation and rotation.
+	 * {@link LeaseMetrics} is bound to this container during
+	 * {@link #afterPropertiesSet()} and should therefore be configured before
+	 * initializing the container.
+	 *
+	 * @param leaseMetrics the {@link LeaseMetrics}, must not be {@literal null}.
+	 * @since 2.2
+	 * @see MicrometerLeaseMetrics
+	 */
+	public void setLeaseMetrics(LeaseMetrics leaseMetrics) {
+
+		Assert.notNull(leaseMetrics, "LeaseMetrics must not be null");
+		this.leaseMetrics = leaseMetrics;
+	}
+
+	/**
+	 * Set the number of secrets to obtain concurrently when {@link #start() starting} the
+	 * container. Values greater than one enable parallel secret retrieval using
+	 * short-lived worker threads that are disposed once the container is started. Leases
+	 * are scheduled and {@link SecretLeaseEvent events} for obtained secrets are
+	 * dispatched on the starting {@link Thread} in the same order as with sequential
+	 * retrieval. {@link org.springframework.vault.core.lease.event.SecretNotFoundEvent
+	 * Not-found} and error events raised while obtaining secrets are dispatched on the
+	 * worker threads. Defaults to {@code 1} (sequential retrieval).
+	 *
+	 * @param startupParallelism number of concurrent secret retrievals, must be greater
+	 *     than zero.
+	 * @since 2.2
+	 * @see #setStartupTimeout(Duration)
+	 */
+	public void setStartupParallelism(int startupParallelism) {
+
+		Assert.isTrue(startupParallelism > 0,
+				"Startup parallelism must be greater than zero");
+
+		this.startupParallelism = startupParallelism;
+	}
+
+	/**
+	 * Set the overall deadline for obtaining secrets when {@link #start() starting} the
+	 * container with {@link #setStartupParallelism(int) parallel retrieval}. Secrets that
+	 * were not obtained within the deadline are reported as error through
+	 * {@link LeaseErrorListener}. Retrieval continues in the background and leases of
+	 * secrets obtained after the deadline are revoked. Defaults to 60 seconds.
+	 *
+	 * @param startupTimeout must not be {@literal null} or negative.
+	 * @since 2.2
+	 */
+	public void setStartupTimeout(Duration startupTimeout) {
+
+		Assert.notNull(startupTimeout, "Startup timeout must not be null");
+		Assert.isTrue(!startupTimeout.isNegative(),
+				"Startup timeout must not be negative");
+
+		this.startupTimeout = startupTimeout;
+	}
+
+	/**
+	 * Set the number of leases to revoke concurrently when {@link #destroy() destroying}
+	 * the container. Values greater than one enable parallel revocation using
+	 * short-lived worker threads. Defaults to {@code 1} (sequential revocation).
+	 *
+	 * @param revocationParallelism number of concurrent revocations, must be greater
+	 *     than zero.
+	 * @since 2.2
+	 * @see #setRevocationTimeout(Duration)
+	 */
+	public void setRevocationParallelism(int revocationParallelism) {
+
+		Assert.isTrue(revocationParallelism > 0,
+				"Revocation parallelism must be greater than zero");
+
+		this.revocationParallelism = revocationParallelism;
+	}
+
+	/**
+	 * Set the overall deadline for revoking leases when {@link #destroy() destroying} the
+	 * container. The deadline applies to prefix-based, sequential and
+	 * {@link #setRevocationParallelism(int) parallel revocation} as a whole. Leases whose
+	 * revocation was not attempted or did not complete within the deadline are reported
+	 * as error through {@link LeaseErrorListener}. Defaults to 10 seconds.
+	 *
+	 * @param revocationTimeout must not be {@literal null} or negative.
+	 * @since 2.2
+	 */
+	public void setRevocationTimeout(Duration revocationTimeout) {
+
+		Assert.notNull(revocationTimeout, "Revocation timeout must not be null");
+		Assert.isTrue(!revocationTimeout.isNegative(),
+				"Revocation timeout must not be negative");
+
+		this.revocationTimeout = revocationTimeout;
+	}
+
+	/**
+	 * Set a lease Id prefix to revoke leases using a single prefix-based revocation
+	 * ({@literal sys/leases/revoke-prefix}) when {@link #destroy() destroying} the
+	 * container. Leases whose lease Id starts with {@code revocationPrefix} are revoked
+	 * at once; other leases are revoked individually. Prefix-based revocation revokes
+	 * all leases below the prefix, including leases that were not obtained by this
+	 * container, and requires {@literal sudo} capability.
+	 *
+	 * @param revocationPrefix the lease Id prefix, for example the path of a mount such
+	 *     as {@code database/creds/my-role}. Must not be {@literal null} or empty.
+	 * @since 2.2
+	 */
+	public void setRevocationPrefix(String revocationPrefix) {
+
+		Assert.hasText(revocationPrefix, "Revocation prefix must not be null or empty");
+
+		this.revocationPrefix = revocationPrefix;
+	}
+
 	/**
 	 * Sets the {@link TaskScheduler} to use for scheduling and execution of lease
 	 * renewals.
@@ -383,6 +725,11 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 		if (UPDATER.compareAndSet(this, STATUS_INITIAL, STATUS_STARTED)) {
 
+			if (this.startupParallelism > 1 && renewals.size() > 1) {
+				startConcurrently(renewals);
+				return;
+			}
+
 			for (Entry<RequestedSecret, LeaseRenewalScheduler> entry : renewals
 					.entrySet()) {
 				start(entry.getKey(), entry.getValue());
@@ -390,37 +737,223 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		}
 	}
 
-	private void start(RequestedSecret requestedSecret,
-			LeaseRenewalScheduler renewalScheduler) {
+	private void startConcurrently(Map<RequestedSecret, LeaseRenewalScheduler> renewals) {
 
-		VaultResponseSupport<Map<String, Object>> secrets = doGetSecrets(requestedSecret);
+		ExecutorService executor = createExecutor(
+				Math.min(this.startupParallelism, renewals.size()), "startup");
+		Map<RequestedSecret, StartupRetrieval> retrievals = new LinkedHashMap<>();
 
-		if (secrets != null) {
+		try {
 
-			Lease lease;
+			for (RequestedSecret requestedSecret : renewals.keySet()) {
 
-			if (StringUtils.hasText(secrets.getLeaseId())) {
-				lease = Lease.of(secrets.getLeaseId(),
-						Duration.ofSeconds(secrets.getLeaseDuration()),
-						secrets.isRenewable());
-			}
-			else if (isRotatingGenericSecret(requestedSecret, secrets)) {
-				lease = Lease
-						.fromTimeToLive(Duration.ofSeconds(secrets.getLeaseDuration()));
+				StartupRetrieval retrieval = new StartupRetrieval(requestedSecret);
+				retrieval.future = executor.submit(retrieval);
+				retrievals.put(requestedSecret, retrieval);
 			}
-			else {
-				lease = Lease.none();
+
+			long deadline = System.nanoTime() + this.startupTimeout.toNanos();
+
+			for (StartupRetrieval retrieval : retrievals.values()) {
+
+				RequestedSecret requestedSecret = retrieval.requestedSecret;
+				VaultResponseSupport<Map<String, Object>> secrets;
+
+				try {
+					secrets = retrieval.future.get(
+							Math.max(0, deadline - System.nanoTime()),
+							TimeUnit.NANOSECONDS);
+				}
+				catch (TimeoutException e) {
+
+					if (!retrieval.abandon()) {
+						// completed concurrently with the deadline
+						start(requestedSecret, renewals.get(requestedSecret),
+								retrieval.secrets);
+						continue;
+					}
+
+					onError(requestedSecret, Lease.none(), new VaultException(
+							String.format("Cannot obtain secrets within %s",
+									this.startupTimeout),
+							e));
+					continue;
+				}
+				catch (ExecutionException e) {
+
+					onError(requestedSecret, Lease.none(),
+							new VaultException("Cannot obtain secrets", e.getCause()));
+					continue;
+				}
+				catch (InterruptedException e) {
+
+					Thread.currentThread().interrupt();
+
+					if (!retrieval.abandon()) {
+						revokeAbandoned(requestedSecret, retrieval.secrets);
+					}
+
+					onError(requestedSecret, Lease.none(),
+							new VaultException("Interrupted while obtaining secrets", e));
+					continue;
+				}
+
+				start(requestedSecret, renewals.get(requestedSecret), secrets);
 			}
+		}
+		finally {
+			// Let abandoned retrievals complete so they can revoke their leases.
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Revoke the lease of secrets that were obtained after the container gave up waiting
+	 * for them.
+	 */
+	private void revokeAbandoned(RequestedSecret requestedSecret,
+			@Nullable VaultResponseSupport<Map<String, Object>> secrets) {
+
+		if (secrets == null || !StringUtils.hasText(secrets.getLeaseId())) {
+			return;
+		}
 
-			if (renewalScheduler.isLeaseRenewable(lease, requestedSecret)) {
-				scheduleLeaseRenewal(requestedSecret, lease, renewalScheduler);
+		if (log.isDebugEnabled()) {
+			log.debug(String.format(
+					"Revoking lease %s for %s obtained after startup timeout",
+					secrets.getLeaseId(), requestedSecret.getPath()));
+		}
+
+		doRevokeLease(requestedSecret,
+				Lease.of(secrets.getLeaseId(),
+						Duration.ofSeconds(secrets.getLeaseDuration()),
+						secrets.isRenewable()));
+	}
+
+	private boolean start(RequestedSecret requestedSecret,
+			LeaseRenewalScheduler renewalScheduler) {
+		return start(requestedSecret, renewalScheduler, getSecrets(requestedSecret));
+	}
+
+	@Nullable
+	private VaultResponseSupport<Map<String, Object>> getSecrets(
+			RequestedSecret requestedSecret) {
+
+		VaultResponseSupport<Map<String, Object>> resumed = resume(requestedSecret);
+
+		return resumed != null ? resumed : doGetSecrets(requestedSecret);
+	}
+
+	/**
+	 * Resume a journaled lease if the lease is still valid beyond
+	 * {@link #getExpiryThreshold() expiry threshold}.
+	 *
+	 * @param requestedSecret the requested secret.
+	 * @return the journaled secrets along with the looked up lease or {@literal null} if
+	 * there is no journaled lease to resume.
+	 */
+	@Nullable
+	private VaultResponseSupport<Map<String, Object>> resume(
+			RequestedSecret requestedSecret) {
+
+		LeaseJournal leaseJournal = this.leaseJournal;
+
+		if (leaseJournal == null) {
+			return null;
+		}
+
+		LeaseJournal.Entry entry;
+		try {
+			entry = leaseJournal.get(requestedSecret);
+		}
+		catch (RuntimeException e) {
+
+			log.warn(String.format("Cannot read lease journal for secret %s",
+					requestedSecret.getPath()), e);
+			return null;
+		}
+
+		if (entry == null || !entry.getLease().hasLeaseId()) {
+			return null;
+		}
+
+		Lease lease;
+		try {
+			lease = operations.doWithSession(restOperations -> leaseEndpoints
+					.lookup(entry.getLease(), restOperations));
+		}
+		catch (RuntimeException e) {
+
+			if (log.isDebugEnabled()) {
+				log.debug(String.format("Cannot look up journaled lease %s for secret %s",
+						entry.getLease().getLeaseId(), requestedSecret.getPath()), e);
 			}
-			else if (renewalScheduler.isLeaseRotateOnly(lease, requestedSecret)) {
-				scheduleLeaseRotation(requestedSecret, lease, renewalScheduler);
+
+			journal(journal -> journal.remove(requestedSecret));
+			return null;
+		}
+
+		if (lease.getLeaseDuration().compareTo(expiryThreshold) <= 0) {
+
+			if (log.isDebugEnabled()) {
+				log.debug(String.format(
+						"Journaled lease %s for secret %s is about to expire",
+						lease.getLeaseId(), requestedSecret.getPath()));
 			}
 
-			onSecretsObtained(requestedSecret, lease, secrets.getRequiredData());
+			journal(journal -> journal.remove(requestedSecret));
+			return null;
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug(String.format(
+					"Resuming journaled lease %s for secret %s, remaining duration %d",
+					lease.getLeaseId(), requestedSecret.getPath(),
+					lease.getLeaseDuration().getSeconds()));
+		}
+
+		VaultResponse secrets = new VaultResponse();
+		secrets.setLeaseId(lease.getLeaseId());
+		secrets.setLeaseDuration(lease.getLeaseDuration().getSeconds());
+		secrets.setRenewable(lease.isRenewable());
+		secrets.setData(new LinkedHashMap<>(entry.getSecrets()));
+
+		return secrets;
+	}
+
+	private boolean start(RequestedSecret requestedSecret,
+			LeaseRenewalScheduler renewalScheduler,
+			@Nullable VaultResponseSupport<Map<String, Object>> secrets) {
+
+		if (secrets == null) {
+			return false;
 		}
+
+		Lease lease;
+
+		if (StringUtils.hasText(secrets.getLeaseId())) {
+			lease = Lease.of(secrets.getLeaseId(),
+					Duration.ofSeconds(secrets.getLeaseDuration()),
+					secrets.isRenewable());
+		}
+		else if (isRotatingGenericSecret(requestedSecret, secrets)) {
+			lease = Lease
+					.fromTimeToLive(Duration.ofSeconds(secrets.getLeaseDuration()));
+		}
+		else {
+			lease = Lease.none();
+		}
+
+		if (renewalScheduler.isLeaseRenewable(lease, requestedSecret)) {
+			scheduleLeaseRenewal(requestedSecret, lease, renewalScheduler);
+		}
+		else if (renewalScheduler.isLeaseRotateOnly(lease, requestedSecret)) {
+			scheduleLeaseRotation(requestedSecret, lease, renewalScheduler);
+		}
+
+		onSecretsObtained(requestedSecret, lease, secrets.getRequiredData());
+
+		return true;
 	}
 
 	private static boolean isRotatingGenericSecret(RequestedSecret requestedSecret,
@@ -473,13 +1006,19 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 				this.renewals.put(requestedSecret,
 						new LeaseRenewalScheduler(this.taskScheduler));
 			}
+
+			this.leaseMetrics.bindTo(this);
 		}
 	}
 
 	/**
 	 * Shutdown this {@link SecretLeaseContainer}, disable lease renewal and revoke
-	 * leases.
+	 * leases. Leases are retained if a {@link #setLeaseJournal(LeaseJournal)
+	 * LeaseJournal} is configured. Leases that cannot be revoked are reported through
+	 * {@link LeaseErrorListener} and logged.
 	 *
+	 * @see #setRevocationParallelism(int)
+	 * @see #setRevocationPrefix(String)
 	 * @see #afterPropertiesSet()
 	 * @see #start()
 	 * @see #stop()
@@ -493,17 +1032,23 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 			if (UPDATER.compareAndSet(this, status, STATUS_DESTROYED)) {
 
+				Map<RequestedSecret, Lease> leases = new LinkedHashMap<>();
+
 				for (Entry<RequestedSecret, LeaseRenewalScheduler> entry : renewals
 						.entrySet()) {
 
 					Lease lease = entry.getValue().getLease();
 					entry.getValue().disableScheduleRenewal();
 
-					if (lease != null && lease.hasLeaseId()) {
-						doRevokeLease(entry.getKey(), lease);
+					if (lease != null && lease.hasLeaseId() && leaseJournal == null) {
+						leases.put(entry.getKey(), lease);
 					}
 				}
 
+				if (!leases.isEmpty()) {
+					revokeLeases(leases);
+				}
+
 				if (manageTaskScheduler) {
 
 					if (this.taskScheduler instanceof DisposableBean) {
@@ -515,6 +1060,115 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		}
 	}
 
+	private void revokeLeases(Map<RequestedSecret, Lease> leases) {
+
+		Map<RequestedSecret, Lease> pending = new ConcurrentHashMap<>(leases);
+		Set<RequestedSecret> attempted = ConcurrentHashMap.newKeySet();
+		long deadline = System.nanoTime() + this.revocationTimeout.toNanos();
+		this.pendingRevocations = pending;
+
+		try {
+
+			Map<RequestedSecret, Lease> individual = new LinkedHashMap<>(leases);
+			String revocationPrefix = this.revocationPrefix;
+
+			if (revocationPrefix != null) {
+
+				Map<RequestedSecret, Lease> prefixed = new LinkedHashMap<>();
+
+				for (Entry<RequestedSecret, Lease> entry : leases.entrySet()) {
+					if (entry.getValue().getLeaseId().startsWith(revocationPrefix)) {
+						prefixed.put(entry.getKey(), entry.getValue());
+						individual.remove(entry.getKey());
+					}
+				}
+
+				if (!prefixed.isEmpty()) {
+					doRevokeLeases(revocationPrefix, prefixed);
+					attempted.addAll(prefixed.keySet());
+				}
+			}
+
+			if (this.revocationParallelism > 1 && individual.size() > 1) {
+				revokeConcurrently(individual, attempted, deadline);
+			}
+			else {
+				for (Entry<RequestedSecret, Lease> entry : individual.entrySet()) {
+
+					if (System.nanoTime() - deadline >= 0) {
+						break;
+					}
+
+					doRevokeLease(entry.getKey(), entry.getValue());
+					attempted.add(entry.getKey());
+				}
+			}
+		}
+		finally {
+			this.pendingRevocations = null;
+		}
+
+		for (Entry<RequestedSecret, Lease> entry : leases.entrySet()) {
+
+			if (!attempted.contains(entry.getKey())) {
+				onError(entry.getKey(), entry.getValue(),
+						new VaultException(String.format(
+								"Lease revocation did not complete within %s",
+								this.revocationTimeout)));
+			}
+		}
+
+		if (!pending.isEmpty()) {
+
+			List<String> failed = new ArrayList<>();
+			for (Entry<RequestedSecret, Lease> entry : pending.entrySet()) {
+				failed.add(String.format("%s (%s)", entry.getKey().getPath(),
+						entry.getValue().getLeaseId()));
+			}
+
+			log.warn(String.format("Failed to revoke %d of %d lease(s): %s",
+					failed.size(), leases.size(), failed));
+		}
+	}
+
+	private void revokeConcurrently(Map<RequestedSecret, Lease> leases,
+			Set<RequestedSecret> attempted, long deadline) {
+
+		ExecutorService executor = createExecutor(
+				Math.min(this.revocationParallelism, leases.size()), "shutdown");
+
+		for (Entry<RequestedSecret, Lease> entry : leases.entrySet()) {
+			executor.execute(() -> {
+				doRevokeLease(entry.getKey(), entry.getValue());
+				attempted.add(entry.getKey());
+			});
+		}
+
+		executor.shutdown();
+
+		try {
+			if (executor.awaitTermination(Math.max(0, deadline - System.nanoTime()),
+					TimeUnit.NANOSECONDS)) {
+				return;
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		executor.shutdownNow();
+	}
+
+	private ExecutorService createExecutor(int threads, String purpose) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+				String.format("%s-%d-%s-", getClass().getSimpleName(),
+						poolId.incrementAndGet(), purpose));
+		threadFactory.setDaemon(true);
+
+		return Executors.newFixedThreadPool(threads, threadFactory);
+	}
+
 	/**
 	 * Renew a {@link RequestedSecret secret}.
 	 *
@@ -579,23 +1233,103 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		leaseRenewal.scheduleRenewal(requestedSecret, leaseToRenew -> {
 
 			return renewAndSchedule(requestedSecret, leaseRenewal, leaseToRenew);
-		}, lease, getMinRenewal(), getExpiryThreshold());
+		}, lease, getMinRenewal(), getRenewalThreshold(requestedSecret),
+				this.renewalJitter);
+
+	}
+
+	private Lease renewAndSchedule(RequestedSecret requestedSecret,
+			LeaseRenewalScheduler leaseRenewal, Lease leaseToRenew) {
+
+		long start = System.nanoTime();
+		Lease newLease = doRenewLease(requestedSecret, leaseToRenew);
+
+		leaseMetrics.recordRenewal(requestedSecret,
+				Duration.ofNanos(System.nanoTime() - start),
+				newLease != leaseToRenew && !Lease.none().equals(newLease));
+
+		if (newLease == leaseToRenew && leaseRenewal.isRenewalFailed(leaseToRenew)) {
+			return newLease;
+		}
+
+		if (!Lease.none().equals(newLease)) {
+
+			if (newLease != leaseToRenew && isPreRotationCandidate(requestedSecret,
+					newLease.getLeaseDuration())) {
+
+				onAfterLeaseRenewed(requestedSecret, newLease);
+				preRotate(requestedSecret, newLease, newLease.getLeaseDuration());
+
+				return newLease;
+			}
+
+			scheduleLeaseRenewal(requestedSecret, newLease, leaseRenewal);
+
+			onAfterLeaseRenewed(requestedSecret, newLease);
+		}
+
+		return newLease;
+	}
+
+	private boolean isPreRotationCandidate(RequestedSecret requestedSecret,
+			Duration remaining) {
+
+		return requestedSecret.getMode() == Mode.ROTATE && !rotationOverlap.isZero()
+				&& remaining.compareTo(getRotationThreshold()) <= 0;
+	}
+
+	private Duration getRotationThreshold() {
+		return rotationOverlap.compareTo(expiryThreshold) > 0 ? rotationOverlap
+				: expiryThreshold;
+	}
+
+	/**
+	 * Renewable {@link Mode#ROTATE} secrets renew at the rotation threshold so that a
+	 * lease that cannot be extended any further still leaves room for the overlap.
+	 */
+	private Duration getRenewalThreshold(RequestedSecret requestedSecret) {
+
+		return requestedSecret.getMode() == Mode.ROTATE && !rotationOverlap.isZero()
+				? getRotationThreshold()
+				: getExpiryThreshold();
+	}
+
+	/**
+	 * Obtain replacement secrets while the current {@link Lease} is still valid and
+	 * defer the expiry notification of the current {@link Lease} until it expires.
+	 * Replacement secrets are always requested from Vault as the journal still holds
+	 * the current {@link Lease}.
+	 */
+	private void preRotate(RequestedSecret secret, Lease lease, Duration remaining) {
 
-	}
+		if (log.isDebugEnabled()) {
+			log.debug(String.format(
+					"Pre-rotating secret %s, current lease %s expires in %d seconds",
+					secret.getPath(), lease.getLeaseId(), remaining.getSeconds()));
+		}
 
-	private Lease renewAndSchedule(RequestedSecret requestedSecret,
-			LeaseRenewalScheduler leaseRenewal, Lease leaseToRenew) {
+		LeaseRenewalScheduler leaseRenewal = renewals.get(secret);
 
-		Lease newLease = doRenewLease(requestedSecret, leaseToRenew);
+		long start = System.nanoTime();
+		boolean rotated = start(secret, leaseRenewal, doGetSecrets(secret));
 
-		if (!Lease.none().equals(newLease)) {
+		leaseMetrics.recordRotation(secret, Duration.ofNanos(System.nanoTime() - start),
+				rotated);
 
-			scheduleLeaseRenewal(requestedSecret, newLease, leaseRenewal);
+		leaseRenewal.scheduleDeferredExpiry(() -> {
 
-			onAfterLeaseRenewed(requestedSecret, newLease);
-		}
+			if (this.status == STATUS_DESTROYED) {
+				return;
+			}
 
-		return newLease;
+			if (rotated) {
+				super.onLeaseExpired(secret, lease);
+			}
+			else {
+				// pre-rotation failed, fall back to rotation on expiry.
+				onLeaseExpired(secret, lease);
+			}
+		}, remaining);
 	}
 
 	private void scheduleLeaseRotation(RequestedSecret secret, Lease lease,
@@ -603,12 +1337,27 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 		logRenewalCandidate(secret, lease, "rotation");
 
+		if (!rotationOverlap.isZero()) {
+
+			leaseRenewal.scheduleRenewal(secret, leaseToRotate -> {
+
+				Duration remaining = leaseRenewal.getTimeToExpiry();
+				preRotate(secret, lease,
+						remaining != null ? remaining : lease.getLeaseDuration());
+
+				return Lease.none(); // rotation creates a new lease.
+			}, lease, getMinRenewal(), getRotationThreshold(), this.renewalJitter);
+
+			return;
+		}
+
 		leaseRenewal.scheduleRenewal(secret, leaseToRotate -> {
 
 			onLeaseExpired(secret, lease);
 
 			return Lease.none(); // rotation creates a new lease.
-		}, lease, getMinRenewal(), getExpiryThreshold());
+		}, lease, getMinRenewal(), getExpiryThreshold(),
+				this.renewalJitter);
 	}
 
 	private LeaseRenewalScheduler getRenewalSchedulder(RequestedSecret secret) {
@@ -694,6 +1443,10 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 				return Lease.none();
 			}
 
+			if (lease.hasLeaseId() && retryPolicy != null) {
+				retryPolicy.onSuccess();
+			}
+
 			return renewed;
 		}
 		catch (RuntimeException e) {
@@ -726,11 +1479,65 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 				return Lease.none();
 			}
 			else {
+				scheduleRenewalRetry(requestedSecret, lease, exceptionToUse);
 				return lease;
 			}
 		}
 	}
 
+	private void scheduleRenewalRetry(RequestedSecret requestedSecret, Lease lease,
+			Exception e) {
+
+		RetryPolicy retryPolicy = this.retryPolicy;
+		LeaseRenewalScheduler leaseRenewal = this.renewals.get(requestedSecret);
+
+		if (retryPolicy == null || leaseRenewal == null) {
+			return;
+		}
+
+		leaseRenewal.renewalFailed(lease);
+		Duration timeToExpiry = leaseRenewal.getTimeToExpiry();
+
+		if (timeToExpiry == null) {
+			return;
+		}
+
+		int attempt = leaseRenewal.nextRetryAttempt();
+		Duration delay = retryPolicy.getRetryDelay(attempt, e, timeToExpiry);
+
+		if (delay == null) {
+
+			if (log.isDebugEnabled()) {
+				log.debug(String.format(
+						"Not retrying renewal of lease %s for secret %s after attempt %d, lease expires in %d ms",
+						lease.getLeaseId(), requestedSecret.getPath(), attempt,
+						timeToExpiry.toMillis()));
+			}
+
+			// Let the lease expire without renewing it again.
+			leaseRenewal.scheduleExpiry(lease, () -> {
+
+				if (status != STATUS_DESTROYED && leaseRenewal.isRenewalFailed(lease)) {
+					onLeaseExpired(requestedSecret, lease);
+				}
+			});
+
+			return;
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug(String.format(
+					"Retrying renewal of lease %s for secret %s in %d ms (attempt %d)",
+					lease.getLeaseId(), requestedSecret.getPath(), delay.toMillis(),
+					attempt));
+		}
+
+		leaseRenewal.scheduleRetry(requestedSecret,
+				leaseToRenew -> renewAndSchedule(requestedSecret, leaseRenewal,
+						leaseToRenew),
+				lease, delay);
+	}
+
 	@Nullable
 	private HttpStatusCodeException potentiallyUnwrapHttpStatusCodeException(
 			RuntimeException e) {
@@ -762,10 +1569,76 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 	 */
 	protected void onLeaseExpired(RequestedSecret requestedSecret, Lease lease) {
 
+		LeaseRenewalScheduler leaseRenewal = renewals.get(requestedSecret);
+
+		if (leaseRenewal != null) {
+			leaseRenewal.cancelDeferredExpiry();
+		}
+
+		journal(journal -> journal.remove(requestedSecret));
+
 		super.onLeaseExpired(requestedSecret, lease);
 
 		if (requestedSecret.getMode() == Mode.ROTATE) {
-			start(requestedSecret, renewals.get(requestedSecret));
+
+			long start = System.nanoTime();
+			boolean rotated = start(requestedSecret, renewals.get(requestedSecret));
+
+			leaseMetrics.recordRotation(requestedSecret,
+					Duration.ofNanos(System.nanoTime() - start), rotated);
+		}
+	}
+
+	@Override
+	protected void onSecretsObtained(RequestedSecret requestedSecret, Lease lease,
+			Map<String, Object> body) {
+
+		if (lease.hasLeaseId()) {
+			journal(journal -> journal.record(requestedSecret, lease, body));
+		}
+
+		leaseMetrics.secretsObtained(requestedSecret, lease);
+
+		this.holders.computeIfAbsent(requestedSecret, SecretHolder::new).update(lease,
+				body);
+
+		super.onSecretsObtained(requestedSecret, lease, body);
+	}
+
+	@Override
+	protected void onAfterLeaseRenewed(RequestedSecret requestedSecret, Lease lease) {
+
+		journal(journal -> journal.update(requestedSecret, lease));
+
+		super.onAfterLeaseRenewed(requestedSecret, lease);
+	}
+
+	@Override
+	protected void onAfterLeaseRevocation(RequestedSecret requestedSecret, Lease lease) {
+
+		Map<RequestedSecret, Lease> pendingRevocations = this.pendingRevocations;
+		if (pendingRevocations != null) {
+			pendingRevocations.remove(requestedSecret);
+		}
+
+		journal(journal -> journal.remove(requestedSecret));
+
+		super.onAfterLeaseRevocation(requestedSecret, lease);
+	}
+
+	private void journal(Consumer<LeaseJournal> action) {
+
+		LeaseJournal leaseJournal = this.leaseJournal;
+
+		if (leaseJournal == null) {
+			return;
+		}
+
+		try {
+			action.accept(leaseJournal);
+		}
+		catch (RuntimeException e) {
+			log.warn("Cannot update lease journal", e);
 		}
 	}
 
@@ -782,10 +1655,7 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 			onBeforeLeaseRevocation(requestedSecret, lease);
 
-			operations.doWithSession(restOperations -> {
-				leaseEndpoints.revoke(lease, restOperations);
-				return null;
-			});
+			revoke(requestedSecret, lease);
 
 			onAfterLeaseRevocation(requestedSecret, lease);
 		}
@@ -799,6 +1669,78 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		}
 	}
 
+	/**
+	 * Revoke multiple {@link Lease leases} sharing a common lease Id {@code prefix}
+	 * using prefix-based revocation.
+	 *
+	 * @param prefix the lease Id prefix.
+	 * @param leases the {@link Lease leases} to revoke.
+	 * @since 2.2
+	 */
+	protected void doRevokeLeases(String prefix, Map<RequestedSecret, Lease> leases) {
+
+		leases.forEach(this::onBeforeLeaseRevocation);
+
+		long start = System.nanoTime();
+		boolean successful = false;
+
+		try {
+
+			operations.doWithSession(restOperations -> {
+				leaseEndpoints.revokePrefix(prefix, restOperations);
+				return null;
+			});
+
+			successful = true;
+		}
+		catch (RuntimeException e) {
+
+			Exception exceptionToUse = e;
+			if (e instanceof HttpStatusCodeException) {
+				exceptionToUse = new VaultException(String.format(
+						"Cannot revoke leases with prefix %s: %s", prefix,
+						VaultResponses.getError(((HttpStatusCodeException) e)
+								.getResponseBodyAsString())),
+						e);
+			}
+
+			for (Entry<RequestedSecret, Lease> entry : leases.entrySet()) {
+				onError(entry.getKey(), entry.getValue(), exceptionToUse);
+			}
+		}
+		finally {
+
+			Duration latency = Duration.ofNanos(System.nanoTime() - start);
+			for (RequestedSecret requestedSecret : leases.keySet()) {
+				leaseMetrics.recordRevocation(requestedSecret, latency, successful);
+			}
+		}
+
+		if (successful) {
+			leases.forEach(this::onAfterLeaseRevocation);
+		}
+	}
+
+	private void revoke(RequestedSecret requestedSecret, Lease lease) {
+
+		long start = System.nanoTime();
+		boolean successful = false;
+
+		try {
+
+			operations.doWithSession(restOperations -> {
+				leaseEndpoints.revoke(lease, restOperations);
+				return null;
+			});
+
+			successful = true;
+		}
+		finally {
+			leaseMetrics.recordRevocation(requestedSecret,
+					Duration.ofNanos(System.nanoTime() - start), successful);
+		}
+	}
+
 	/**
 	 * Abstracts scheduled lease renewal. A {@link LeaseRenewalScheduler} can be accessed
 	 * concurrently to schedule lease renewal. Each renewal run checks if the previously
@@ -816,6 +1758,20 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 		final Map<Lease, ScheduledFuture<?>> schedules = new ConcurrentHashMap<>();
 
+		private volatile long leaseTimestamp;
+
+		private final AtomicInteger retryAttempts = new AtomicInteger();
+
+		/**
+		 * {@link Lease} whose renewal failed. Its renewal is either retried or the
+		 * {@link Lease} is left to expire.
+		 */
+		@Nullable
+		private volatile Lease failedLease;
+
+		private final AtomicReference<ScheduledFuture<?>> deferredExpiry =
+				new AtomicReference<>();
+
 		/**
 		 *
 		 * @param taskScheduler must not be {@literal null}.
@@ -833,9 +1789,11 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		 * @param minRenewal minimum duration before renewing a {@link Lease}. This is to
 		 *     prevent too many renewals in a very short timeframe.
 		 * @param expiryThreshold duration to renew before {@link Lease}.
+		 * @param renewalJitter jitter to apply to the renewal delay.
 		 */
 		void scheduleRenewal(RequestedSecret requestedSecret, RenewLease renewLease,
-				Lease lease, Duration minRenewal, Duration expiryThreshold) {
+				Lease lease, Duration minRenewal, Duration expiryThreshold,
+				RenewalJitter renewalJitter) {
 
 			if (log.isDebugEnabled()) {
 				if (lease.hasLeaseId()) {
@@ -853,13 +1811,131 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 			}
 
 			Lease currentLease = this.currentLeaseRef.get();
+			this.leaseTimestamp = System.currentTimeMillis();
+			this.retryAttempts.set(0);
+			this.failedLease = null;
 			this.currentLeaseRef.set(lease);
 
 			if (currentLease != null) {
 				cancelSchedule(currentLease);
 			}
 
-			Runnable task = new Runnable() {
+			ScheduledFuture<?> scheduledFuture = taskScheduler.schedule(
+					createRenewalTask(requestedSecret, renewLease, lease),
+					new OneShotTrigger(
+							getRenewalSeconds(lease, minRenewal, expiryThreshold,
+									renewalJitter)));
+
+			schedules.put(lease, scheduledFuture);
+		}
+
+		/**
+		 * Schedule a retry for a failed {@link Lease} renewal after {@code delay}. The
+		 * retry is skipped if the current {@link Lease} has changed in the meantime.
+		 *
+		 * @param requestedSecret the requested secret.
+		 * @param renewLease strategy to renew a {@link Lease}.
+		 * @param lease the {@link Lease} to renew.
+		 * @param delay the delay until retrying the renewal.
+		 */
+		void scheduleRetry(RequestedSecret requestedSecret, RenewLease renewLease,
+				Lease lease, Duration delay) {
+
+			if (currentLeaseRef.get() != lease) {
+				return;
+			}
+
+			cancelSchedule(lease);
+			this.failedLease = lease;
+
+			ScheduledFuture<?> scheduledFuture = taskScheduler.schedule(
+					createRenewalTask(requestedSecret, renewLease, lease),
+					new Date(System.currentTimeMillis() + delay.toMillis()));
+
+			schedules.put(lease, scheduledFuture);
+		}
+
+		/**
+		 * Schedule the deferred expiry notification for a pre-rotated {@link Lease}
+		 * after {@code delay}. A previously scheduled deferred expiry is canceled.
+		 *
+		 * @param expiry the expiry notification.
+		 * @param delay the delay until the pre-rotated {@link Lease} expires.
+		 */
+		void scheduleDeferredExpiry(Runnable expiry, Duration delay) {
+
+			ScheduledFuture<?> previous = deferredExpiry.getAndSet(taskScheduler
+					.schedule(expiry, new OneShotTrigger(delay.getSeconds())));
+
+			if (previous != null) {
+				previous.cancel(false);
+			}
+		}
+
+		/**
+		 * Cancel a scheduled deferred expiry notification, if any.
+		 */
+		void cancelDeferredExpiry() {
+
+			ScheduledFuture<?> scheduledFuture = deferredExpiry.getAndSet(null);
+
+			if (scheduledFuture != null) {
+				scheduledFuture.cancel(false);
+			}
+		}
+
+		/**
+		 * @return the number of the next retry attempt for the current {@link Lease}.
+		 */
+		int nextRetryAttempt() {
+			return retryAttempts.incrementAndGet();
+		}
+
+		/**
+		 * Record that renewing the current {@link Lease} has failed.
+		 *
+		 * @param lease the {@link Lease} that could not be renewed.
+		 */
+		void renewalFailed(Lease lease) {
+
+			if (currentLeaseRef.get() == lease) {
+				this.failedLease = lease;
+			}
+		}
+
+		/**
+		 * @param lease the {@link Lease} to inspect.
+		 * @return {@literal true} if renewing {@code lease} has failed and the
+		 * {@link Lease} is still current.
+		 */
+		boolean isRenewalFailed(Lease lease) {
+			return failedLease == lease && currentLeaseRef.get() == lease;
+		}
+
+		/**
+		 * Stop renewing {@code lease} and schedule its expiry notification once its
+		 * remaining time to live has elapsed. Keeps the lease timestamp and retry state
+		 * so the remaining time to live is not reset.
+		 *
+		 * @param lease the {@link Lease} to expire.
+		 * @param expiry the expiry notification.
+		 */
+		void scheduleExpiry(Lease lease, Runnable expiry) {
+
+			Duration timeToExpiry = getTimeToExpiry();
+
+			if (currentLeaseRef.get() != lease || timeToExpiry == null) {
+				return;
+			}
+
+			cancelSchedule(lease);
+			scheduleDeferredExpiry(expiry, timeToExpiry);
+		}
+
+		private Runnable createRenewalTask(RequestedSecret requestedSecret,
+				RenewLease renewLease, Lease lease) {
+
+			return new Runnable() {
 
 				@Override
 				public void run() {
@@ -896,12 +1972,6 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 					}
 				}
 			};
-
-			ScheduledFuture<?> scheduledFuture = taskScheduler.schedule(task,
-					new OneShotTrigger(
-							getRenewalSeconds(lease, minRenewal, expiryThreshold)));
-
-			schedules.put(lease, scheduledFuture);
 		}
 
 		private void cancelSchedule(Lease lease) {
@@ -925,6 +1995,7 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		void disableScheduleRenewal() {
 
 			currentLeaseRef.set(null);
+			cancelDeferredExpiry();
 			Set<Lease> leases = new HashSet<>(schedules.keySet());
 
 			for (Lease lease : leases) {
@@ -934,9 +2005,16 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		}
 
 		private long getRenewalSeconds(Lease lease, Duration minRenewal,
-				Duration expiryThreshold) {
+				Duration expiryThreshold, RenewalJitter renewalJitter) {
+
+			Duration delay = lease.getLeaseDuration().minus(expiryThreshold);
+
+			if (delay.isNegative()) {
+				return minRenewal.getSeconds();
+			}
+
 			return Math.max(minRenewal.getSeconds(),
-					lease.getLeaseDuration().getSeconds() - expiryThreshold.getSeconds());
+					renewalJitter.apply(delay).getSeconds());
 		}
 
 		private boolean isLeaseRenewable(@Nullable Lease lease,
@@ -962,6 +2040,25 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 			return currentLeaseRef.get();
 		}
 
+		/**
+		 * @return the remaining time until the current {@link Lease} expires or
+		 * {@literal null} if there is no current {@link Lease}.
+		 */
+		@Nullable
+		Duration getTimeToExpiry() {
+
+			Lease lease = currentLeaseRef.get();
+
+			if (lease == null) {
+				return null;
+			}
+
+			long elapsed = System.currentTimeMillis() - leaseTimestamp;
+			long remaining = lease.getLeaseDuration().toMillis() - elapsed;
+
+			return Duration.ofMillis(Math.max(0, remaining));
+		}
+
 		private boolean isLeaseRotateOnly(Lease lease, RequestedSecret requestedSecret) {
 
 			if (lease == null) {
@@ -973,6 +2070,76 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		}
 	}
 
+	/**
+	 * Retrieval of a single secret during {@link #startConcurrently(Map) concurrent
+	 * startup}. The starting thread and the worker thread agree on ownership of the
+	 * obtained secrets: either the starting thread picks them up or the retrieval was
+	 * abandoned after the startup deadline and the worker revokes the lease it obtained.
+	 */
+	private class StartupRetrieval
+			implements Callable<VaultResponseSupport<Map<String, Object>>> {
+
+		private static final int RUNNING = 0;
+
+		private static final int COMPLETED = 1;
+
+		private static final int ABANDONED = 2;
+
+		private final RequestedSecret requestedSecret;
+
+		private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+		@Nullable
+		private volatile VaultResponseSupport<Map<String, Object>> secrets;
+
+		@Nullable
+		private Future<VaultResponseSupport<Map<String, Object>>> future;
+
+		StartupRetrieval(RequestedSecret requestedSecret) {
+			this.requestedSecret = requestedSecret;
+		}
+
+		@Nullable
+		@Override
+		public VaultResponseSupport<Map<String, Object>> call() {
+
+			if (this.state.get() == ABANDONED) {
+				return null;
+			}
+
+			VaultResponseSupport<Map<String, Object>> obtained = getSecrets(
+					this.requestedSecret);
+			this.secrets = obtained;
+
+			if (this.state.compareAndSet(RUNNING, COMPLETED)) {
+				return obtained;
+			}
+
+			revokeAbandoned(this.requestedSecret, obtained);
+			return null;
+		}
+
+		/**
+		 * Abandon this retrieval.
+		 *
+		 * @return {@literal true} if the retrieval was abandoned; {@literal false} if it
+		 *     completed already and its secrets are available.
+		 */
+		boolean abandon() {
+
+			if (this.state.compareAndSet(RUNNING, ABANDONED)) {
+
+				Future<?> future = this.future;
+				if (future != null) {
+					future.cancel(false);
+				}
+				return true;
+			}
+
+			return false;
+		}
+	}
+
 	/**
 	 * This one-shot trigger creates only one execution time to trigger an execution only
 	 * once.
@@ -16,8 +16,15 @@
 package org.springframework.vault.core.lease;
 
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -44,6 +51,15 @@ import org.springframework.vault.core.lease.event.SecretNotFoundEvent;
  * This publisher dispatches events to {@link LeaseListener} and
  * {@link LeaseErrorListener}. Instances are thread-safe once {@link #afterPropertiesSet()
  * initialized}.
+ * <p>
+ * Events are dispatched on the calling thread by default. Configuring an
+ * {@link #setEventExecutor(Executor) event executor} decouples listeners from the
+ * calling (renewal) thread: each listener is assigned a bounded queue that is drained by
+ * the {@link Executor} so that a listener receives events in the order they were
+ * published while a slow listener does not delay other listeners or lease renewal.
+ * Events exceeding the {@link #setEventQueueCapacity(int) queue capacity} of a listener
+ * and events queued while the {@link Executor} rejects dispatch tasks are dropped and
+ * counted as {@link #getDroppedEventCount() dropped events}.
  *
  * @author Mark Paluch
  * @see SecretLeaseEvent
@@ -52,10 +68,70 @@ import org.springframework.vault.core.lease.event.SecretNotFoundEvent;
  */
 public class SecretLeaseEventPublisher implements InitializingBean {
 
+	private static final Log log = LogFactory.getLog(SecretLeaseEventPublisher.class);
+
 	private final Set<LeaseListener> leaseListeners = new CopyOnWriteArraySet<>();
 
 	private final Set<LeaseErrorListener> leaseErrorListeners = new CopyOnWriteArraySet<>();
 
+	private final Map<Object, SerialDispatcher> dispatchers = new ConcurrentHashMap<>();
+
+	private final AtomicLong droppedEvents = new AtomicLong();
+
+	@Nullable
+	private Executor eventExecutor;
+
+	private int eventQueueCapacity = 1000;
+
+	/**
+	 * Set the {@link Executor} to dispatch events to listeners asynchronously. Events
+	 * are dispatched on the calling thread if no executor is configured. The
+	 * {@link Executor} lifecycle is not managed by this publisher.
+	 *
+	 * @param eventExecutor the executor to use, may be {@literal null} to dispatch events
+	 * synchronously.
+	 */
+	public void setEventExecutor(@Nullable Executor eventExecutor) {
+		this.eventExecutor = eventExecutor;
+	}
+
+	/**
+	 * Set the maximal number of pending events per listener when using an
+	 * {@link #setEventExecutor(Executor) event executor}. Events exceeding the capacity
+	 * are dropped. Defaults to {@literal 1000}.
+	 *
+	 * @param eventQueueCapacity the queue capacity, must be greater than zero.
+	 */
+	public void setEventQueueCapacity(int eventQueueCapacity) {
+
+		Assert.isTrue(eventQueueCapacity > 0,
+				"Event queue capacity must be greater than zero");
+
+		this.eventQueueCapacity = eventQueueCapacity;
+	}
+
+	/**
+	 * @return the number of events awaiting asynchronous dispatch across all listeners.
+	 */
+	public int getPendingEventCount() {
+
+		int pending = 0;
+		for (SerialDispatcher dispatcher : this.dispatchers.values()) {
+			pending += dispatcher.queue.size();
+		}
+
+		return pending;
+	}
+
+	/**
+	 * @return the number of events that were dropped because a listener queue exceeded
+	 * its {@link #setEventQueueCapacity(int) capacity} or because the
+	 * {@link #setEventExecutor(Executor) event executor} rejected dispatching.
+	 */
+	public long getDroppedEventCount() {
+		return this.droppedEvents.get();
+	}
+
 	/**
 	 * Add a {@link LeaseListener} to the container. The listener starts receiving events
 	 * as soon as possible.
@@ -76,6 +152,7 @@ public class SecretLeaseEventPublisher implements InitializingBean {
 	 */
 	public void removeLeaseListener(LeaseListener listener) {
 		this.leaseListeners.remove(listener);
+		this.dispatchers.remove(listener);
 	}
 
 	/**
@@ -98,6 +175,7 @@ public class SecretLeaseEventPublisher implements InitializingBean {
 	 */
 	public void removeLeaseErrorListener(LeaseErrorListener listener) {
 		this.leaseErrorListeners.remove(listener);
+		this.dispatchers.remove(listener);
 	}
 
 	@Override
@@ -203,7 +281,7 @@ public class SecretLeaseEventPublisher implements InitializingBean {
 	void dispatch(SecretLeaseEvent leaseEvent) {
 
 		for (LeaseListener listener : leaseListeners) {
-			listener.onLeaseEvent(leaseEvent);
+			dispatch(listener, leaseEvent, () -> listener.onLeaseEvent(leaseEvent));
 		}
 	}
 
@@ -215,7 +293,115 @@ public class SecretLeaseEventPublisher implements InitializingBean {
 	void dispatch(SecretLeaseErrorEvent errorEvent) {
 
 		for (LeaseErrorListener listener : leaseErrorListeners) {
-			listener.onLeaseError(errorEvent, (Exception) errorEvent.getException());
+			dispatch(listener, errorEvent, () -> listener.onLeaseError(errorEvent,
+					(Exception) errorEvent.getException()));
+		}
+	}
+
+	private void dispatch(Object listener, SecretLeaseEvent event, Runnable notification) {
+
+		Executor executor = this.eventExecutor;
+
+		if (executor == null) {
+			notification.run();
+			return;
+		}
+
+		SerialDispatcher dispatcher = this.dispatchers.computeIfAbsent(listener,
+				it -> new SerialDispatcher(this.eventQueueCapacity, this.droppedEvents));
+
+		if (!dispatcher.offer(notification, executor)) {
+
+			this.droppedEvents.incrementAndGet();
+
+			if (log.isWarnEnabled()) {
+				log.warn(String.format(
+						"[%s] Dropping %s for listener %s: event queue capacity exceeded",
+						event.getSource(), event.getClass().getSimpleName(), listener));
+			}
+		}
+	}
+
+	/**
+	 * Dispatcher draining a bounded queue of notifications for a single listener. At most
+	 * one drain task is submitted to the {@link Executor} at a time to retain event
+	 * ordering.
+	 */
+	static class SerialDispatcher {
+
+		final Queue<Runnable> queue;
+
+		private final AtomicLong droppedEvents;
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		SerialDispatcher(int capacity, AtomicLong droppedEvents) {
+			this.queue = new LinkedBlockingQueue<>(capacity);
+			this.droppedEvents = droppedEvents;
+		}
+
+		boolean offer(Runnable notification, Executor executor) {
+
+			if (!this.queue.offer(notification)) {
+				return false;
+			}
+
+			schedule(executor);
+			return true;
+		}
+
+		private void schedule(Executor executor) {
+
+			if (!this.scheduled.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				executor.execute(() -> drain(executor));
+			}
+			catch (RejectedExecutionException e) {
+
+				int dropped = 0;
+				while (this.queue.poll() != null) {
+					dropped++;
+				}
+
+				this.droppedEvents.addAndGet(dropped);
+				this.scheduled.set(false);
+
+				log.warn(String.format(
+						"Dropping %d lease event(s): executor rejected dispatch task",
+						dropped), e);
+
+				// events offered concurrently did not schedule a drain.
+				if (!this.queue.isEmpty()) {
+					schedule(executor);
+				}
+			}
+		}
+
+		private void drain(Executor executor) {
+
+			try {
+
+				Runnable notification;
+				while ((notification = this.queue.poll()) != null) {
+					try {
+						notification.run();
+					}
+					catch (RuntimeException e) {
+						log.warn("Lease listener failed to process event", e);
+					}
+				}
+			}
+			finally {
+
+				this.scheduled.set(false);
+
+				if (!this.queue.isEmpty()) {
+					schedule(executor);
+				}
+			}
 		}
 	}
 
@@ -18,15 +18,50 @@ package org.springframework.vault.support;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
- * Client options for Vault.
+ * Client options for Vault. Client options configure timeouts and connection pooling of
+ * the HTTP client used to access Vault. Connection pool settings are applied by HTTP
+ * clients that support connection pooling. Settings not supported by a particular HTTP
+ * client are ignored:
+ * <ul>
+ * <li>Apache HTTP Components: all settings.</li>
+ * <li>OkHttp: maximum connections (limits idle connections only), idle timeout.</li>
+ * <li>Reactor Netty: maximum connections per route, idle timeout.</li>
+ * <li>Jetty: maximum connections per route, idle timeout.</li>
+ * </ul>
+ * Netty and the JDK HTTP clients do not use configurable connection pools.
  *
  * @author Mark Paluch
+ * @see #builder()
  */
 public class ClientOptions {
 
+	/**
+	 * Default maximum number of connections.
+	 *
+	 * @since 2.2
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS = 100;
+
+	/**
+	 * Default maximum number of connections per route.
+	 *
+	 * @since 2.2
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
+
+	/**
+	 * Default period of inactivity after which pooled connections are validated before
+	 * reuse.
+	 *
+	 * @since 2.2
+	 */
+	public static final Duration DEFAULT_VALIDATE_AFTER_INACTIVITY = Duration
+			.ofSeconds(2);
+
 	/**
 	 * Connection timeout;
 	 */
@@ -37,6 +72,20 @@ public class ClientOptions {
 	 */
 	private final Duration readTimeout;
 
+	private final int maxConnections;
+
+	private final int maxConnectionsPerRoute;
+
+	@Nullable
+	private final Duration idleTimeout;
+
+	@Nullable
+	private final Duration keepAlive;
+
+	private final Duration validateAfterInactivity;
+
+	private final ConnectionPoolMetrics connectionPoolMetrics;
+
 	/**
 	 * Create new {@link ClientOptions} with default timeouts of {@literal 5}
 	 * {@link TimeUnit#SECONDS} connection timeout and {@literal 15}
@@ -69,12 +118,36 @@ public class ClientOptions {
 	 * @since 2.0
 	 */
 	public ClientOptions(Duration connectionTimeout, Duration readTimeout) {
+		this(connectionTimeout, readTimeout, DEFAULT_MAX_CONNECTIONS,
+				DEFAULT_MAX_CONNECTIONS_PER_ROUTE, null, null,
+				DEFAULT_VALIDATE_AFTER_INACTIVITY, ConnectionPoolMetrics.none());
+	}
+
+	private ClientOptions(Duration connectionTimeout, Duration readTimeout,
+			int maxConnections, int maxConnectionsPerRoute,
+			@Nullable Duration idleTimeout, @Nullable Duration keepAlive,
+			Duration validateAfterInactivity,
+			ConnectionPoolMetrics connectionPoolMetrics) {
 
 		Assert.notNull(connectionTimeout, "Connection timeout must not be null");
 		Assert.notNull(readTimeout, "Read timeout must not be null");
 
 		this.connectionTimeout = connectionTimeout;
 		this.readTimeout = readTimeout;
+		this.maxConnections = maxConnections;
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		this.idleTimeout = idleTimeout;
+		this.keepAlive = keepAlive;
+		this.validateAfterInactivity = validateAfterInactivity;
+		this.connectionPoolMetrics = connectionPoolMetrics;
+	}
+
+	/**
+	 * @return a new {@link ClientOptionsBuilder}.
+	 * @since 2.2
+	 */
+	public static ClientOptionsBuilder builder() {
+		return new ClientOptionsBuilder();
 	}
 
 	/**
@@ -90,4 +163,234 @@ public class ClientOptions {
 	public Duration getReadTimeout() {
 		return readTimeout;
 	}
+
+	/**
+	 * @return the maximum number of pooled connections.
+	 * @since 2.2
+	 */
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * @return the maximum number of pooled connections per route (target host).
+	 * @since 2.2
+	 */
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	/**
+	 * @return the duration after which idle connections are evicted from the pool. May
+	 * be {@literal null} to use the HTTP client default.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Duration getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * @return the maximum duration to keep a connection alive for reuse. May be
+	 * {@literal null} to keep connections alive as long as the server permits.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Duration getKeepAlive() {
+		return keepAlive;
+	}
+
+	/**
+	 * @return the period of inactivity after which pooled connections are validated
+	 * before reuse.
+	 * @since 2.2
+	 */
+	public Duration getValidateAfterInactivity() {
+		return validateAfterInactivity;
+	}
+
+	/**
+	 * @return the {@link ConnectionPoolMetrics} to report connection pool occupancy.
+	 * @since 2.2
+	 */
+	public ConnectionPoolMetrics getConnectionPoolMetrics() {
+		return connectionPoolMetrics;
+	}
+
+	/**
+	 * Builder for {@link ClientOptions}.
+	 *
+	 * @since 2.2
+	 */
+	public static class ClientOptionsBuilder {
+
+		private Duration connectionTimeout = Duration.ofSeconds(5);
+
+		private Duration readTimeout = Duration.ofSeconds(15);
+
+		private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+		private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+		@Nullable
+		private Duration idleTimeout;
+
+		@Nullable
+		private Duration keepAlive;
+
+		private Duration validateAfterInactivity = DEFAULT_VALIDATE_AFTER_INACTIVITY;
+
+		private ConnectionPoolMetrics connectionPoolMetrics = ConnectionPoolMetrics
+				.none();
+
+		ClientOptionsBuilder() {
+		}
+
+		/**
+		 * Configure the connection timeout. Defaults to {@literal 5}
+		 * {@link TimeUnit#SECONDS}.
+		 *
+		 * @param connectionTimeout must not be {@literal null} or negative.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder connectionTimeout(Duration connectionTimeout) {
+
+			assertNotNegative(connectionTimeout, "Connection timeout");
+
+			this.connectionTimeout = connectionTimeout;
+			return this;
+		}
+
+		/**
+		 * Configure the read timeout. Defaults to {@literal 15} {@link TimeUnit#SECONDS}.
+		 *
+		 * @param readTimeout must not be {@literal null} or negative.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder readTimeout(Duration readTimeout) {
+
+			assertNotNegative(readTimeout, "Read timeout");
+
+			this.readTimeout = readTimeout;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of pooled connections. Defaults to
+		 * {@link #DEFAULT_MAX_CONNECTIONS}. OkHttp applies this setting to the number of
+		 * idle connections kept in its pool.
+		 *
+		 * @param maxConnections must be greater than zero.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder maxConnections(int maxConnections) {
+
+			Assert.isTrue(maxConnections > 0,
+					"Max connections must be greater than zero");
+
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of pooled connections per route (target host).
+		 * Defaults to {@link #DEFAULT_MAX_CONNECTIONS_PER_ROUTE}.
+		 *
+		 * @param maxConnectionsPerRoute must be greater than zero.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+
+			Assert.isTrue(maxConnectionsPerRoute > 0,
+					"Max connections per route must be greater than zero");
+
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			return this;
+		}
+
+		/**
+		 * Configure the duration after which idle connections are evicted from the
+		 * pool.
+		 *
+		 * @param idleTimeout must not be {@literal null} and must be greater than zero.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder idleTimeout(Duration idleTimeout) {
+
+			Assert.notNull(idleTimeout, "Idle timeout must not be null");
+			Assert.isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(),
+					"Idle timeout must be greater than zero");
+
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum duration to keep a connection alive for reuse.
+		 * Connections are closed once they exceed this duration regardless of their
+		 * activity.
+		 *
+		 * @param keepAlive must not be {@literal null} or negative.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder keepAlive(Duration keepAlive) {
+
+			assertNotNegative(keepAlive, "Keep-alive");
+
+			this.keepAlive = keepAlive;
+			return this;
+		}
+
+		/**
+		 * Configure the period of inactivity after which pooled connections are
+		 * validated before reuse. Defaults to {@link #DEFAULT_VALIDATE_AFTER_INACTIVITY}.
+		 *
+		 * @param validateAfterInactivity must not be {@literal null} or negative.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder validateAfterInactivity(
+				Duration validateAfterInactivity) {
+
+			assertNotNegative(validateAfterInactivity, "Validate after inactivity");
+
+			this.validateAfterInactivity = validateAfterInactivity;
+			return this;
+		}
+
+		/**
+		 * Configure {@link ConnectionPoolMetrics} to report connection pool occupancy.
+		 *
+		 * @param connectionPoolMetrics must not be {@literal null}.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder connectionPoolMetrics(
+				ConnectionPoolMetrics connectionPoolMetrics) {
+
+			Assert.notNull(connectionPoolMetrics, "ConnectionPoolMetrics must not be null");
+
+			this.connectionPoolMetrics = connectionPoolMetrics;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link ClientOptions} instance.
+		 *
+		 * @return a new {@link ClientOptions}.
+		 */
+		public ClientOptions build() {
+
+			Assert.isTrue(maxConnectionsPerRoute <= maxConnections,
+					"Max connections per route must not exceed max connections");
+
+			return new ClientOptions(connectionTimeout, readTimeout, maxConnections,
+					maxConnectionsPerRoute, idleTimeout, keepAlive,
+					validateAfterInactivity, connectionPoolMetrics);
+		}
+
+		private static void assertNotNegative(Duration duration, String name) {
+
+			Assert.notNull(duration, name + " must not be null");
+			Assert.isTrue(!duration.isNegative(), name + " must not be negative");
+		}
+	}
 }
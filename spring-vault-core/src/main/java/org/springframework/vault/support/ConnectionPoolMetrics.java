@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+/**
+ * Instrumentation callback to report connection pool occupancy of the HTTP client
+ * created from {@link ClientOptions}. The HTTP client factory {@link #bindTo binds} the
+ * {@link ConnectionPool} once the HTTP client is created. Implementations typically
+ * register gauges that query the {@link ConnectionPool} on demand.
+ * <p>
+ * Connection pool statistics are supported for Apache HTTP Components, OkHttp and Jetty.
+ * OkHttp does not queue synchronous requests and does not limit the total number of
+ * connections and therefore reports neither pending requests nor a maximum.
+ *
+ * @author agent
+ * @since 2.2
+ * @see ClientOptions#getConnectionPoolMetrics()
+ */
+@FunctionalInterface
+public interface ConnectionPoolMetrics {
+
+	/**
+	 * Bind to the {@link ConnectionPool} of a HTTP client.
+	 *
+	 * @param connectionPool the connection pool of the HTTP client.
+	 */
+	void bindTo(ConnectionPool connectionPool);
+
+	/**
+	 * Return a {@link ConnectionPoolMetrics} instance that does not record anything.
+	 *
+	 * @return a no-op {@link ConnectionPoolMetrics}.
+	 */
+	static ConnectionPoolMetrics none() {
+		return connectionPool -> {};
+	}
+
+	/**
+	 * View on the current connection pool occupancy.
+	 */
+	interface ConnectionPool {
+
+		/**
+		 * @return the number of connections currently in use.
+		 */
+		int getLeasedConnections();
+
+		/**
+		 * @return the number of idle connections available for reuse.
+		 */
+		int getIdleConnections();
+
+		/**
+		 * @return the number of requests waiting for a connection or {@literal 0} if
+		 * the HTTP client does not queue requests.
+		 */
+		int getPendingRequests();
+
+		/**
+		 * @return the maximum number of connections or {@literal -1} if the HTTP client
+		 * does not limit the number of connections.
+		 */
+		int getMaxConnections();
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Local file holding content encrypted with {@literal AES/GCM}. The file consists of a
+ * format version byte, the initialization vector and the ciphertext. Files are written
+ * atomically through a temporary file with owner-only permissions on file systems that
+ * support POSIX file attributes.
+ * <p>
+ * Used by components that persist sensitive state such as leases or login tokens
+ * across restarts.
+ *
+ * @author agent
+ * @since 2.2
+ */
+public class EncryptedFile {
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private static final byte VERSION = 1;
+
+	private static final int IV_LENGTH = 12;
+
+	private static final int TAG_LENGTH_BITS = 128;
+
+	private final SecureRandom random = new SecureRandom();
+
+	private final Path file;
+
+	private final SecretKey key;
+
+	/**
+	 * Create a new {@link EncryptedFile} given {@link Path} and AES key.
+	 *
+	 * @param file the file, must not be {@literal null}.
+	 * @param key the AES key, must not be {@literal null} and must be 16, 24 or 32 bytes
+	 *     long.
+	 */
+	public EncryptedFile(Path file, byte[] key) {
+		this(file, createKey(key));
+	}
+
+	/**
+	 * Create a new {@link EncryptedFile} given {@link Path} and {@link SecretKey}.
+	 *
+	 * @param file the file, must not be {@literal null}.
+	 * @param key the AES {@link SecretKey}, must not be {@literal null}.
+	 */
+	public EncryptedFile(Path file, SecretKey key) {
+
+		Assert.notNull(file, "File must not be null");
+		Assert.notNull(key, "SecretKey must not be null");
+		Assert.isTrue("AES".equalsIgnoreCase(key.getAlgorithm()),
+				"SecretKey must be an AES key");
+
+		this.file = file;
+		this.key = key;
+	}
+
+	private static SecretKey createKey(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.isTrue(key.length == 16 || key.length == 24 || key.length == 32,
+				"Key must be 16, 24 or 32 bytes long");
+
+		return new SecretKeySpec(key, "AES");
+	}
+
+	/**
+	 * @return the underlying {@link Path}.
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Read and decrypt the file content.
+	 *
+	 * @return the decrypted content or {@literal null} if the file does not exist.
+	 * @throws IOException if the file cannot be read.
+	 * @throws GeneralSecurityException if the content cannot be decrypted.
+	 */
+	@Nullable
+	public byte[] read() throws IOException, GeneralSecurityException {
+
+		if (!Files.exists(file)) {
+			return null;
+		}
+
+		return decrypt(Files.readAllBytes(file));
+	}
+
+	/**
+	 * Encrypt and write {@code plaintext} replacing the previous file content.
+	 *
+	 * @param plaintext the content to write, must not be {@literal null}.
+	 * @throws IOException if the file cannot be written.
+	 * @throws GeneralSecurityException if the content cannot be encrypted.
+	 */
+	public void write(byte[] plaintext) throws IOException, GeneralSecurityException {
+
+		Assert.notNull(plaintext, "Plaintext must not be null");
+
+		byte[] ciphertext = encrypt(plaintext);
+
+		Path directory = file.toAbsolutePath().getParent();
+		Path tempFile = Files.createTempFile(directory, file.getFileName().toString(),
+				".tmp");
+
+		try {
+			restrictPermissions(tempFile);
+			Files.write(tempFile, ciphertext);
+			move(tempFile, file);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Delete the file if it exists.
+	 *
+	 * @throws IOException if the file cannot be deleted.
+	 */
+	public void delete() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	private byte[] encrypt(byte[] plaintext) throws GeneralSecurityException {
+
+		byte[] iv = new byte[IV_LENGTH];
+		random.nextBytes(iv);
+
+		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+		cipher.updateAAD(new byte[] { VERSION });
+
+		byte[] ciphertext = cipher.doFinal(plaintext);
+
+		return ByteBuffer.allocate(1 + iv.length + ciphertext.length).put(VERSION)
+				.put(iv).put(ciphertext).array();
+	}
+
+	private byte[] decrypt(byte[] content) throws GeneralSecurityException {
+
+		Assert.state(content.length > 1 + IV_LENGTH && content[0] == VERSION,
+				"Unsupported file format");
+
+		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+		cipher.init(Cipher.DECRYPT_MODE, key,
+				new GCMParameterSpec(TAG_LENGTH_BITS, content, 1, IV_LENGTH));
+		cipher.updateAAD(new byte[] { VERSION });
+
+		return cipher.doFinal(content, 1 + IV_LENGTH, content.length - 1 - IV_LENGTH);
+	}
+
+	private static void restrictPermissions(Path path) throws IOException {
+
+		try {
+			Files.setPosixFilePermissions(path,
+					PosixFilePermissions.fromString("rw-------"));
+		}
+		catch (UnsupportedOperationException e) {
+			// file system without POSIX support
+		}
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
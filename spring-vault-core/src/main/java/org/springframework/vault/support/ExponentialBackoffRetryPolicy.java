@@ -0,0 +1,264 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RetryPolicy} applying exponential backoff with jitter. The delay starts with
+ * {@code initialDelay} and doubles with each attempt up to {@code maxDelay}. Each delay
+ * is shortened by a random amount of up to the configured {@link #withJitter(double)
+ * jitter} fraction. Retries stop after {@link #withMaxAttempts(int) max attempts} or
+ * once the next attempt would happen after the lease or token expires.
+ * <p>
+ * The policy optionally {@link #withCircuitBreaker(int, Duration) breaks the circuit}
+ * after a number of consecutive failures. While the circuit is open, a single retry is
+ * scheduled for the moment the circuit half-opens to probe Vault. All other retries are
+ * deferred and spread randomly across the open duration following the probe so that
+ * clients stop hammering an unreachable Vault and do not retry all at once. A successful
+ * renewal closes the circuit, a failed renewal after half-opening opens it again. Only
+ * failures that lead to a scheduled retry are counted. The failure count is shared
+ * across all leases using this policy so instances should be shared by all leases and
+ * tokens talking to the same Vault.
+ * <p>
+ * Instances are immutable regarding their configuration and thread-safe.
+ *
+ * @author agent
+ * @since 2.2
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+	private final Duration initialDelay;
+
+	private final Duration maxDelay;
+
+	private final int maxAttempts;
+
+	private final double jitter;
+
+	private final int failureThreshold;
+
+	private final Duration openDuration;
+
+	private final Clock clock;
+
+	private final Object monitor = new Object();
+
+	// guarded by monitor
+	private int consecutiveFailures;
+
+	// guarded by monitor
+	private boolean probeScheduled;
+
+	private volatile long openUntil;
+
+	/**
+	 * Create a new {@link ExponentialBackoffRetryPolicy} given {@code initialDelay} and
+	 * {@code maxDelay}. Retries up to {@literal 10} attempts with a jitter of
+	 * {@literal 0.5} and without circuit breaking.
+	 *
+	 * @param initialDelay the delay before the first retry, must not be {@literal null}.
+	 * @param maxDelay the maximal delay between retries, must not be {@literal null}.
+	 */
+	public ExponentialBackoffRetryPolicy(Duration initialDelay, Duration maxDelay) {
+		this(initialDelay, maxDelay, 10, 0.5, 0, Duration.ZERO, Clock.systemUTC());
+	}
+
+	ExponentialBackoffRetryPolicy(Duration initialDelay, Duration maxDelay,
+			int maxAttempts, double jitter, int failureThreshold, Duration openDuration,
+			Clock clock) {
+
+		Assert.notNull(initialDelay, "Initial delay must not be null");
+		Assert.isTrue(!initialDelay.isNegative() && !initialDelay.isZero(),
+				"Initial delay must be greater than zero");
+		Assert.notNull(maxDelay, "Max delay must not be null");
+		Assert.isTrue(maxDelay.compareTo(initialDelay) >= 0,
+				"Max delay must be greater than or equal to initial delay");
+		Assert.isTrue(maxAttempts > 0, "Max attempts must be greater than zero");
+		Assert.isTrue(jitter >= 0 && jitter <= 1, "Jitter must be between 0 and 1");
+		Assert.isTrue(failureThreshold >= 0, "Failure threshold must not be negative");
+		Assert.notNull(openDuration, "Open duration must not be null");
+		Assert.isTrue(!openDuration.isNegative(), "Open duration must not be negative");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.initialDelay = initialDelay;
+		this.maxDelay = maxDelay;
+		this.maxAttempts = maxAttempts;
+		this.jitter = jitter;
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.clock = clock;
+	}
+
+	/**
+	 * Create a new {@link ExponentialBackoffRetryPolicy} retrying up to
+	 * {@code maxAttempts}.
+	 *
+	 * @param maxAttempts maximal number of retries, must be greater than zero.
+	 * @return a new {@link ExponentialBackoffRetryPolicy}.
+	 */
+	public ExponentialBackoffRetryPolicy withMaxAttempts(int maxAttempts) {
+		return new ExponentialBackoffRetryPolicy(initialDelay, maxDelay, maxAttempts,
+				jitter, failureThreshold, openDuration, clock);
+	}
+
+	/**
+	 * Create a new {@link ExponentialBackoffRetryPolicy} shortening each delay by a
+	 * random amount of up to {@code jitter} of the delay.
+	 *
+	 * @param jitter the maximal fraction of the delay to subtract, between {@code 0} and
+	 *     {@code 1}.
+	 * @return a new {@link ExponentialBackoffRetryPolicy}.
+	 */
+	public ExponentialBackoffRetryPolicy withJitter(double jitter) {
+		return new ExponentialBackoffRetryPolicy(initialDelay, maxDelay, maxAttempts,
+				jitter, failureThreshold, openDuration, clock);
+	}
+
+	/**
+	 * Create a new {@link ExponentialBackoffRetryPolicy} opening the circuit for
+	 * {@code openDuration} after {@code failureThreshold} consecutive failures.
+	 *
+	 * @param failureThreshold number of consecutive failures to open the circuit, must
+	 *     be greater than zero.
+	 * @param openDuration duration to keep the circuit open, must not be {@literal null}.
+	 * @return a new {@link ExponentialBackoffRetryPolicy}.
+	 */
+	public ExponentialBackoffRetryPolicy withCircuitBreaker(int failureThreshold,
+			Duration openDuration) {
+
+		Assert.isTrue(failureThreshold > 0,
+				"Failure threshold must be greater than zero");
+
+		return new ExponentialBackoffRetryPolicy(initialDelay, maxDelay, maxAttempts,
+				jitter, failureThreshold, openDuration, clock);
+	}
+
+	ExponentialBackoffRetryPolicy withClock(Clock clock) {
+		return new ExponentialBackoffRetryPolicy(initialDelay, maxDelay, maxAttempts,
+				jitter, failureThreshold, openDuration, clock);
+	}
+
+	@Override
+	@Nullable
+	public Duration getRetryDelay(int attempt, Throwable error, Duration timeToExpiry) {
+
+		if (attempt > this.maxAttempts) {
+			return null;
+		}
+
+		if (this.failureThreshold == 0) {
+			return getDelay(jitter(getBackoff(attempt).toMillis()), timeToExpiry);
+		}
+
+		synchronized (this.monitor) {
+
+			long now = this.clock.millis();
+			int failures = this.consecutiveFailures + 1;
+			boolean probe = false;
+			long delay;
+
+			if (failures < this.failureThreshold) {
+				delay = jitter(getBackoff(attempt).toMillis());
+			}
+			else {
+
+				if (this.openUntil <= now) {
+
+					// open the circuit or reopen it after a failed probe.
+					this.openUntil = now + this.openDuration.toMillis();
+					this.probeScheduled = false;
+				}
+
+				if (this.probeScheduled) {
+					delay = this.openUntil - now + spread(this.openDuration.toMillis());
+				}
+				else {
+					probe = true;
+					delay = this.openUntil - now;
+				}
+			}
+
+			Duration retryDelay = getDelay(delay, timeToExpiry);
+
+			if (retryDelay != null) {
+
+				this.consecutiveFailures = failures;
+				this.probeScheduled |= probe;
+			}
+
+			return retryDelay;
+		}
+	}
+
+	@Override
+	public void onSuccess() {
+
+		if (this.failureThreshold == 0) {
+			return;
+		}
+
+		synchronized (this.monitor) {
+
+			this.consecutiveFailures = 0;
+			this.probeScheduled = false;
+			this.openUntil = 0;
+		}
+	}
+
+	/**
+	 * @return {@literal true} if the circuit is open.
+	 */
+	public boolean isCircuitOpen() {
+		return this.openUntil > this.clock.millis();
+	}
+
+	@Nullable
+	private static Duration getDelay(long delay, Duration timeToExpiry) {
+		return delay < timeToExpiry.toMillis() ? Duration.ofMillis(delay) : null;
+	}
+
+	private Duration getBackoff(int attempt) {
+
+		int shift = Math.min(attempt - 1, 30);
+		long millis = this.initialDelay.toMillis() << shift;
+
+		if (millis <= 0 || millis > this.maxDelay.toMillis()) {
+			return this.maxDelay;
+		}
+
+		return Duration.ofMillis(millis);
+	}
+
+	private static long spread(long duration) {
+		return duration > 0 ? ThreadLocalRandom.current().nextLong(duration + 1) : 0;
+	}
+
+	private long jitter(long delay) {
+
+		if (this.jitter == 0 || delay == 0) {
+			return delay;
+		}
+
+		return delay - (long) (delay * this.jitter
+				* ThreadLocalRandom.current().nextDouble());
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * Strategy interface to spread renewal times of leases and login tokens. A
+ * {@link RenewalJitter} shortens the computed delay until the next renewal by a random
+ * amount so that renewals of many clients that were started at the same time do not
+ * reach Vault at the same instant. Implementations must never return a delay that is
+ * longer than the given delay so renewals still happen before the configured expiry
+ * threshold.
+ *
+ * @author agent
+ * @since 2.2
+ */
+@FunctionalInterface
+public interface RenewalJitter {
+
+	/**
+	 * Apply jitter to the given {@code delay}.
+	 *
+	 * @param delay the computed delay until the next renewal, must not be negative.
+	 * @return the delay to use. Must be between {@link Duration#ZERO} and
+	 * {@code delay}.
+	 */
+	Duration apply(Duration delay);
+
+	/**
+	 * Predefined strategy that does not apply any jitter.
+	 *
+	 * @return
+	 */
+	static RenewalJitter none() {
+		return delay -> delay;
+	}
+
+	/**
+	 * Create a {@link RenewalJitter} that shortens the delay by a random amount of up to
+	 * {@code percentage} of the delay. A percentage of {@code 0.1} spreads renewals
+	 * across the last 10% of the delay.
+	 *
+	 * @param percentage the maximum fraction of the delay to subtract, between
+	 *     {@code 0} and {@code 1}.
+	 * @return the {@link RenewalJitter}.
+	 */
+	static RenewalJitter percentage(double percentage) {
+
+		Assert.isTrue(percentage >= 0 && percentage <= 1,
+				"Percentage must be between 0 and 1");
+
+		if (percentage == 0) {
+			return none();
+		}
+
+		return delay -> {
+
+			long millis = delay.toMillis();
+			long jitter = (long) (millis * percentage
+					* ThreadLocalRandom.current().nextDouble());
+
+			return Duration.ofMillis(millis - jitter);
+		};
+	}
+
+	/**
+	 * Create a {@link RenewalJitter} that shortens the delay by a random amount of up to
+	 * {@code spread}. The spread is capped to the delay itself so the resulting delay is
+	 * never negative.
+	 *
+	 * @param spread the maximum duration to subtract, must not be {@literal null} or
+	 *     negative.
+	 * @return the {@link RenewalJitter}.
+	 */
+	static RenewalJitter spread(Duration spread) {
+
+		Assert.notNull(spread, "Spread must not be null");
+		Assert.isTrue(!spread.isNegative(), "Spread must not be negative");
+
+		if (spread.isZero()) {
+			return none();
+		}
+
+		return delay -> {
+
+			long millis = delay.toMillis();
+			long bound = Math.min(millis, spread.toMillis());
+			long jitter = bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+
+			return Duration.ofMillis(millis - jitter);
+		};
+	}
+}
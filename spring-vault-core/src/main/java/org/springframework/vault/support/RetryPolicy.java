@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy interface to retry a failed lease or login token renewal before the next
+ * regular renewal. A {@link RetryPolicy} is consulted after each failed renewal that
+ * retains the lease according to the {@link LeaseStrategy} and determines the delay
+ * until the next attempt. Implementations may keep state across multiple leases, for
+ * example to stop retrying while Vault is unreachable.
+ *
+ * @author agent
+ * @since 2.2
+ * @see ExponentialBackoffRetryPolicy
+ * @see LeaseStrategy
+ */
+@FunctionalInterface
+public interface RetryPolicy {
+
+	/**
+	 * Determine the delay before retrying a failed renewal.
+	 *
+	 * @param attempt the number of the retry attempt, starting at {@code 1}.
+	 * @param error the error that caused the renewal to fail.
+	 * @param timeToExpiry remaining time until the lease or token expires.
+	 * @return the delay before the next attempt or {@literal null} to stop retrying.
+	 */
+	@Nullable
+	Duration getRetryDelay(int attempt, Throwable error, Duration timeToExpiry);
+
+	/**
+	 * Callback notified after a successful renewal. Stateful implementations can use
+	 * this method to reset their state.
+	 */
+	default void onSuccess() {
+	}
+
+	/**
+	 * Predefined policy that does not retry failed renewals.
+	 *
+	 * @return a {@link RetryPolicy} that does not retry.
+	 */
+	static RetryPolicy none() {
+		return (attempt, error, timeToExpiry) -> null;
+	}
+
+	/**
+	 * Create an {@link ExponentialBackoffRetryPolicy} starting with {@code initialDelay}
+	 * and doubling the delay with each attempt up to {@code maxDelay}.
+	 *
+	 * @param initialDelay the delay before the first retry, must not be {@literal null}.
+	 * @param maxDelay the maximal delay between retries, must not be {@literal null}.
+	 * @return the {@link ExponentialBackoffRetryPolicy}.
+	 */
+	static ExponentialBackoffRetryPolicy exponentialBackoff(Duration initialDelay,
+			Duration maxDelay) {
+		return new ExponentialBackoffRetryPolicy(initialDelay, maxDelay);
+	}
+}
@@ -44,6 +44,15 @@ public interface VaultHealth {
 	 */
 	boolean isStandby();
 
+	/**
+	 * @return {@literal true} if the Vault instance is a performance standby that
+	 * services read requests, otherwise {@literal false}. Defaults to {@literal false}.
+	 * @since 2.2
+	 */
+	default boolean isPerformanceStandby() {
+		return false;
+	}
+
 	/**
 	 * @return the server time in seconds, UTC.
 	 */
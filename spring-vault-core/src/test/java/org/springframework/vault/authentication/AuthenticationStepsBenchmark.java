@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.vault.authentication.AuthenticationSteps.MapStep;
+import org.springframework.vault.authentication.AuthenticationSteps.Node;
+import org.springframework.vault.authentication.AuthenticationSteps.OnNextStep;
+import org.springframework.vault.authentication.AuthenticationSteps.Pair;
+import org.springframework.vault.authentication.AuthenticationSteps.SupplierStep;
+import org.springframework.vault.authentication.AuthenticationSteps.ZipStep;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Benchmark comparing per-login allocation and latency of evaluating the node list of
+ * {@link AuthenticationSteps} (the evaluation strategy used before 2.2) against
+ * evaluating its compiled {@link AuthenticationStepsPlan}. Both modes log in using the
+ * same {@link AuthenticationSteps} instance so that the measurement reflects the
+ * evaluation overhead and not the construction of the flow. The flow consists of
+ * supplier, map and {@code zipWith} steps only to exclude HTTP I/O.
+ * <p>
+ * Not part of the test suite. Run {@link #main(String[])} from the IDE or using
+ * {@code java -cp … AuthenticationStepsBenchmark}.
+ *
+ * @author agent
+ */
+public class AuthenticationStepsBenchmark {
+
+	private static final int WARMUP = 100_000;
+
+	private static final int LOGINS = 1_000_000;
+
+	public static void main(String[] args) {
+
+		AuthenticationSteps steps = createSteps();
+
+		ClientAuthentication nodeList = () -> NodeListEvaluator.login(steps);
+		ClientAuthentication plan = new AuthenticationStepsExecutor(steps,
+				new RestTemplate());
+
+		run("warmup", nodeList, WARMUP);
+		run("warmup", plan, WARMUP);
+
+		System.out.printf("%-22s %12s %16s%n", "Mode", "ns/login", "bytes/login");
+
+		run("node list", nodeList, LOGINS);
+		run("compiled plan", plan, LOGINS);
+	}
+
+	private static AuthenticationSteps createSteps() {
+
+		Node<String> role = AuthenticationSteps.fromSupplier(() -> "role")
+				.map(it -> it + "-id");
+		Node<String> jwt = AuthenticationSteps.fromSupplier(() -> "jwt")
+				.map(String::trim);
+
+		return role.zipWith(jwt).map(it -> it.getLeft() + ":" + it.getRight())
+				.login(VaultToken::of);
+	}
+
+	private static void run(String name, ClientAuthentication authentication,
+			int logins) {
+
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+
+		int hash = 0;
+		for (int i = 0; i < logins; i++) {
+			hash += authentication.login().getToken().length();
+		}
+
+		long nanos = System.nanoTime() - start;
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId)
+				- allocatedBefore;
+
+		if (!"warmup".equals(name)) {
+			System.out.printf("%-22s %12.1f %16.1f%n", name, nanos / (double) logins,
+					allocated / (double) logins);
+		}
+
+		if (hash == 0) {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Sequential evaluation of {@link AuthenticationSteps#steps} as performed by
+	 * {@link AuthenticationStepsExecutor} before steps were compiled into a plan.
+	 */
+	@SuppressWarnings("unchecked")
+	static class NodeListEvaluator {
+
+		static VaultToken login(AuthenticationSteps steps) {
+
+			Map<ZipStep<?, ?>, CompletableFuture<Object>> branches = new IdentityHashMap<>();
+
+			return (VaultToken) evaluate(steps.steps, branches);
+		}
+
+		private static Object evaluate(List<Node<?>> steps,
+				Map<ZipStep<?, ?>, CompletableFuture<Object>> branches) {
+
+			Object state = null;
+
+			for (Node<?> o : steps) {
+
+				if (o instanceof MapStep) {
+					state = ((MapStep<Object, Object>) o).apply(state);
+				}
+
+				if (o instanceof ZipStep) {
+
+					CompletableFuture<Object> branch = branches.get(o);
+					Object result = branch != null ? branch.join()
+							: evaluate(((ZipStep<?, ?>) o).getRight(),
+									Collections.emptyMap());
+					state = Pair.of(state, result);
+				}
+
+				if (o instanceof OnNextStep) {
+					state = ((OnNextStep<Object>) o).apply(state);
+				}
+
+				if (o instanceof SupplierStep<?>) {
+					state = ((SupplierStep<Object>) o).get();
+				}
+			}
+
+			return state;
+		}
+	}
+}
@@ -16,6 +16,10 @@
 package org.springframework.vault.authentication;
 
 import java.net.URI;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -178,6 +182,61 @@ class AuthenticationStepsExecutorUnitTests {
 		assertThat(login(steps)).isEqualTo(VaultToken.of("left-right"));
 	}
 
+	@Test
+	void zipWithShouldEvaluateBranchesConcurrently() {
+
+		CyclicBarrier barrier = new CyclicBarrier(2);
+
+		Node<String> left = AuthenticationSteps.fromSupplier(() -> await(barrier, "left"));
+		Node<String> right = AuthenticationSteps
+				.fromSupplier(() -> await(barrier, "right"));
+
+		AuthenticationSteps steps = left.zipWith(right)
+				.login(it -> VaultToken.of(it.getLeft() + "-" + it.getRight()));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertThat(new AuthenticationStepsExecutor(steps, restTemplate, executor)
+					.login()).isEqualTo(VaultToken.of("left-right"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void zipWithShouldPropagateBranchFailure() {
+
+		Node<String> left = AuthenticationSteps.fromSupplier(() -> "left");
+		Node<String> right = AuthenticationSteps.fromSupplier(() -> {
+			throw new IllegalStateException("right");
+		});
+
+		AuthenticationSteps steps = left.zipWith(right)
+				.login(it -> VaultToken.of(it.getLeft() + "-" + it.getRight()));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertThatExceptionOfType(VaultLoginException.class).isThrownBy(
+					() -> new AuthenticationStepsExecutor(steps, restTemplate, executor)
+							.login());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	static String await(CyclicBarrier barrier, String value) {
+
+		try {
+			barrier.await(5, TimeUnit.SECONDS);
+			return value;
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	private VaultToken login(AuthenticationSteps steps) {
 		return new AuthenticationStepsExecutor(steps, restTemplate).login();
 	}
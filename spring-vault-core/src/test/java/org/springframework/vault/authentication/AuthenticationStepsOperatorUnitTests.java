@@ -15,9 +15,12 @@
  */
 package org.springframework.vault.authentication;
 
+import java.util.concurrent.CyclicBarrier;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import org.springframework.http.HttpMethod;
@@ -149,6 +152,26 @@ class AuthenticationStepsOperatorUnitTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void zipWithShouldSubscribeBranchesConcurrently() {
+
+		CyclicBarrier barrier = new CyclicBarrier(2);
+
+		Node<String> left = AuthenticationSteps.fromSupplier(
+				() -> AuthenticationStepsExecutorUnitTests.await(barrier, "left"));
+		Node<String> right = AuthenticationSteps.fromSupplier(
+				() -> AuthenticationStepsExecutorUnitTests.await(barrier, "right"));
+
+		AuthenticationSteps steps = left.zipWith(right)
+				.login(it -> VaultToken.of(it.getLeft() + "-" + it.getRight()));
+
+		new AuthenticationStepsOperator(steps, WebClient.create(),
+				Schedulers.boundedElastic()).getVaultToken() //
+						.as(StepVerifier::create) //
+						.expectNext(VaultToken.of("left-right")) //
+						.verifyComplete();
+	}
+
 	private Mono<VaultToken> login(AuthenticationSteps steps) {
 
 		AuthenticationStepsOperator operator = new AuthenticationStepsOperator(steps,
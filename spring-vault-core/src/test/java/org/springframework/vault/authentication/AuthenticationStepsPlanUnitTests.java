@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.vault.authentication.AuthenticationSteps.Node;
+import org.springframework.vault.authentication.AuthenticationStepsPlan.StepType;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.vault.authentication.AuthenticationSteps.HttpRequestBuilder.post;
+
+/**
+ * Unit tests for {@link AuthenticationStepsPlan}.
+ *
+ * @author agent
+ */
+class AuthenticationStepsPlanUnitTests {
+
+	@Test
+	void shouldCompileFlatPlan() {
+
+		Node<String> right = AuthenticationSteps.fromSupplier(() -> "right")
+				.map(String::trim);
+
+		AuthenticationSteps steps = AuthenticationSteps.fromSupplier(() -> "left")
+				.zipWith(right).onNext(it -> {
+				})
+				.login(it -> VaultToken.of(it.getLeft()));
+
+		AuthenticationStepsPlan plan = steps.plan;
+
+		assertThat(plan.size()).isEqualTo(4);
+		assertThat(plan.hasBranches()).isTrue();
+		assertThat(plan.get(0).getType()).isEqualTo(StepType.SUPPLIER);
+		assertThat(plan.get(1).getType()).isEqualTo(StepType.ZIP);
+		assertThat(plan.get(2).getType()).isEqualTo(StepType.ON_NEXT);
+		assertThat(plan.get(3).getType()).isEqualTo(StepType.MAP);
+
+		AuthenticationStepsPlan branch = plan.get(1).getRequiredBranch();
+		assertThat(branch.size()).isEqualTo(2);
+		assertThat(branch.hasBranches()).isFalse();
+	}
+
+	@Test
+	void shouldPrebuildStaticRequestEntity() {
+
+		AuthenticationSteps steps = AuthenticationSteps.just(
+				post("auth/login").with(new HttpEntity<>("body")).as(VaultResponse.class));
+
+		assertThat(steps.plan.get(0).getType()).isEqualTo(StepType.HTTP_REQUEST);
+		assertThat(steps.plan.get(0).getEntity()).isNotNull();
+
+		AuthenticationSteps dynamic = AuthenticationSteps.fromSupplier(() -> "body")
+				.login("auth/login");
+
+		assertThat(dynamic.plan.get(1).getEntity()).isNull();
+	}
+}
@@ -128,6 +128,34 @@ class AwsEc2AuthenticationUnitTests {
 		assertThat(((LoginToken) login).isRenewable()).isFalse();
 	}
 
+	@Test
+	void shouldReuseIdentityDocument() {
+
+		AwsEc2AuthenticationOptions authenticationOptions = AwsEc2AuthenticationOptions
+				.builder().nonce(Nonce.provided("foo".toCharArray())).build();
+
+		mockRest.expect(requestTo(
+				"http://169.254.169.254/latest/dynamic/instance-identity/pkcs7")) //
+				.andExpect(method(HttpMethod.GET)) //
+				.andRespond(withSuccess().body("value"));
+
+		for (int i = 0; i < 2; i++) {
+			mockRest.expect(requestTo("/auth/aws-ec2/login"))
+					.andExpect(method(HttpMethod.POST))
+					.andExpect(jsonPath("$.pkcs7").value("value"))
+					.andRespond(withSuccess().contentType(MediaType.APPLICATION_JSON)
+							.body("{\"auth\":{\"client_token\":\"my-token\"}}"));
+		}
+
+		AwsEc2Authentication authentication = new AwsEc2Authentication(
+				authenticationOptions, restTemplate, restTemplate);
+
+		authentication.login();
+		authentication.login();
+
+		mockRest.verify();
+	}
+
 	@Test
 	void authenticationChainShouldLogin() {
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link EncryptedFileTokenStore}.
+ *
+ * @author agent
+ */
+class EncryptedFileTokenStoreUnitTests {
+
+	static final byte[] KEY = "0123456789abcdef".getBytes();
+
+	LoginToken token = LoginToken.renewable("s.my-token".toCharArray(),
+			Duration.ofHours(1));
+
+	@Test
+	void shouldRetainTokenAcrossInstances(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("token");
+
+		new EncryptedFileTokenStore(file, KEY).save(token);
+
+		assertThat(new String(Files.readAllBytes(file))).doesNotContain("s.my-token");
+
+		LoginToken loaded = new EncryptedFileTokenStore(file, KEY).load();
+
+		assertThat(loaded).isEqualTo(token);
+		assertThat(loaded.isRenewable()).isTrue();
+		assertThat(loaded.getLeaseDuration()).isEqualTo(Duration.ofHours(1));
+	}
+
+	@Test
+	void shouldIgnoreUnreadableFile(@TempDir Path directory) {
+
+		Path file = directory.resolve("token");
+
+		new EncryptedFileTokenStore(file, KEY).save(token);
+
+		assertThat(new EncryptedFileTokenStore(file, "fedcba9876543210".getBytes())
+				.load()).isNull();
+	}
+
+	@Test
+	void shouldRemoveToken(@TempDir Path directory) {
+
+		Path file = directory.resolve("token");
+		EncryptedFileTokenStore store = new EncryptedFileTokenStore(file, KEY);
+
+		assertThat(store.load()).isNull();
+
+		store.save(token);
+		store.remove();
+
+		assertThat(store.load()).isNull();
+		assertThat(file).doesNotExist();
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ExpiringCache}.
+ *
+ * @author agent
+ */
+class ExpiringCacheUnitTests {
+
+	AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void shouldCacheValueUntilExpiry() {
+
+		Clock clock = mock(Clock.class);
+		Instant now = Instant.now();
+		when(clock.instant()).thenReturn(now);
+
+		ExpiringCache<Integer> cache = new ExpiringCache<>(loads::incrementAndGet,
+				it -> Duration.ofMinutes(1), clock);
+
+		assertThat(cache.get()).isEqualTo(1);
+		assertThat(cache.get()).isEqualTo(1);
+
+		when(clock.instant()).thenReturn(now.plusSeconds(59));
+		assertThat(cache.get()).isEqualTo(1);
+
+		when(clock.instant()).thenReturn(now.plusSeconds(60));
+		assertThat(cache.get()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldCacheValueForever() {
+
+		ExpiringCache<Integer> cache = new ExpiringCache<>(loads::incrementAndGet,
+				it -> ChronoUnit.FOREVER.getDuration());
+
+		assertThat(cache.get()).isEqualTo(1);
+		assertThat(cache.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotCacheValueWithoutTimeToLive() {
+
+		ExpiringCache<Integer> cache = new ExpiringCache<>(loads::incrementAndGet,
+				it -> Duration.ZERO);
+
+		assertThat(cache.get()).isEqualTo(1);
+		assertThat(cache.get()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldReloadAfterInvalidation() {
+
+		ExpiringCache<Integer> cache = new ExpiringCache<>(loads::incrementAndGet,
+				it -> Duration.ofMinutes(1));
+
+		assertThat(cache.get()).isEqualTo(1);
+
+		cache.invalidate();
+
+		assertThat(cache.get()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldNotCacheFailures() {
+
+		ExpiringCache<Integer> cache = new ExpiringCache<>(() -> {
+
+			if (loads.incrementAndGet() == 1) {
+				throw new IllegalStateException("Metadata service unavailable");
+			}
+
+			return loads.get();
+		}, it -> Duration.ofMinutes(1));
+
+		assertThatIllegalStateException().isThrownBy(cache::get);
+
+		assertThat(cache.get()).isEqualTo(2);
+		assertThat(cache.get()).isEqualTo(2);
+	}
+
+	@Test
+	void concurrentCallersShouldShareLoad() throws Exception {
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExpiringCache<Integer> cache = new ExpiringCache<>(() -> {
+
+			loading.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return loads.incrementAndGet();
+		}, it -> Duration.ofMinutes(1));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			Future<Integer> first = executor.submit(cache::get);
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<Integer> second = executor.submit(cache::get);
+			Future<Integer> third = executor.submit(cache::get);
+
+			release.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(loads).hasValue(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
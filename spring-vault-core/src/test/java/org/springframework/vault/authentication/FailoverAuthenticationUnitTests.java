@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link FailoverAuthentication}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class FailoverAuthenticationUnitTests {
+
+	@Mock
+	ClientAuthentication primary;
+
+	@Mock
+	ClientAuthentication secondary;
+
+	@Test
+	void shouldLoginUsingFirstMethod() {
+
+		when(primary.login()).thenReturn(VaultToken.of("primary"));
+
+		FailoverAuthentication authentication = FailoverAuthentication.builder()
+				.authentication(primary).authentication(secondary).build();
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("primary"));
+		verifyZeroInteractions(secondary);
+	}
+
+	@Test
+	void shouldFallBackAndPreferLastSuccessfulMethod() {
+
+		when(primary.login()).thenThrow(new VaultLoginException("Backend unavailable"));
+		when(secondary.login()).thenReturn(VaultToken.of("secondary"));
+
+		FailoverAuthentication authentication = FailoverAuthentication.builder()
+				.authentication(primary).authentication(secondary).build();
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("secondary"));
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("secondary"));
+
+		verify(primary).login();
+		verify(secondary, times(2)).login();
+	}
+
+	@Test
+	void shouldFallBackAfterTimeout() {
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		ClientAuthentication hanging = () -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return VaultToken.of("hanging");
+		};
+
+		when(secondary.login()).thenReturn(VaultToken.of("secondary"));
+
+		FailoverAuthentication authentication = FailoverAuthentication.builder()
+				.authentication(hanging, Duration.ofMillis(100))
+				.authentication(secondary).build();
+
+		try {
+			assertThat(authentication.login()).isEqualTo(VaultToken.of("secondary"));
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void shouldInterruptLoginAfterTimeout() throws Exception {
+
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		ClientAuthentication hanging = () -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return VaultToken.of("hanging");
+		};
+
+		when(secondary.login()).thenReturn(VaultToken.of("secondary"));
+
+		FailoverAuthentication authentication = FailoverAuthentication.builder()
+				.authentication(hanging, Duration.ofMillis(100))
+				.authentication(secondary).build();
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("secondary"));
+		assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+
+		authentication.destroy();
+	}
+
+	@Test
+	void shouldNotShutDownConfiguredExecutor() {
+
+		ExecutorService executor = mock(ExecutorService.class);
+
+		FailoverAuthentication.builder().authentication(primary)
+				.executor(executor).build().destroy();
+
+		verifyZeroInteractions(executor);
+	}
+
+	@Test
+	void shouldFailIfAllMethodsFail() {
+
+		when(primary.login()).thenThrow(new VaultLoginException("primary"));
+		when(secondary.login()).thenThrow(new VaultLoginException("secondary"));
+
+		FailoverAuthentication authentication = FailoverAuthentication.builder()
+				.authentication(primary).authentication(secondary).build();
+
+		assertThatExceptionOfType(VaultLoginException.class)
+				.isThrownBy(authentication::login)
+				.satisfies(e -> assertThat(e.getSuppressed()).hasSize(2));
+	}
+
+	@Test
+	void shouldDetermineAttemptOrder() {
+
+		assertThat(FailoverAuthentication.getAttemptOrder(0, 3)).containsExactly(0, 1,
+				2);
+		assertThat(FailoverAuthentication.getAttemptOrder(2, 3)).containsExactly(2, 0,
+				1);
+	}
+}
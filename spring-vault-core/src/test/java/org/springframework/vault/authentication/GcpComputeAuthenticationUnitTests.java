@@ -16,6 +16,7 @@
 package org.springframework.vault.authentication;
 
 import java.time.Duration;
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.Base64Utils;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.web.client.RestTemplate;
 
@@ -88,6 +90,30 @@ class GcpComputeAuthenticationUnitTests {
 		assertThat(loginToken.getLeaseDuration()).isEqualTo(Duration.ofSeconds(10));
 	}
 
+	@Test
+	void shouldDeriveTimeToLiveFromJwtExpiry() {
+
+		Instant exp = Instant.now().plus(Duration.ofMinutes(60));
+		String jwt = createJwt("{\"exp\":" + exp.getEpochSecond() + "}");
+
+		assertThat(GcpComputeAuthentication.getTimeToLive(jwt))
+				.isBetween(Duration.ofMinutes(54), Duration.ofMinutes(55));
+	}
+
+	@Test
+	void shouldNotReuseJwtWithoutExpiry() {
+
+		assertThat(GcpComputeAuthentication.getTimeToLive("my-jwt"))
+				.isEqualTo(Duration.ZERO);
+		assertThat(GcpComputeAuthentication.getTimeToLive(createJwt("{}")))
+				.isEqualTo(Duration.ZERO);
+
+		Instant exp = Instant.now().plus(Duration.ofMinutes(4));
+		assertThat(GcpComputeAuthentication
+				.getTimeToLive(createJwt("{\"exp\":" + exp.getEpochSecond() + "}")).isNegative())
+						.isTrue();
+	}
+
 	@Test
 	void shouldLoginWithAuthenticationSteps() {
 
@@ -111,4 +137,9 @@ class GcpComputeAuthenticationUnitTests {
 		assertThat(loginToken.isRenewable()).isTrue();
 		assertThat(loginToken.getLeaseDuration()).isEqualTo(Duration.ofSeconds(10));
 	}
+
+	private static String createJwt(String claims) {
+		return "e30." + Base64Utils.encodeToUrlSafeString(claims.getBytes())
+				.replace("=", "") + ".signature";
+	}
 }
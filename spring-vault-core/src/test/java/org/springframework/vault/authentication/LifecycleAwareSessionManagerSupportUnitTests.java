@@ -20,8 +20,14 @@ import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
+import org.springframework.vault.authentication.AppRoleAuthenticationOptions.RoleId;
+import org.springframework.vault.authentication.AppRoleAuthenticationOptions.SecretId;
 import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -57,4 +63,59 @@ class LifecycleAwareSessionManagerSupportUnitTests {
 				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(0)),
 				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2)));
 	}
+
+	@Test
+	void shouldApplyJitterToNextExecutionTime() {
+
+		FixedTimeoutRefreshTrigger trigger = new FixedTimeoutRefreshTrigger(
+				Duration.ofSeconds(5), Duration.ofSeconds(7),
+				delay -> delay.minusSeconds(20));
+
+		Date nextExecutionTime = trigger.nextExecutionTime(
+				LoginToken.of("foo".toCharArray(), Duration.ofMinutes(1)));
+		assertThat(nextExecutionTime).isBetween(
+				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(32)),
+				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(36)));
+	}
+
+	@Test
+	void shouldDeriveAuthenticationMechanismFromLoginPath() {
+
+		AppRoleAuthenticationOptions options = AppRoleAuthenticationOptions.builder()
+				.path("my-approle") //
+				.roleId(RoleId.provided("hello")) //
+				.secretId(SecretId.provided("world")) //
+				.build();
+		AuthenticationSteps steps = AppRoleAuthentication
+				.createAuthenticationSteps(options);
+
+		assertThat(LifecycleAwareSessionManagerSupport.getAuthenticationMechanism(
+				new AuthenticationStepsExecutor(steps, new RestTemplate())))
+						.isEqualTo("my-approle");
+		assertThat(LifecycleAwareSessionManagerSupport.getAuthenticationMechanism(
+				new AuthenticationStepsOperator(steps, WebClient.create())))
+						.isEqualTo("my-approle");
+	}
+
+	@Test
+	void shouldDeriveAuthenticationMechanismFromClassName() {
+
+		assertThat(LifecycleAwareSessionManagerSupport
+				.getAuthenticationMechanism(new TokenAuthentication("token")))
+						.isEqualTo("token");
+
+		ClientAuthentication lambda = () -> VaultToken.of("token");
+		VaultTokenSupplier anonymous = new VaultTokenSupplier() {
+			@Override
+			public Mono<VaultToken> getVaultToken() {
+				return Mono.just(VaultToken.of("token"));
+			}
+		};
+
+		assertThat(LifecycleAwareSessionManagerSupport.getAuthenticationMechanism(lambda))
+				.isEqualTo("custom");
+		assertThat(
+				LifecycleAwareSessionManagerSupport.getAuthenticationMechanism(anonymous))
+						.isEqualTo("custom");
+	}
 }
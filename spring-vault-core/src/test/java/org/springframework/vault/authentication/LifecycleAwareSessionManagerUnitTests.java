@@ -19,6 +19,11 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +41,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
+import org.springframework.vault.VaultException;
 import org.springframework.vault.authentication.event.AfterLoginEvent;
 import org.springframework.vault.authentication.event.AfterLoginTokenRenewedEvent;
 import org.springframework.vault.authentication.event.AfterLoginTokenRevocationEvent;
@@ -50,6 +56,7 @@ import org.springframework.vault.authentication.event.LoginTokenExpiredEvent;
 import org.springframework.vault.authentication.event.LoginTokenRevocationFailedEvent;
 import org.springframework.vault.client.VaultHttpHeaders;
 import org.springframework.vault.support.LeaseStrategy;
+import org.springframework.vault.support.RetryPolicy;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.web.client.HttpClientErrorException;
@@ -62,6 +69,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -124,6 +134,18 @@ class LifecycleAwareSessionManagerUnitTests {
 		verify(errorListener).onAuthenticationError(any(LoginFailedEvent.class));
 	}
 
+	@Test
+	void loginShouldFailWithNonVaultException() {
+
+		when(clientAuthentication.login())
+				.thenThrow(new ResourceAccessException("Connection refused"));
+
+		assertThatExceptionOfType(ResourceAccessException.class)
+				.isThrownBy(() -> sessionManager.getSessionToken());
+		verifyZeroInteractions(listener);
+		verify(errorListener).onAuthenticationError(any(LoginFailedEvent.class));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void shouldSelfLookupToken() {
@@ -149,6 +171,75 @@ class LifecycleAwareSessionManagerUnitTests {
 		assertThat(event.getSource()).isSameAs(sessionToken);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRestoreValidTokenFromTokenStore() {
+
+		VaultResponse vaultResponse = new VaultResponse();
+		Map<String, Object> data = new HashMap<>();
+		data.put("ttl", 100);
+		data.put("renewable", true);
+		vaultResponse.setData(data);
+
+		TokenStore tokenStore = mock(TokenStore.class);
+		when(tokenStore.load()).thenReturn(
+				LoginToken.renewable("stored".toCharArray(), Duration.ofSeconds(300)));
+		when(restOperations.exchange(anyString(), any(), any(),
+				ArgumentMatchers.<Class> any()))
+						.thenReturn(new ResponseEntity<>(vaultResponse, HttpStatus.OK));
+		sessionManager.setTokenStore(tokenStore);
+
+		LoginToken sessionToken = (LoginToken) sessionManager.getSessionToken();
+
+		assertThat(sessionToken).isEqualTo(LoginToken.of("stored"));
+		assertThat(sessionToken.getLeaseDuration()).isEqualTo(Duration.ofSeconds(100));
+		verifyZeroInteractions(clientAuthentication);
+		verify(taskScheduler).schedule(any(Runnable.class), any(Trigger.class));
+		verify(listener).onAuthenticationEvent(any(AfterLoginEvent.class));
+
+		sessionManager.destroy();
+
+		verify(restOperations, never()).postForObject(eq("auth/token/revoke-self"),
+				any(), any(Class.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldLoginAndStoreTokenIfStoredTokenIsInvalid() {
+
+		TokenStore tokenStore = mock(TokenStore.class);
+		when(tokenStore.load()).thenReturn(LoginToken.of("stored"));
+		when(restOperations.exchange(anyString(), any(), any(),
+				ArgumentMatchers.<Class> any())).thenThrow(
+						new HttpClientErrorException(HttpStatus.FORBIDDEN));
+		when(clientAuthentication.login()).thenReturn(LoginToken.of("login"));
+		sessionManager.setTokenStore(tokenStore);
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("login"));
+
+		verify(tokenStore).remove();
+		verify(tokenStore).save(LoginToken.of("login"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldLoginIfStoredTokenCannotBeRemoved() {
+
+		TokenStore tokenStore = mock(TokenStore.class);
+		when(tokenStore.load()).thenReturn(LoginToken.of("stored"));
+		doThrow(new VaultException("Cannot delete token file")).when(tokenStore)
+				.remove();
+		when(restOperations.exchange(anyString(), any(), any(),
+				ArgumentMatchers.<Class> any())).thenThrow(
+						new HttpClientErrorException(HttpStatus.FORBIDDEN));
+		when(clientAuthentication.login()).thenReturn(LoginToken.of("login"));
+		sessionManager.setTokenStore(tokenStore);
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("login"));
+
+		verify(tokenStore).save(LoginToken.of("login"));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void shouldContinueIfSelfLookupFails() {
@@ -343,6 +434,176 @@ class LifecycleAwareSessionManagerUnitTests {
 		verify(listener).onAuthenticationEvent(any(LoginTokenExpiredEvent.class));
 	}
 
+	@Test
+	void shouldRefreshAheadIfRenewalTtlExceedsThreshold() {
+
+		when(clientAuthentication.login()).thenReturn(
+				LoginToken.renewable("login".toCharArray(), Duration.ofSeconds(5)),
+				LoginToken.renewable("bar".toCharArray(), Duration.ofSeconds(5)));
+		when(restOperations.postForObject(anyString(), any(), eq(VaultResponse.class)))
+				.thenReturn(fromToken(
+						LoginToken.of("foo".toCharArray(), Duration.ofSeconds(2))));
+		sessionManager.setRefreshAheadEnabled(true);
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		sessionManager.getSessionToken();
+		verify(taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(
+				LoginToken.renewable("bar".toCharArray(), Duration.ofSeconds(5)));
+		verify(clientAuthentication, times(2)).login();
+	}
+
+	@Test
+	void shouldRefreshNonRenewableTokenAhead() {
+
+		when(clientAuthentication.login()).thenReturn(
+				LoginToken.of("login".toCharArray(), Duration.ofMinutes(1)),
+				LoginToken.of("bar".toCharArray(), Duration.ofMinutes(1)));
+		sessionManager.setRefreshAheadEnabled(true);
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		sessionManager.getSessionToken();
+		verify(taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		assertThat(sessionManager.getSessionToken())
+				.isEqualTo(LoginToken.of("bar".toCharArray(), Duration.ofMinutes(1)));
+		verify(clientAuthentication, times(2)).login();
+		verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Trigger.class));
+	}
+
+	@Test
+	void shouldReLoginAheadOfBatchTokenExpiry() {
+
+		LoginToken batch = LoginToken.builder().token("batch").renewable(true)
+				.leaseDuration(Duration.ofMinutes(1)).type(LoginToken.BATCH_TOKEN_TYPE)
+				.build();
+		when(clientAuthentication.login()).thenReturn(batch, LoginToken.builder()
+				.token("next").leaseDuration(Duration.ofMinutes(1))
+				.type(LoginToken.BATCH_TOKEN_TYPE).build());
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		assertThat(sessionManager.getSessionToken()).isEqualTo(batch);
+		assertThat(sessionManager.isTokenRenewable()).isFalse();
+		verify(taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("next"));
+		verify(clientAuthentication, times(2)).login();
+		verifyZeroInteractions(restOperations);
+	}
+
+	@Test
+	void shouldNotStoreOrRevokeBatchToken() {
+
+		TokenStore tokenStore = mock(TokenStore.class);
+		when(clientAuthentication.login()).thenReturn(LoginToken.builder()
+				.token("batch").type(LoginToken.BATCH_TOKEN_TYPE).build());
+
+		sessionManager.getSessionToken();
+		sessionManager.destroy();
+
+		sessionManager.setTokenStore(tokenStore);
+		sessionManager.getSessionToken();
+
+		verify(tokenStore, never()).save(any());
+		verifyZeroInteractions(restOperations);
+	}
+
+	@Test
+	void shouldJoinInFlightLogin() throws Exception {
+
+		CountDownLatch loginStarted = new CountDownLatch(1);
+		CountDownLatch loginReleased = new CountDownLatch(1);
+
+		when(clientAuthentication.login()).then(invocation -> {
+			loginStarted.countDown();
+			loginReleased.await(5, TimeUnit.SECONDS);
+			return LoginToken.of("login");
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<VaultToken> first = executor.submit(sessionManager::getSessionToken);
+			loginStarted.await(5, TimeUnit.SECONDS);
+			Future<VaultToken> second = executor.submit(sessionManager::getSessionToken);
+
+			Thread.sleep(50);
+			loginReleased.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(LoginToken.of("login"));
+			assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(LoginToken.of("login"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		verify(clientAuthentication).login();
+	}
+
+	@Test
+	void shouldFailAfterLoginTimeout() throws Exception {
+
+		CountDownLatch loginStarted = new CountDownLatch(1);
+		CountDownLatch loginReleased = new CountDownLatch(1);
+
+		when(clientAuthentication.login()).then(invocation -> {
+			loginStarted.countDown();
+			loginReleased.await(5, TimeUnit.SECONDS);
+			return LoginToken.of("login");
+		});
+		sessionManager.setLoginTimeout(Duration.ofMillis(50));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<VaultToken> first = executor.submit(sessionManager::getSessionToken);
+			loginStarted.await(5, TimeUnit.SECONDS);
+
+			assertThatExceptionOfType(VaultLoginException.class)
+					.isThrownBy(() -> sessionManager.getSessionToken())
+					.withMessageContaining("50 ms");
+
+			loginReleased.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(LoginToken.of("login"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldFailFastWhileLoginIsInFlight() throws Exception {
+
+		CountDownLatch loginStarted = new CountDownLatch(1);
+		CountDownLatch loginReleased = new CountDownLatch(1);
+
+		when(clientAuthentication.login()).then(invocation -> {
+			loginStarted.countDown();
+			loginReleased.await(5, TimeUnit.SECONDS);
+			return LoginToken.of("login");
+		});
+		sessionManager.setLoginFailFast(true);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<VaultToken> first = executor.submit(sessionManager::getSessionToken);
+			loginStarted.await(5, TimeUnit.SECONDS);
+
+			assertThatExceptionOfType(VaultLoginException.class)
+					.isThrownBy(() -> sessionManager.getSessionToken());
+
+			loginReleased.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(LoginToken.of("login"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		verify(clientAuthentication).login();
+	}
+
 	@Test
 	void shouldReLoginIfRenewalFails() {
 
@@ -384,6 +645,35 @@ class LifecycleAwareSessionManagerUnitTests {
 		verify(clientAuthentication).login();
 	}
 
+	@Test
+	void shouldRetryTokenRenewalAfterFailure() {
+
+		when(clientAuthentication.login()).thenReturn(
+				LoginToken.renewable("login".toCharArray(), Duration.ofMinutes(1)));
+		when(restOperations.postForObject(anyString(), any(), eq(VaultResponse.class)))
+				.thenThrow(new ResourceAccessException("Connection refused"))
+				.thenReturn(fromToken(LoginToken.renewable("login".toCharArray(),
+						Duration.ofMinutes(1))));
+		sessionManager.setLeaseStrategy(LeaseStrategy.retainOnError());
+		sessionManager.setRetryPolicy(RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1)));
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		sessionManager.getSessionToken();
+		verify(taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		verify(taskScheduler, times(2)).schedule(runnableCaptor.capture(),
+				any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		verify(restOperations, times(2)).postForObject(anyString(), any(),
+				eq(VaultResponse.class));
+		verify(listener).onAuthenticationEvent(any(AfterLoginTokenRenewedEvent.class));
+		verify(taskScheduler, times(3)).schedule(any(Runnable.class), any(Trigger.class));
+		verify(clientAuthentication).login();
+	}
+
 	@Test
 	void shouldUseTaskScheduler() {
 
@@ -76,6 +76,23 @@ class LoginTokenAdapterUnitTests {
 		LoginToken loginToken = (LoginToken) login;
 		assertThat(loginToken.isRenewable()).isFalse();
 		assertThat(loginToken.getLeaseDuration().getSeconds()).isEqualTo(456);
+		assertThat(loginToken.isBatchToken()).isFalse();
 	}
 
+	@Test
+	void shouldReportBatchTokenType() {
+
+		mockRest.expect(requestTo("/auth/token/lookup-self"))
+				.andRespond(withSuccess().contentType(MediaType.APPLICATION_JSON)
+						.body("{\"data\": {\"renewable\": false, \"ttl\": 456, "
+								+ "\"type\": \"batch\"} }"));
+
+		LoginTokenAdapter adapter = new LoginTokenAdapter(
+				new TokenAuthentication("b.AAAAAQ"), restTemplate);
+
+		LoginToken loginToken = (LoginToken) adapter.login();
+
+		assertThat(loginToken.getType()).isEqualTo(LoginToken.BATCH_TOKEN_TYPE);
+		assertThat(loginToken.isBatchToken()).isTrue();
+	}
 }
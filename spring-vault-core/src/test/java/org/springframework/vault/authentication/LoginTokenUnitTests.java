@@ -15,6 +15,8 @@
  */
 package org.springframework.vault.authentication;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,5 +45,23 @@ class LoginTokenUnitTests {
 				.isEqualTo("LoginToken [renewable=false, leaseDuration=PT1S]");
 		assertThat(LoginToken.renewable("token", 1).toString())
 				.isEqualTo("LoginToken [renewable=true, leaseDuration=PT1S]");
+		assertThat(LoginToken.builder().token("token").leaseDuration(Duration.ofSeconds(1))
+				.type("batch").build().toString()).isEqualTo(
+						"LoginToken [renewable=false, leaseDuration=PT1S, type=batch]");
+	}
+
+	@Test
+	void shouldBuildLoginToken() {
+
+		LoginToken token = LoginToken.builder().token("token").renewable(true)
+				.leaseDuration(Duration.ofSeconds(10)).type(LoginToken.BATCH_TOKEN_TYPE)
+				.build();
+
+		assertThat(token.getToken()).isEqualTo("token");
+		assertThat(token.isRenewable()).isTrue();
+		assertThat(token.getLeaseDuration()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(token.getType()).isEqualTo("batch");
+		assertThat(token.isBatchToken()).isTrue();
+		assertThat(LoginToken.of("token").isBatchToken()).isFalse();
 	}
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MicrometerAuthenticationMetrics}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class MicrometerAuthenticationMetricsUnitTests {
+
+	@Mock
+	ClientAuthentication clientAuthentication;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	@Mock
+	RestOperations restOperations;
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	LifecycleAwareSessionManager sessionManager;
+
+	@BeforeEach
+	void before() {
+
+		sessionManager = new LifecycleAwareSessionManager(clientAuthentication,
+				taskScheduler, restOperations);
+		sessionManager.setAuthenticationMetrics(new MicrometerAuthenticationMetrics(
+				registry, Tags.of("session-manager", "test")));
+	}
+
+	@Test
+	void shouldRecordLogin() {
+
+		when(clientAuthentication.login()).thenReturn(
+				LoginToken.renewable("login".toCharArray(), Duration.ofSeconds(100)));
+
+		sessionManager.setAuthenticationMechanism("approle");
+		sessionManager.getSessionToken();
+
+		assertThat(registry.get("vault.authentication.login")
+				.tags("session-manager", "test", "authentication", "approle",
+						"outcome", "success")
+				.timer().count()).isEqualTo(1);
+		assertThat(registry.get("vault.authentication.time-to-expiry").timeGauge()
+				.value(TimeUnit.SECONDS)).isBetween(95d, 100d);
+		assertThat(registry.get("vault.authentication.relogin").counter().count())
+				.isZero();
+	}
+
+	@Test
+	void shouldRecordFailedLogin() {
+
+		when(clientAuthentication.login()).thenThrow(new VaultLoginException("foo"));
+
+		assertThatExceptionOfType(VaultLoginException.class)
+				.isThrownBy(() -> sessionManager.getSessionToken());
+
+		assertThat(registry.get("vault.authentication.login").tag("outcome", "failure")
+				.timer().count()).isEqualTo(1);
+		assertThat(registry.get("vault.authentication.time-to-expiry").timeGauge()
+				.value(TimeUnit.SECONDS)).isNaN();
+	}
+
+	@Test
+	void shouldRecordLoginFailingWithNonVaultException() {
+
+		when(clientAuthentication.login())
+				.thenThrow(new ResourceAccessException("Connection refused"));
+
+		assertThatExceptionOfType(ResourceAccessException.class)
+				.isThrownBy(() -> sessionManager.getSessionToken());
+
+		assertThat(registry.get("vault.authentication.login").tag("outcome", "failure")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRecordFailedRenewalAndRelogin() {
+
+		when(clientAuthentication.login()).thenReturn(
+				LoginToken.renewable("login".toCharArray(), Duration.ofSeconds(100)));
+		when(restOperations.postForObject(anyString(), any(), eq(VaultResponse.class)))
+				.thenThrow(new ResourceAccessException("Connection refused"));
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		sessionManager.getSessionToken();
+		verify(taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		assertThat(registry.get("vault.authentication.renewal")
+				.tag("outcome", "failure").timer().count()).isEqualTo(1);
+		assertThat(registry.get("vault.authentication.dropped").counter().count())
+				.isEqualTo(1);
+		assertThat(registry.get("vault.authentication.time-to-expiry").timeGauge()
+				.value(TimeUnit.SECONDS)).isNaN();
+
+		sessionManager.getSessionToken();
+
+		assertThat(registry.get("vault.authentication.relogin").counter().count())
+				.isEqualTo(1);
+		assertThat(registry.get("vault.authentication.login").tag("outcome", "success")
+				.timer().count()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ReactiveFailoverAuthentication}.
+ *
+ * @author agent
+ */
+class ReactiveFailoverAuthenticationUnitTests {
+
+	AtomicInteger primaryAttempts = new AtomicInteger();
+
+	@Test
+	void shouldFallBackAndPreferLastSuccessfulMethod() {
+
+		VaultTokenSupplier primary = () -> {
+			primaryAttempts.incrementAndGet();
+			return Mono.error(new VaultLoginException("Backend unavailable"));
+		};
+
+		ReactiveFailoverAuthentication authentication = ReactiveFailoverAuthentication
+				.builder().authentication(primary)
+				.authentication(() -> Mono.just(VaultToken.of("secondary"))).build();
+
+		authentication.getVaultToken().as(StepVerifier::create)
+				.expectNext(VaultToken.of("secondary")).verifyComplete();
+		authentication.getVaultToken().as(StepVerifier::create)
+				.expectNext(VaultToken.of("secondary")).verifyComplete();
+
+		assertThat(primaryAttempts).hasValue(1);
+	}
+
+	@Test
+	void shouldFallBackAfterTimeout() {
+
+		ReactiveFailoverAuthentication authentication = ReactiveFailoverAuthentication
+				.builder().authentication(Mono::never, Duration.ofMillis(100))
+				.authentication(() -> Mono.just(VaultToken.of("secondary"))).build();
+
+		authentication.getVaultToken().as(StepVerifier::create)
+				.expectNext(VaultToken.of("secondary")).verifyComplete();
+	}
+
+	@Test
+	void shouldFailIfAllMethodsFail() {
+
+		ReactiveFailoverAuthentication authentication = ReactiveFailoverAuthentication
+				.builder()
+				.authentication(() -> Mono.error(new VaultLoginException("primary")))
+				.authentication(Mono::empty).build();
+
+		authentication.getVaultToken().as(StepVerifier::create)
+				.verifyErrorSatisfies(e -> assertThat(e)
+						.isInstanceOf(VaultLoginException.class)
+						.satisfies(it -> assertThat(it.getSuppressed()).hasSize(1)));
+	}
+}
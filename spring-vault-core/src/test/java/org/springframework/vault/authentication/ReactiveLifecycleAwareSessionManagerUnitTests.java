@@ -32,6 +32,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
 
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
@@ -60,6 +61,8 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -181,6 +184,44 @@ class ReactiveLifecycleAwareSessionManagerUnitTests {
 		assertThat(event.getSource()).isInstanceOf(LoginToken.class);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRestoreValidTokenFromTokenStore() {
+
+		VaultResponse vaultResponse = new VaultResponse();
+		vaultResponse.setData(Collections.singletonMap("ttl", 100));
+
+		TokenStore tokenStore = mock(TokenStore.class);
+		when(tokenStore.load()).thenReturn(LoginToken.of("stored"));
+		when(responseSpec.bodyToMono((Class) any())).thenReturn(Mono.just(vaultResponse));
+		sessionManager.setTokenStore(tokenStore);
+
+		sessionManager.getSessionToken().as(StepVerifier::create).assertNext(it -> {
+
+			assertThat(it).isEqualTo(LoginToken.of("stored"));
+			assertThat(((LoginToken) it).getLeaseDuration())
+					.isEqualTo(Duration.ofSeconds(100));
+		}).verifyComplete();
+
+		verifyZeroInteractions(tokenSupplier);
+		verify(listener).onAuthenticationEvent(any(AfterLoginEvent.class));
+	}
+
+	@Test
+	void shouldStoreObtainedToken() {
+
+		TokenStore tokenStore = mock(TokenStore.class);
+		mockToken(LoginToken.of("login"));
+		sessionManager.setTokenStore(tokenStore);
+
+		sessionManager.getSessionToken() //
+				.as(StepVerifier::create) //
+				.expectNext(LoginToken.of("login")) //
+				.verifyComplete();
+
+		verify(tokenStore).save(LoginToken.of("login"));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void shouldContinueIfSelfLookupFails() {
@@ -298,6 +339,36 @@ class ReactiveLifecycleAwareSessionManagerUnitTests {
 		verify(taskScheduler).schedule(any(Runnable.class), any(Trigger.class));
 	}
 
+	@Test
+	void shouldReLoginAheadOfBatchTokenExpiry() {
+
+		LoginToken batch = LoginToken.builder().token("batch").renewable(true)
+				.leaseDuration(Duration.ofMinutes(1)).type(LoginToken.BATCH_TOKEN_TYPE)
+				.build();
+		when(tokenSupplier.getVaultToken()).thenReturn(Mono.just(batch),
+				Mono.just(LoginToken.builder().token("next")
+						.leaseDuration(Duration.ofMinutes(1))
+						.type(LoginToken.BATCH_TOKEN_TYPE).build()));
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		sessionManager.getSessionToken() //
+				.as(StepVerifier::create) //
+				.expectNext(batch) //
+				.verifyComplete();
+
+		verify(taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		sessionManager.getSessionToken() //
+				.as(StepVerifier::create) //
+				.expectNext(LoginToken.of("next")) //
+				.verifyComplete();
+
+		verify(tokenSupplier, times(2)).getVaultToken();
+		verifyZeroInteractions(webClient);
+		verify(listener, times(2)).onAuthenticationEvent(any(AfterLoginEvent.class));
+	}
+
 	@Test
 	void shouldRunTokenRenewal() {
 
@@ -330,6 +401,43 @@ class ReactiveLifecycleAwareSessionManagerUnitTests {
 		verify(listener).onAuthenticationEvent(any(AfterLoginTokenRenewedEvent.class));
 	}
 
+	@Test
+	void shouldScheduleTokenRenewalUsingReactorScheduler() {
+
+		VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+		sessionManager = new ReactiveLifecycleAwareSessionManager(tokenSupplier,
+				scheduler, webClient);
+
+		mockToken(LoginToken.renewable("login".toCharArray(), Duration.ofSeconds(10)));
+		when(responseSpec.bodyToMono(VaultResponse.class)).thenReturn(Mono.just(
+				fromToken(LoginToken.renewable("login".toCharArray(),
+						Duration.ofSeconds(100)))));
+		when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just("ok"));
+
+		try {
+
+			sessionManager.getSessionToken() //
+					.as(StepVerifier::create) //
+					.expectNextCount(1) //
+					.verifyComplete();
+
+			scheduler.advanceTimeBy(Duration.ofSeconds(4));
+			verify(requestBodyUriSpec, never()).uri("auth/token/renew-self");
+
+			scheduler.advanceTimeBy(Duration.ofSeconds(2));
+			verify(requestBodyUriSpec).uri("auth/token/renew-self");
+
+			sessionManager.destroy();
+			scheduler.advanceTimeBy(Duration.ofSeconds(200));
+
+			verify(requestBodyUriSpec).uri("auth/token/renew-self");
+			verifyZeroInteractions(taskScheduler);
+		}
+		finally {
+			scheduler.dispose();
+		}
+	}
+
 	@Test
 	void shouldReScheduleTokenRenewalAfterSuccessfulRenewal() {
 
@@ -453,6 +561,44 @@ class ReactiveLifecycleAwareSessionManagerUnitTests {
 		verify(tokenSupplier).getVaultToken();
 	}
 
+	@Test
+	void shouldRecordMetrics() {
+
+		AuthenticationMetrics metrics = mock(AuthenticationMetrics.class);
+		sessionManager.setAuthenticationMetrics(metrics);
+		sessionManager.setAuthenticationMechanism("kubernetes");
+
+		when(tokenSupplier.getVaultToken()).thenReturn(
+				Mono.just(LoginToken.renewable("login".toCharArray(),
+						Duration.ofSeconds(5))),
+				Mono.just(LoginToken.renewable("bar".toCharArray(),
+						Duration.ofSeconds(5))));
+		when(responseSpec.bodyToMono(VaultResponse.class))
+				.thenReturn(Mono.error(new RuntimeException("foo")));
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		sessionManager.getSessionToken() //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(metrics).bindTo(sessionManager);
+		verify(metrics).recordLogin(eq("kubernetes"), any(), eq(true));
+		assertThat(sessionManager.getTimeToExpiry()).isNotNull();
+
+		verify(taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		verify(metrics).recordRenewal(any(), eq(false));
+		verify(metrics).tokenDropped();
+		assertThat(sessionManager.getTimeToExpiry()).isNull();
+
+		sessionManager.getSessionToken().as(StepVerifier::create).expectNextCount(1)
+				.verifyComplete();
+
+		verify(metrics).relogin();
+	}
+
 	private static VaultResponse fromToken(LoginToken loginToken) {
 
 		Map<String, Object> auth = new HashMap<>();
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link WatchingKubernetesServiceAccountTokenFile}.
+ *
+ * @author agent
+ */
+class WatchingKubernetesServiceAccountTokenFileUnitTests {
+
+	@Test
+	void shouldRejectMissingFile(@TempDir Path directory) {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new WatchingKubernetesServiceAccountTokenFile(
+						directory.resolve("token")));
+	}
+
+	@Test
+	void shouldReloadTokenAfterRotation(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("token");
+		Files.write(file, "first".getBytes());
+
+		WatchingKubernetesServiceAccountTokenFile tokenFile = //
+				new WatchingKubernetesServiceAccountTokenFile(file);
+
+		try {
+			assertThat(tokenFile.get()).isEqualTo("first");
+
+			Path rotated = directory.resolve("token.tmp");
+			Files.write(rotated, "second".getBytes());
+			Files.move(rotated, file, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+
+			long deadline = System.currentTimeMillis() + 15_000;
+			while (!"second".equals(tokenFile.get())
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(50);
+			}
+
+			assertThat(tokenFile.get()).isEqualTo("second");
+		}
+		finally {
+			tokenFile.destroy();
+		}
+	}
+
+	@Test
+	void shouldReloadTokenAfterWatchedDirectoryWasReplaced(@TempDir Path parent)
+			throws Exception {
+
+		Path directory = Files.createDirectory(parent.resolve("serviceaccount"));
+		Path file = directory.resolve("token");
+		Files.write(file, "first".getBytes());
+
+		WatchingKubernetesServiceAccountTokenFile tokenFile = //
+				new WatchingKubernetesServiceAccountTokenFile(file);
+
+		try {
+			assertThat(tokenFile.get()).isEqualTo("first");
+
+			Files.delete(file);
+			Files.delete(directory);
+			Files.createDirectory(directory);
+			Files.write(file, "second".getBytes());
+
+			awaitToken(tokenFile, "second");
+
+			Files.write(file, "third".getBytes());
+
+			awaitToken(tokenFile, "third");
+		}
+		finally {
+			tokenFile.destroy();
+		}
+	}
+
+	@Test
+	void shouldReadTokenFileAfterDestroy(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("token");
+		Files.write(file, "first".getBytes());
+
+		WatchingKubernetesServiceAccountTokenFile tokenFile = //
+				new WatchingKubernetesServiceAccountTokenFile(file);
+
+		assertThat(tokenFile.get()).isEqualTo("first");
+
+		tokenFile.destroy();
+		Files.write(file, "second".getBytes());
+
+		assertThat(tokenFile.get()).isEqualTo("second");
+	}
+
+	private static void awaitToken(WatchingKubernetesServiceAccountTokenFile tokenFile,
+			String expected) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + 15_000;
+		while (!expected.equals(tokenFile.get())
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+
+		assertThat(tokenFile.get()).isEqualTo(expected);
+	}
+}
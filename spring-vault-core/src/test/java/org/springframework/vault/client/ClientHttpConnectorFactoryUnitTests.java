@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.vault.client.ClientHttpConnectorFactory.ReactorNetty;
+import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.SslConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ClientHttpConnectorFactory}.
+ *
+ * @author agent
+ */
+class ClientHttpConnectorFactoryUnitTests {
+
+	@Test
+	void shouldUseSharedResourcesWithoutPoolSettings() {
+
+		ClientOptions options = new ClientOptions();
+
+		assertThat(ReactorNetty.createConnectionProvider(options)).isNull();
+		assertThat(ReactorNetty.usingReactorNetty(options, SslConfiguration.unconfigured()))
+				.isNotInstanceOf(DisposableBean.class);
+	}
+
+	@Test
+	void shouldCreateDisposableConnectorWithPoolSettings() throws Exception {
+
+		ClientOptions options = ClientOptions.builder().idleTimeout(Duration.ofSeconds(30))
+				.build();
+
+		ClientHttpConnector connector = ReactorNetty.usingReactorNetty(options,
+				SslConfiguration.unconfigured());
+
+		assertThat(connector).isInstanceOf(DisposableBean.class);
+
+		((DisposableBean) connector).destroy();
+	}
+
+	@Test
+	void shouldCreateConnectionProviderForCustomMaxConnectionsPerRoute() {
+
+		ClientOptions options = ClientOptions.builder().maxConnectionsPerRoute(5).build();
+
+		assertThat(ReactorNetty.createConnectionProvider(options)).isNotNull();
+	}
+}
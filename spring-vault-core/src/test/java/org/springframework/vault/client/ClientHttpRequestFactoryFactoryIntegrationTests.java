@@ -34,6 +34,7 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Integration tests for {@link ClientHttpRequestFactory}.
@@ -90,6 +91,23 @@ class ClientHttpRequestFactoryFactoryIntegrationTests {
 		((DisposableBean) factory).destroy();
 	}
 
+	@Test
+	void jdkHttpClientShouldWork() throws Exception {
+
+		assumeTrue(JdkHttpClientHttpRequestFactory.isAvailable(),
+				"java.net.http.HttpClient requires Java 11");
+
+		ClientHttpRequestFactory factory = ClientHttpRequestFactoryFactory
+				.createJdkHttpClient(new ClientOptions(),
+						Settings.createSslConfiguration());
+		RestTemplate template = new RestTemplate(factory);
+
+		String response = request(template);
+
+		assertThat(factory).isInstanceOf(JdkHttpClientHttpRequestFactory.class);
+		assertThat(response).isNotNull().contains("initialized");
+	}
+
 	private String request(RestTemplate template) {
 
 		// Uninitialized and sealed can cause status 500
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.vault.client.ClientHttpRequestFactoryFactory.HttpComponents;
+import org.springframework.vault.client.ClientHttpRequestFactoryFactory.OkHttp3;
+import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.ConnectionPoolMetrics;
+import org.springframework.vault.support.ConnectionPoolMetrics.ConnectionPool;
+import org.springframework.vault.support.SslConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ClientHttpRequestFactoryFactory}.
+ *
+ * @author agent
+ */
+class ClientHttpRequestFactoryFactoryUnitTests {
+
+	@Test
+	void shouldConfigureHttpComponentsConnectionPool() {
+
+		ClientOptions options = ClientOptions.builder().maxConnections(20)
+				.maxConnectionsPerRoute(5)
+				.validateAfterInactivity(Duration.ofMillis(500)).build();
+
+		PoolingHttpClientConnectionManager connectionManager = HttpComponents
+				.createConnectionManager(options,
+						SSLConnectionSocketFactory.getSocketFactory());
+
+		assertThat(connectionManager.getMaxTotal()).isEqualTo(20);
+		assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(5);
+		assertThat(connectionManager.getValidateAfterInactivity()).isEqualTo(500);
+	}
+
+	@Test
+	void shouldBindHttpComponentsConnectionPoolMetrics() throws Exception {
+
+		AtomicReference<ConnectionPool> pool = new AtomicReference<>();
+		ClientOptions options = ClientOptions.builder().maxConnections(20)
+				.maxConnectionsPerRoute(5).connectionPoolMetrics(pool::set).build();
+
+		ClientHttpRequestFactory factory = HttpComponents.usingHttpComponents(options,
+				SslConfiguration.unconfigured());
+
+		assertThat(factory).isNotNull();
+		assertThat(pool.get().getMaxConnections()).isEqualTo(20);
+		assertThat(pool.get().getLeasedConnections()).isZero();
+		assertThat(pool.get().getIdleConnections()).isZero();
+		assertThat(pool.get().getPendingRequests()).isZero();
+	}
+
+	@Test
+	void shouldBindOkHttp3ConnectionPoolMetrics() throws Exception {
+
+		AtomicReference<ConnectionPool> pool = new AtomicReference<>();
+		ClientOptions options = ClientOptions.builder().maxConnections(20)
+				.maxConnectionsPerRoute(10).connectionPoolMetrics(pool::set).build();
+
+		OkHttp3.usingOkHttp3(options, SslConfiguration.unconfigured());
+
+		assertThat(pool.get().getMaxConnections()).isEqualTo(-1);
+		assertThat(pool.get().getLeasedConnections()).isZero();
+		assertThat(pool.get().getIdleConnections()).isZero();
+	}
+
+	@Test
+	void noneShouldNotFail() {
+		ConnectionPoolMetrics.none().bindTo(null);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ConsistencyTracker}.
+ *
+ * @author agent
+ */
+class ConsistencyTrackerUnitTests {
+
+	ConsistencyTracker tracker = new ConsistencyTracker(ConsistencyMode.SESSION);
+
+	@Test
+	void shouldKeepNewestStateOfSameCluster() {
+
+		String newer = index("cluster", 10, 5);
+		String older = index("cluster", 9, 5);
+
+		tracker.updateIndex(newer);
+		tracker.updateIndex(older);
+
+		assertThat(tracker.getIndex()).isEqualTo(newer);
+
+		String newest = index("cluster", 10, 6);
+		tracker.updateIndex(newest);
+
+		assertThat(tracker.getIndex()).isEqualTo(newest);
+	}
+
+	@Test
+	void shouldReplaceStateOfDifferentCluster() {
+
+		tracker.updateIndex(index("primary", 10, 5));
+
+		String other = index("secondary", 1, 1);
+		tracker.updateIndex(other);
+
+		assertThat(tracker.getIndex()).isEqualTo(other);
+	}
+
+	@Test
+	void shouldReplaceUnparseableState() {
+
+		tracker.updateIndex(index("cluster", 10, 5));
+		tracker.updateIndex("index-1");
+		tracker.updateIndex("");
+
+		assertThat(tracker.getIndex()).isEqualTo("index-1");
+
+		tracker.reset();
+
+		assertThat(tracker.getIndex()).isNull();
+	}
+
+	private static String index(String clusterId, long localIndex,
+			long replicatedIndex) {
+
+		String state = String.format("%s:%d:%d:hmac", clusterId, localIndex,
+				replicatedIndex);
+
+		return Base64.getEncoder()
+				.encodeToString(state.getBytes(StandardCharsets.UTF_8));
+	}
+}
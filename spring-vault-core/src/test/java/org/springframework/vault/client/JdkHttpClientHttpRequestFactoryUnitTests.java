@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.SslConfiguration;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link JdkHttpClientHttpRequestFactory}.
+ *
+ * @author agent
+ */
+class JdkHttpClientHttpRequestFactoryUnitTests {
+
+	HttpServer server;
+
+	RestTemplate restTemplate;
+
+	String baseUrl;
+
+	@BeforeEach
+	void before() throws IOException {
+
+		assumeTrue(JdkHttpClientHttpRequestFactory.isAvailable(),
+				"java.net.http.HttpClient requires Java 11");
+
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/v1/secret/echo", exchange -> {
+
+			byte[] request;
+			try (InputStream body = exchange.getRequestBody()) {
+				request = StreamUtils.copyToByteArray(body);
+			}
+
+			String response = exchange.getRequestMethod() + " "
+					+ exchange.getRequestHeaders().getFirst("X-Vault-Token") + " "
+					+ new String(request, StandardCharsets.UTF_8);
+			byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("X-Test", "echo");
+			exchange.sendResponseHeaders(200, bytes.length);
+
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(bytes);
+			}
+		});
+		server.createContext("/v1/secret/missing", exchange -> {
+			exchange.sendResponseHeaders(404, -1);
+			exchange.close();
+		});
+		server.start();
+
+		baseUrl = "http://localhost:" + server.getAddress().getPort() + "/v1/";
+		restTemplate = new RestTemplate(JdkHttpClientHttpRequestFactory
+				.create(Duration.ofSeconds(1), Duration.ofSeconds(5), null));
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		if (server != null) {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void shouldExchangeRequestAndResponse() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Vault-Token", "my-token");
+
+		ResponseEntity<String> response = restTemplate.exchange(
+				baseUrl + "secret/echo", HttpMethod.POST,
+				new HttpEntity<>("{\"key\":\"value\"}", headers), String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getFirst("X-Test")).isEqualTo("echo");
+		assertThat(response.getBody()).isEqualTo("POST my-token {\"key\":\"value\"}");
+	}
+
+	@Test
+	void shouldSendRequestWithoutBody() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Vault-Token", "my-token");
+
+		ResponseEntity<String> response = restTemplate.exchange(
+				baseUrl + "secret/echo", HttpMethod.GET, new HttpEntity<>(headers),
+				String.class);
+
+		assertThat(response.getBody()).isEqualTo("GET my-token ");
+	}
+
+	@Test
+	void shouldSelectJdkHttpClientExplicitly() {
+
+		ClientHttpRequestFactory factory = ClientHttpRequestFactoryFactory
+				.createJdkHttpClient(new ClientOptions(), SslConfiguration.unconfigured());
+
+		assertThat(factory).isInstanceOf(JdkHttpClientHttpRequestFactory.class);
+		assertThat(new RestTemplate(factory).getForObject(baseUrl + "secret/echo",
+				String.class)).startsWith("GET");
+	}
+
+	@Test
+	void shouldReportErrorStatus() {
+
+		assertThatExceptionOfType(HttpClientErrorException.class)
+				.isThrownBy(() -> restTemplate.getForObject(baseUrl + "secret/missing",
+						String.class))
+				.satisfies(e -> assertThat(e.getStatusCode())
+						.isEqualTo(HttpStatus.NOT_FOUND));
+	}
+}
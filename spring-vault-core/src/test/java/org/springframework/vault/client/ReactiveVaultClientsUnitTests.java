@@ -15,7 +15,12 @@
  */
 package org.springframework.vault.client;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
@@ -27,9 +32,12 @@ import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
 import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.vault.support.VaultHealth;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for {@link ReactiveVaultClients}.
@@ -80,4 +88,138 @@ class ReactiveVaultClientsUnitTests {
 		assertThat(request.getHeaders()).containsEntry(VaultHttpHeaders.VAULT_NAMESPACE,
 				Collections.singletonList("baz"));
 	}
+
+	@Test
+	void shouldRouteReadsToPerformanceStandby() {
+
+		VaultEndpoint active = VaultEndpoint.create("active", 8200);
+		VaultEndpoint standby = VaultEndpoint.create("standby", 8200);
+
+		ReadScalingVaultEndpointProvider provider = new ReadScalingVaultEndpointProvider(
+				Arrays.asList(active, standby), endpoint -> {
+
+					VaultHealth health = mock(VaultHealth.class);
+					when(health.isInitialized()).thenReturn(true);
+					when(health.isStandby()).thenReturn(endpoint == standby);
+					when(health.isPerformanceStandby()).thenReturn(endpoint == standby);
+					return health;
+				});
+		provider.afterPropertiesSet();
+
+		List<URI> uris = new ArrayList<>();
+		ClientHttpConnector connector = (method, uri, fn) -> {
+
+			uris.add(uri);
+			return fn.apply(new MockClientHttpRequest(method, uri))
+					.then(Mono.just(new MockClientHttpResponse(HttpStatus.OK)));
+		};
+
+		WebClient webClient = ReactiveVaultClients.createWebClient(provider, connector);
+
+		webClient.get().uri("secret/foo").retrieve().bodyToMono(String.class)
+				.as(StepVerifier::create) //
+				.verifyComplete();
+		webClient.post().uri("secret/foo").retrieve().bodyToMono(String.class)
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(uris).containsExactly(
+				URI.create("https://standby:8200/v1/secret/foo"),
+				URI.create("https://active:8200/v1/secret/foo"));
+	}
+
+	@Test
+	void shouldResolveEndpointUsingReactiveEndpointProvider() {
+
+		AtomicInteger resolutions = new AtomicInteger();
+		ReactiveVaultEndpointProvider endpointProvider = () -> Mono.fromSupplier(() -> {
+
+			resolutions.incrementAndGet();
+			return VaultEndpoint.create("vault.example.com", 8200);
+		});
+
+		List<URI> uris = new ArrayList<>();
+		ClientHttpConnector connector = (method, uri, fn) -> {
+
+			uris.add(uri);
+			return fn.apply(new MockClientHttpRequest(method, uri))
+					.then(Mono.just(new MockClientHttpResponse(HttpStatus.OK)));
+		};
+
+		WebClient webClient = ReactiveVaultClients.createWebClient(endpointProvider,
+				connector);
+
+		Mono<String> request = webClient.get().uri("secret/{path}?list=true", "foo bar")
+				.retrieve().bodyToMono(String.class);
+
+		assertThat(resolutions).hasValue(0);
+
+		request.as(StepVerifier::create).verifyComplete();
+		webClient.get().uri("https://other:8200/v1/sys/health").retrieve()
+				.bodyToMono(String.class) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(resolutions).hasValue(1);
+		assertThat(uris).containsExactly(
+				URI.create("https://vault.example.com:8200/v1/secret/foo%20bar?list=true"),
+				URI.create("https://other:8200/v1/sys/health"));
+	}
+
+	@Test
+	void shouldFailWithoutEndpoint() {
+
+		ReactiveVaultEndpointProvider endpointProvider = Mono::empty;
+		ClientHttpConnector connector = (method, uri, fn) -> Mono
+				.just(new MockClientHttpResponse(HttpStatus.OK));
+
+		WebClient webClient = WebClientBuilder.builder().httpConnector(connector)
+				.endpointProvider(endpointProvider).build();
+
+		webClient.get().uri("secret/foo").retrieve().bodyToMono(String.class)
+				.as(StepVerifier::create) //
+				.verifyError(IllegalStateException.class);
+	}
+
+	@Test
+	void shouldRetryInconsistentReadsInSessionMode() {
+
+		ConsistencyTracker tracker = new ConsistencyTracker(ConsistencyMode.SESSION);
+
+		List<ClientHttpRequest> requests = new ArrayList<>();
+		ClientHttpConnector connector = (method, uri, fn) -> {
+
+			MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+			requests.add(request);
+
+			MockClientHttpResponse response = new MockClientHttpResponse(
+					requests.size() == 2 ? HttpStatus.PRECONDITION_FAILED : HttpStatus.OK);
+			if (method == HttpMethod.POST) {
+				response.getHeaders().add(VaultHttpHeaders.VAULT_INDEX, "index-1");
+			}
+
+			return fn.apply(request).then(Mono.just(response));
+		};
+
+		WebClient webClient = WebClient.builder().clientConnector(connector)
+				.filter(ReactiveVaultClients.consistency(tracker)).build();
+
+		webClient.post().uri("/secret/foo").retrieve().bodyToMono(String.class)
+				.as(StepVerifier::create) //
+				.verifyComplete();
+		webClient.get().uri("/secret/foo").retrieve().bodyToMono(String.class)
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(tracker.getIndex()).isEqualTo("index-1");
+		assertThat(requests).hasSize(3);
+		assertThat(requests.get(0).getHeaders())
+				.doesNotContainKey(VaultHttpHeaders.VAULT_INDEX);
+		assertThat(requests.get(1).getHeaders())
+				.containsEntry(VaultHttpHeaders.VAULT_INDEX,
+						Collections.singletonList("index-1"));
+		assertThat(requests.get(2).getHeaders())
+				.containsEntry(VaultHttpHeaders.VAULT_INDEX,
+						Collections.singletonList("index-1"));
+	}
 }
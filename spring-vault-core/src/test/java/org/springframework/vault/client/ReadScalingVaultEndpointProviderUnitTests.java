@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpResponse;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.vault.client.ReadScalingVaultEndpointProvider.Route;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.vault.support.VaultHealth;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for {@link ReadScalingVaultEndpointProvider}.
+ *
+ * @author agent
+ */
+class ReadScalingVaultEndpointProviderUnitTests {
+
+	VaultEndpoint node1 = VaultEndpoint.create("node1", 8200);
+
+	VaultEndpoint node2 = VaultEndpoint.create("node2", 8200);
+
+	VaultEndpoint node3 = VaultEndpoint.create("node3", 8200);
+
+	Map<VaultEndpoint, VaultHealth> health = new HashMap<>();
+
+	ReadScalingVaultEndpointProvider provider;
+
+	@BeforeEach
+	void before() {
+
+		health.put(node1, performanceStandby());
+		health.put(node2, active());
+		health.put(node3, performanceStandby());
+
+		provider = new ReadScalingVaultEndpointProvider(
+				Arrays.asList(node1, node2, node3), endpoint -> {
+
+					VaultHealth vaultHealth = health.get(endpoint);
+					if (vaultHealth == null) {
+						throw new IllegalStateException("Unreachable");
+					}
+					return vaultHealth;
+				});
+		provider.afterPropertiesSet();
+	}
+
+	@Test
+	void shouldDetermineTopology() {
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(node2);
+		assertThat(provider.getPerformanceStandbys()).containsExactly(node1, node3);
+	}
+
+	@Test
+	void shouldExcludeUnavailableNodes() {
+
+		health.remove(node1);
+		health.put(node3, sealed());
+
+		provider.refresh();
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(node2);
+		assertThat(provider.getPerformanceStandbys()).isEmpty();
+		assertThat(provider.route(HttpMethod.GET, uri(node2))).isNull();
+	}
+
+	@Test
+	void shouldPinWritesToActiveNode() {
+
+		assertThat(provider.route(HttpMethod.POST, uri(node2))).isNull();
+		assertThat(provider.route(HttpMethod.PUT, uri(node2))).isNull();
+		assertThat(provider.route(HttpMethod.DELETE, uri(node2))).isNull();
+	}
+
+	@Test
+	void shouldNotRouteForeignRequests() {
+		assertThat(provider.route(HttpMethod.GET,
+				URI.create("https://example.com:8200/v1/secret/foo"))).isNull();
+	}
+
+	@Test
+	void shouldRouteReadsToLeastBusyStandby() {
+
+		Route first = provider.route(HttpMethod.GET, uri(node2));
+		Route second = provider.route(HttpMethod.GET, uri(node2));
+
+		assertThat(first.getUri().getHost()).isNotEqualTo(second.getUri().getHost());
+		assertThat(first.getUri().getPath()).isEqualTo("/v1/secret/foo");
+
+		first.release();
+
+		Route third = provider.route(HttpMethod.GET, uri(node2));
+
+		assertThat(third.getUri()).isEqualTo(first.getUri());
+	}
+
+	@Test
+	void shouldReleaseRouteWhenResponseIsClosed() throws Exception {
+
+		ClientHttpRequestInterceptor interceptor = VaultClients
+				.createReadScalingInterceptor(provider);
+		ClientHttpResponse response = mock(ClientHttpResponse.class);
+		List<URI> uris = new ArrayList<>();
+		ClientHttpRequestExecution execution = (request, body) -> {
+			uris.add(request.getURI());
+			return response;
+		};
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+				uri(node2));
+
+		ClientHttpResponse first = interceptor.intercept(request, new byte[0],
+				execution);
+		interceptor.intercept(request, new byte[0], execution).close();
+		interceptor.intercept(request, new byte[0], execution).close();
+
+		assertThat(uris.get(1).getHost()).isNotEqualTo(uris.get(0).getHost());
+		assertThat(uris.get(2).getHost()).isEqualTo(uris.get(1).getHost());
+
+		first.close();
+
+		verify(response, times(3)).close();
+	}
+
+	@Test
+	void shouldExcludeFailedStandbyUntilRefresh() {
+
+		Route route = provider.route(HttpMethod.GET, uri(node2));
+		route.failed();
+		route.release();
+
+		assertThat(provider.getPerformanceStandbys()).hasSize(1);
+
+		provider.refresh();
+
+		assertThat(provider.getPerformanceStandbys()).hasSize(2);
+	}
+
+	@Test
+	void shouldRouteRestTemplateRequests() {
+
+		RestTemplate restTemplate = VaultClients.createRestTemplate(provider,
+				new SimpleClientHttpRequestFactory());
+		MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate)
+				.build();
+
+		health.remove(node3);
+		provider.refresh();
+
+		server.expect(requestTo("https://node1:8200/v1/secret/foo"))
+				.andExpect(method(HttpMethod.GET)).andRespond(withSuccess());
+		server.expect(requestTo("https://node2:8200/v1/secret/foo"))
+				.andExpect(method(HttpMethod.POST)).andRespond(withSuccess());
+
+		restTemplate.getForEntity("secret/foo", String.class);
+		restTemplate.postForEntity("secret/foo", "{}", String.class);
+
+		server.verify();
+	}
+
+	@Test
+	void shouldRoutePerformanceStandbyRespondingWithStatus473() {
+
+		RestTemplate restTemplate = new RestTemplate();
+		MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate)
+				.ignoreExpectOrder(true).build();
+		ClientHttpRequestFactory requestFactory = restTemplate.getRequestFactory();
+
+		server.expect(requestTo("https://node1:8200/v1/sys/health"))
+				.andRespond(withRawStatus(473, "{\"initialized\": true, "
+						+ "\"sealed\": false, \"standby\": true, "
+						+ "\"performance_standby\": true}"));
+		server.expect(requestTo("https://node2:8200/v1/sys/health"))
+				.andRespond(withSuccess("{\"initialized\": true, \"sealed\": false, "
+						+ "\"standby\": false, \"performance_standby\": false}",
+						MediaType.APPLICATION_JSON));
+		server.expect(requestTo("https://node3:8200/v1/sys/health"))
+				.andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+		ReadScalingVaultEndpointProvider provider = new ReadScalingVaultEndpointProvider(
+				Arrays.asList(node1, node2, node3),
+				endpoint -> new VaultTemplate(endpoint, requestFactory,
+						() -> VaultToken.of("token")).opsForSys().health());
+		provider.afterPropertiesSet();
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(node2);
+		assertThat(provider.getPerformanceStandbys()).containsExactly(node1);
+		assertThat(provider.route(HttpMethod.GET, uri(node2)).getUri().getHost())
+				.isEqualTo("node1");
+
+		server.verify();
+	}
+
+	private static URI uri(VaultEndpoint endpoint) {
+		return endpoint.createUri("secret/foo");
+	}
+
+	private static VaultHealth active() {
+		return health(false, false, false);
+	}
+
+	private static VaultHealth performanceStandby() {
+		return health(false, true, true);
+	}
+
+	private static VaultHealth sealed() {
+		return health(true, true, true);
+	}
+
+	private static VaultHealth health(boolean sealed, boolean standby,
+			boolean performanceStandby) {
+
+		VaultHealth health = mock(VaultHealth.class);
+
+		when(health.isInitialized()).thenReturn(true);
+		when(health.isSealed()).thenReturn(sealed);
+		when(health.isStandby()).thenReturn(standby);
+		when(health.isPerformanceStandby()).thenReturn(performanceStandby);
+
+		return health;
+	}
+
+	private static ResponseCreator withRawStatus(int status, String body) {
+
+		return request -> new AbstractClientHttpResponse() {
+
+			@Override
+			public int getRawStatusCode() {
+				return status;
+			}
+
+			@Override
+			public String getStatusText() {
+				return "";
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+
+				HttpHeaders headers = new HttpHeaders();
+				headers.setContentType(MediaType.APPLICATION_JSON);
+				return headers;
+			}
+
+			@Override
+			public InputStream getBody() {
+				return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+}
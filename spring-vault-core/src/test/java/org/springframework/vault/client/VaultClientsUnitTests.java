@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.vault.client.VaultClients.PrefixAwareUriBuilderFactory;
 import org.springframework.vault.client.VaultClients.PrefixAwareUriTemplateHandler;
@@ -29,8 +30,10 @@ import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
@@ -140,4 +143,81 @@ class VaultClientsUnitTests {
 
 		assertThat(uri).hasHost("localhost").hasPort(8200).hasPath("/foo/v1/path/bar");
 	}
+
+	@Test
+	void shouldApplyVaultIndexToReadsInSessionMode() {
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add(VaultClients.createConsistencyInterceptor(
+				new ConsistencyTracker(ConsistencyMode.SESSION)));
+
+		MockRestServiceServer mockRest = MockRestServiceServer.createServer(restTemplate);
+
+		HttpHeaders index = new HttpHeaders();
+		index.add(VaultHttpHeaders.VAULT_INDEX, "index-1");
+
+		mockRest.expect(requestTo("/secret/foo")).andExpect(method(HttpMethod.POST))
+				.andExpect(headerDoesNotExist(VaultHttpHeaders.VAULT_INDEX))
+				.andRespond(withSuccess().headers(index));
+		mockRest.expect(requestTo("/secret/foo")).andExpect(method(HttpMethod.GET))
+				.andExpect(header(VaultHttpHeaders.VAULT_INDEX, "index-1"))
+				.andExpect(headerDoesNotExist(VaultHttpHeaders.VAULT_INCONSISTENT))
+				.andRespond(withStatus(HttpStatus.PRECONDITION_FAILED));
+		mockRest.expect(requestTo("/secret/foo")).andExpect(method(HttpMethod.GET))
+				.andExpect(header(VaultHttpHeaders.VAULT_INDEX, "index-1"))
+				.andRespond(withSuccess());
+		mockRest.expect(requestTo("/secret/bar")).andExpect(method(HttpMethod.POST))
+				.andExpect(headerDoesNotExist(VaultHttpHeaders.VAULT_INDEX))
+				.andRespond(withSuccess());
+
+		restTemplate.postForEntity("/secret/foo", "{}", String.class);
+		restTemplate.getForEntity("/secret/foo", String.class);
+		restTemplate.postForEntity("/secret/bar", "{}", String.class);
+
+		mockRest.verify();
+	}
+
+	@Test
+	void shouldRequestForwardingInStrictMode() {
+
+		ConsistencyTracker tracker = new ConsistencyTracker(ConsistencyMode.STRICT);
+		tracker.updateIndex("index-1");
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors()
+				.add(VaultClients.createConsistencyInterceptor(tracker));
+
+		MockRestServiceServer mockRest = MockRestServiceServer.createServer(restTemplate);
+
+		mockRest.expect(requestTo("/secret/foo")).andExpect(method(HttpMethod.POST))
+				.andExpect(header(VaultHttpHeaders.VAULT_INDEX, "index-1"))
+				.andExpect(header(VaultHttpHeaders.VAULT_INCONSISTENT,
+						"forward-active-node"))
+				.andRespond(withSuccess());
+
+		restTemplate.postForEntity("/secret/foo", "{}", String.class);
+
+		mockRest.verify();
+	}
+
+	@Test
+	void shouldNotTrackIndexInNoneMode() {
+
+		ConsistencyTracker tracker = new ConsistencyTracker(ConsistencyMode.NONE);
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors()
+				.add(VaultClients.createConsistencyInterceptor(tracker));
+
+		MockRestServiceServer mockRest = MockRestServiceServer.createServer(restTemplate);
+
+		HttpHeaders index = new HttpHeaders();
+		index.add(VaultHttpHeaders.VAULT_INDEX, "index-1");
+
+		mockRest.expect(requestTo("/secret/foo")).andRespond(withSuccess().headers(index));
+
+		restTemplate.postForEntity("/secret/foo", "{}", String.class);
+
+		assertThat(tracker.getIndex()).isNull();
+	}
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link EncryptedFileLeaseJournal}.
+ *
+ * @author agent
+ */
+class EncryptedFileLeaseJournalUnitTests {
+
+	static final byte[] KEY = "0123456789abcdef".getBytes();
+
+	RequestedSecret requestedSecret = RequestedSecret.renewable("database/creds/app");
+
+	Lease lease = Lease.of("database/creds/app/1234", Duration.ofHours(1), true);
+
+	@Test
+	void shouldRetainEntriesAcrossInstances(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("leases");
+
+		new EncryptedFileLeaseJournal(file, KEY).record(requestedSecret, lease,
+				Collections.singletonMap("password", "secret"));
+
+		assertThat(new String(Files.readAllBytes(file))).doesNotContain("secret")
+				.doesNotContain(lease.getLeaseId());
+
+		LeaseJournal.Entry entry = new EncryptedFileLeaseJournal(file, KEY)
+				.get(requestedSecret);
+
+		assertThat(entry).isNotNull();
+		assertThat(entry.getLease().getLeaseId()).isEqualTo(lease.getLeaseId());
+		assertThat(entry.getLease().getLeaseDuration()).isEqualTo(Duration.ofHours(1));
+		assertThat(entry.getLease().isRenewable()).isTrue();
+		assertThat(entry.getSecrets()).containsEntry("password", "secret");
+		assertThat(new EncryptedFileLeaseJournal(file, KEY)
+				.get(RequestedSecret.rotating(requestedSecret.getPath()))).isNull();
+	}
+
+	@Test
+	void shouldUpdateAndRemoveEntries(@TempDir Path directory) {
+
+		Path file = directory.resolve("leases");
+		EncryptedFileLeaseJournal journal = new EncryptedFileLeaseJournal(file, KEY);
+
+		journal.update(requestedSecret, lease);
+		assertThat(journal.get(requestedSecret)).isNull();
+
+		journal.record(requestedSecret, lease,
+				Collections.singletonMap("password", "secret"));
+		journal.update(requestedSecret,
+				Lease.of(lease.getLeaseId(), Duration.ofMinutes(5), true));
+
+		assertThat(new EncryptedFileLeaseJournal(file, KEY).get(requestedSecret)
+				.getLease().getLeaseDuration()).isEqualTo(Duration.ofMinutes(5));
+
+		journal.remove(requestedSecret);
+
+		assertThat(new EncryptedFileLeaseJournal(file, KEY).get(requestedSecret))
+				.isNull();
+	}
+
+	@Test
+	void shouldNotRewriteUnchangedEntries(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("leases");
+		EncryptedFileLeaseJournal journal = new EncryptedFileLeaseJournal(file, KEY);
+
+		journal.record(requestedSecret, lease,
+				Collections.singletonMap("password", "secret"));
+		byte[] content = Files.readAllBytes(file);
+
+		journal.record(requestedSecret, lease,
+				Collections.singletonMap("password", "secret"));
+		journal.update(requestedSecret,
+				Lease.of(lease.getLeaseId(), lease.getLeaseDuration(), true));
+
+		// the encrypted file uses a random IV for each write
+		assertThat(Files.readAllBytes(file)).isEqualTo(content);
+	}
+
+	@Test
+	void shouldIgnoreJournalEncryptedWithDifferentKey(@TempDir Path directory) {
+
+		Path file = directory.resolve("leases");
+
+		new EncryptedFileLeaseJournal(file, KEY).record(requestedSecret, lease,
+				Collections.singletonMap("password", "secret"));
+
+		EncryptedFileLeaseJournal journal = new EncryptedFileLeaseJournal(file,
+				"fedcba9876543210".getBytes());
+
+		assertThat(journal.get(requestedSecret)).isNull();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.core.lease.SecretLeaseContainer.LeaseRenewalScheduler;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.RenewalJitter;
+
+/**
+ * Benchmark comparing lease scheduling through {@link ThreadPoolTaskScheduler} with
+ * per-lease triggers against {@link HashedWheelTaskScheduler} for 1k, 10k and 100k
+ * leases. Measures the time to schedule all leases, the time to reschedule all leases
+ * (cancel and schedule, as done on renewal) and the heap retained by scheduled renewals
+ * including cancelled schedules.
+ * <p>
+ * Not part of the test suite. Run {@link #main(String[])} from the IDE or using
+ * {@code java -cp … HashedWheelTaskSchedulerBenchmark}.
+ *
+ * @author agent
+ */
+public class HashedWheelTaskSchedulerBenchmark {
+
+	private static final int[] LEASE_COUNTS = { 1_000, 10_000, 100_000 };
+
+	private static final int ITERATIONS = 5;
+
+	public static void main(String[] args) throws Exception {
+
+		System.out.printf("%-26s %8s %14s %16s %12s%n", "Scheduler", "Leases",
+				"schedule [ms]", "reschedule [ms]", "heap [KiB]");
+
+		for (int leases : LEASE_COUNTS) {
+
+			run("ThreadPoolTaskScheduler", leases, () -> {
+
+				ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+				scheduler.setPoolSize(4);
+				scheduler.setDaemon(true);
+				scheduler.afterPropertiesSet();
+				return scheduler;
+			});
+
+			run("HashedWheelTaskScheduler", leases,
+					() -> new HashedWheelTaskScheduler(Duration.ofMillis(100), 512, 4,
+							10_000));
+		}
+	}
+
+	private static void run(String name, int leases, Supplier<TaskScheduler> supplier)
+			throws Exception {
+
+		long scheduleNanos = Long.MAX_VALUE;
+		long rescheduleNanos = Long.MAX_VALUE;
+		long heap = 0;
+
+		for (int i = 0; i < ITERATIONS; i++) {
+
+			TaskScheduler scheduler = supplier.get();
+
+			List<LeaseRenewalScheduler> renewals = new ArrayList<>(leases);
+			List<RequestedSecret> secrets = new ArrayList<>(leases);
+
+			for (int j = 0; j < leases; j++) {
+				renewals.add(new LeaseRenewalScheduler(scheduler));
+				secrets.add(RequestedSecret.renewable("database/creds/" + j));
+			}
+
+			long heapBefore = usedHeap();
+
+			long start = System.nanoTime();
+			scheduleAll(renewals, secrets, "initial");
+			scheduleNanos = Math.min(scheduleNanos, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			scheduleAll(renewals, secrets, "renewed");
+			rescheduleNanos = Math.min(rescheduleNanos, System.nanoTime() - start);
+
+			heap = Math.max(0, usedHeap() - heapBefore);
+
+			((DisposableBean) scheduler).destroy();
+		}
+
+		System.out.printf("%-26s %8d %14.2f %16.2f %12d%n", name, leases,
+				scheduleNanos / 1_000_000d, rescheduleNanos / 1_000_000d, heap / 1024);
+	}
+
+	private static void scheduleAll(List<LeaseRenewalScheduler> renewals,
+			List<RequestedSecret> secrets, String prefix) {
+
+		Duration minRenewal = Duration.ofSeconds(10);
+		Duration expiryThreshold = Duration.ofSeconds(60);
+
+		for (int j = 0; j < renewals.size(); j++) {
+
+			Lease lease = Lease.of(prefix + "-" + j, Duration.ofHours(1), true);
+			renewals.get(j).scheduleRenewal(secrets.get(j), it -> it, lease, minRenewal,
+					expiryThreshold, RenewalJitter.none());
+		}
+	}
+
+	private static long usedHeap() throws InterruptedException {
+
+		Runtime runtime = Runtime.getRuntime();
+
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
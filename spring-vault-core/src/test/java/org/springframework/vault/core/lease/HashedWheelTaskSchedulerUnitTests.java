@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.vault.core.lease.SecretLeaseContainer.OneShotTrigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link HashedWheelTaskScheduler}.
+ *
+ * @author agent
+ */
+class HashedWheelTaskSchedulerUnitTests {
+
+	HashedWheelTaskScheduler scheduler = new HashedWheelTaskScheduler(
+			Duration.ofMillis(10), 8, 2, 100);
+
+	@AfterEach
+	void tearDown() {
+		scheduler.destroy();
+	}
+
+	@Test
+	void shouldRunTaskAtStartTime() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		scheduler.schedule(latch::countDown, new Date(System.currentTimeMillis() + 50));
+
+		assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void shouldScheduleConcurrentlyOnFirstUse() throws Exception {
+
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+			for (int round = 0; round < 50; round++) {
+
+				HashedWheelTaskScheduler scheduler = new HashedWheelTaskScheduler(
+						Duration.ofMillis(10), 8, 2, 100);
+				CyclicBarrier barrier = new CyclicBarrier(threads);
+				List<Future<Long>> delays = new ArrayList<>();
+
+				try {
+					for (int i = 0; i < threads; i++) {
+						delays.add(executor.submit(() -> {
+
+							barrier.await(5, TimeUnit.SECONDS);
+
+							return scheduler
+									.schedule(() -> {
+									}, new Date(System.currentTimeMillis() + 100))
+									.getDelay(TimeUnit.MILLISECONDS);
+						}));
+					}
+
+					for (Future<Long> delay : delays) {
+						assertThat(delay.get(5, TimeUnit.SECONDS)).isLessThanOrEqualTo(100);
+					}
+				}
+				finally {
+					scheduler.destroy();
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldRunTaskSpanningMultipleRounds() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+
+		// 8 buckets with 10 ms ticks: 250 ms requires multiple rounds.
+		scheduler.schedule(latch::countDown, new Date(System.currentTimeMillis() + 250));
+
+		assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+				.isGreaterThanOrEqualTo(240);
+	}
+
+	@Test
+	void shouldNotRunCancelledTask() throws Exception {
+
+		AtomicInteger counter = new AtomicInteger();
+
+		ScheduledFuture<?> future = scheduler.schedule(counter::incrementAndGet,
+				new Date(System.currentTimeMillis() + 100));
+
+		assertThat(future.cancel(false)).isTrue();
+
+		Thread.sleep(250);
+
+		assertThat(future.isCancelled()).isTrue();
+		assertThat(counter).hasValue(0);
+		assertThat(scheduler.getPendingTaskCount()).isZero();
+	}
+
+	@Test
+	void shouldRunOneShotTriggerOnce() throws Exception {
+
+		AtomicInteger counter = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(1);
+
+		ScheduledFuture<?> future = scheduler.schedule(() -> {
+			counter.incrementAndGet();
+			latch.countDown();
+		}, new OneShotTrigger(0));
+
+		assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+
+		Thread.sleep(100);
+
+		assertThat(counter).hasValue(1);
+		assertThat(future.isDone()).isTrue();
+	}
+
+	@Test
+	void shouldRescheduleWithFixedDelay() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(3);
+
+		ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(latch::countDown,
+				20);
+
+		assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+
+		future.cancel(false);
+
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void shouldContinueAfterTaskFailure() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		scheduler.scheduleAtFixedRate(() -> {
+			latch.countDown();
+			throw new IllegalStateException("error");
+		}, 20);
+
+		assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void shouldCancelPendingTasksOnDestroy() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(1);
+		scheduler.schedule(latch::countDown, new Date(System.currentTimeMillis() + 10));
+		assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+
+		ScheduledFuture<?> future = scheduler.schedule(() -> {
+		}, new Date(System.currentTimeMillis() + 10_000));
+
+		scheduler.destroy();
+
+		assertThat(future.isCancelled()).isTrue();
+		assertThat(scheduler.getPendingTaskCount()).isZero();
+	}
+
+	@Test
+	void shouldRejectTasksAfterShutdown() {
+
+		scheduler.destroy();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> scheduler.schedule(() -> {
+				}, new Date()));
+	}
+}
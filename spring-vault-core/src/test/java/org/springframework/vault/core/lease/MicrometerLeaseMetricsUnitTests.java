@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.RestOperationsCallback;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MicrometerLeaseMetrics}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class MicrometerLeaseMetricsUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	@Mock
+	ScheduledFuture<?> scheduledFuture;
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	RequestedSecret requestedSecret = RequestedSecret.renewable("database/creds/app");
+
+	SecretLeaseContainer secretLeaseContainer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void before() throws Exception {
+
+		secretLeaseContainer = new SecretLeaseContainer(vaultOperations, taskScheduler);
+		secretLeaseContainer.setLeaseMetrics(
+				new MicrometerLeaseMetrics(registry, Tags.of("container", "test")));
+		secretLeaseContainer.afterPropertiesSet();
+
+		VaultResponse secrets = new VaultResponse();
+		secrets.setLeaseId("lease");
+		secrets.setRenewable(true);
+		secrets.setLeaseDuration(100);
+		secrets.setData(Collections.singletonMap("key", "value"));
+
+		when(vaultOperations.read(requestedSecret.getPath())).thenReturn(secrets);
+		when(taskScheduler.schedule(any(Runnable.class), any(Trigger.class)))
+				.thenReturn((ScheduledFuture) scheduledFuture);
+
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+	}
+
+	@Test
+	void shouldRegisterGauges() {
+
+		secretLeaseContainer.start();
+
+		assertThat(registry.get("vault.lease.active").tag("container", "test").gauge()
+				.value()).isEqualTo(1);
+		assertThat(registry.get("vault.lease.scheduled").gauge().value()).isEqualTo(1);
+		assertThat(registry.get("vault.lease.time-to-expiry").timeGauge()
+				.value(TimeUnit.SECONDS)).isBetween(95d, 100d);
+		assertThat(registry.get("vault.lease.events.pending").gauge().value()).isZero();
+		assertThat(registry.get("vault.lease.events.dropped").functionCounter().count())
+				.isZero();
+	}
+
+	@Test
+	void shouldRecordRenewal() {
+
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenReturn(Lease.of("lease", Duration.ofSeconds(100), true));
+
+		secretLeaseContainer.start();
+		secretLeaseContainer.renew(requestedSecret);
+
+		assertThat(registry.get("vault.lease.renewal").tags("outcome", "success")
+				.timer().count()).isEqualTo(1);
+		assertThat(registry.find("vault.lease.renewal")
+				.tagKeys("path").timer()).isNull();
+	}
+
+	@Test
+	void shouldTagTimersWithPathIfEnabled() {
+
+		MicrometerLeaseMetrics metrics = new MicrometerLeaseMetrics(registry);
+		metrics.setPathTagEnabled(true);
+		secretLeaseContainer.setLeaseMetrics(metrics);
+
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenReturn(Lease.of("lease", Duration.ofSeconds(100), true));
+
+		secretLeaseContainer.start();
+		secretLeaseContainer.renew(requestedSecret);
+
+		assertThat(registry.get("vault.lease.renewal")
+				.tags("path", requestedSecret.getPath(), "outcome", "success").timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRecordFailedRevocation() throws Exception {
+
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenThrow(new VaultException("error"));
+
+		secretLeaseContainer.start();
+		secretLeaseContainer.destroy();
+
+		assertThat(registry.get("vault.lease.revocation").tags("outcome", "failure")
+				.timer().count()).isEqualTo(1);
+		assertThat(registry.get("vault.lease.active").gauge().value()).isZero();
+	}
+}
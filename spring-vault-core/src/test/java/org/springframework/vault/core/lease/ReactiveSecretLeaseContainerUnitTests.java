@@ -0,0 +1,295 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRenewedEvent;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRevocationEvent;
+import org.springframework.vault.core.lease.event.BeforeSecretLeaseRevocationEvent;
+import org.springframework.vault.core.lease.event.LeaseListenerAdapter;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseErrorEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent;
+import org.springframework.vault.core.lease.event.SecretNotFoundEvent;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReactiveSecretLeaseContainer}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveSecretLeaseContainerUnitTests {
+
+	@Mock
+	ReactiveVaultOperations vaultOperations;
+
+	@Mock
+	LeaseListenerAdapter leaseListenerAdapter;
+
+	@Captor
+	ArgumentCaptor<SecretLeaseEvent> captor;
+
+	VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+
+	RequestedSecret requestedSecret = RequestedSecret.renewable("my-secret");
+
+	ReactiveSecretLeaseContainer secretLeaseContainer;
+
+	@BeforeEach
+	void before() throws Exception {
+
+		secretLeaseContainer = new ReactiveSecretLeaseContainer(vaultOperations,
+				scheduler);
+		secretLeaseContainer.addLeaseListener(leaseListenerAdapter);
+		secretLeaseContainer.addErrorListener(leaseListenerAdapter);
+		secretLeaseContainer.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Test
+	void shouldWorkIfNoSecretsFound() {
+
+		when(vaultOperations.read(requestedSecret.getPath())).thenReturn(Mono.empty());
+
+		secretLeaseContainer.start();
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+
+		verify(leaseListenerAdapter).onLeaseEvent(any(SecretNotFoundEvent.class));
+		verifyNoMoreInteractions(leaseListenerAdapter);
+	}
+
+	@Test
+	void shouldAcceptSecretsWithoutLease() {
+
+		VaultResponse secrets = new VaultResponse();
+		secrets.setData(Collections.singletonMap("key", "value"));
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(Mono.just(secrets));
+
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.start();
+
+		verify(leaseListenerAdapter).onLeaseEvent(captor.capture());
+
+		SecretLeaseCreatedEvent leaseCreatedEvent = (SecretLeaseCreatedEvent) captor
+				.getValue();
+
+		assertThat(leaseCreatedEvent.getSource()).isEqualTo(requestedSecret);
+		assertThat(leaseCreatedEvent.getLease()).isEqualTo(Lease.none());
+		assertThat(leaseCreatedEvent.getSecrets()).containsKey("key");
+	}
+
+	@Test
+	void shouldPropagateErrorsToListenerOnInitialRetrieval() {
+
+		VaultException e = new VaultException("error");
+		when(vaultOperations.read(requestedSecret.getPath())).thenReturn(Mono.error(e));
+
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.start();
+
+		verify(leaseListenerAdapter).onLeaseError(captor.capture(), any());
+		assertThat(captor.getValue().getLease()).isEqualTo(Lease.none());
+	}
+
+	@Test
+	void shouldRenewLease() {
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(Mono.just(createSecrets()));
+		when(vaultOperations.doWithSession(any()))
+				.thenReturn(Mono.just(createRenewalBody("new_lease", 100)));
+
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.start();
+
+		scheduler.advanceTimeBy(Duration.ofSeconds(39));
+		verify(vaultOperations, never()).doWithSession(any());
+
+		scheduler.advanceTimeBy(Duration.ofSeconds(1));
+		verify(vaultOperations).doWithSession(any());
+
+		verify(leaseListenerAdapter, times(2)).onLeaseEvent(captor.capture());
+		assertThat(captor.getAllValues().get(1))
+				.isInstanceOf(AfterSecretLeaseRenewedEvent.class);
+		assertThat(captor.getAllValues().get(1).getLease().getLeaseId())
+				.isEqualTo("new_lease");
+
+		scheduler.advanceTimeBy(Duration.ofSeconds(40));
+		verify(vaultOperations, times(2)).doWithSession(any());
+	}
+
+	@Test
+	void shouldNotRenewAfterStop() {
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(Mono.just(createSecrets()));
+
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.start();
+		secretLeaseContainer.stop();
+
+		scheduler.advanceTimeBy(Duration.ofMinutes(5));
+
+		verify(vaultOperations, never()).doWithSession(any());
+	}
+
+	@Test
+	void shouldRotateExpiredSecret() {
+
+		RequestedSecret rotating = RequestedSecret.rotating("rotating");
+
+		VaultResponse first = createSecrets();
+		first.setRenewable(false);
+
+		when(vaultOperations.read(rotating.getPath())).thenReturn(Mono.just(first),
+				Mono.just(createSecrets()));
+
+		secretLeaseContainer.addRequestedSecret(rotating);
+		secretLeaseContainer.start();
+
+		scheduler.advanceTimeBy(Duration.ofSeconds(40));
+
+		verify(vaultOperations, times(2)).read(rotating.getPath());
+		verify(leaseListenerAdapter, times(3)).onLeaseEvent(captor.capture());
+
+		assertThat(captor.getAllValues().get(0))
+				.isInstanceOf(SecretLeaseCreatedEvent.class);
+		assertThat(captor.getAllValues().get(1))
+				.isInstanceOf(SecretLeaseExpiredEvent.class);
+		assertThat(captor.getAllValues().get(2))
+				.isInstanceOf(SecretLeaseCreatedEvent.class);
+	}
+
+	@Test
+	void shouldRevokeLeasesOnDestroy() throws Exception {
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(Mono.just(createSecrets()));
+		when(vaultOperations.doWithSession(any())).thenReturn(Mono.just("ok"));
+
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.start();
+		secretLeaseContainer.destroy();
+
+		verify(leaseListenerAdapter, times(3)).onLeaseEvent(captor.capture());
+
+		assertThat(captor.getAllValues().get(1))
+				.isInstanceOf(BeforeSecretLeaseRevocationEvent.class);
+		assertThat(captor.getAllValues().get(2))
+				.isInstanceOf(AfterSecretLeaseRevocationEvent.class);
+	}
+
+	@Test
+	void shouldRetainCauseOfFailedRevocation() {
+
+		WebClientResponseException e = WebClientResponseException.create(400,
+				"Bad Request", HttpHeaders.EMPTY,
+				"{\"errors\":[\"invalid lease\"]}".getBytes(StandardCharsets.UTF_8),
+				StandardCharsets.UTF_8);
+		when(vaultOperations.doWithSession(any())).thenReturn(Mono.error(e));
+
+		secretLeaseContainer.doRevokeLease(requestedSecret, Lease.of("lease",
+				Duration.ofSeconds(100), true)).as(StepVerifier::create).verifyComplete();
+
+		ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+		verify(leaseListenerAdapter).onLeaseError(captor.capture(), exception.capture());
+
+		assertThat(exception.getValue()).isInstanceOf(VaultException.class)
+				.hasMessageContaining("invalid lease").hasCause(e);
+	}
+
+	@Test
+	void shouldPublishEventsThroughFlux() {
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(Mono.just(createSecrets()));
+		when(vaultOperations.doWithSession(any()))
+				.thenReturn(Mono.error(new VaultException("error")));
+
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+
+		StepVerifier.create(secretLeaseContainer.events().take(2)) //
+				.then(() -> secretLeaseContainer.start()) //
+				.assertNext(event -> assertThat(event)
+						.isInstanceOf(SecretLeaseCreatedEvent.class)) //
+				.then(() -> scheduler.advanceTimeBy(Duration.ofSeconds(40))) //
+				.assertNext(event -> assertThat(event)
+						.isInstanceOf(SecretLeaseErrorEvent.class)) //
+				.verifyComplete();
+	}
+
+	private VaultResponse createSecrets() {
+
+		VaultResponse secrets = new VaultResponse();
+
+		secrets.setLeaseId("lease");
+		secrets.setRenewable(true);
+		secrets.setLeaseDuration(100);
+		secrets.setData(Collections.singletonMap("key", "value"));
+
+		return secrets;
+	}
+
+	private static Map<String, Object> createRenewalBody(String leaseId,
+			int leaseDuration) {
+
+		Map<String, Object> body = new HashMap<>();
+		body.put("lease_id", leaseId);
+		body.put("renewable", true);
+		body.put("lease_duration", leaseDuration);
+
+		return body;
+	}
+}
@@ -21,8 +21,11 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +44,7 @@ import org.springframework.vault.core.RestOperationsCallback;
 import org.springframework.vault.core.VaultOperations;
 import org.springframework.vault.core.lease.domain.Lease;
 import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRenewedEvent;
 import org.springframework.vault.core.lease.event.AfterSecretLeaseRevocationEvent;
 import org.springframework.vault.core.lease.event.BeforeSecretLeaseRevocationEvent;
 import org.springframework.vault.core.lease.event.LeaseListenerAdapter;
@@ -49,14 +53,21 @@ import org.springframework.vault.core.lease.event.SecretLeaseEvent;
 import org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent;
 import org.springframework.vault.core.lease.event.SecretNotFoundEvent;
 import org.springframework.vault.support.LeaseStrategy;
+import org.springframework.vault.support.RetryPolicy;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestOperations;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -83,6 +94,9 @@ class SecretLeaseContainerUnitTests {
 	@Mock
 	LeaseListenerAdapter leaseListenerAdapter;
 
+	@Mock
+	LeaseJournal leaseJournal;
+
 	@Captor
 	ArgumentCaptor<SecretLeaseEvent> captor;
 
@@ -307,6 +321,84 @@ class SecretLeaseContainerUnitTests {
 				.doWithSession(any(RestOperationsCallback.class));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRetryFailedRenewalBeforeExpiry() {
+
+		prepareRenewal();
+		when(taskScheduler.schedule(any(Runnable.class), any(Date.class)))
+				.thenReturn(scheduledFuture);
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenThrow(new VaultException("Renewal failure"))
+				.thenReturn(Lease.of("new_lease", Duration.ofSeconds(70), true));
+
+		secretLeaseContainer.setLeaseStrategy(LeaseStrategy.retainOnError());
+		secretLeaseContainer.setRetryPolicy(RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(2), Duration.ofSeconds(2))
+				.withJitter(0));
+		secretLeaseContainer.start();
+
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		ArgumentCaptor<Date> dates = ArgumentCaptor.forClass(Date.class);
+		verify(taskScheduler).schedule(captor.capture(), any(Trigger.class));
+		captor.getValue().run();
+
+		long now = System.currentTimeMillis();
+		verify(taskScheduler).schedule(captor.capture(), dates.capture());
+		assertThat(dates.getValue().getTime() - now).isBetween(1000L, 2000L);
+		verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Trigger.class));
+		verify(leaseListenerAdapter, never())
+				.onLeaseEvent(any(AfterSecretLeaseRenewedEvent.class));
+
+		captor.getValue().run();
+
+		verify(vaultOperations, times(2))
+				.doWithSession(any(RestOperationsCallback.class));
+		verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Trigger.class));
+		verify(leaseListenerAdapter)
+				.onLeaseEvent(any(AfterSecretLeaseRenewedEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldLetLeaseExpireAfterRetriesAreExhausted() {
+
+		prepareRenewal();
+		when(taskScheduler.schedule(any(Runnable.class), any(Date.class)))
+				.thenReturn(scheduledFuture);
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenThrow(new VaultException("Renewal failure"));
+
+		secretLeaseContainer.setLeaseStrategy(LeaseStrategy.retainOnError());
+		secretLeaseContainer.setRetryPolicy(RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(2), Duration.ofSeconds(2))
+				.withJitter(0).withMaxAttempts(1));
+		secretLeaseContainer.start();
+
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(taskScheduler).schedule(captor.capture(), any(Trigger.class));
+		captor.getValue().run();
+
+		verify(taskScheduler).schedule(captor.capture(), any(Date.class));
+		captor.getValue().run();
+
+		ArgumentCaptor<Trigger> triggers = ArgumentCaptor.forClass(Trigger.class);
+		verify(taskScheduler, times(2)).schedule(captor.capture(), triggers.capture());
+		assertThat(triggers.getValue().nextExecutionTime(null).getTime()
+				- System.currentTimeMillis()).isBetween(90_000L, 100_000L);
+		assertThat(secretLeaseContainer.getTimeToExpiry(requestedSecret))
+				.isLessThanOrEqualTo(Duration.ofSeconds(100));
+
+		captor.getValue().run();
+
+		verify(vaultOperations, times(2))
+				.doWithSession(any(RestOperationsCallback.class));
+		verify(leaseListenerAdapter)
+				.onLeaseEvent(any(SecretLeaseExpiredEvent.class));
+		verify(leaseListenerAdapter, never())
+				.onLeaseEvent(any(AfterSecretLeaseRenewedEvent.class));
+	}
+
 	@Test
 	void shouldRotateNonRenewableLease() {
 
@@ -344,6 +436,165 @@ class SecretLeaseContainerUnitTests {
 		assertThat(rotated.getSecrets()).containsEntry("key", "value2");
 	}
 
+	@Test
+	void shouldPreRotateNonRenewableLease() {
+
+		List<SecretLeaseEvent> events = new ArrayList<>();
+		when(taskScheduler.schedule(any(Runnable.class), any(Trigger.class)))
+				.thenReturn(scheduledFuture);
+
+		when(vaultOperations.read(requestedSecret.getPath())).thenReturn(
+				createSecrets("key", "value", false),
+				createSecrets("key", "value2", false));
+
+		RequestedSecret rotating = RequestedSecret.rotating(requestedSecret.getPath());
+		secretLeaseContainer.setRotationOverlap(Duration.ofSeconds(80));
+		secretLeaseContainer.addRequestedSecret(rotating);
+		secretLeaseContainer.addLeaseListener(new LeaseListenerAdapter() {
+			@Override
+			public void onLeaseEvent(SecretLeaseEvent leaseEvent) {
+				events.add(leaseEvent);
+			}
+		});
+
+		secretLeaseContainer.start();
+
+		SecretHolder holder = secretLeaseContainer.getSecretHolder(rotating);
+		assertThat(holder.getSecrets()).containsEntry("key", "value");
+
+		ArgumentCaptor<Runnable> runnables = ArgumentCaptor.forClass(Runnable.class);
+		ArgumentCaptor<Trigger> triggers = ArgumentCaptor.forClass(Trigger.class);
+		verify(taskScheduler).schedule(runnables.capture(), triggers.capture());
+
+		assertThat(triggers.getValue().nextExecutionTime(null)).isBetween(
+				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(15)),
+				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(21)));
+
+		runnables.getValue().run();
+
+		assertThat(events).hasSize(2).allMatch(SecretLeaseCreatedEvent.class::isInstance);
+		assertThat(holder.getSecrets()).containsEntry("key", "value2");
+
+		// rotation renewal of the new lease and deferred expiry of the previous lease
+		verify(taskScheduler, times(3)).schedule(runnables.capture(),
+				triggers.capture());
+
+		runnables.getAllValues().get(runnables.getAllValues().size() - 1).run();
+
+		assertThat(events).hasSize(3);
+		assertThat(events.get(2)).isInstanceOf(SecretLeaseExpiredEvent.class);
+		assertThat(events.get(2).getLease()).isSameAs(events.get(0).getLease());
+	}
+
+	@Test
+	void shouldRotateOnExpiryIfPreRotationFails() {
+
+		List<SecretLeaseEvent> events = new ArrayList<>();
+		when(taskScheduler.schedule(any(Runnable.class), any(Trigger.class)))
+				.thenReturn(scheduledFuture);
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(createSecrets("key", "value", false))
+				.thenThrow(new VaultException("Pre-rotation failure"))
+				.thenReturn(createSecrets("key", "value2", false));
+
+		RequestedSecret rotating = RequestedSecret.rotating(requestedSecret.getPath());
+		secretLeaseContainer.setRotationOverlap(Duration.ofSeconds(80));
+		secretLeaseContainer.addRequestedSecret(rotating);
+		secretLeaseContainer.addLeaseListener(new LeaseListenerAdapter() {
+			@Override
+			public void onLeaseEvent(SecretLeaseEvent leaseEvent) {
+				events.add(leaseEvent);
+			}
+		});
+
+		secretLeaseContainer.start();
+
+		ArgumentCaptor<Runnable> runnables = ArgumentCaptor.forClass(Runnable.class);
+		verify(taskScheduler).schedule(runnables.capture(), any(Trigger.class));
+		runnables.getValue().run();
+
+		verify(leaseListenerAdapter).onLeaseError(any(), any(VaultException.class));
+		assertThat(events).hasSize(1);
+
+		// deferred expiry of the current lease
+		verify(taskScheduler, times(2)).schedule(runnables.capture(),
+				any(Trigger.class));
+		runnables.getValue().run();
+
+		verify(vaultOperations, times(3)).read(requestedSecret.getPath());
+		assertThat(events).hasSize(3);
+		assertThat(events.get(1)).isInstanceOf(SecretLeaseExpiredEvent.class);
+		assertThat(events.get(2)).isInstanceOf(SecretLeaseCreatedEvent.class);
+		assertThat(secretLeaseContainer.getSecretHolder(rotating).getSecrets())
+				.containsEntry("key", "value2");
+	}
+
+	@Test
+	void shouldPreRotateJournaledLeaseWithinRotationOverlap() {
+
+		RequestedSecret rotating = RequestedSecret.rotating(requestedSecret.getPath());
+
+		when(taskScheduler.schedule(any(Runnable.class), any(Trigger.class)))
+				.thenReturn(scheduledFuture);
+		when(leaseJournal.get(rotating)).thenReturn(LeaseJournal.Entry.of(
+				Lease.of("old", Duration.ofSeconds(100), true),
+				Collections.singletonMap("key", "value")));
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenReturn(Lease.of("old", Duration.ofSeconds(70), true),
+						Lease.of("old", Duration.ofSeconds(50), true));
+		when(vaultOperations.read(rotating.getPath()))
+				.thenReturn(createSecrets("key", "value2", true));
+
+		secretLeaseContainer.setLeaseJournal(leaseJournal);
+		secretLeaseContainer.setRotationOverlap(Duration.ofSeconds(80));
+		secretLeaseContainer.addRequestedSecret(rotating);
+		secretLeaseContainer.start();
+
+		SecretHolder holder = secretLeaseContainer.getSecretHolder(rotating);
+		assertThat(holder.getSecrets()).containsEntry("key", "value");
+
+		ArgumentCaptor<Runnable> runnables = ArgumentCaptor.forClass(Runnable.class);
+		ArgumentCaptor<Trigger> triggers = ArgumentCaptor.forClass(Trigger.class);
+		verify(taskScheduler).schedule(runnables.capture(), triggers.capture());
+
+		// renewal is scheduled at the rotation overlap, not at the expiry threshold
+		assertThat(triggers.getValue().nextExecutionTime(null)).isBefore(
+				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(11)));
+
+		runnables.getValue().run();
+
+		verify(leaseJournal).get(rotating);
+		verify(vaultOperations).read(rotating.getPath());
+		assertThat(holder.getSecrets()).containsEntry("key", "value2");
+		assertThat(holder.getLease().getLeaseId()).isEqualTo("lease");
+	}
+
+	@Test
+	void shouldCancelDeferredExpiryOnStop() {
+
+		ScheduledFuture deferredExpiry = mock(ScheduledFuture.class);
+		when(taskScheduler.schedule(any(Runnable.class), any(Trigger.class)))
+				.thenReturn(scheduledFuture, scheduledFuture, deferredExpiry);
+
+		when(vaultOperations.read(requestedSecret.getPath())).thenReturn(
+				createSecrets("key", "value", false),
+				createSecrets("key", "value2", false));
+
+		RequestedSecret rotating = RequestedSecret.rotating(requestedSecret.getPath());
+		secretLeaseContainer.setRotationOverlap(Duration.ofSeconds(80));
+		secretLeaseContainer.addRequestedSecret(rotating);
+		secretLeaseContainer.start();
+
+		ArgumentCaptor<Runnable> runnables = ArgumentCaptor.forClass(Runnable.class);
+		verify(taskScheduler).schedule(runnables.capture(), any(Trigger.class));
+		runnables.getValue().run();
+
+		secretLeaseContainer.stop();
+
+		verify(deferredExpiry).cancel(false);
+	}
+
 	@Test
 	void shouldRotateGenericSecret() {
 
@@ -485,6 +736,23 @@ class SecretLeaseContainerUnitTests {
 				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(41)));
 	}
 
+	@Test
+	void scheduleRenewalShouldApplyRenewalJitter() {
+
+		prepareRenewal();
+
+		secretLeaseContainer.setRenewalJitter(delay -> delay.minusSeconds(20));
+		secretLeaseContainer.start();
+
+		ArgumentCaptor<Trigger> captor = ArgumentCaptor.forClass(Trigger.class);
+		verify(taskScheduler).schedule(any(Runnable.class), captor.capture());
+
+		Date nextExecutionTime = captor.getValue().nextExecutionTime(null);
+		assertThat(nextExecutionTime).isBetween(
+				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(15)),
+				new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(21)));
+	}
+
 	@Test
 	void shouldPublishRenewalErrors() {
 
@@ -651,6 +919,310 @@ class SecretLeaseContainerUnitTests {
 		assertThat(leaseCreatedEvent.getSecrets()).containsKey("key");
 	}
 
+	@Test
+	void shouldObtainSecretsConcurrently() {
+
+		List<RequestedSecret> requestedSecrets = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			requestedSecrets.add(RequestedSecret.renewable("secret-" + i));
+		}
+
+		CyclicBarrier barrier = new CyclicBarrier(requestedSecrets.size());
+		when(vaultOperations.read(startsWith("secret-"))).thenAnswer(invocation -> {
+
+			barrier.await(5, TimeUnit.SECONDS);
+			return createStaticSecrets();
+		});
+
+		secretLeaseContainer.setStartupParallelism(3);
+		requestedSecrets.forEach(secretLeaseContainer::addRequestedSecret);
+		secretLeaseContainer.start();
+
+		verify(leaseListenerAdapter, times(3)).onLeaseEvent(captor.capture());
+		verify(leaseListenerAdapter, never()).onLeaseError(any(), any());
+
+		assertThat(captor.getAllValues())
+				.allMatch(SecretLeaseCreatedEvent.class::isInstance)
+				.extracting(SecretLeaseEvent::getSource)
+				.containsExactlyInAnyOrderElementsOf(requestedSecrets);
+	}
+
+	@Test
+	void shouldReportSecretsNotObtainedWithinStartupTimeout() {
+
+		RequestedSecret slow = RequestedSecret.renewable("slow");
+		CountDownLatch latch = new CountDownLatch(1);
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(createStaticSecrets());
+		when(vaultOperations.read(slow.getPath())).thenAnswer(invocation -> {
+
+			latch.await(5, TimeUnit.SECONDS);
+			return createStaticSecrets();
+		});
+
+		secretLeaseContainer.setStartupParallelism(2);
+		secretLeaseContainer.setStartupTimeout(Duration.ofMillis(100));
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.addRequestedSecret(slow);
+
+		try {
+			secretLeaseContainer.start();
+		}
+		finally {
+			latch.countDown();
+		}
+
+		verify(leaseListenerAdapter, atLeastOnce()).onLeaseEvent(captor.capture());
+		assertThat(captor.getAllValues())
+				.filteredOn(SecretLeaseCreatedEvent.class::isInstance)
+				.extracting(SecretLeaseEvent::getSource).containsExactly(requestedSecret);
+
+		ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+		verify(leaseListenerAdapter).onLeaseError(captor.capture(), exception.capture());
+
+		assertThat(captor.getValue().getSource()).isEqualTo(slow);
+		assertThat(exception.getValue()).isInstanceOf(VaultException.class)
+				.hasCauseInstanceOf(TimeoutException.class);
+	}
+
+	@Test
+	void shouldRevokeSecretsObtainedAfterStartupTimeout() {
+
+		RequestedSecret slow = RequestedSecret.renewable("slow");
+		CountDownLatch latch = new CountDownLatch(1);
+
+		when(vaultOperations.read(requestedSecret.getPath()))
+				.thenReturn(createStaticSecrets());
+		when(vaultOperations.read(slow.getPath())).thenAnswer(invocation -> {
+
+			latch.await(5, TimeUnit.SECONDS);
+			return createSecrets();
+		});
+
+		secretLeaseContainer.setStartupParallelism(2);
+		secretLeaseContainer.setStartupTimeout(Duration.ofMillis(100));
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.addRequestedSecret(slow);
+
+		try {
+			secretLeaseContainer.start();
+		}
+		finally {
+			latch.countDown();
+		}
+
+		verify(leaseListenerAdapter, timeout(5000))
+				.onLeaseEvent(any(AfterSecretLeaseRevocationEvent.class));
+		verify(leaseListenerAdapter, never())
+				.onLeaseEvent(argThat(event -> event instanceof SecretLeaseCreatedEvent
+						&& event.getSource() == slow));
+	}
+
+	@Test
+	void shouldResumeJournaledLease() {
+
+		when(taskScheduler.schedule(any(Runnable.class), any(Trigger.class)))
+				.thenReturn(scheduledFuture);
+		when(leaseJournal.get(requestedSecret)).thenReturn(LeaseJournal.Entry.of(
+				Lease.of("lease", Duration.ofSeconds(100), true),
+				Collections.singletonMap("key", "value")));
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenReturn(Lease.of("lease", Duration.ofSeconds(80), true));
+
+		secretLeaseContainer.setLeaseJournal(leaseJournal);
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+		secretLeaseContainer.start();
+
+		verify(vaultOperations, never()).read(requestedSecret.getPath());
+		verify(leaseListenerAdapter).onLeaseEvent(captor.capture());
+
+		SecretLeaseCreatedEvent leaseCreatedEvent = (SecretLeaseCreatedEvent) captor
+				.getValue();
+
+		assertThat(leaseCreatedEvent.getLease().getLeaseId()).isEqualTo("lease");
+		assertThat(leaseCreatedEvent.getLease().getLeaseDuration())
+				.isEqualTo(Duration.ofSeconds(80));
+		assertThat(leaseCreatedEvent.getSecrets()).containsEntry("key", "value");
+		verify(leaseJournal).record(eq(requestedSecret), eq(leaseCreatedEvent.getLease()),
+				any());
+	}
+
+	@Test
+	void shouldRequestSecretsIfJournaledLeaseIsAboutToExpire() {
+
+		prepareRenewal();
+
+		when(leaseJournal.get(requestedSecret)).thenReturn(LeaseJournal.Entry.of(
+				Lease.of("old", Duration.ofSeconds(100), true),
+				Collections.singletonMap("key", "value")));
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenReturn(Lease.of("old", Duration.ofSeconds(30), true));
+
+		secretLeaseContainer.setLeaseJournal(leaseJournal);
+		secretLeaseContainer.start();
+
+		verify(vaultOperations).read(requestedSecret.getPath());
+		verify(leaseJournal).remove(requestedSecret);
+		verify(leaseJournal).record(eq(requestedSecret),
+				argThat(lease -> lease.getLeaseId().equals("lease")), any());
+	}
+
+	@Test
+	void shouldNotRevokeJournaledLeasesOnDestroy() throws Exception {
+
+		prepareRenewal();
+
+		secretLeaseContainer.setLeaseJournal(leaseJournal);
+		secretLeaseContainer.start();
+		secretLeaseContainer.destroy();
+
+		verify(vaultOperations, never())
+				.doWithSession(any(RestOperationsCallback.class));
+		verify(leaseJournal, never()).remove(any());
+	}
+
+	@Test
+	void shouldRevokeLeasesConcurrently() throws Exception {
+
+		List<RequestedSecret> requestedSecrets = prepareLeases(3);
+
+		CyclicBarrier barrier = new CyclicBarrier(requestedSecrets.size());
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenAnswer(invocation -> barrier.await(5, TimeUnit.SECONDS));
+
+		secretLeaseContainer.setRevocationParallelism(3);
+		secretLeaseContainer.start();
+		secretLeaseContainer.destroy();
+
+		verify(leaseListenerAdapter, times(3))
+				.onLeaseEvent(any(AfterSecretLeaseRevocationEvent.class));
+		verify(leaseListenerAdapter, never()).onLeaseError(any(), any());
+	}
+
+	@Test
+	void shouldReportLeasesNotRevokedWithinRevocationTimeout() throws Exception {
+
+		prepareLeases(2);
+
+		CountDownLatch latch = new CountDownLatch(1);
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenReturn(null)
+				.thenAnswer(invocation -> latch.await(5, TimeUnit.SECONDS));
+
+		secretLeaseContainer.setRevocationParallelism(2);
+		secretLeaseContainer.setRevocationTimeout(Duration.ofMillis(100));
+		secretLeaseContainer.start();
+
+		try {
+			secretLeaseContainer.destroy();
+		}
+		finally {
+			latch.countDown();
+		}
+
+		ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+		verify(leaseListenerAdapter).onLeaseError(any(), exception.capture());
+
+		assertThat(exception.getValue()).isInstanceOf(VaultException.class)
+				.hasMessageContaining("did not complete");
+	}
+
+	@Test
+	void shouldApplyRevocationTimeoutToSequentialRevocation() throws Exception {
+
+		List<RequestedSecret> requestedSecrets = prepareLeases(2);
+
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenAnswer(invocation -> {
+					Thread.sleep(200);
+					return null;
+				});
+
+		secretLeaseContainer.setRevocationTimeout(Duration.ofMillis(100));
+		secretLeaseContainer.start();
+		secretLeaseContainer.destroy();
+
+		verify(vaultOperations).doWithSession(any(RestOperationsCallback.class));
+
+		ArgumentCaptor<SecretLeaseEvent> event = ArgumentCaptor
+				.forClass(SecretLeaseEvent.class);
+		ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+		verify(leaseListenerAdapter).onLeaseError(event.capture(), exception.capture());
+
+		assertThat(requestedSecrets)
+				.contains((RequestedSecret) event.getValue().getSource());
+		assertThat(exception.getValue()).isInstanceOf(VaultException.class)
+				.hasMessageContaining("did not complete");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRevokeLeasesByPrefix() throws Exception {
+
+		prepareLeases(2);
+
+		RestOperations restOperations = mock(RestOperations.class);
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenAnswer(invocation -> invocation
+						.getArgument(0, RestOperationsCallback.class)
+						.doWithRestOperations(restOperations));
+
+		secretLeaseContainer.setRevocationPrefix("database/creds");
+		secretLeaseContainer.start();
+		secretLeaseContainer.destroy();
+
+		verify(vaultOperations).doWithSession(any(RestOperationsCallback.class));
+		verify(restOperations).put("sys/revoke-prefix/database/creds", null);
+		verify(leaseListenerAdapter, times(2))
+				.onLeaseEvent(any(BeforeSecretLeaseRevocationEvent.class));
+		verify(leaseListenerAdapter, times(2))
+				.onLeaseEvent(any(AfterSecretLeaseRevocationEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRetainCauseIfPrefixRevocationFails() throws Exception {
+
+		prepareLeases(1);
+
+		HttpClientErrorException cause = new HttpClientErrorException(
+				HttpStatus.FORBIDDEN);
+		when(vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+				.thenThrow(cause);
+
+		secretLeaseContainer.setRevocationPrefix("database/creds");
+		secretLeaseContainer.start();
+		secretLeaseContainer.destroy();
+
+		ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+		verify(leaseListenerAdapter).onLeaseError(any(), exception.capture());
+
+		assertThat(exception.getValue()).isInstanceOf(VaultException.class)
+				.hasMessageContaining("database/creds").hasCause(cause);
+	}
+
+	private List<RequestedSecret> prepareLeases(int count) {
+
+		when(taskScheduler.schedule(any(Runnable.class), any(Trigger.class)))
+				.thenReturn(scheduledFuture);
+
+		List<RequestedSecret> requestedSecrets = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+
+			RequestedSecret secret = RequestedSecret.renewable("secret-" + i);
+			VaultResponse secrets = createSecrets();
+			secrets.setLeaseId("database/creds/app/" + i);
+
+			when(vaultOperations.read(secret.getPath())).thenReturn(secrets);
+
+			requestedSecrets.add(secret);
+			secretLeaseContainer.addRequestedSecret(secret);
+		}
+
+		return requestedSecrets;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void prepareRenewal() {
 
@@ -678,6 +1250,10 @@ class SecretLeaseContainerUnitTests {
 		return secrets;
 	}
 
+	private VaultResponse createStaticSecrets() {
+		return createSecrets("key", "value", false);
+	}
+
 	private VaultResponse createGenericSecrets() {
 		return createGenericSecrets(Collections.singletonMap("key", "value"));
 	}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SecretLeaseEventPublisher}.
+ *
+ * @author agent
+ */
+class SecretLeaseEventPublisherUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	SecretLeaseEventPublisher publisher = new SecretLeaseEventPublisher();
+
+	RequestedSecret requestedSecret = RequestedSecret.renewable("my-secret");
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldDispatchSynchronouslyByDefault() {
+
+		List<SecretLeaseEvent> events = new ArrayList<>();
+		publisher.addLeaseListener(events::add);
+
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+
+		assertThat(events).hasSize(1);
+	}
+
+	@Test
+	void shouldDispatchInOrderPerListener() throws Exception {
+
+		List<Lease> received = new ArrayList<>();
+		CountDownLatch latch = new CountDownLatch(100);
+
+		publisher.setEventExecutor(executor);
+		publisher.addLeaseListener(event -> {
+			received.add(event.getLease());
+			latch.countDown();
+		});
+
+		List<Lease> published = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+
+			Lease lease = Lease.of("lease-" + i, Duration.ofSeconds(10), true);
+			published.add(lease);
+			publisher.onAfterLeaseRenewed(requestedSecret, lease);
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).containsExactlyElementsOf(published);
+	}
+
+	@Test
+	void shouldNotBlockOnSlowListener() throws Exception {
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch fastListener = new CountDownLatch(1);
+
+		publisher.setEventExecutor(executor);
+		publisher.addLeaseListener(event -> await(blocker));
+		publisher.addLeaseListener(event -> fastListener.countDown());
+
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+
+		assertThat(fastListener.await(5, TimeUnit.SECONDS)).isTrue();
+
+		blocker.countDown();
+	}
+
+	@Test
+	void shouldDropEventsExceedingQueueCapacity() {
+
+		List<Runnable> tasks = new ArrayList<>();
+		Executor deferred = tasks::add;
+		List<SecretLeaseEvent> events = new ArrayList<>();
+
+		publisher.setEventExecutor(deferred);
+		publisher.setEventQueueCapacity(2);
+		publisher.addLeaseListener(events::add);
+
+		for (int i = 0; i < 5; i++) {
+			publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+		}
+
+		assertThat(tasks).hasSize(1);
+		assertThat(publisher.getPendingEventCount()).isEqualTo(2);
+		assertThat(publisher.getDroppedEventCount()).isEqualTo(3);
+
+		tasks.get(0).run();
+
+		assertThat(events).hasSize(2);
+		assertThat(publisher.getPendingEventCount()).isZero();
+	}
+
+	@Test
+	void shouldContinueDispatchAfterListenerFailure() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		publisher.setEventExecutor(executor);
+		LeaseListener listener = event -> {
+			latch.countDown();
+			throw new IllegalStateException("boom");
+		};
+		publisher.addLeaseListener(listener);
+
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void shouldContinueDispatchAfterListenerError() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		publisher.setEventExecutor(executor);
+		publisher.addLeaseListener(event -> {
+			latch.countDown();
+			throw new AssertionError("boom");
+		});
+
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void shouldCountEventsDroppedByRejectingExecutor() {
+
+		List<SecretLeaseEvent> events = new ArrayList<>();
+
+		publisher.setEventExecutor(command -> {
+			throw new RejectedExecutionException();
+		});
+		publisher.addLeaseListener(events::add);
+
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+		publisher.onAfterLeaseRenewed(requestedSecret, Lease.none());
+
+		assertThat(events).isEmpty();
+		assertThat(publisher.getPendingEventCount()).isZero();
+		assertThat(publisher.getDroppedEventCount()).isEqualTo(2);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
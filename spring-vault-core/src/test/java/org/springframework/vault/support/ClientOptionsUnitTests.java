@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link ClientOptions}.
+ *
+ * @author agent
+ */
+class ClientOptionsUnitTests {
+
+	@Test
+	void shouldApplyDefaults() {
+
+		ClientOptions options = new ClientOptions();
+
+		assertThat(options.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(options.getReadTimeout()).isEqualTo(Duration.ofSeconds(15));
+		assertThat(options.getMaxConnections())
+				.isEqualTo(ClientOptions.DEFAULT_MAX_CONNECTIONS);
+		assertThat(options.getMaxConnectionsPerRoute())
+				.isEqualTo(ClientOptions.DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+		assertThat(options.getIdleTimeout()).isNull();
+		assertThat(options.getKeepAlive()).isNull();
+		assertThat(options.getValidateAfterInactivity())
+				.isEqualTo(ClientOptions.DEFAULT_VALIDATE_AFTER_INACTIVITY);
+		assertThat(options.getConnectionPoolMetrics()).isNotNull();
+	}
+
+	@Test
+	void shouldConfigureConnectionPool() {
+
+		ConnectionPoolMetrics metrics = pool -> {};
+
+		ClientOptions options = ClientOptions.builder() //
+				.connectionTimeout(Duration.ofSeconds(1)) //
+				.readTimeout(Duration.ofSeconds(2)) //
+				.maxConnections(20) //
+				.maxConnectionsPerRoute(10) //
+				.idleTimeout(Duration.ofSeconds(30)) //
+				.keepAlive(Duration.ofMinutes(5)) //
+				.validateAfterInactivity(Duration.ofSeconds(1)) //
+				.connectionPoolMetrics(metrics) //
+				.build();
+
+		assertThat(options.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(options.getReadTimeout()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(options.getMaxConnections()).isEqualTo(20);
+		assertThat(options.getMaxConnectionsPerRoute()).isEqualTo(10);
+		assertThat(options.getIdleTimeout()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(options.getKeepAlive()).isEqualTo(Duration.ofMinutes(5));
+		assertThat(options.getValidateAfterInactivity())
+				.isEqualTo(Duration.ofSeconds(1));
+		assertThat(options.getConnectionPoolMetrics()).isSameAs(metrics);
+	}
+
+	@Test
+	void shouldRejectInvalidPoolSettings() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ClientOptions.builder().maxConnections(0));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ClientOptions.builder().idleTimeout(Duration.ofSeconds(-1)));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ClientOptions.builder().idleTimeout(Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> ClientOptions.builder()
+				.maxConnections(10).maxConnectionsPerRoute(20).build());
+	}
+}
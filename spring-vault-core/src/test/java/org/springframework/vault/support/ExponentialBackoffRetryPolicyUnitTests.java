@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.vault.VaultException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link ExponentialBackoffRetryPolicy}.
+ *
+ * @author agent
+ */
+class ExponentialBackoffRetryPolicyUnitTests {
+
+	VaultException error = new VaultException("Connection refused");
+
+	Duration ttl = Duration.ofHours(1);
+
+	@Test
+	void noneShouldNotRetry() {
+		assertThat(RetryPolicy.none().getRetryDelay(1, error, ttl)).isNull();
+	}
+
+	@Test
+	void shouldBackOffExponentially() {
+
+		RetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(5))
+				.withJitter(0);
+
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(policy.getRetryDelay(2, error, ttl)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(policy.getRetryDelay(3, error, ttl)).isEqualTo(Duration.ofSeconds(4));
+		assertThat(policy.getRetryDelay(4, error, ttl)).isEqualTo(Duration.ofSeconds(5));
+		assertThat(policy.getRetryDelay(64, error, Duration.ofDays(1))).isNull();
+	}
+
+	@Test
+	void shouldApplyJitter() {
+
+		RetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(10), Duration.ofSeconds(10))
+				.withJitter(0.5);
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(policy.getRetryDelay(1, error, ttl))
+					.isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+		}
+	}
+
+	@Test
+	void shouldStopAfterMaxAttempts() {
+
+		RetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+				.withMaxAttempts(2);
+
+		assertThat(policy.getRetryDelay(2, error, ttl)).isNotNull();
+		assertThat(policy.getRetryDelay(3, error, ttl)).isNull();
+	}
+
+	@Test
+	void shouldNotRetryAfterExpiry() {
+
+		RetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(10), Duration.ofSeconds(10))
+				.withJitter(0);
+
+		assertThat(policy.getRetryDelay(1, error, Duration.ofSeconds(11))).isNotNull();
+		assertThat(policy.getRetryDelay(1, error, Duration.ofSeconds(10))).isNull();
+	}
+
+	@Test
+	void shouldDeferRetriesWhileCircuitIsOpen() {
+
+		MutableClock clock = new MutableClock();
+		ExponentialBackoffRetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+				.withJitter(0).withCircuitBreaker(2, Duration.ofSeconds(30))
+				.withClock(clock);
+
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(policy.isCircuitOpen()).isFalse();
+
+		// probe when the circuit half-opens
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(30));
+		assertThat(policy.isCircuitOpen()).isTrue();
+
+		clock.advance(Duration.ofSeconds(10));
+		assertThat(policy.getRetryDelay(1, error, ttl))
+				.isBetween(Duration.ofSeconds(20), Duration.ofSeconds(50));
+
+		// failed probe reopens the circuit
+		clock.advance(Duration.ofSeconds(20));
+		assertThat(policy.isCircuitOpen()).isFalse();
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(30));
+		assertThat(policy.isCircuitOpen()).isTrue();
+
+		policy.onSuccess();
+
+		assertThat(policy.isCircuitOpen()).isFalse();
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void shouldProbeOnceAndSpreadOtherRetriesWhenCircuitHalfOpens() {
+
+		MutableClock clock = new MutableClock();
+		ExponentialBackoffRetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+				.withJitter(0).withCircuitBreaker(1, Duration.ofSeconds(30))
+				.withClock(clock);
+
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(30));
+
+		Set<Duration> deferred = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+
+			Duration delay = policy.getRetryDelay(1, error, ttl);
+
+			assertThat(delay).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+			deferred.add(delay);
+		}
+
+		assertThat(deferred).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void shouldReleaseProbeIfRetryIsNotScheduled() {
+
+		MutableClock clock = new MutableClock();
+		ExponentialBackoffRetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+				.withJitter(0).withCircuitBreaker(1, Duration.ofSeconds(30))
+				.withClock(clock);
+
+		assertThat(policy.getRetryDelay(1, error, Duration.ofSeconds(10))).isNull();
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void shouldNotCountAttemptsThatAreNotMade() {
+
+		ExponentialBackoffRetryPolicy policy = RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+				.withJitter(0).withMaxAttempts(1)
+				.withCircuitBreaker(2, Duration.ofSeconds(30));
+
+		assertThat(policy.getRetryDelay(2, error, ttl)).isNull();
+		assertThat(policy.getRetryDelay(2, error, ttl)).isNull();
+		assertThat(policy.getRetryDelay(1, error, Duration.ofMillis(500))).isNull();
+
+		assertThat(policy.getRetryDelay(1, error, ttl)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(policy.isCircuitOpen()).isFalse();
+	}
+
+	@Test
+	void shouldRejectInvalidConfiguration() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> RetryPolicy
+				.exponentialBackoff(Duration.ZERO, Duration.ofSeconds(1)));
+		assertThatIllegalArgumentException().isThrownBy(() -> RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+		assertThatIllegalArgumentException().isThrownBy(() -> RetryPolicy
+				.exponentialBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1))
+				.withJitter(2));
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.ofEpochSecond(1000);
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link RenewalJitter}.
+ *
+ * @author agent
+ */
+class RenewalJitterUnitTests {
+
+	@Test
+	void noneShouldRetainDelay() {
+		assertThat(RenewalJitter.none().apply(Duration.ofSeconds(10)))
+				.isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void percentageShouldShortenDelayWithinBounds() {
+
+		RenewalJitter jitter = RenewalJitter.percentage(0.2);
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(jitter.apply(Duration.ofSeconds(100)))
+					.isBetween(Duration.ofSeconds(80), Duration.ofSeconds(100));
+		}
+	}
+
+	@Test
+	void spreadShouldShortenDelayWithinBounds() {
+
+		RenewalJitter jitter = RenewalJitter.spread(Duration.ofSeconds(30));
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(jitter.apply(Duration.ofSeconds(100)))
+					.isBetween(Duration.ofSeconds(70), Duration.ofSeconds(100));
+			assertThat(jitter.apply(Duration.ofSeconds(10)))
+					.isBetween(Duration.ZERO, Duration.ofSeconds(10));
+		}
+	}
+
+	@Test
+	void shouldRejectInvalidArguments() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> RenewalJitter.percentage(1.5));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> RenewalJitter.spread(Duration.ofSeconds(-1)));
+	}
+}